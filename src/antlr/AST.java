@@ -0,0 +1,256 @@
+package antlr;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// The AST is a sealed hierarchy of immutable records, nested in this class
+// (users import antlr.AST.*) so that none is an auxiliary class of some
+// other file. A switch over ASTNode, StatementNode or ExpressionNode can be
+// exhaustive without a default: adding a node kind then fails to compile
+// until each such switch handles it. A node is made once its children are and never
+// changes after that; IncrementalAnalyzer copies a declaration it moves.
+// Records compare by value, so anything that needs node identity (a node
+// reachable twice, such as parameters sharing a TypeNode) keys an
+// IdentityHashMap with them.
+final class AST {
+    private AST() {
+    }
+
+    sealed interface ASTNode {
+        int line();
+        int column();
+
+        // How a node keeps a list it is given: an unmodifiable copy. Unlike
+        // List.copyOf it keeps nulls, which an expression the AST does not
+        // model leaves in a list of values.
+        static <T> List<T> copyOf(List<? extends T> list) {
+            return list.isEmpty() ? List.of() : Collections.unmodifiableList(new ArrayList<>(list));
+        }
+    }
+
+    sealed interface StatementNode extends ASTNode {
+    }
+
+    sealed interface ExpressionNode extends ASTNode {
+    }
+
+    // A function or method declaration
+    sealed interface FunctionNode extends ASTNode {
+        Symbol name();
+        List<ParameterNode> parameters();
+
+        // null for a function declared without a body, or whose body a
+        // StreamingParser with lazy bodies skipped
+        BlockNode body();
+
+        // This function with body in place of its own
+        FunctionNode withBody(BlockNode body);
+    }
+
+    // A function without a receiver, the grammar's functionDecl
+    record FunctionDeclNode(int line, int column, Symbol name, List<ParameterNode> parameters, BlockNode body)
+            implements FunctionNode {
+        FunctionDeclNode {
+            parameters = ASTNode.copyOf(parameters);
+        }
+
+        @Override
+        public FunctionDeclNode withBody(BlockNode body) {
+            return new FunctionDeclNode(line, column, name, parameters, body);
+        }
+    }
+
+    // A function declared with a receiver, e.g. func (tv *TokenVesting) Release(...)
+    record MethodNode(int line, int column, Symbol name, ParameterNode receiver,
+                      String receiverType, // source text, e.g. "*TokenVesting"
+                      List<ParameterNode> parameters, BlockNode body) implements FunctionNode {
+        MethodNode {
+            parameters = ASTNode.copyOf(parameters);
+        }
+
+        @Override
+        public MethodNode withBody(BlockNode body) {
+            return new MethodNode(line, column, name, receiver, receiverType, parameters, body);
+        }
+
+        // Go's method expression spelling: (*T).Name or T.Name
+        public String qualifiedName() {
+            return qualifiedName(receiverType, name);
+        }
+
+        static String qualifiedName(String receiverType, Symbol name) {
+            return (receiverType.startsWith("*") ? "(" + receiverType + ")" : receiverType) + "." + name;
+        }
+    }
+
+    record ParameterNode(int line, int column, Symbol name, TypeNode type) implements ASTNode {
+    }
+
+    record BlockNode(int line, int column, List<StatementNode> statements) implements ASTNode {
+        BlockNode {
+            statements = ASTNode.copyOf(statements);
+        }
+    }
+
+    record IfStatementNode(int line, int column, ExpressionNode condition, BlockNode thenBlock, BlockNode elseBlock)
+            implements StatementNode {
+    }
+
+    // A range loop has range and no init, condition or post
+    record ForStatementNode(int line, int column, StatementNode init, ExpressionNode condition, StatementNode post,
+                            RangeClauseNode range, BlockNode body) implements StatementNode {
+    }
+
+    record ExpressionStatementNode(int line, int column, ExpressionNode expression) implements StatementNode {
+    }
+
+    record CaseClauseNode(int line, int column, List<ExpressionNode> expressions, BlockNode body) implements ASTNode {
+        CaseClauseNode {
+            expressions = ASTNode.copyOf(expressions);
+        }
+    }
+
+    record CallExpressionNode(int line, int column, ExpressionNode function, List<ExpressionNode> arguments)
+            implements ExpressionNode {
+        CallExpressionNode {
+            arguments = ASTNode.copyOf(arguments);
+        }
+    }
+
+    record IdentifierNode(int line, int column, Symbol name) implements ExpressionNode {
+    }
+
+    record ShortVarDeclNode(int line, int column, List<Symbol> names, List<ExpressionNode> values)
+            implements StatementNode {
+        ShortVarDeclNode {
+            names = ASTNode.copyOf(names);
+            values = ASTNode.copyOf(values);
+        }
+    }
+
+    // Specific AST node types
+    record ProgramNode(int line, int column, String packageName, List<ImportNode> imports, List<ASTNode> declarations)
+            implements ASTNode {
+        ProgramNode {
+            imports = ASTNode.copyOf(imports);
+            declarations = ASTNode.copyOf(declarations);
+        }
+
+        // This program with declarations in place of its own
+        ProgramNode withDeclarations(List<ASTNode> declarations) {
+            return new ProgramNode(line, column, packageName, imports, declarations);
+        }
+    }
+
+    sealed interface ImportNode extends ASTNode {
+        String path();
+    }
+
+    // An import as written, the grammar's importSpec
+    record ImportSpecNode(int line, int column, String alias, String path) implements ImportNode {
+    }
+
+    record PackageImportNode(int line, int column, String packageName, String path) implements ImportNode {
+    }
+
+    record DeclarationNode(int line, int column, Symbol identifier, TypeNode type, ExpressionNode initializer)
+            implements ASTNode {
+    }
+
+    record TypeNode(int line, int column, Symbol typeName) implements ASTNode {
+    }
+
+    record BinaryExpressionNode(int line, int column, Symbol operator, ExpressionNode left, ExpressionNode right)
+            implements ExpressionNode {
+    }
+
+    record SwitchStatementNode(int line, int column, StatementNode init, ExpressionNode condition,
+                               List<CaseClauseNode> cases) implements StatementNode {
+        SwitchStatementNode {
+            cases = ASTNode.copyOf(cases);
+        }
+    }
+
+    // value is an Integer, a Float, or a string literal's text between its
+    // quotes as a Symbol, so each distinct string is held once. Numbers stay
+    // boxed: a Symbol would cost more than the box, and be parsed again by
+    // anything that wanted the number.
+    record LiteralNode(int line, int column, Object value) implements ExpressionNode {
+    }
+
+    record FmtPrintNode(int line, int column,
+                        String printType, // "Print", "Println", "Printf"
+                        List<ExpressionNode> arguments) implements ExpressionNode {
+        FmtPrintNode {
+            arguments = ASTNode.copyOf(arguments);
+        }
+    }
+
+    record SelectStatementNode(int line, int column, List<CommClauseNode> commClauses) implements StatementNode {
+        SelectStatementNode {
+            commClauses = ASTNode.copyOf(commClauses);
+        }
+    }
+
+    record CommClauseNode(int line, int column, boolean isDefault, StatementNode comm, BlockNode body)
+            implements ASTNode {
+    }
+
+    record UnaryExpressionNode(int line, int column, Symbol operator, ExpressionNode operand) implements ExpressionNode {
+    }
+
+    record IncDecExpressionNode(int line, int column,
+                                Symbol operator, // "++" or "--"
+                                ExpressionNode operand) implements ExpressionNode {
+    }
+
+    // Represents a log fatal statement node in the AST; message is the fatal
+    // log message
+    record LogFatalStatementNode(int line, int column, ExpressionNode message) implements StatementNode {
+    }
+
+    record AssignmentNode(int line, int column,
+                          Symbol operator, // =, +=, -=, etc.
+                          List<ExpressionNode> leftSide, List<ExpressionNode> rightSide) implements StatementNode {
+        AssignmentNode {
+            leftSide = ASTNode.copyOf(leftSide);
+            rightSide = ASTNode.copyOf(rightSide);
+        }
+    }
+
+    // Nodes for the remaining statement kinds
+    record ReturnStatementNode(int line, int column, List<ExpressionNode> returnValues) implements StatementNode {
+        ReturnStatementNode {
+            returnValues = ASTNode.copyOf(returnValues);
+        }
+    }
+
+    // The header of a range loop. declares is true for "k, v := range x",
+    // whose variables are new on every iteration, and false for "=".
+    record RangeClauseNode(int line, int column, boolean declares, List<ExpressionNode> variables,
+                           ExpressionNode rangeExpression) implements ASTNode {
+        RangeClauseNode {
+            variables = ASTNode.copyOf(variables);
+        }
+    }
+
+    // "label: statement". statement is null for a label before a closing
+    // brace, or on a statement the AST does not model.
+    record LabeledStatementNode(int line, int column, String label, StatementNode statement)
+            implements StatementNode {
+    }
+
+    // label is null unless the statement names one
+    record BreakStatementNode(int line, int column, String label) implements StatementNode {
+    }
+
+    record ContinueStatementNode(int line, int column, String label) implements StatementNode {
+    }
+
+    record DeferStatementNode(int line, int column, ExpressionNode expression) implements StatementNode {
+    }
+
+    record GoStatementNode(int line, int column, ExpressionNode expression) implements StatementNode {
+    }
+}
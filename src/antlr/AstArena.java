@@ -0,0 +1,765 @@
+package antlr;
+
+import antlr.AST.*;
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+// Struct-of-arrays store for ASTs. A node is an index into parallel
+// primitive arrays rather than an object: its kind, its line and column
+// packed into one long, a pool index for its string (name, operator, path,
+// literal value...) and a range of the shared edges array holding its
+// children. Strings and literal values are pooled, so an identifier used a
+// thousand times is stored once. There are no per-node headers and no
+// per-node ArrayLists, which is most of what an object AST costs.
+//
+// add() packs an object tree and returns its root. Children are packed
+// before their parent, so each node's edges are contiguous. A TypeNode
+// reachable twice (parameters declared together share theirs) is packed
+// once; GoASTBuilder shares no other kind of node, so no other is looked
+// up.
+//
+// GoASTBuilder can also fill an arena while it parses: each top-level
+// declaration is packed as soon as it is built, and addProgram() adds the
+// program node over the packed declarations, so the object form of only
+// one declaration exists at a time.
+//
+// A Cursor is a view of one node: the arena and an index. It reads the
+// arrays directly; CFGBuilder walks functions through cursors and never
+// sees an object node. node() rebuilds the object form of a subtree for
+// code that wants one, such as ASTPrinter.
+//
+// save() writes the arrays and the pool to a file as they are, and map()
+// reads them back through a read-only mapping of that file: the arrays
+// become views of it and no node is decoded until a cursor reads it. A pool
+// entry is decoded the first time it is read. So a later stage that has
+// the file can skip lexing and parsing entirely, and only the functions it
+// unpacks cost any heap. See save() for the layout.
+//
+// An arena is filled by one thread; once filled, any number of threads can
+// read it through cursors.
+class AstArena {
+    enum Kind {
+        PROGRAM, IMPORT, PACKAGE_IMPORT, FUNCTION, METHOD, PARAMETER, BLOCK, IF, FOR, EXPRESSION_STATEMENT,
+        CASE_CLAUSE, CALL, IDENTIFIER, SHORT_VAR_DECL, DECLARATION, TYPE, BINARY, SWITCH, LITERAL,
+        FMT_PRINT, SELECT, COMM_CLAUSE, UNARY, INC_DEC, LOG_FATAL, ASSIGNMENT, RETURN, RANGE, BREAK, CONTINUE,
+        DEFER, GO, LABELED
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final int NONE = -1;     // a null child or string
+
+    private static final int FILE_MAGIC = 0x474F4153;   // "GOAS"
+    private static final int FILE_VERSION = 6;
+    private static final int HEADER_BYTES = 40;
+    private static final byte STRING = 1, INTEGER = 2, FLOAT = 3, SYMBOL = 4;
+
+    // Per node. Edges are fixed children first, then list elements; see
+    // pack() for each kind's layout. extra is a second string (import alias,
+    // receiver type, package name), the length of the first of two lists,
+    // or a flag (CommClauseNode.isDefault, RangeClauseNode.declares). A
+    // filled arena wraps arrays; a mapped one has views of the file.
+    private ByteBuffer kinds = ByteBuffer.allocate(64);
+    private LongBuffer positions = LongBuffer.allocate(64);
+    private IntBuffer texts = IntBuffer.allocate(64);
+    private IntBuffer extras = IntBuffer.allocate(64);
+    private IntBuffer firstEdges = IntBuffer.allocate(64);
+    private IntBuffer edgeCounts = IntBuffer.allocate(64);
+    private int size;
+
+    private IntBuffer edges = IntBuffer.allocate(128);
+    private int edgeCount;
+    private int root = NONE;
+
+    // A mapped arena's source, as save() was given it
+    private int sourceBytes = NONE;
+    private int sourceChecksum;
+
+    // A filled arena's pool. A mapped one has none: it decodes entries from
+    // poolData, which poolOffsets indexes, into decoded as they are read.
+    private final List<Object> pool;
+    private final Map<Object, Integer> poolIndex;
+    private IntBuffer poolOffsets;
+    private ByteBuffer poolData;
+    private Object[] decoded;
+
+    AstArena() {
+        pool = new ArrayList<>();
+        poolIndex = new HashMap<>();
+    }
+
+    private AstArena(ByteBuffer file, Path path) throws IOException {
+        pool = null;
+        poolIndex = null;
+        file.order(ByteOrder.LITTLE_ENDIAN);
+        if (file.limit() < HEADER_BYTES || file.getInt(0) != FILE_MAGIC || file.getInt(4) != FILE_VERSION) {
+            throw new IOException(path + " is not an AST file");
+        }
+        if (file.getInt(8) != checksum(file.slice(HEADER_BYTES, file.limit() - HEADER_BYTES))) {
+            throw new IOException(path + " is corrupt");
+        }
+        sourceBytes = file.getInt(12);
+        sourceChecksum = file.getInt(16);
+        size = file.getInt(20);
+        edgeCount = file.getInt(24);
+        int poolSize = file.getInt(28);
+        root = file.getInt(32);
+
+        int offset = HEADER_BYTES;
+        long minimum = offset + 24L * size + 4L * edgeCount + 4L * (poolSize + 1);
+        if (size < 0 || edgeCount < 0 || poolSize < 0 || minimum > file.limit()) {
+            throw new IOException(path + " is truncated");
+        }
+        positions = section(file, offset, 8 * size).asLongBuffer();
+        texts = section(file, offset += 8 * size, 4 * size).asIntBuffer();
+        extras = section(file, offset += 4 * size, 4 * size).asIntBuffer();
+        firstEdges = section(file, offset += 4 * size, 4 * size).asIntBuffer();
+        edgeCounts = section(file, offset += 4 * size, 4 * size).asIntBuffer();
+        edges = section(file, offset += 4 * size, 4 * edgeCount).asIntBuffer();
+        poolOffsets = section(file, offset += 4 * edgeCount, 4 * (poolSize + 1)).asIntBuffer();
+        offset += 4 * (poolSize + 1);
+        int poolBytes = poolOffsets.get(poolSize);
+        if (poolBytes < 0 || (long) offset + poolBytes + size != file.limit()) {
+            throw new IOException(path + " is truncated");
+        }
+        poolData = section(file, offset, poolBytes);
+        kinds = section(file, offset + poolBytes, size);
+        decoded = new Object[poolSize];
+        validate(path, poolSize);
+    }
+
+    // What readers index with must be in range, so that a bad file fails
+    // here rather than with an IndexOutOfBoundsException in some later
+    // cursor. The checksum makes this a check on the writer more than on
+    // the disk.
+    private void validate(Path path, int poolSize) throws IOException {
+        if (root < NONE || root >= size) {
+            throw new IOException(path + ": root " + root + " out of range");
+        }
+        for (int i = 0; i < size; i++) {
+            int kind = kinds.get(i) & 0xFF;
+            int first = firstEdges.get(i);
+            int count = edgeCounts.get(i);
+            int text = texts.get(i);
+            if (kind >= KINDS.length) {
+                throw new IOException(path + ": node " + i + " has unknown kind " + kind);
+            }
+            if (first < 0 || count < 0 || first > edgeCount - count) {
+                throw new IOException(path + ": node " + i + " has edges out of range");
+            }
+            if (text < NONE || text >= poolSize) {
+                throw new IOException(path + ": node " + i + " has pool entry " + text + " out of range");
+            }
+        }
+        for (int i = 0; i < poolSize; i++) {
+            int start = poolOffsets.get(i);
+            int length = poolOffsets.get(i + 1) - start;
+            boolean valid = start >= 0 && length > 0 && length <= poolData.limit() - start;
+            if (valid) {
+                byte tag = poolData.get(start);
+                valid = tag == STRING || tag == SYMBOL || (tag == INTEGER || tag == FLOAT) && length == 5;
+            }
+            if (!valid) {
+                throw new IOException(path + ": pool entry " + i + " is malformed");
+            }
+        }
+    }
+
+    // The arena saved in file. Throws IOException if it is not one that
+    // save() wrote.
+    public static AstArena map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException(file + " is larger than 2 GB");
+            }
+            // The mapping stays valid after the channel is closed
+            return new AstArena(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), file);
+        }
+    }
+
+    private static ByteBuffer section(ByteBuffer file, int offset, int length) {
+        return file.slice(offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // Writes the arena in one pass, little-endian so that on the usual
+    // hardware map() reads it without swapping bytes:
+    //
+    //   header      magic, version, CRC-32C of everything after the header,
+    //               the source's size in bytes and CRC-32C, node count,
+    //               edge count, pool size, root, and a padding int so the
+    //               positions are 8-byte aligned
+    //   positions   long per node
+    //   texts, extras, firstEdges, edgeCounts   int per node, one array after another
+    //   edges       int per edge
+    //   pool        pool size + 1 byte offsets into the entries, then the
+    //               entries: a tag byte and a UTF-8 string, an int or a float
+    //   kinds       byte per node
+    //
+    // sourceBytes and sourceChecksum describe the source the arena was built
+    // from (see MappedCharStream.checksum()); isFrom() compares them when the
+    // file is mapped again. Like GoParserFactory.save(), it writes a
+    // temporary file and moves it into place, so readers never see half of
+    // one.
+    public void save(Path file, int sourceBytes, int sourceChecksum) throws IOException {
+        int poolSize = pool != null ? pool.size() : decoded.length;
+        byte[][] entries = new byte[poolSize][];
+        int poolBytes = 0;
+        for (int i = 0; i < poolSize; i++) {
+            entries[i] = encode(pooled(i));
+            poolBytes += entries[i].length;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + 24 * size + 4 * edgeCount + 4 * (poolSize + 1)
+                + poolBytes + size).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(FILE_MAGIC).putInt(FILE_VERSION).putInt(0).putInt(sourceBytes).putInt(sourceChecksum)
+                .putInt(size).putInt(edgeCount).putInt(poolSize).putInt(root).putInt(0);
+        out.asLongBuffer().put(positions.duplicate().clear().limit(size));
+        out.position(out.position() + 8 * size);
+        for (IntBuffer column : List.of(texts, extras, firstEdges, edgeCounts)) {
+            out.asIntBuffer().put(column.duplicate().clear().limit(size));
+            out.position(out.position() + 4 * size);
+        }
+        out.asIntBuffer().put(edges.duplicate().clear().limit(edgeCount));
+        out.position(out.position() + 4 * edgeCount);
+        int entryOffset = 0;
+        for (byte[] entry : entries) {
+            out.putInt(entryOffset);
+            entryOffset += entry.length;
+        }
+        out.putInt(entryOffset);
+        for (byte[] entry : entries) {
+            out.put(entry);
+        }
+        out.put(kinds.duplicate().clear().limit(size));
+        out.putInt(8, checksum(out.slice(HEADER_BYTES, out.limit() - HEADER_BYTES)));
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Whether a mapped arena was saved from a source of this size and
+    // CRC-32C. A filled arena has no source.
+    public boolean isFrom(int bytes, int checksum) {
+        return sourceBytes != NONE && sourceBytes == bytes && sourceChecksum == checksum;
+    }
+
+    static int checksum(ByteBuffer bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(Object value) {
+        return switch (value) {
+            case Symbol symbol -> text(SYMBOL, symbol.text);
+            case String string -> text(STRING, string);
+            case Integer integer -> ByteBuffer.allocate(5).order(ByteOrder.LITTLE_ENDIAN)
+                    .put(INTEGER).putInt(integer).array();
+            case Float real -> ByteBuffer.allocate(5).order(ByteOrder.LITTLE_ENDIAN)
+                    .put(FLOAT).putFloat(real).array();
+            default -> throw new IllegalArgumentException("cannot save a " + value.getClass().getSimpleName());
+        };
+    }
+
+    private static byte[] text(byte tag, String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        byte[] entry = new byte[utf8.length + 1];
+        entry[0] = tag;
+        System.arraycopy(utf8, 0, entry, 1, utf8.length);
+        return entry;
+    }
+
+    // Names and operators come back as the same Symbols a parse would give
+    private Object decode(int index) {
+        int start = poolOffsets.get(index);
+        int length = poolOffsets.get(index + 1) - start;
+        return switch (poolData.get(start)) {
+            case STRING, SYMBOL -> {
+                byte[] utf8 = new byte[length - 1];
+                poolData.get(start + 1, utf8);
+                String text = new String(utf8, StandardCharsets.UTF_8);
+                yield poolData.get(start) == SYMBOL ? Symbol.of(text) : text;
+            }
+            case INTEGER -> poolData.getInt(start + 1);
+            case FLOAT -> poolData.getFloat(start + 1);
+            default -> throw new IllegalStateException("bad pool entry " + index);
+        };
+    }
+
+    // Packs node and everything under it; returns its index
+    public int add(ASTNode node) {
+        if (pool == null) {
+            throw new IllegalStateException("a mapped arena is read-only");
+        }
+        root = pack(node, new IdentityHashMap<>());
+        return root;
+    }
+
+    // Packs a program whose declarations are already in the arena (see
+    // GoASTBuilder): the same node add() would make of the ProgramNode.
+    // Returns its index, which becomes the root.
+    public int addProgram(int line, int column, String packageName, List<ImportNode> imports,
+                          int[] declarations) {
+        if (pool == null) {
+            throw new IllegalStateException("a mapped arena is read-only");
+        }
+        int[] packedImports = packAll(new IdentityHashMap<>(), List.of(), imports);
+        int[] children = Arrays.copyOf(packedImports, packedImports.length + declarations.length);
+        System.arraycopy(declarations, 0, children, packedImports.length, declarations.length);
+        root = append(Kind.PROGRAM, line, column, intern(packageName), imports.size(), children);
+        return root;
+    }
+
+    // The index add() or addProgram() last returned, which for an arena
+    // holding one tree is its root. A mapped arena has the root of the arena it was saved from.
+    public int root() {
+        return root;
+    }
+
+    public Cursor cursor(int index) {
+        return index == NONE ? null : new Cursor(this, index);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Drops the spare capacity once the arena is filled
+    public void trim() {
+        if (pool == null) return;
+        resize(size);
+        edges = IntBuffer.wrap(Arrays.copyOf(edges.array(), edgeCount));
+    }
+
+    private void resize(int capacity) {
+        kinds = ByteBuffer.wrap(Arrays.copyOf(kinds.array(), capacity));
+        positions = LongBuffer.wrap(Arrays.copyOf(positions.array(), capacity));
+        texts = IntBuffer.wrap(Arrays.copyOf(texts.array(), capacity));
+        extras = IntBuffer.wrap(Arrays.copyOf(extras.array(), capacity));
+        firstEdges = IntBuffer.wrap(Arrays.copyOf(firstEdges.array(), capacity));
+        edgeCounts = IntBuffer.wrap(Arrays.copyOf(edgeCounts.array(), capacity));
+    }
+
+    private int pack(ASTNode node, Map<ASTNode, Integer> packed) {
+        if (node == null) return NONE;
+        Integer done = node instanceof TypeNode ? packed.get(node) : null;
+        if (done != null) return done;
+
+        int[] children;
+        int text = NONE;
+        int extra = NONE;
+        Kind kind;
+        switch (node) {
+            case ProgramNode program -> {
+                kind = Kind.PROGRAM;
+                text = intern(program.packageName());
+                extra = program.imports().size();
+                children = packAll(packed, List.of(), program.imports(), program.declarations());
+            }
+            case PackageImportNode imp -> {
+                kind = Kind.PACKAGE_IMPORT;
+                text = intern(imp.path());
+                extra = intern(imp.packageName());
+                children = new int[0];
+            }
+            case ImportSpecNode imp -> {
+                kind = Kind.IMPORT;
+                text = intern(imp.path());
+                extra = intern(imp.alias());
+                children = new int[0];
+            }
+            case MethodNode method -> {
+                kind = Kind.METHOD;
+                text = intern(method.name());
+                extra = intern(method.receiverType());
+                children = packAll(packed, Arrays.asList(method.body(), method.receiver()), method.parameters());
+            }
+            case FunctionDeclNode func -> {
+                kind = Kind.FUNCTION;
+                text = intern(func.name());
+                children = packAll(packed, Collections.singletonList(func.body()), func.parameters());
+            }
+            case ParameterNode param -> {
+                kind = Kind.PARAMETER;
+                text = intern(param.name());
+                children = packAll(packed, Collections.singletonList(param.type()));
+            }
+            case BlockNode block -> {
+                kind = Kind.BLOCK;
+                children = packAll(packed, List.of(), block.statements());
+            }
+            case IfStatementNode ifStmt -> {
+                kind = Kind.IF;
+                children = packAll(packed, Arrays.asList(ifStmt.condition(), ifStmt.thenBlock(), ifStmt.elseBlock()));
+            }
+            case ForStatementNode forStmt -> {
+                kind = Kind.FOR;
+                children = packAll(packed,
+                        Arrays.asList(forStmt.init(), forStmt.condition(), forStmt.post(), forStmt.range(),
+                                forStmt.body()));
+            }
+            case ExpressionStatementNode exprStmt -> {
+                kind = Kind.EXPRESSION_STATEMENT;
+                children = packAll(packed, Collections.singletonList(exprStmt.expression()));
+            }
+            case CaseClauseNode caseClause -> {
+                kind = Kind.CASE_CLAUSE;
+                children = packAll(packed, Collections.singletonList(caseClause.body()), caseClause.expressions());
+            }
+            case CallExpressionNode call -> {
+                kind = Kind.CALL;
+                children = packAll(packed, Collections.singletonList(call.function()), call.arguments());
+            }
+            case IdentifierNode id -> {
+                kind = Kind.IDENTIFIER;
+                text = intern(id.name());
+                children = new int[0];
+            }
+            case ShortVarDeclNode shortVar -> {
+                // The names are pool indexes, ahead of the values
+                kind = Kind.SHORT_VAR_DECL;
+                extra = shortVar.names().size();
+                int[] values = packAll(packed, List.of(), shortVar.values());
+                children = new int[extra + values.length];
+                for (int i = 0; i < extra; i++) {
+                    children[i] = intern(shortVar.names().get(i));
+                }
+                System.arraycopy(values, 0, children, extra, values.length);
+            }
+            case DeclarationNode decl -> {
+                kind = Kind.DECLARATION;
+                text = intern(decl.identifier());
+                children = packAll(packed, Arrays.asList(decl.type(), decl.initializer()));
+            }
+            case TypeNode type -> {
+                kind = Kind.TYPE;
+                text = intern(type.typeName());
+                children = new int[0];
+            }
+            case BinaryExpressionNode binary -> {
+                kind = Kind.BINARY;
+                text = intern(binary.operator());
+                children = packAll(packed, Arrays.asList(binary.left(), binary.right()));
+            }
+            case SwitchStatementNode switchStmt -> {
+                kind = Kind.SWITCH;
+                children = packAll(packed, Arrays.asList(switchStmt.init(), switchStmt.condition()),
+                        switchStmt.cases());
+            }
+            case LiteralNode literal -> {
+                kind = Kind.LITERAL;
+                text = intern(literal.value());
+                children = new int[0];
+            }
+            case FmtPrintNode fmt -> {
+                kind = Kind.FMT_PRINT;
+                text = intern(fmt.printType());
+                children = packAll(packed, List.of(), fmt.arguments());
+            }
+            case SelectStatementNode selectStmt -> {
+                kind = Kind.SELECT;
+                children = packAll(packed, List.of(), selectStmt.commClauses());
+            }
+            case CommClauseNode commClause -> {
+                kind = Kind.COMM_CLAUSE;
+                extra = commClause.isDefault() ? 1 : 0;
+                children = packAll(packed, Arrays.asList(commClause.comm(), commClause.body()));
+            }
+            case UnaryExpressionNode unary -> {
+                kind = Kind.UNARY;
+                text = intern(unary.operator());
+                children = packAll(packed, Collections.singletonList(unary.operand()));
+            }
+            case IncDecExpressionNode incDec -> {
+                kind = Kind.INC_DEC;
+                text = intern(incDec.operator());
+                children = packAll(packed, Collections.singletonList(incDec.operand()));
+            }
+            case LogFatalStatementNode fatal -> {
+                kind = Kind.LOG_FATAL;
+                children = packAll(packed, Collections.singletonList(fatal.message()));
+            }
+            case AssignmentNode assignment -> {
+                kind = Kind.ASSIGNMENT;
+                text = intern(assignment.operator());
+                extra = assignment.leftSide().size();
+                children = packAll(packed, List.of(), assignment.leftSide(), assignment.rightSide());
+            }
+            case ReturnStatementNode returnStmt -> {
+                kind = Kind.RETURN;
+                children = packAll(packed, List.of(), returnStmt.returnValues());
+            }
+            case RangeClauseNode rangeClause -> {
+                kind = Kind.RANGE;
+                extra = rangeClause.declares() ? 1 : 0;
+                children = packAll(packed, Collections.singletonList(rangeClause.rangeExpression()),
+                        rangeClause.variables());
+            }
+            case BreakStatementNode breakStmt -> {
+                kind = Kind.BREAK;
+                text = intern(breakStmt.label());
+                children = new int[0];
+            }
+            case LabeledStatementNode labeled -> {
+                kind = Kind.LABELED;
+                text = intern(labeled.label());
+                children = packAll(packed, Collections.singletonList(labeled.statement()));
+            }
+            case ContinueStatementNode continueStmt -> {
+                kind = Kind.CONTINUE;
+                text = intern(continueStmt.label());
+                children = new int[0];
+            }
+            case DeferStatementNode deferStmt -> {
+                kind = Kind.DEFER;
+                children = packAll(packed, Collections.singletonList(deferStmt.expression()));
+            }
+            case GoStatementNode goStmt -> {
+                kind = Kind.GO;
+                children = packAll(packed, Collections.singletonList(goStmt.expression()));
+            }
+        }
+
+        int index = append(kind, node.line(), node.column(), text, extra, children);
+        if (node instanceof TypeNode) {
+            packed.put(node, index);
+        }
+        return index;
+    }
+
+    // Packs the fixed children, then every element of each list, in order
+    @SafeVarargs
+    private int[] packAll(Map<ASTNode, Integer> packed, List<? extends ASTNode> fixed,
+                          List<? extends ASTNode>... lists) {
+        int count = fixed.size();
+        for (List<? extends ASTNode> list : lists) count += list.size();
+        int[] children = new int[count];
+        int i = 0;
+        for (ASTNode child : fixed) children[i++] = pack(child, packed);
+        for (List<? extends ASTNode> list : lists) {
+            for (ASTNode child : list) children[i++] = pack(child, packed);
+        }
+        return children;
+    }
+
+    private int append(Kind kind, int line, int column, int text, int extra, int[] children) {
+        if (size == kinds.capacity()) {
+            resize(Math.max(64, size * 2));
+        }
+        if (edgeCount + children.length > edges.capacity()) {
+            edges = IntBuffer.wrap(Arrays.copyOf(edges.array(),
+                    Math.max(edges.capacity() * 2, edgeCount + children.length)));
+        }
+        kinds.put(size, (byte) kind.ordinal());
+        positions.put(size, (long) line << 32 | (column & 0xFFFFFFFFL));
+        texts.put(size, text);
+        extras.put(size, extra);
+        firstEdges.put(size, edgeCount);
+        edgeCounts.put(size, children.length);
+        edges.put(edgeCount, children);
+        edgeCount += children.length;
+        return size++;
+    }
+
+    private int intern(Object value) {
+        if (value == null) return NONE;
+        Integer index = poolIndex.get(value);
+        if (index == null) {
+            index = pool.size();
+            pool.add(value);
+            poolIndex.put(value, index);
+        }
+        return index;
+    }
+
+    private Object pooled(int index) {
+        if (index == NONE) return null;
+        if (pool != null) return pool.get(index);
+        Object value = decoded[index];
+        if (value == null) {
+            // Threads that race here decode equal values
+            decoded[index] = value = decode(index);
+        }
+        return value;
+    }
+
+    // The object form of the subtree at index, sharing nodes the way the
+    // packed tree did
+    private ASTNode unpack(int index, Map<Integer, ASTNode> unpacked) {
+        if (index == NONE) return null;
+        ASTNode done = unpacked.get(index);
+        if (done != null) return done;
+
+        int line = (int) (positions.get(index) >> 32);
+        int column = (int) positions.get(index);
+        Object text = KINDS[kinds.get(index)] == Kind.LITERAL ? null : pooled(texts.get(index));
+        int first = firstEdges.get(index);
+        int count = edgeCounts.get(index);
+        int extra = extras.get(index);
+        ASTNode node = switch (KINDS[kinds.get(index)]) {
+            case PROGRAM -> new ProgramNode(line, column, (String) text, unpackAll(first, extra, unpacked),
+                    unpackAll(first + extra, count - extra, unpacked));
+            case IMPORT -> new ImportSpecNode(line, column, (String) pooled(extra), (String) text);
+            case PACKAGE_IMPORT -> new PackageImportNode(line, column, (String) pooled(extra), (String) text);
+            case FUNCTION -> new FunctionDeclNode(line, column, (Symbol) text,
+                    unpackAll(first + 1, count - 1, unpacked), unpackChild(first, unpacked));
+            case METHOD -> new MethodNode(line, column, (Symbol) text, unpackChild(first + 1, unpacked),
+                    (String) pooled(extra), unpackAll(first + 2, count - 2, unpacked), unpackChild(first, unpacked));
+            case PARAMETER -> new ParameterNode(line, column, (Symbol) text, unpackChild(first, unpacked));
+            case BLOCK -> new BlockNode(line, column, unpackAll(first, count, unpacked));
+            case IF -> new IfStatementNode(line, column, unpackChild(first, unpacked),
+                    unpackChild(first + 1, unpacked), unpackChild(first + 2, unpacked));
+            case FOR -> new ForStatementNode(line, column, unpackChild(first, unpacked),
+                    unpackChild(first + 1, unpacked), unpackChild(first + 2, unpacked),
+                    unpackChild(first + 3, unpacked), unpackChild(first + 4, unpacked));
+            case EXPRESSION_STATEMENT -> new ExpressionStatementNode(line, column, unpackChild(first, unpacked));
+            case CASE_CLAUSE -> new CaseClauseNode(line, column, unpackAll(first + 1, count - 1, unpacked),
+                    unpackChild(first, unpacked));
+            case CALL -> new CallExpressionNode(line, column, unpackChild(first, unpacked),
+                    unpackAll(first + 1, count - 1, unpacked));
+            case IDENTIFIER -> new IdentifierNode(line, column, (Symbol) text);
+            case SHORT_VAR_DECL -> {
+                List<Symbol> names = new ArrayList<>(extra);
+                for (int i = 0; i < extra; i++) {
+                    names.add((Symbol) pooled(edges.get(first + i)));
+                }
+                yield new ShortVarDeclNode(line, column, names, unpackAll(first + extra, count - extra, unpacked));
+            }
+            case DECLARATION -> new DeclarationNode(line, column, (Symbol) text,
+                    unpackChild(first, unpacked), unpackChild(first + 1, unpacked));
+            case TYPE -> new TypeNode(line, column, (Symbol) text);
+            case BINARY -> new BinaryExpressionNode(line, column, (Symbol) text,
+                    unpackChild(first, unpacked), unpackChild(first + 1, unpacked));
+            case SWITCH -> new SwitchStatementNode(line, column, unpackChild(first, unpacked),
+                    unpackChild(first + 1, unpacked), unpackAll(first + 2, count - 2, unpacked));
+            case LITERAL -> new LiteralNode(line, column, pooled(texts.get(index)));
+            case FMT_PRINT -> new FmtPrintNode(line, column, (String) text, unpackAll(first, count, unpacked));
+            case SELECT -> new SelectStatementNode(line, column, unpackAll(first, count, unpacked));
+            case COMM_CLAUSE -> new CommClauseNode(line, column, extra == 1,
+                    unpackChild(first, unpacked), unpackChild(first + 1, unpacked));
+            case UNARY -> new UnaryExpressionNode(line, column, (Symbol) text, unpackChild(first, unpacked));
+            case INC_DEC -> new IncDecExpressionNode(line, column, (Symbol) text, unpackChild(first, unpacked));
+            case LOG_FATAL -> new LogFatalStatementNode(line, column, unpackChild(first, unpacked));
+            case ASSIGNMENT -> new AssignmentNode(line, column, (Symbol) text, unpackAll(first, extra, unpacked),
+                    unpackAll(first + extra, count - extra, unpacked));
+            case RETURN -> new ReturnStatementNode(line, column, unpackAll(first, count, unpacked));
+            case RANGE -> new RangeClauseNode(line, column, extra == 1, unpackAll(first + 1, count - 1, unpacked),
+                    unpackChild(first, unpacked));
+            case LABELED -> new LabeledStatementNode(line, column, (String) text, unpackChild(first, unpacked));
+            case BREAK -> new BreakStatementNode(line, column, (String) text);
+            case CONTINUE -> new ContinueStatementNode(line, column, (String) text);
+            case DEFER -> new DeferStatementNode(line, column, unpackChild(first, unpacked));
+            case GO -> new GoStatementNode(line, column, unpackChild(first, unpacked));
+        };
+        unpacked.put(index, node);
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ASTNode> T unpackChild(int edge, Map<Integer, ASTNode> unpacked) {
+        return (T) unpack(edges.get(edge), unpacked);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ASTNode> List<T> unpackAll(int first, int count, Map<Integer, ASTNode> unpacked) {
+        List<T> nodes = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            nodes.add((T) unpack(edges.get(i), unpacked));
+        }
+        return nodes;
+    }
+
+    // A view of one packed node. Cheap to create and to copy; nothing is
+    // read until asked for.
+    static final class Cursor {
+        private final AstArena arena;
+        final int index;
+
+        private Cursor(AstArena arena, int index) {
+            this.arena = arena;
+            this.index = index;
+        }
+
+        public Kind kind() {
+            return KINDS[arena.kinds.get(index)];
+        }
+
+        public int line() {
+            return (int) (arena.positions.get(index) >> 32);
+        }
+
+        public int column() {
+            return (int) arena.positions.get(index);
+        }
+
+        // The node's name, operator, path or label, or a literal's value
+        public Object text() {
+            return arena.pooled(arena.texts.get(index));
+        }
+
+        // Every edge, fixed children first (see pack()); a short variable
+        // declaration's names are not included
+        public int childCount() {
+            return arena.edgeCounts.get(index) - (kind() == Kind.SHORT_VAR_DECL ? arena.extras.get(index) : 0);
+        }
+
+        // null for an absent child
+        public Cursor child(int i) {
+            int skip = kind() == Kind.SHORT_VAR_DECL ? arena.extras.get(index) : 0;
+            return arena.cursor(arena.edges.get(arena.firstEdges.get(index) + skip + i));
+        }
+
+        public List<Cursor> children() {
+            List<Cursor> children = new ArrayList<>(childCount());
+            for (int i = 0; i < childCount(); i++) {
+                children.add(child(i));
+            }
+            return children;
+        }
+
+        // An import's alias or package name, or a method's receiver type
+        public Object extraText() {
+            return arena.pooled(arena.extras.get(index));
+        }
+
+        // How many children the first of two lists has: a program's imports
+        // or an assignment's left side
+        public int firstListSize() {
+            return arena.extras.get(index);
+        }
+
+        // A comm clause's isDefault or a range clause's declares
+        public boolean flag() {
+            return arena.extras.get(index) == 1;
+        }
+
+        // A short variable declaration's names
+        public List<Symbol> names() {
+            int count = kind() == Kind.SHORT_VAR_DECL ? arena.extras.get(index) : 0;
+            int first = arena.firstEdges.get(index);
+            List<Symbol> names = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                names.add((Symbol) arena.pooled(arena.edges.get(first + i)));
+            }
+            return names;
+        }
+
+        // The object form of this node's subtree, e.g. for ASTPrinter. Every
+        // call builds a new copy.
+        public ASTNode node() {
+            return arena.unpack(index, new HashMap<>());
+        }
+    }
+}
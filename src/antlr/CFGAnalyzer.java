@@ -3,127 +3,291 @@ package antlr;
 import java.util.*;
 
 public class CFGAnalyzer {
+	// Graphs with more reachable nodes than this use Lengauer-Tarjan
+	static final int DEFAULT_LENGAUER_TARJAN_THRESHOLD = 4096;
+
+	final ControlFlowGraph graph;
 	List<CFGNode> postOrder;
-	
+	CFGNode[] rpo;   // reachable nodes indexed by reverse post-order number
+	int[] idom;      // idom[b] is the RPO number of b's immediate dominator
+	private int lengauerTarjanThreshold = DEFAULT_LENGAUER_TARJAN_THRESHOLD;
+
 	CFGAnalyzer(CFGNode root) {
+		graph = root.graph;
 		postOrder = root.getPostOrder();
+		numberNodes();
+	}
+
+	public void setLengauerTarjanThreshold(int threshold) {
+		this.lengauerTarjanThreshold = threshold;
 	}
-	
+
+	public boolean usesLengauerTarjan() {
+		return rpo.length > lengauerTarjanThreshold;
+	}
+
 	public void calculateDominators(CFGNode root) {
-	    calculateDominatorSets(root);
-	    calculateStrictDominance(root);
 	    calculateImmediateDominators(root);
-	    calculateDominatedNodes();  // Add this line
+	    buildDominatorTree();
 	    calculateDominanceFrontier(root);
 	}
-    
-    // Method to compute the dominance set for each node
-	public void calculateDominatorSets(CFGNode root) {
-	    // Step 1: Initialize the dominator sets
-	    initializeDominatorSets(root);
-	    // Step 2: Perform iterative data flow analysis
-	    boolean changed;
-	    do {
-	        changed = false;
-	        for (CFGNode node : postOrder) {
-	            if (node == root) continue; // Skip the root node as it only dominates itself
-
-	            Set<CFGNode> newDomSet = new HashSet<>(node.getParent().iterator().next().domSet);
-	            for (CFGNode predecessor : node.getParent()) {
-	                newDomSet.retainAll(predecessor.domSet);
-	            }
-
-	            // Add the node to its own dominator set
-	            newDomSet.add(node);
-
-	            // Check if there is any change in the dominator set
-	            if (!newDomSet.equals(node.domSet)) {
-	                node.domSet = newDomSet;
-	                changed = true;
-	            }
-	        }
-	    } while (changed);
-	}
-
-	private void initializeDominatorSets(CFGNode root) {
-	    for (CFGNode node : postOrder) {
-	        if (node == root) {
-	            node.domSet.add(root);
-	        } else {
-	            node.domSet.addAll(postOrder);
-	        }
-	    }
-	}
-
-
-    private void calculateStrictDominance(CFGNode root) {
-        for (CFGNode node : postOrder) {
-            // Calculate strict dominance set
-            node.sDomSet.addAll(node.domSet);
-            node.sDomSet.remove(node);
-        }
-    }
-    
-    private void calculateDominanceFrontier(CFGNode root) {
-    	for(CFGNode node : postOrder) {// for each Node N
-    	
-        // Find each node M dominated by node N
-        	List<CFGNode> dominated = new ArrayList<>(); // List of all the nodes dominated by N
-        	for(CFGNode M : postOrder) {
-        		if (M.domSet.contains(node)) {
-        			dominated.add(M);
-        		}
-        	}
-        	List<CFGNode>succ = new ArrayList<>();
-        	for(CFGNode n : dominated) {
-        		for(CFGNode s : n.successors) {
-        			if(!succ.contains(s) && !s.sDomSet.contains(node)) {
-        				succ.add(s);
-        				node.DFSet.add(s);
-        			}
-        		}
-        	}
-		}
-    	
-//    	for(CFGNode b : postOrder) {
-//    		if (b != root) {
-//    			if (b.getParent().size() >= 2) {
-//    				for(CFGNode p : b.getParent()) {
-//    					CFGNode runner = p;
-//    					while (runner != b.iDom) {
-//    						runner.DFSet.add(b);
-//    						runner = runner.iDom;
-//    					}
-//    				}
-//    			}
-//    		}
-//    	}
-    }
-    
-    private void calculateImmediateDominators(CFGNode root) {
-    	//If n is b’s immediate dominator, then every node in {Dom(b) − b} is also in Dom(n).
-        for (CFGNode node : root.getPostOrder()) {
-            if (node == root) {
-                node.iDom = null;
-            } else {
-            	for (CFGNode pre : node.sDomSet ) {
-            		if (node.sDomSet.containsAll(pre.domSet) && pre.domSet.containsAll(node.sDomSet)) {
-            			node.iDom = pre;
-            		}
-            	}
-            }
-        }
-    }
-    
-    private void calculateDominatedNodes() {
-        for (CFGNode node : postOrder) {
-            node.dominatedNodes.clear();
-            for (CFGNode potentialDominated : postOrder) {
-                if (potentialDominated != node && potentialDominated.domSet.contains(node)) {
-                    node.dominatedNodes.add(potentialDominated);
-                }
-            }
-        }
-    }
-    
+
+	// Number the nodes in reverse post-order so the root gets 0 and every node
+	// is numbered after all of its non-back-edge predecessors.
+	private void numberNodes() {
+		int n = postOrder.size();
+		rpo = new CFGNode[n];
+		for (int i = 0; i < n; i++) {
+			CFGNode node = postOrder.get(n - 1 - i);
+			node.rpoNumber = i;
+			rpo[i] = node;
+		}
+		for (CFGNode node : rpo) {
+			node.DFSet = newNodeSet();
+		}
+	}
+
+	// An empty set over this graph's node ids
+	public NodeSet newNodeSet() {
+		return new NodeSet(graph);
+	}
+
+	// Both strategies fill the same RPO-indexed idom[] array
+	private void calculateImmediateDominators(CFGNode root) {
+		if (usesLengauerTarjan()) {
+			calculateImmediateDominatorsLengauerTarjan();
+		} else {
+			calculateImmediateDominatorsIterative();
+		}
+	}
+
+	// Cooper, Harvey & Kennedy, "A Simple, Fast Dominance Algorithm": iterate
+	// idom[] to a fixed point over RPO, merging predecessors with intersect().
+	private void calculateImmediateDominatorsIterative() {
+		int n = rpo.length;
+		idom = new int[n];
+		Arrays.fill(idom, -1);
+		idom[0] = 0;
+
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int b = 1; b < n; b++) {
+				int newIdom = -1;
+				CFGNode node = rpo[b];
+				for (int i = 0, preds = node.predecessorCount(); i < preds; i++) {
+					int p = numberOf(node.getPredecessor(i));
+					if (p < 0 || idom[p] < 0) continue; // unreachable or not processed yet
+					newIdom = newIdom < 0 ? p : intersect(p, newIdom);
+				}
+				if (idom[b] != newIdom) {
+					idom[b] = newIdom;
+					changed = true;
+				}
+			}
+		}
+	}
+
+	private int intersect(int finger1, int finger2) {
+		while (finger1 != finger2) {
+			while (finger1 > finger2) finger1 = idom[finger1];
+			while (finger2 > finger1) finger2 = idom[finger2];
+		}
+		return finger1;
+	}
+
+	// Lengauer & Tarjan, "A Fast Algorithm for Finding Dominators in a
+	// Flowgraph", simple version with path compression. Works on DFS preorder
+	// numbers and translates the result back to RPO numbers at the end.
+	private void calculateImmediateDominatorsLengauerTarjan() {
+		int n = rpo.length;
+		CFGNode[] vertex = new CFGNode[n];
+		int[] preOf = new int[n];          // RPO number -> preorder number
+		int[] parent = new int[n];
+		int[] semi = new int[n];
+		int[] label = new int[n];
+		int[] ancestor = new int[n];
+		int[] dom = new int[n];
+		int[] path = new int[n];
+		Arrays.fill(preOf, -1);
+
+		// Iterative DFS so deep graphs cannot overflow the thread stack
+		int count = 0;
+		Deque<CFGNode> stack = new ArrayDeque<>();
+		Deque<Integer> nextEdge = new ArrayDeque<>();
+		preOf[0] = count;
+		vertex[count] = rpo[0];
+		parent[count++] = -1;
+		stack.push(rpo[0]);
+		nextEdge.push(0);
+		while (!stack.isEmpty()) {
+			CFGNode node = stack.peek();
+			int i = nextEdge.pop();
+			if (i < node.successorCount()) {
+				nextEdge.push(i + 1);
+				int s = numberOf(node.getSuccessor(i));
+				if (s >= 0 && preOf[s] < 0) {
+					preOf[s] = count;
+					vertex[count] = rpo[s];
+					parent[count++] = preOf[node.rpoNumber];
+					stack.push(rpo[s]);
+					nextEdge.push(0);
+				}
+			} else {
+				stack.pop();
+			}
+		}
+
+		List<List<Integer>> bucket = new ArrayList<>(n);
+		for (int v = 0; v < n; v++) {
+			semi[v] = v;
+			label[v] = v;
+			ancestor[v] = -1;
+			bucket.add(new ArrayList<>());
+		}
+
+		for (int w = n - 1; w > 0; w--) {
+			CFGNode node = vertex[w];
+			for (int i = 0, preds = node.predecessorCount(); i < preds; i++) {
+				int p = numberOf(node.getPredecessor(i));
+				if (p < 0) continue;
+				int u = eval(preOf[p], ancestor, label, semi, path);
+				if (semi[u] < semi[w]) semi[w] = semi[u];
+			}
+			bucket.get(semi[w]).add(w);
+			ancestor[w] = parent[w];   // link(parent[w], w)
+
+			List<Integer> parentBucket = bucket.get(parent[w]);
+			for (int v : parentBucket) {
+				int u = eval(v, ancestor, label, semi, path);
+				dom[v] = semi[u] < semi[v] ? u : parent[w];
+			}
+			parentBucket.clear();
+		}
+		for (int w = 1; w < n; w++) {
+			if (dom[w] != semi[w]) dom[w] = dom[dom[w]];
+		}
+
+		idom = new int[n];
+		idom[0] = 0;
+		for (int w = 1; w < n; w++) {
+			idom[vertex[w].rpoNumber] = vertex[dom[w]].rpoNumber;
+		}
+	}
+
+	private static int eval(int v, int[] ancestor, int[] label, int[] semi, int[] path) {
+		if (ancestor[v] < 0) return v;
+		compress(v, ancestor, label, semi, path);
+		return label[v];
+	}
+
+	// Path compression without recursion: collect the ancestor chain, then
+	// fold labels down from the top as the recursive version would.
+	private static void compress(int v, int[] ancestor, int[] label, int[] semi, int[] path) {
+		int top = 0;
+		for (int u = v; ancestor[ancestor[u]] >= 0; u = ancestor[u]) {
+			path[top++] = u;
+		}
+		while (top > 0) {
+			int u = path[--top];
+			int a = ancestor[u];
+			if (semi[label[a]] < semi[label[u]]) label[u] = label[a];
+			ancestor[u] = ancestor[a];
+		}
+	}
+
+	// RPO number of a node in this graph, or -1 if it was not reached from the root
+	private int numberOf(CFGNode node) {
+		int number = node.rpoNumber;
+		return number >= 0 && number < rpo.length && rpo[number] == node ? number : -1;
+	}
+
+	// Link iDom / domChildren and give every node a pre/post interval on the
+	// dominator tree so dominance queries are O(1) instead of stored sets.
+	private void buildDominatorTree() {
+		for (CFGNode node : rpo) {
+			node.domChildren.clear();
+		}
+		rpo[0].iDom = null;
+		for (int b = 1; b < rpo.length; b++) {
+			CFGNode parent = rpo[idom[b]];
+			rpo[b].iDom = parent;
+			parent.domChildren.add(rpo[b]);
+		}
+
+		int clock = 0;
+		Deque<CFGNode> stack = new ArrayDeque<>();
+		Deque<Integer> nextChild = new ArrayDeque<>();
+		stack.push(rpo[0]);
+		nextChild.push(0);
+		rpo[0].domPre = clock++;
+		while (!stack.isEmpty()) {
+			CFGNode node = stack.peek();
+			int i = nextChild.pop();
+			if (i < node.domChildren.size()) {
+				nextChild.push(i + 1);
+				CFGNode child = node.domChildren.get(i);
+				child.domPre = clock++;
+				stack.push(child);
+				nextChild.push(0);
+			} else {
+				node.domPost = clock++;
+				stack.pop();
+			}
+		}
+	}
+
+	// Cytron et al. / Cooper-Harvey-Kennedy runner: walk up from each
+	// predecessor of b until reaching idom(b); every node passed has b in its
+	// dominance frontier. Only join points (or a root with back edges) can
+	// contribute, since a lone predecessor is already b's idom.
+	private void calculateDominanceFrontier(CFGNode root) {
+		for (CFGNode node : rpo) {
+			node.DFSet.clear();
+		}
+		for (CFGNode b : rpo) {
+			int preds = b.predecessorCount();
+			if (preds < 2 && b.iDom != null) continue;
+			for (int i = 0; i < preds; i++) {
+				CFGNode pred = b.getPredecessor(i);
+				if (numberOf(pred) < 0) continue;
+				for (CFGNode runner = pred; runner != b.iDom; runner = runner.iDom) {
+					runner.DFSet.add(b);
+				}
+			}
+		}
+	}
+
+	public CFGNode nodeAt(int rpoNumber) {
+		return rpo[rpoNumber];
+	}
+
+	// Dom(n): n and every node on its idom chain up to the root
+	public NodeSet getDomSet(CFGNode node) {
+		NodeSet doms = newNodeSet();
+		if (numberOf(node) < 0) return doms;
+		for (CFGNode runner = node; runner != null; runner = runner.iDom) {
+			doms.add(runner);
+		}
+		return doms;
+	}
+
+	public NodeSet getSDomSet(CFGNode node) {
+		NodeSet sDoms = getDomSet(node);
+		sDoms.remove(node);
+		return sDoms;
+	}
+
+	// Every node strictly dominated by this one, i.e. its dominator subtree
+	public NodeSet getDominatedNodes(CFGNode node) {
+		NodeSet dominated = newNodeSet();
+		Deque<CFGNode> stack = new ArrayDeque<>(node.domChildren);
+		while (!stack.isEmpty()) {
+			CFGNode child = stack.pop();
+			dominated.add(child);
+			stack.addAll(child.domChildren);
+		}
+		return dominated;
+	}
+
 }
@@ -0,0 +1,477 @@
+package antlr;
+
+import antlr.AST.*;
+import antlr.AstArena.Cursor;
+import antlr.AstArena.Kind;
+import java.util.*;
+
+// Builds statement graphs by walking packed ASTs (AstArena) through cursors,
+// so no object node is made. An object AST is packed first.
+class CFGBuilder {
+    private static final Symbol MAIN = Symbol.of("main");
+
+    private ControlFlowGraph graph;
+    private CFGNode entry;
+    private CFGNode exit;
+    private Map<Symbol, Integer> ssaCounter;
+    // Where break and continue go: the enclosing loops, switches and
+    // selects, innermost first, with their labels
+    private final Deque<JumpTargets> targets = new ArrayDeque<>();
+    // RETURN and FATAL nodes of the function being built; they are linked to
+    // its exit once that exists
+    private final List<CFGNode> exits = new ArrayList<>();
+
+    public CFGBuilder() {
+        this.ssaCounter = new HashMap<>();
+    }
+
+    public CFGNode build(ASTNode ast) {
+        if (ast instanceof ProgramNode) {
+            AstArena arena = new AstArena();
+            return build(arena.cursor(arena.add(ast)));
+        }
+        graph = new ControlFlowGraph();
+        return null;
+    }
+
+    public CFGNode build(Cursor program) {
+        graph = new ControlFlowGraph();
+        if (program != null && program.kind() == Kind.PROGRAM) {
+            return buildFromProgram(program);
+        }
+        return null;
+    }
+
+    private CFGNode buildFromProgram(Cursor program) {
+        CFGNode entryNode = graph.newNode("PROGRAM_START", null, program.line());
+        CFGNode exitNode = graph.newNode("PROGRAM_END", null, program.line());
+        this.entry = entryNode;
+        this.exit = exitNode;
+        graph.setEntry(entryNode);
+        
+        // Only a plain function is the entry point; a method may be called
+        // main too
+        for (int i = program.firstListSize(); i < program.childCount(); i++) {
+            Cursor decl = program.child(i);
+            if (decl != null && decl.kind() == Kind.FUNCTION && decl.text() == MAIN) {
+                BlockEnds main = buildFromFunction(decl);
+                entryNode.addSuccessor(main.firstNode);
+                linkExits(main, exitNode);
+            }
+        }
+        return entryNode;
+    }
+
+    // A graph of its own for one function or method:
+    // FUNCTION_<name> -> body -> FUNCTION_END. Each call starts a fresh graph
+    // and fresh SSA counters, so a builder can be reused for one function after
+    // another; concurrent builds need a builder each.
+    public CFGNode buildFunction(Cursor func) {
+        graph = new ControlFlowGraph();
+        ssaCounter.clear();
+        BlockEnds function = buildFromFunction(func);
+        CFGNode exitNode = graph.newNode("FUNCTION_END", null, func.line());
+        this.entry = function.firstNode;
+        this.exit = exitNode;
+        graph.setEntry(function.firstNode);
+        linkExits(function, exitNode);
+        return function.firstNode;
+    }
+
+    // The end of the body, if control can fall off it, and every return
+    // lead to exitNode
+    private void linkExits(BlockEnds function, CFGNode exitNode) {
+        if (function.lastNode != null) {
+            function.lastNode.addSuccessor(exitNode);
+        }
+        for (CFGNode node : exits) {
+            node.addSuccessor(exitNode);
+        }
+        exits.clear();
+    }
+
+    // The nodes control enters and leaves a statement or block by. lastNode
+    // is null when control never leaves normally, e.g. after a return.
+    static class BlockEnds {
+        CFGNode firstNode;
+        CFGNode lastNode;
+        public BlockEnds(CFGNode firstNode, CFGNode lastNode) {
+            this.firstNode = firstNode;
+            this.lastNode = lastNode;
+        }
+    }
+
+    // A loop takes both break and continue, a switch or select only break.
+    // label is null for an unlabeled statement.
+    private record JumpTargets(String label, CFGNode breakTarget, CFGNode continueTarget) {}
+
+    // A function's body is its first child (see AstArena.pack())
+    private BlockEnds buildFromFunction(Cursor func) {
+        CFGNode entryNode = graph.newNode("FUNCTION_" + func.text(), null, func.line());
+        Cursor body = func.child(0);
+        if (body == null) {
+            return new BlockEnds(entryNode, entryNode);
+        }
+        BlockEnds bodyEnds = buildFromBlock(body);
+        entryNode.addSuccessor(bodyEnds.firstNode);
+        return new BlockEnds(entryNode, bodyEnds.lastNode);
+    }
+
+    // Statements after one that does not complete normally get no
+    // predecessor, so they stay in the graph but are unreachable
+    private BlockEnds buildFromBlock(Cursor block) {
+        if (block.childCount() == 0) {
+            CFGNode emptyNode = graph.newNode("EMPTY_BLOCK", null, block.line());
+            return new BlockEnds(emptyNode, emptyNode);
+        }
+
+        CFGNode firstNode = null;
+        CFGNode lastNode = null;
+        for (int i = 0; i < block.childCount(); i++) {
+            BlockEnds current = buildFromStatement(block.child(i));
+            if (firstNode == null) {
+                firstNode = current.firstNode;
+            } else if (lastNode != null) {
+                lastNode.addSuccessor(current.firstNode);
+            }
+            lastNode = current.lastNode;
+        }
+        return new BlockEnds(firstNode, lastNode);
+    }
+
+    private BlockEnds buildFromStatement(Cursor stmt) {
+        return switch (stmt.kind()) {
+            case IF -> buildFromIf(stmt);
+            case FOR -> buildFromFor(stmt, null);
+            case SWITCH -> buildFromSwitch(stmt, null);
+            case SELECT -> buildFromSelect(stmt, null);
+            case ASSIGNMENT -> single(handleAssignment(stmt));
+            case SHORT_VAR_DECL -> single(handleShortVarDecl(stmt));
+            case EXPRESSION_STATEMENT -> {
+                Cursor expression = stmt.child(0);
+                boolean print = expression != null && expression.kind() == Kind.FMT_PRINT;
+                yield single(graph.newNode(print ? "PRINT" : "EXPR", null, stmt.line()));
+            }
+            // The deferred call runs on the way out, but the statement itself
+            // only registers it
+            case DEFER -> single(graph.newNode("DEFER", null, stmt.line()));
+            case GO -> single(graph.newNode("GO", null, stmt.line()));
+            case RETURN -> exit(graph.newNode("RETURN", null, stmt.line()));
+            case LOG_FATAL -> exit(graph.newNode("FATAL", null, stmt.line()));
+            case LABELED -> buildFromLabeled(stmt);
+            case BREAK -> jump(graph.newNode("BREAK", null, stmt.line()), (String) stmt.text(), false);
+            case CONTINUE -> jump(graph.newNode("CONTINUE", null, stmt.line()), (String) stmt.text(), true);
+            case PROGRAM, IMPORT, PACKAGE_IMPORT, FUNCTION, METHOD, PARAMETER, BLOCK, CASE_CLAUSE, CALL,
+                 IDENTIFIER, DECLARATION, TYPE, BINARY, LITERAL, FMT_PRINT, COMM_CLAUSE, UNARY, INC_DEC,
+                 RANGE -> throw new IllegalArgumentException(stmt.kind() + " is not a statement");
+        };
+    }
+
+
+    private static BlockEnds single(CFGNode node) {
+        return new BlockEnds(node, node);
+    }
+
+    private BlockEnds exit(CFGNode node) {
+        exits.add(node);
+        return new BlockEnds(node, null);
+    }
+
+    // break or continue, to the innermost enclosing statement it can leave
+    // or, with a label, to the statement of that label. One with nowhere to
+    // go (not valid Go) just falls through.
+    private BlockEnds jump(CFGNode node, String label, boolean isContinue) {
+        for (JumpTargets enclosing : targets) {
+            if (label != null && !label.equals(enclosing.label())) continue;
+            CFGNode target = isContinue ? enclosing.continueTarget() : enclosing.breakTarget();
+            if (target != null) {
+                node.addSuccessor(target);
+                return new BlockEnds(node, null);
+            }
+            if (label != null) break;
+        }
+        return single(node);
+    }
+
+    // Only a loop, switch or select can be named by a break or continue;
+    // any other statement's label is only a goto target, which the graph
+    // does not model
+    private BlockEnds buildFromLabeled(Cursor labeled) {
+        String label = (String) labeled.text();
+        Cursor stmt = labeled.child(0);
+        if (stmt == null) {
+            return single(graph.newNode("LABEL", null, labeled.line()));
+        }
+        return switch (stmt.kind()) {
+            case FOR -> buildFromFor(stmt, label);
+            case SWITCH -> buildFromSwitch(stmt, label);
+            case SELECT -> buildFromSelect(stmt, label);
+            default -> buildFromStatement(stmt);
+        };
+    }
+
+    // Links from to each part in turn and the last part to to. Parts may be
+    // null; one that does not complete normally ends the chain.
+    private static void branch(CFGNode from, CFGNode to, BlockEnds... parts) {
+        CFGNode last = from;
+        for (BlockEnds part : parts) {
+            if (part == null) continue;
+            last.addSuccessor(part.firstNode);
+            last = part.lastNode;
+            if (last == null) return;
+        }
+        last.addSuccessor(to);
+    }
+
+    // A join that no branch reaches means the statement never completes
+    private static BlockEnds joined(CFGNode first, CFGNode joinNode) {
+        return new BlockEnds(first, joinNode.predecessorCount() > 0 ? joinNode : null);
+    }
+
+    private CFGNode handleShortVarDecl(Cursor varDecl) {
+        List<Symbol> names = varDecl.names();
+        CFGNode declNode = graph.newNode("VAR_DECL", joined(names), varDecl.line());
+        define(declNode, names, true);
+        return declNode;
+    }
+
+    // The left side is the first list of an assignment's children
+    private CFGNode handleAssignment(Cursor assignment) {
+        List<Symbol> assignedVars = extractAssignedVars(assignment, 0, assignment.firstListSize());
+        CFGNode assignmentCFGNode = graph.newNode("ASSIGNMENT", joined(assignedVars), assignment.line());
+        define(assignmentCFGNode, assignedVars, false);
+        return assignmentCFGNode;
+    }
+
+    // A range loop's header. It is the loop's condition, and it defines the
+    // loop's variables for the iteration it starts. They follow the range
+    // expression among its children.
+    private CFGNode handleRangeClause(Cursor range) {
+        List<Symbol> vars = extractAssignedVars(range, 1, range.childCount());
+        CFGNode rangeNode = graph.newNode("RANGE", joined(vars), range.line());
+        define(rangeNode, vars, range.flag());
+        return rangeNode;
+    }
+
+    // Gives node a definition of each of vars. A declared variable's
+    // versions count from 0, an assigned one's from 1.
+    private void define(CFGNode node, List<Symbol> vars, boolean declares) {
+        for (Symbol var : vars) {
+            int version = ssaCounter.getOrDefault(var, 0);
+            ssaCounter.put(var, version + 1);
+            node.updateVarVersion(var, declares ? version : version + 1);
+        }
+    }
+
+    // The identifiers among children from to to (exclusive) of node
+    private static List<Symbol> extractAssignedVars(Cursor node, int from, int to) {
+        List<Symbol> assignedVars = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Cursor expr = node.child(i);
+            if (expr != null && expr.kind() == Kind.IDENTIFIER) {
+                assignedVars.add((Symbol) expr.text());
+            }
+        }
+        return assignedVars;
+    }
+
+    // A node's label for the variables it declares or assigns
+    private static String joined(List<Symbol> names) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Symbol name : names) {
+            joiner.add(name.text);
+        }
+        return joiner.toString();
+    }
+
+    // Children: condition, then block, else block
+    private BlockEnds buildFromIf(Cursor ifStmt) {
+        CFGNode conditionNode = graph.newNode("IF_CONDITION", null, ifStmt.line());
+        CFGNode joinNode = graph.newNode("IF_JOIN", null, ifStmt.line());
+        
+        branch(conditionNode, joinNode, buildFromBlock(ifStmt.child(1)));
+        Cursor elseBlock = ifStmt.child(2);
+        if (elseBlock != null) {
+            branch(conditionNode, joinNode, buildFromBlock(elseBlock));
+        } else {
+            conditionNode.addSuccessor(joinNode);
+        }
+        
+        conditionNode.joinNode = joinNode;
+        return joined(conditionNode, joinNode);
+    }
+
+    // Children: init, condition, post, range clause, body
+    private BlockEnds buildFromFor(Cursor forStmt, String label) {
+        Cursor initStmt = forStmt.child(0);
+        BlockEnds init;
+        if (initStmt != null && initStmt.kind() == Kind.SHORT_VAR_DECL) {
+            init = single(graph.newNode("FOR_INIT", joined(initStmt.names()), forStmt.line()));
+        } else {
+            init = initStmt != null ? buildFromStatement(initStmt) :
+                      single(graph.newNode("FOR_INIT", null, forStmt.line()));
+        }
+
+        Cursor range = forStmt.child(3);
+        CFGNode conditionNode = range != null ? handleRangeClause(range)
+                : graph.newNode("FOR_CONDITION", null, forStmt.line());
+        CFGNode updateNode = graph.newNode("FOR_UPDATE", null, forStmt.line());
+        CFGNode exitNode = graph.newNode("FOR_EXIT", null, forStmt.line());
+        
+        targets.push(new JumpTargets(label, exitNode, updateNode));
+        BlockEnds bodyRange = buildFromBlock(forStmt.child(4));
+        targets.pop();
+        if (init.lastNode != null) {
+            init.lastNode.addSuccessor(conditionNode);
+        }
+        branch(conditionNode, updateNode, bodyRange);
+        updateNode.addSuccessor(conditionNode);
+        conditionNode.addSuccessor(exitNode);
+        
+        return new BlockEnds(init.firstNode, exitNode);
+    }
+
+    // SWITCH -> each case body -> SWITCH_JOIN, and straight to the join when
+    // there is no default case. Children: init, tag, then the case clauses,
+    // each of which has its body and then its expressions.
+    private BlockEnds buildFromSwitch(Cursor switchStmt, String label) {
+        Cursor initStmt = switchStmt.child(0);
+        BlockEnds init = initStmt != null ? buildFromStatement(initStmt) : null;
+        CFGNode switchNode = graph.newNode("SWITCH", null, switchStmt.line());
+        CFGNode joinNode = graph.newNode("SWITCH_JOIN", null, switchStmt.line());
+        boolean hasDefault = false;
+
+        targets.push(new JumpTargets(label, joinNode, null));
+        for (int i = 2; i < switchStmt.childCount(); i++) {
+            Cursor caseClause = switchStmt.child(i);
+            Cursor body = caseClause.child(0);
+            hasDefault |= caseClause.childCount() == 1;
+            branch(switchNode, joinNode, body != null ? buildFromBlock(body) : null);
+        }
+        targets.pop();
+        if (!hasDefault) {
+            switchNode.addSuccessor(joinNode);
+        }
+
+        if (init == null) {
+            return joined(switchNode, joinNode);
+        }
+        if (init.lastNode != null) {
+            init.lastNode.addSuccessor(switchNode);
+        }
+        return joined(init.firstNode, joinNode);
+    }
+
+    // SELECT -> each clause's send or receive, then its body -> SELECT_JOIN
+    private BlockEnds buildFromSelect(Cursor selectStmt, String label) {
+        CFGNode selectNode = graph.newNode("SELECT", null, selectStmt.line());
+        CFGNode joinNode = graph.newNode("SELECT_JOIN", null, selectStmt.line());
+
+        targets.push(new JumpTargets(label, joinNode, null));
+        for (int i = 0; i < selectStmt.childCount(); i++) {
+            Cursor commClause = selectStmt.child(i);
+            Cursor commStmt = commClause.child(0);
+            Cursor bodyBlock = commClause.child(1);
+            BlockEnds comm = commStmt != null ? buildFromStatement(commStmt) : null;
+            BlockEnds body = bodyBlock != null ? buildFromBlock(bodyBlock) : null;
+            branch(selectNode, joinNode, comm, body);
+        }
+        targets.pop();
+        return joined(selectNode, joinNode);
+    }
+
+    public ControlFlowGraph getGraph() {
+        return graph;
+    }
+
+    // Collapse the per-statement graph from build() into maximal basic blocks:
+    // a block grows while its last node has a single successor whose only
+    // predecessor is that node. Edges remain only at control transfers. The
+    // statement graph is left intact (each statement records its block) so the
+    // visualizer can keep drawing one node per statement.
+    //
+    // Every statement gets a block, including unreachable ones (after a
+    // return, say). Their blocks have no path from the entry, so the
+    // analyses, which walk the RPO from the entry, skip them as they skip
+    // unreachable statements.
+    public CFGNode buildBasicBlocks() {
+        ControlFlowGraph blocks = new ControlFlowGraph();
+        CFGNode[] blockOf = new CFGNode[graph.nodeCount()];
+
+        // RPO visits a node's sole predecessor first, so any node not yet
+        // claimed by the block of that predecessor is a leader.
+        for (CFGNode leader : graph.getReversePostOrder()) {
+            if (blockOf[leader.id] == null) {
+                newBlock(blocks, leader, blockOf);
+            }
+        }
+        // The RPO has no unreachable nodes. Of those, a leader is one that
+        // would not continue its predecessor's block; whatever is left is a
+        // cycle of such nodes, which any of them can lead.
+        for (CFGNode leader : graph.getNodes()) {
+            if (blockOf[leader.id] == null && !continuesBlock(leader)) {
+                newBlock(blocks, leader, blockOf);
+            }
+        }
+        for (CFGNode leader : graph.getNodes()) {
+            if (blockOf[leader.id] == null) {
+                newBlock(blocks, leader, blockOf);
+            }
+        }
+
+        for (CFGNode block : blocks.getNodes()) {
+            CFGNode last = block.statements.get(block.statements.size() - 1);
+            for (CFGNode successor : last.getSuccessors()) {
+                block.addSuccessor(blockOf[successor.id]);
+            }
+        }
+
+        CFGNode entryBlock = blockOf[entry.id];
+        blocks.setEntry(entryBlock);
+        return entryBlock;
+    }
+
+    private boolean continuesBlock(CFGNode node) {
+        return node != entry && node.predecessorCount() == 1 && node.getPredecessor(0).successorCount() == 1;
+    }
+
+    private CFGNode newBlock(ControlFlowGraph blocks, CFGNode leader, CFGNode[] blockOf) {
+        CFGNode block = blocks.newNode("BLOCK", null, leader.line);
+        block.statements = new ArrayList<>();
+        CFGNode node = leader;
+        while (true) {
+            block.statements.add(node);
+            blockOf[node.id] = block;
+            node.block = block;
+            if (node.successorCount() != 1) break;
+            CFGNode next = node.getSuccessor(0);
+            if (next.predecessorCount() != 1 || next == entry || blockOf[next.id] != null) break;
+            node = next;
+        }
+
+        StringJoiner varNames = new StringJoiner(", ");
+        for (CFGNode stmt : block.statements) {
+            if (!stmt.varName.isEmpty()) varNames.add(stmt.varName);
+        }
+        block.varName = varNames.toString();
+        return block;
+    }
+
+    public String generateMermaidDiagram(CFGNode start) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("graph TD\n");
+        List<CFGNode> visited = new ArrayList<>();
+        generateMermaidNodes(start, visited, sb);
+        return sb.toString();
+    }
+
+    private void generateMermaidNodes(CFGNode node, List<CFGNode> visited, StringBuilder sb) {
+        if (visited.contains(node)) return;
+        visited.add(node);
+        sb.append("    ").append(node.id).append("[\"").append(node.label).append("\"]\n");
+        for (CFGNode successor : node.getSuccessors()) {
+            sb.append("    ").append(node.id).append(" --> ").append(successor.id).append("\n");
+            generateMermaidNodes(successor, visited, sb);
+        }
+    }
+}
@@ -11,11 +11,11 @@ import java.awt.event.MouseEvent;
 class CFGVisualizer extends JFrame {
     private CFGPanel cfgPanel;
 
-    public CFGVisualizer(CFGNode startNode) {
+    public CFGVisualizer(CFGNode startNode, CFGAnalyzer analyzer) {
         super("Control Flow Graph Visualizer");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 
-        cfgPanel = new CFGPanel(startNode);
+        cfgPanel = new CFGPanel(startNode, analyzer);
         JScrollPane scrollPane = new JScrollPane(cfgPanel);
         scrollPane.setPreferredSize(new Dimension(800, 600));
 
@@ -26,7 +26,7 @@ class CFGVisualizer extends JFrame {
 }
 
 class NodeAttributesDialog extends JDialog {
-    public NodeAttributesDialog(Frame parent, CFGNode node) {
+    public NodeAttributesDialog(Frame parent, CFGNode node, CFGAnalyzer analyzer) {
         super(parent, "Node " + node.id + " Attributes", true);
         
         JPanel mainPanel = new JPanel();
@@ -41,16 +41,21 @@ class NodeAttributesDialog extends JDialog {
         // Build the attributes text
         StringBuilder sb = new StringBuilder();
         sb.append("Node ID: ").append(node.id).append("\n");
+        sb.append("Source Line: ").append(node.line).append("\n");
         sb.append("Label: ").append(node.label).append("\n");
         sb.append("Variable Name: ").append(node.varName.isEmpty() ? "none" : node.varName).append("\n");
         sb.append("Variable Versions: ").append(formatVarVersions(node.varVersions)).append("\n");
         
-        sb.append("Successors: ").append(formatNodeSet(node.successors)).append("\n");
-        sb.append("Predecessors: ").append(formatNodeSet(node.predecessors)).append("\n");
-        sb.append("Dominance Set: ").append(formatNodeSet(node.domSet)).append("\n");
-        sb.append("Strict Dominance Set: ").append(formatNodeSet(node.sDomSet)).append("\n");
-        sb.append("Dominance Frontier Set: ").append(formatNodeSet(node.DFSet)).append("\n");
-        sb.append("Immediate Dominator: ").append(node.iDom != null ? node.iDom.id : "none").append("\n\n");
+        sb.append("Successors: ").append(formatNodeSet(node.getSuccessors())).append("\n");
+        sb.append("Predecessors: ").append(formatNodeSet(node.getPredecessors())).append("\n");
+
+        // Dominance is computed on basic blocks; report the block holding this statement
+        CFGNode block = node.block != null ? node.block : node;
+        sb.append("Basic Block: ").append(block.id).append("\n");
+        sb.append("Dominance Set: ").append(formatNodeSet(analyzer.getDomSet(block))).append("\n");
+        sb.append("Strict Dominance Set: ").append(formatNodeSet(analyzer.getSDomSet(block))).append("\n");
+        sb.append("Dominance Frontier Set: ").append(formatNodeSet(block.DFSet)).append("\n");
+        sb.append("Immediate Dominator: ").append(block.iDom != null ? block.iDom.id : "none").append("\n\n");
         
         attributesArea.setText(sb.toString());
         
@@ -75,7 +80,7 @@ class NodeAttributesDialog extends JDialog {
             .reduce("", (a, b) -> a.isEmpty() ? b : a + ", " + b);
     }
     
-    private String formatVarVersions(Map<String, Integer> varVersions) {
+    private String formatVarVersions(Map<Symbol, Integer> varVersions) {
         if (varVersions == null || varVersions.isEmpty()) return "[]";
         StringBuilder sb = new StringBuilder();
         varVersions.forEach((var, version) -> {
@@ -117,14 +122,16 @@ class NodeAttributesDialog extends JDialog {
 
 class CFGPanel extends JPanel {
     private CFGNode startNode;
+    private transient CFGAnalyzer analyzer;
     private Map<CFGNode, Point> nodePositions;
     private Map<CFGNode, Dimension> nodeDimensions;
     private static final int NODE_DIAMETER = 50;
     private static final int LEVEL_HEIGHT = 100;
     private static final int NODE_HORIZONTAL_SPACING = 100;
 
-    public CFGPanel(CFGNode startNode) {
+    public CFGPanel(CFGNode startNode, CFGAnalyzer analyzer) {
         this.startNode = startNode;
+        this.analyzer = analyzer;
         this.nodePositions = new HashMap<>();
         this.nodeDimensions = new HashMap<>();
         calculateLayout();
@@ -157,7 +164,7 @@ class CFGPanel extends JPanel {
     private void showNodeAttributes(CFGNode node) {
         Window window = SwingUtilities.getWindowAncestor(this);
         if (window instanceof Frame) {
-            NodeAttributesDialog dialog = new NodeAttributesDialog((Frame) window, node);
+            NodeAttributesDialog dialog = new NodeAttributesDialog((Frame) window, node, analyzer);
             dialog.setVisible(true);
         }
     }
@@ -206,7 +213,7 @@ class CFGPanel extends JPanel {
             CFGNode node = entry.getKey();
             Point startPos = entry.getValue();
 
-            for (CFGNode successor : node.successors) {
+            for (CFGNode successor : node.getSuccessors()) {
                 Point endPos = nodePositions.get(successor);
 
                 if (endPos != null) {
@@ -252,7 +259,7 @@ class CFGPanel extends JPanel {
 
             nodesAtLevel.computeIfAbsent(level, k -> new ArrayList<>()).add(node);
 
-            for (CFGNode successor : node.successors) {
+            for (CFGNode successor : node.getSuccessors()) {
                 if (!visited.contains(successor)) {
                     queue.offer(successor);
                     levels.put(successor, level + 1);
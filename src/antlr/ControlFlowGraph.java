@@ -0,0 +1,100 @@
+package antlr;
+
+import java.util.*;
+
+// Owns the nodes of one control flow graph and caches its depth-first
+// orderings. CFGNode.addSuccessor invalidates the cache, so the orders are
+// computed at most once per shape of the graph no matter how many passes ask.
+// Node ids are dense per graph (0..nodeCount-1) and can index arrays; no state
+// is shared between graphs, so separate graphs can be built concurrently.
+class ControlFlowGraph {
+    private final List<CFGNode> nodes = new ArrayList<>();
+    private CFGNode entry;
+    private List<CFGNode> postOrder;        // cached, null when stale
+    private List<CFGNode> reversePostOrder;
+
+    public CFGNode newNode(String label, String varName, int line) {
+        CFGNode node = new CFGNode(this, nodes.size(), label, varName, line);
+        nodes.add(node);
+        return node;
+    }
+
+    public CFGNode getEntry() {
+        return entry;
+    }
+
+    public void setEntry(CFGNode entry) {
+        this.entry = entry;
+        edgesChanged();
+    }
+
+    public CFGNode getNode(int id) {
+        return nodes.get(id);
+    }
+
+    public List<CFGNode> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    void edgesChanged() {
+        postOrder = null;
+        reversePostOrder = null;
+    }
+
+    // Nodes reachable from the entry, children before parents
+    public List<CFGNode> getPostOrder() {
+        if (postOrder == null) {
+            CFGNode[] order = computePostOrder(entry);
+            postOrder = Collections.unmodifiableList(Arrays.asList(order));
+            CFGNode[] reversed = new CFGNode[order.length];
+            for (int i = 0; i < order.length; i++) {
+                reversed[i] = order[order.length - 1 - i];
+            }
+            reversePostOrder = Collections.unmodifiableList(Arrays.asList(reversed));
+        }
+        return postOrder;
+    }
+
+    public List<CFGNode> getReversePostOrder() {
+        getPostOrder();
+        return reversePostOrder;
+    }
+
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    // Depth-first post-order with an explicit stack, so long straight-line
+    // functions cannot overflow the thread stack.
+    static CFGNode[] computePostOrder(CFGNode start) {
+        if (start == null) return new CFGNode[0];
+        int nodeCount = start.graph.nodeCount();
+
+        CFGNode[] order = new CFGNode[nodeCount];
+        CFGNode[] stack = new CFGNode[nodeCount];
+        int[] nextEdge = new int[nodeCount];
+        boolean[] visited = new boolean[nodeCount];
+        int size = 0;
+        int top = 0;
+        visited[start.id] = true;
+        stack[0] = start;
+        nextEdge[0] = 0;
+        while (top >= 0) {
+            CFGNode node = stack[top];
+            int i = nextEdge[top];
+            if (i < node.successorCount()) {
+                nextEdge[top] = i + 1;
+                CFGNode successor = node.getSuccessor(i);
+                if (!visited[successor.id]) {
+                    visited[successor.id] = true;
+                    stack[++top] = successor;
+                    nextEdge[top] = 0;
+                }
+            } else {
+                top--;
+                order[size++] = node;
+            }
+        }
+        return Arrays.copyOf(order, size);
+    }
+}
@@ -0,0 +1,501 @@
+package antlr;
+
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+import java.io.*;
+import java.lang.reflect.Field;
+import java.util.*;
+
+// Binary snapshot of the DFAs an ATN simulator has built. DFA states keep
+// their ATN configurations, since prediction extends the DFA from them, so
+// the snapshot stores the configurations themselves. Prediction contexts,
+// semantic contexts and lexer action executors go into shared tables first
+// and are referenced by index. On load the contexts are interned in the
+// target PredictionContextCache.
+//
+// A snapshot is only valid for the ATN it was taken from; GoParserFactory
+// writes the grammar's serialized-ATN hash next to it and checks it on load.
+class DFASnapshot {
+    private static final int NULL = -1;
+    private static final int ERROR = -2;   // ATNSimulator.ERROR
+
+    // ATNConfigSet.conflictingAlts has no accessor but full-context
+    // prediction reads it from DFA states that require full context
+    private static final Field CONFLICTING_ALTS;
+    static {
+        try {
+            CONFLICTING_ALTS = ATNConfigSet.class.getDeclaredField("conflictingAlts");
+            CONFLICTING_ALTS.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // ---- writing ----
+
+    static void write(DataOutputStream out, ATN atn, DFA[] dfas) throws IOException {
+        Writer writer = new Writer(atn);
+        List<List<DFAState>> statesPerDFA = new ArrayList<>();
+        for (DFA dfa : dfas) {
+            List<DFAState> states;
+            synchronized (dfa.states) {
+                states = new ArrayList<>(dfa.states.keySet());
+            }
+            statesPerDFA.add(states);
+            for (DFAState state : states) {
+                writer.collect(state);
+            }
+        }
+
+        writer.writeTables(out);
+        out.writeInt(dfas.length);
+        for (int d = 0; d < dfas.length; d++) {
+            writer.writeDFA(out, dfas[d], statesPerDFA.get(d));
+        }
+    }
+
+    private static class Writer {
+        final ATN atn;
+        final Map<PredictionContext, Integer> contexts = new IdentityHashMap<>();
+        final List<PredictionContext> contextList = new ArrayList<>();
+        final Map<SemanticContext, Integer> semantics = new IdentityHashMap<>();
+        final List<SemanticContext> semanticList = new ArrayList<>();
+        final Map<LexerActionExecutor, Integer> executors = new IdentityHashMap<>();
+        final List<LexerActionExecutor> executorList = new ArrayList<>();
+
+        Writer(ATN atn) {
+            this.atn = atn;
+        }
+
+        void collect(DFAState state) {
+            for (ATNConfig config : state.configs) {
+                contextIndex(config.context);
+                semanticIndex(config.semanticContext);
+                if (config instanceof LexerATNConfig) {
+                    executorIndex(((LexerATNConfig) config).getLexerActionExecutor());
+                }
+            }
+            executorIndex(state.lexerActionExecutor);
+            if (state.predicates != null) {
+                for (DFAState.PredPrediction p : state.predicates) {
+                    semanticIndex(p.pred);
+                }
+            }
+        }
+
+        // Parents are numbered before children so the reader can build in order
+        int contextIndex(PredictionContext context) {
+            if (context == null) return NULL;
+            Integer index = contexts.get(context);
+            if (index != null) return index;
+            for (int i = 0; i < context.size(); i++) {
+                contextIndex(context.getParent(i));
+            }
+            contexts.put(context, contextList.size());
+            contextList.add(context);
+            return contextList.size() - 1;
+        }
+
+        int semanticIndex(SemanticContext semantic) {
+            Integer index = semantics.get(semantic);
+            if (index != null) return index;
+            if (semantic instanceof SemanticContext.Operator) {
+                for (SemanticContext operand : ((SemanticContext.Operator) semantic).getOperands()) {
+                    semanticIndex(operand);
+                }
+            }
+            semantics.put(semantic, semanticList.size());
+            semanticList.add(semantic);
+            return semanticList.size() - 1;
+        }
+
+        int executorIndex(LexerActionExecutor executor) {
+            if (executor == null) return NULL;
+            Integer index = executors.get(executor);
+            if (index != null) return index;
+            executors.put(executor, executorList.size());
+            executorList.add(executor);
+            return executorList.size() - 1;
+        }
+
+        void writeTables(DataOutputStream out) throws IOException {
+            out.writeInt(contextList.size());
+            for (PredictionContext context : contextList) {
+                if (context == EmptyPredictionContext.Instance) {
+                    out.writeByte(0);
+                } else if (context instanceof SingletonPredictionContext) {
+                    SingletonPredictionContext singleton = (SingletonPredictionContext) context;
+                    out.writeByte(1);
+                    out.writeInt(contextIndex(singleton.parent));
+                    out.writeInt(singleton.returnState);
+                } else {
+                    ArrayPredictionContext array = (ArrayPredictionContext) context;
+                    out.writeByte(2);
+                    out.writeInt(array.returnStates.length);
+                    for (int i = 0; i < array.returnStates.length; i++) {
+                        out.writeInt(contextIndex(array.parents[i]));
+                        out.writeInt(array.returnStates[i]);
+                    }
+                }
+            }
+
+            out.writeInt(semanticList.size());
+            for (SemanticContext semantic : semanticList) {
+                if (semantic == SemanticContext.Empty.Instance) {
+                    out.writeByte(0);
+                } else if (semantic instanceof SemanticContext.Predicate) {
+                    SemanticContext.Predicate pred = (SemanticContext.Predicate) semantic;
+                    out.writeByte(1);
+                    out.writeInt(pred.ruleIndex);
+                    out.writeInt(pred.predIndex);
+                    out.writeBoolean(pred.isCtxDependent);
+                } else if (semantic instanceof SemanticContext.PrecedencePredicate) {
+                    out.writeByte(2);
+                    out.writeInt(((SemanticContext.PrecedencePredicate) semantic).precedence);
+                } else {
+                    Collection<SemanticContext> operands = ((SemanticContext.Operator) semantic).getOperands();
+                    out.writeByte(semantic instanceof SemanticContext.AND ? 3 : 4);
+                    out.writeInt(operands.size());
+                    for (SemanticContext operand : operands) {
+                        out.writeInt(semantics.get(operand));
+                    }
+                }
+            }
+
+            // Lexer actions are stored as indexes into the ATN's own action table
+            List<LexerAction> atnActions = atn.lexerActions != null ? Arrays.asList(atn.lexerActions) : List.of();
+            out.writeInt(executorList.size());
+            for (LexerActionExecutor executor : executorList) {
+                LexerAction[] actions = executor.getLexerActions();
+                out.writeInt(actions.length);
+                for (LexerAction action : actions) {
+                    int index = atnActions.indexOf(action);
+                    if (index < 0) {
+                        throw new IOException("Cannot snapshot position-dependent lexer action " + action);
+                    }
+                    out.writeInt(index);
+                }
+            }
+        }
+
+        void writeDFA(DataOutputStream out, DFA dfa, List<DFAState> states) throws IOException {
+            Map<DFAState, Integer> index = new IdentityHashMap<>();
+            for (int i = 0; i < states.size(); i++) {
+                index.put(states.get(i), i);
+            }
+
+            out.writeInt(dfa.decision);
+            out.writeInt(states.size());
+            for (DFAState state : states) {
+                writeState(out, state);
+            }
+            for (DFAState state : states) {
+                writeEdges(out, state.edges, index);
+            }
+
+            // A precedence DFA's s0 is not a real state: its edges hold the
+            // start state for each precedence level
+            DFAState s0 = dfa.s0;
+            if (dfa.isPrecedenceDfa()) {
+                writeEdges(out, s0 != null ? s0.edges : null, index);
+            } else {
+                out.writeInt(s0 != null && index.containsKey(s0) ? index.get(s0) : NULL);
+            }
+        }
+
+        void writeState(DataOutputStream out, DFAState state) throws IOException {
+            ATNConfigSet configs = state.configs;
+            out.writeInt(state.stateNumber);
+            out.writeBoolean(configs instanceof OrderedATNConfigSet);
+            out.writeBoolean(configs.fullCtx);
+            out.writeInt(configs.uniqueAlt);
+            out.writeBoolean(configs.hasSemanticContext);
+            out.writeBoolean(configs.dipsIntoOuterContext);
+            writeBitSet(out, conflictingAlts(configs));
+            out.writeInt(configs.size());
+            for (ATNConfig config : configs) {
+                out.writeInt(config.state.stateNumber);
+                out.writeInt(config.alt);
+                out.writeInt(contextIndex(config.context));
+                out.writeInt(semantics.get(config.semanticContext));
+                out.writeInt(config.reachesIntoOuterContext);
+                if (config instanceof LexerATNConfig) {
+                    LexerATNConfig lexerConfig = (LexerATNConfig) config;
+                    out.writeBoolean(true);
+                    out.writeInt(executorIndex(lexerConfig.getLexerActionExecutor()));
+                    out.writeBoolean(lexerConfig.hasPassedThroughNonGreedyDecision());
+                } else {
+                    out.writeBoolean(false);
+                }
+            }
+
+            out.writeBoolean(state.isAcceptState);
+            out.writeInt(state.prediction);
+            out.writeBoolean(state.requiresFullContext);
+            out.writeInt(executorIndex(state.lexerActionExecutor));
+            if (state.predicates == null) {
+                out.writeInt(NULL);
+            } else {
+                out.writeInt(state.predicates.length);
+                for (DFAState.PredPrediction p : state.predicates) {
+                    out.writeInt(semantics.get(p.pred));
+                    out.writeInt(p.alt);
+                }
+            }
+        }
+
+        void writeEdges(DataOutputStream out, DFAState[] edges, Map<DFAState, Integer> index) throws IOException {
+            if (edges == null) {
+                out.writeInt(NULL);
+                return;
+            }
+            out.writeInt(edges.length);
+            for (DFAState target : edges) {
+                if (target == null) {
+                    out.writeInt(NULL);
+                } else if (target == ATNSimulator.ERROR) {
+                    out.writeInt(ERROR);
+                } else {
+                    Integer i = index.get(target);
+                    out.writeInt(i != null ? i : NULL);
+                }
+            }
+        }
+    }
+
+    private static void writeBitSet(DataOutputStream out, BitSet bits) throws IOException {
+        if (bits == null) {
+            out.writeInt(NULL);
+            return;
+        }
+        long[] words = bits.toLongArray();
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    private static BitSet readBitSet(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL) return null;
+        long[] words = new long[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = in.readLong();
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static BitSet conflictingAlts(ATNConfigSet configs) {
+        try {
+            return (BitSet) CONFLICTING_ALTS.get(configs);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ---- reading ----
+
+    // Fills dfas (fresh, empty DFAs for the same ATN) from a snapshot
+    static void read(DataInputStream in, ATN atn, DFA[] dfas, PredictionContextCache contextCache) throws IOException {
+        PredictionContext[] contexts = new PredictionContext[in.readInt()];
+        for (int i = 0; i < contexts.length; i++) {
+            PredictionContext context;
+            switch (in.readByte()) {
+                case 0:
+                    context = EmptyPredictionContext.Instance;
+                    break;
+                case 1: {
+                    PredictionContext parent = contextAt(contexts, in.readInt());
+                    context = SingletonPredictionContext.create(parent, in.readInt());
+                    break;
+                }
+                case 2: {
+                    int n = in.readInt();
+                    PredictionContext[] parents = new PredictionContext[n];
+                    int[] returnStates = new int[n];
+                    for (int k = 0; k < n; k++) {
+                        parents[k] = contextAt(contexts, in.readInt());
+                        returnStates[k] = in.readInt();
+                    }
+                    context = new ArrayPredictionContext(parents, returnStates);
+                    break;
+                }
+                default:
+                    throw new IOException("Corrupt DFA snapshot: bad prediction context");
+            }
+            contexts[i] = contextCache != null ? contextCache.add(context) : context;
+        }
+
+        SemanticContext[] semantics = new SemanticContext[in.readInt()];
+        for (int i = 0; i < semantics.length; i++) {
+            byte kind = in.readByte();
+            switch (kind) {
+                case 0:
+                    semantics[i] = SemanticContext.Empty.Instance;
+                    break;
+                case 1:
+                    semantics[i] = new SemanticContext.Predicate(in.readInt(), in.readInt(), in.readBoolean());
+                    break;
+                case 2:
+                    semantics[i] = new SemanticContext.PrecedencePredicate(in.readInt());
+                    break;
+                case 3:
+                case 4: {
+                    boolean and = kind == 3;
+                    int n = in.readInt();
+                    SemanticContext combined = semantics[in.readInt()];
+                    for (int k = 1; k < n; k++) {
+                        SemanticContext operand = semantics[in.readInt()];
+                        combined = and ? SemanticContext.and(combined, operand) : SemanticContext.or(combined, operand);
+                    }
+                    semantics[i] = combined;
+                    break;
+                }
+                default:
+                    throw new IOException("Corrupt DFA snapshot: bad semantic context");
+            }
+        }
+
+        LexerActionExecutor[] executors = new LexerActionExecutor[in.readInt()];
+        for (int i = 0; i < executors.length; i++) {
+            LexerAction[] actions = new LexerAction[in.readInt()];
+            for (int k = 0; k < actions.length; k++) {
+                actions[k] = atn.lexerActions[in.readInt()];
+            }
+            executors[i] = new LexerActionExecutor(actions);
+        }
+
+        int dfaCount = in.readInt();
+        if (dfaCount != dfas.length) {
+            throw new IOException("DFA snapshot has " + dfaCount + " decisions, expected " + dfas.length);
+        }
+        ATNState nonGreedyState = findNonGreedyDecision(atn);
+        for (DFA dfa : dfas) {
+            readDFA(in, atn, dfa, contexts, semantics, executors, nonGreedyState);
+        }
+    }
+
+    private static void readDFA(DataInputStream in, ATN atn, DFA dfa, PredictionContext[] contexts,
+                                SemanticContext[] semantics, LexerActionExecutor[] executors,
+                                ATNState nonGreedyState) throws IOException {
+        if (in.readInt() != dfa.decision) {
+            throw new IOException("Corrupt DFA snapshot: decisions out of order");
+        }
+        DFAState[] states = new DFAState[in.readInt()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = readState(in, atn, contexts, semantics, executors, nonGreedyState);
+        }
+        for (DFAState state : states) {
+            state.edges = readEdges(in, states);
+        }
+        for (DFAState state : states) {
+            dfa.states.put(state, state);
+        }
+
+        if (dfa.isPrecedenceDfa()) {
+            DFAState[] starts = readEdges(in, states);
+            if (starts != null) {
+                for (int precedence = 0; precedence < starts.length; precedence++) {
+                    if (starts[precedence] != null) {
+                        dfa.setPrecedenceStartState(precedence, starts[precedence]);
+                    }
+                }
+            }
+        } else {
+            int s0 = in.readInt();
+            dfa.s0 = s0 == NULL ? null : states[s0];
+        }
+    }
+
+    private static DFAState readState(DataInputStream in, ATN atn, PredictionContext[] contexts,
+                                      SemanticContext[] semantics, LexerActionExecutor[] executors,
+                                      ATNState nonGreedyState) throws IOException {
+        int stateNumber = in.readInt();
+        boolean ordered = in.readBoolean();
+        boolean fullCtx = in.readBoolean();
+        ATNConfigSet configs = ordered ? new OrderedATNConfigSet() : new ATNConfigSet(fullCtx);
+        int uniqueAlt = in.readInt();
+        boolean hasSemanticContext = in.readBoolean();
+        boolean dipsIntoOuterContext = in.readBoolean();
+        BitSet conflictingAlts = readBitSet(in);
+
+        int configCount = in.readInt();
+        for (int i = 0; i < configCount; i++) {
+            ATNState state = atn.states.get(in.readInt());
+            int alt = in.readInt();
+            PredictionContext context = contextAt(contexts, in.readInt());
+            SemanticContext semantic = semantics[in.readInt()];
+            int reachesIntoOuterContext = in.readInt();
+            ATNConfig config;
+            if (in.readBoolean()) {
+                int executor = in.readInt();
+                boolean passedThroughNonGreedy = in.readBoolean();
+                LexerATNConfig lexerConfig = new LexerATNConfig(state, alt, context,
+                        executor == NULL ? null : executors[executor]);
+                if (passedThroughNonGreedy) {
+                    // The flag has no setter; it is inherited when a config is
+                    // derived through a non-greedy decision state
+                    if (nonGreedyState == null) {
+                        throw new IOException("Corrupt DFA snapshot: no non-greedy decision in ATN");
+                    }
+                    lexerConfig = new LexerATNConfig(new LexerATNConfig(lexerConfig, nonGreedyState), state);
+                }
+                config = lexerConfig;
+            } else {
+                config = new ATNConfig(state, alt, context, semantic);
+            }
+            config.reachesIntoOuterContext = reachesIntoOuterContext;
+            configs.add(config);
+        }
+        configs.uniqueAlt = uniqueAlt;
+        configs.hasSemanticContext = hasSemanticContext;
+        configs.dipsIntoOuterContext = dipsIntoOuterContext;
+        try {
+            CONFLICTING_ALTS.set(configs, conflictingAlts);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        configs.setReadonly(true);
+
+        DFAState state = new DFAState(configs);
+        state.stateNumber = stateNumber;
+        state.isAcceptState = in.readBoolean();
+        state.prediction = in.readInt();
+        state.requiresFullContext = in.readBoolean();
+        int executor = in.readInt();
+        state.lexerActionExecutor = executor == NULL ? null : executors[executor];
+        int predicateCount = in.readInt();
+        if (predicateCount != NULL) {
+            state.predicates = new DFAState.PredPrediction[predicateCount];
+            for (int i = 0; i < predicateCount; i++) {
+                state.predicates[i] = new DFAState.PredPrediction(semantics[in.readInt()], in.readInt());
+            }
+        }
+        return state;
+    }
+
+    private static DFAState[] readEdges(DataInputStream in, DFAState[] states) throws IOException {
+        int length = in.readInt();
+        if (length == NULL) return null;
+        DFAState[] edges = new DFAState[length];
+        for (int i = 0; i < length; i++) {
+            int target = in.readInt();
+            edges[i] = target == NULL ? null : target == ERROR ? ATNSimulator.ERROR : states[target];
+        }
+        return edges;
+    }
+
+    private static PredictionContext contextAt(PredictionContext[] contexts, int index) {
+        return index == NULL ? null : contexts[index];
+    }
+
+    private static ATNState findNonGreedyDecision(ATN atn) {
+        for (ATNState state : atn.states) {
+            if (state instanceof DecisionState && ((DecisionState) state).nonGreedy) {
+                return state;
+            }
+        }
+        return null;
+    }
+}
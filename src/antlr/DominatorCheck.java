@@ -0,0 +1,73 @@
+package antlr;
+
+import antlr.AST.*;
+import org.antlr.v4.runtime.*;
+import java.io.*;
+import java.util.*;
+
+// Differential check: both dominator strategies in CFGAnalyzer must agree on
+// iDom and the dominator tree. Run from src/ with no arguments to check the
+// bundled test programs, or pass .go files explicitly.
+public class DominatorCheck {
+    private static final String[] DEFAULT_INPUTS = { "tests/ex.go", "tests/test2.go" };
+
+    public static void main(String[] args) throws IOException {
+        String[] inputs = args.length > 0 ? args : DEFAULT_INPUTS;
+        boolean allAgree = true;
+        for (String file : inputs) {
+            allAgree &= check(file);
+        }
+        if (!allAgree) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(String file) throws IOException {
+        GoParser parser = new GoParser(new CommonTokenStream(new GoLexer(CharStreams.fromFileName(file))));
+        ASTNode ast = GoASTBuilder.build(parser.sourceFile());
+        CFGBuilder builder = new CFGBuilder();
+        CFGNode cfg = builder.build(ast);
+        CFGNode blocks = builder.buildBasicBlocks();
+        boolean agree = check(file + " [statements]", cfg) & check(file + " [blocks]", blocks);
+
+        for (FunctionNode function : FunctionCFG.functionsOf((ProgramNode) ast)) {
+            FunctionCFG functionCfg = FunctionCFG.build(function);
+            String name = file + " " + functionCfg.name();
+            agree &= check(name + " [statements]", functionCfg.entry);
+            agree &= check(name + " [blocks]", functionCfg.builder.buildBasicBlocks());
+        }
+        return agree;
+    }
+
+    private static boolean check(String name, CFGNode cfg) {
+        CFGAnalyzer iterative = new CFGAnalyzer(cfg);
+        iterative.setLengauerTarjanThreshold(Integer.MAX_VALUE);
+        iterative.calculateDominators(cfg);
+        Map<CFGNode, CFGNode> expectedIDom = new HashMap<>();
+        Map<CFGNode, List<CFGNode>> expectedChildren = new HashMap<>();
+        for (CFGNode node : iterative.rpo) {
+            expectedIDom.put(node, node.iDom);
+            expectedChildren.put(node, new ArrayList<>(node.domChildren));
+        }
+
+        CFGAnalyzer lengauerTarjan = new CFGAnalyzer(cfg);
+        lengauerTarjan.setLengauerTarjanThreshold(0);
+        lengauerTarjan.calculateDominators(cfg);
+
+        int mismatches = 0;
+        for (CFGNode node : lengauerTarjan.rpo) {
+            if (expectedIDom.get(node) != node.iDom) {
+                System.out.println("  iDom mismatch at " + node.label + " " + node
+                        + ": iterative=" + expectedIDom.get(node) + ", lengauer-tarjan=" + node.iDom);
+                mismatches++;
+            } else if (!new HashSet<>(expectedChildren.get(node)).equals(new HashSet<>(node.domChildren))) {
+                System.out.println("  dominator tree mismatch under " + node.label + " " + node);
+                mismatches++;
+            }
+        }
+
+        System.out.println((mismatches == 0 ? "OK   " : "FAIL ") + name + " (" + lengauerTarjan.rpo.length
+                + " nodes, " + mismatches + " mismatches)");
+        return mismatches == 0;
+    }
+}
@@ -0,0 +1,123 @@
+package antlr;
+
+import antlr.AST.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+// The control flow graph of one function or method and the results of
+// analyzing it: basic blocks, dominators and SSA phi placement. Functions do
+// not share graphs, builders or analyzers, so a whole program can be analyzed
+// one task per function on a ForkJoinPool.
+//
+// The graph is built from the function's packed form (AstArena); a function
+// given as an object is packed first.
+class FunctionCFG {
+    final AstArena.Cursor function;
+    final CFGBuilder builder;
+    final CFGNode entry;               // per-statement graph
+    CFGNode blocks;                    // basic-block graph, set by analyze()
+    CFGAnalyzer analyzer;
+    Map<CFGNode, Set<Symbol>> phiFunctions;
+
+    private FunctionCFG(AstArena.Cursor function) {
+        this.function = function;
+        this.builder = new CFGBuilder();
+        this.entry = builder.buildFunction(function);
+    }
+
+    // Build the statement graph of one function without analyzing it
+    public static FunctionCFG build(FunctionNode function) {
+        return new FunctionCFG(packed(function));
+    }
+
+    // Build, collapse into basic blocks, compute dominators and convert to SSA
+    public static FunctionCFG analyze(FunctionNode function) {
+        FunctionCFG cfg = new FunctionCFG(packed(function));
+        cfg.analyze();
+        return cfg;
+    }
+
+    // Builds from a function packed in an AstArena, reading it through
+    // cursors; nothing is unpacked
+    public static FunctionCFG build(AstArena.Cursor function) {
+        return new FunctionCFG(function);
+    }
+
+    private static AstArena.Cursor packed(FunctionNode function) {
+        AstArena arena = new AstArena();
+        return arena.cursor(arena.add(function));
+    }
+
+    // Blocks, dominators and SSA for a graph made by build()
+    void analyze() {
+        blocks = builder.buildBasicBlocks();
+        analyzer = new CFGAnalyzer(blocks);
+        analyzer.calculateDominators(blocks);
+        phiFunctions = new HashMap<>();
+        SSAConverter.convertToSSA(blocks, analyzer, new HashMap<>(), new HashMap<>(), phiFunctions);
+    }
+
+    public String name() {
+        Symbol name = (Symbol) function.text();
+        return function.kind() == AstArena.Kind.METHOD
+                ? MethodNode.qualifiedName((String) function.extraText(), name) : name.text;
+    }
+
+    public int phiCount() {
+        int count = 0;
+        for (Set<Symbol> vars : phiFunctions.values()) {
+            count += vars.size();
+        }
+        return count;
+    }
+
+    // Every function and method declared in the program, in source order
+    public static List<FunctionNode> functionsOf(ProgramNode program) {
+        List<FunctionNode> functions = new ArrayList<>();
+        for (ASTNode decl : program.declarations()) {
+            if (decl instanceof FunctionNode) {
+                functions.add((FunctionNode) decl);
+            }
+        }
+        return functions;
+    }
+
+    // Every function and method of a packed program, in source order
+    public static List<AstArena.Cursor> functionsOf(AstArena.Cursor program) {
+        List<AstArena.Cursor> functions = new ArrayList<>();
+        for (AstArena.Cursor decl : program.children()) {
+            if (decl != null && (decl.kind() == AstArena.Kind.FUNCTION || decl.kind() == AstArena.Kind.METHOD)) {
+                functions.add(decl);
+            }
+        }
+        return functions;
+    }
+
+    public static List<FunctionCFG> analyzeAll(ProgramNode program) {
+        List<FunctionCFG> results = new ArrayList<>();
+        for (FunctionNode function : functionsOf(program)) {
+            results.add(analyze(function));
+        }
+        return results;
+    }
+
+    // One task per function on the given pool; results keep source order.
+    // A failure in any function is rethrown once every task has finished.
+    public static List<FunctionCFG> analyzeAll(ProgramNode program, ForkJoinPool pool) {
+        List<ForkJoinTask<FunctionCFG>> tasks = new ArrayList<>();
+        for (FunctionNode function : functionsOf(program)) {
+            tasks.add(pool.submit(() -> analyze(function)));
+        }
+        List<FunctionCFG> results = new ArrayList<>(tasks.size());
+        RuntimeException failure = null;
+        for (ForkJoinTask<FunctionCFG> task : tasks) {
+            try {
+                results.add(task.join());
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+            }
+        }
+        if (failure != null) throw failure;
+        return results;
+    }
+}
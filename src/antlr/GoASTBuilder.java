@@ -0,0 +1,902 @@
+package antlr;
+
+import antlr.AST.*;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import java.util.ArrayList;
+import java.util.List;
+
+// Builds the AST. It is the only place nodes are made from the grammar's
+// rules, and it takes its input in either of two ways: as a parse listener
+// while the parser runs, so the parse tree is never built, or by walking a
+// tree that has been (build()), which fires the same events in the same
+// order.
+//
+// As a parse listener the builder turns tree building off: a rule context
+// still collects its own tokens, but not its child contexts, and it becomes
+// garbage once its parent has exited. Only the contexts on the current rule
+// path and their direct children are alive at any time, instead of the
+// whole tree.
+//
+// When a rule exits, its value is built from the values of its direct
+// children, which are kept in a frame per open rule. A rule the AST has no
+// node for takes the value of its last child (null if that is a token).
+// Where a rule needs more than its children's values (e.g. a for clause's
+// init statement), the child rule leaves an "info" record with what its
+// parent needs. A value that fails to build is kept as Failed and its
+// exception is only rethrown when a parent uses it, so a subtree the AST
+// does not look at cannot fail the file.
+//
+//   GoParser parser = factory.newParser(tokens);
+//   GoASTBuilder builder = new GoASTBuilder(parser);
+//   TwoStageParser.parse(parser, errorListener);
+//   ProgramNode program = (ProgramNode) builder.result();
+//
+//   ProgramNode program = (ProgramNode) GoASTBuilder.build(parsed.tree);
+//
+// A packing builder (packing(), or pack() for a tree) puts the AST in an
+// AstArena instead. Each top-level declaration is packed as soon as it is
+// built and only its index is kept, so the object form of one declaration
+// at most is alive at a time, and the program node is added over them
+// (AstArena.addProgram()):
+//
+//   GoASTBuilder builder = GoASTBuilder.packing(parser);
+//   TwoStageParser.parse(parser, errorListener);
+//   AstArena arena = builder.arena();
+//   AstArena.Cursor program = arena.cursor(arena.root());
+//
+// Source text, such as a callee's name, is read from the parser's token
+// stream as a listener, which therefore has to be buffered, and from the
+// tree in a walk. After a syntax error the two can differ: tokens conjured
+// by error recovery are only added to a tree that is being built.
+public final class GoASTBuilder implements ParseTreeListener {
+    private final GoParser parser;  // null when walking a built tree
+    private final boolean packing;
+    private AstArena arena;         // a packing builder's, new for each parse
+    private final List<Frame> frames = new ArrayList<>();
+    private int depth;
+    private Frame current;          // frame of the rule being built
+    private Object result;
+    private Object resultInfo;
+
+    public GoASTBuilder(GoParser parser) {
+        this(parser, false);
+        parser.setBuildParseTree(false);
+        parser.addParseListener(this);
+    }
+
+    private GoASTBuilder(GoParser parser, boolean packing) {
+        this.parser = parser;
+        this.packing = packing;
+    }
+
+    // A builder that packs into an AstArena as parser runs
+    public static GoASTBuilder packing(GoParser parser) {
+        GoASTBuilder builder = new GoASTBuilder(parser, true);
+        parser.setBuildParseTree(false);
+        parser.addParseListener(builder);
+        return builder;
+    }
+
+    // The AST of a parse tree (a source file, or one declaration or block of
+    // it)
+    public static ASTNode build(ParseTree tree) {
+        GoASTBuilder builder = new GoASTBuilder(null, false);
+        ParseTreeWalker.DEFAULT.walk(builder, tree);
+        return builder.result();
+    }
+
+    // The AST of a parse tree, packed the way a packing builder would
+    public static AstArena pack(ParseTree tree) {
+        GoASTBuilder builder = new GoASTBuilder(null, true);
+        ParseTreeWalker.DEFAULT.walk(builder, tree);
+        return builder.arena();
+    }
+
+    // The imports of one import declaration's parse tree
+    public static List<ImportNode> imports(GoParser.ImportDeclContext importDecl) {
+        GoASTBuilder builder = new GoASTBuilder(null, false);
+        ParseTreeWalker.DEFAULT.walk(builder, importDecl);
+        return consumeInfo(builder.resultInfo);
+    }
+
+    // The AST of the last rule parsed or walked from the top, usually a
+    // sourceFile. Throws whatever building it threw.
+    public ASTNode result() {
+        if (result instanceof Packed) {
+            throw new IllegalStateException("a packing builder's result is in arena()");
+        }
+        return consume(result);
+    }
+
+    // A packing builder's arena for the last rule parsed or walked from the
+    // top; its root() is that rule's node. A source file's declarations
+    // were packed as they were built, anything else is packed now. Throws
+    // whatever building it threw.
+    public AstArena arena() {
+        if (!(result instanceof Packed)) {
+            result = new Packed(arena.add(consume(result)));
+        }
+        return arena;
+    }
+
+    // Drops the frames of a parse that did not finish, such as one whose
+    // listener events stopped part way
+    private void reset() {
+        for (int i = 0; i < depth; i++) {
+            frames.get(i).clear();
+        }
+        depth = 0;
+        current = null;
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        if (depth == 0 || ctx.getParent() == null) {
+            // A new parse, e.g. TwoStageParser's LL stage after SLL bailed
+            reset();
+            result = null;
+            resultInfo = null;
+            if (packing) {
+                arena = new AstArena();
+            }
+        }
+        if (depth == frames.size()) {
+            frames.add(new Frame());
+        }
+        depth++;
+    }
+
+    // A token outside any open rule, e.g. one error recovery consumed after
+    // the top rule exited, belongs to no frame
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        if (depth > 0) {
+            frames.get(depth - 1).last = null;
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        if (depth > 0) {
+            frames.get(depth - 1).last = null;
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (depth == 0) {
+            // Unbalanced: this rule was entered before the last reset()
+            return;
+        }
+        current = frames.get(depth - 1);
+        Object value;
+        try {
+            value = build(ctx);
+        } catch (RuntimeException e) {
+            value = new Failed(e);
+        }
+        Object info;
+        try {
+            info = describe(ctx);
+        } catch (RuntimeException e) {
+            info = new Failed(e);
+        }
+        current.clear();
+        depth--;
+        if (packing && ctx.getParent() instanceof GoParser.SourceFileContext
+                && (value instanceof FunctionNode || value instanceof DeclarationNode)) {
+            value = new Packed(arena.add((ASTNode) value));
+        }
+
+        if (depth == 0 || ctx.getParent() == null) {
+            // The top rule is done; frames still open below it (depth > 0)
+            // belong to rules whose exits never came
+            result = value;
+            resultInfo = info;
+            reset();
+            return;
+        }
+        Frame parent = frames.get(depth - 1);
+        parent.children.add(ctx);
+        parent.values.add(value);
+        parent.infos.add(info);
+        parent.last = value;
+        if (value instanceof Failed failed && parent.failure == null) {
+            parent.failure = failed;
+        }
+    }
+
+    // The value of each rule
+    private Object build(ParserRuleContext ctx) {
+        return switch (ctx.getRuleIndex()) {
+            case GoParser.RULE_sourceFile -> sourceFile((GoParser.SourceFileContext) ctx);
+            case GoParser.RULE_varDecl -> varDecl(ctx);
+            case GoParser.RULE_expression -> expression(ctx);
+            case GoParser.RULE_unaryExpr -> {
+                GoParser.PrimaryExprContext primary = child(GoParser.PrimaryExprContext.class);
+                yield primary != null ? value(primary) : null;
+            }
+            case GoParser.RULE_basicLit -> basicLit((GoParser.BasicLitContext) ctx);
+            case GoParser.RULE_functionDecl -> functionDecl((GoParser.FunctionDeclContext) ctx);
+            case GoParser.RULE_methodDecl -> methodDecl((GoParser.MethodDeclContext) ctx);
+            case GoParser.RULE_block -> block(ctx);
+            case GoParser.RULE_ifStmt -> ifStmt((GoParser.IfStmtContext) ctx);
+            case GoParser.RULE_shortVarDecl -> shortVarDecl(ctx);
+            case GoParser.RULE_primaryExpr -> primaryExpr(ctx);
+            case GoParser.RULE_forStmt -> forStmt(ctx);
+            case GoParser.RULE_incDecStmt -> incDecStmt(ctx);
+            case GoParser.RULE_returnStmt -> returnStmt(ctx);
+            case GoParser.RULE_assignment -> assignment(ctx);
+            case GoParser.RULE_switchStmt -> switchStmt(ctx);
+            case GoParser.RULE_rangeClause -> rangeClause(ctx);
+            case GoParser.RULE_labeledStmt -> {
+                GoParser.StatementContext statement = child(GoParser.StatementContext.class);
+                ASTNode labeled = statement != null ? value(statement) : null;
+                yield new LabeledStatementNode(line(ctx), column(ctx),
+                        ((GoParser.LabeledStmtContext) ctx).IDENTIFIER().getText(),
+                        labeled instanceof StatementNode ? (StatementNode) labeled : null);
+            }
+            case GoParser.RULE_breakStmt -> {
+                TerminalNode label = ((GoParser.BreakStmtContext) ctx).IDENTIFIER();
+                yield new BreakStatementNode(line(ctx), column(ctx), label != null ? label.getText() : null);
+            }
+            case GoParser.RULE_continueStmt -> {
+                TerminalNode label = ((GoParser.ContinueStmtContext) ctx).IDENTIFIER();
+                yield new ContinueStatementNode(line(ctx), column(ctx), label != null ? label.getText() : null);
+            }
+            case GoParser.RULE_deferStmt ->
+                new DeferStatementNode(line(ctx), column(ctx), expressionValue(child(GoParser.ExpressionContext.class)));
+            case GoParser.RULE_goStmt ->
+                new GoStatementNode(line(ctx), column(ctx), expressionValue(child(GoParser.ExpressionContext.class)));
+            case GoParser.RULE_selectStmt -> selectStmt(ctx);
+            // Everything else visits its children and returns the last result
+            default -> current.failure != null ? current.failure : current.last;
+        };
+    }
+
+    // What a parent further up needs to know about a rule, beyond its value
+    private Object describe(ParserRuleContext ctx) {
+        return switch (ctx.getRuleIndex()) {
+            case GoParser.RULE_importDecl -> {
+                List<ImportNode> imports = new ArrayList<>();
+                for (GoParser.ImportSpecContext spec : children(GoParser.ImportSpecContext.class)) {
+                    imports.add(info(spec));
+                }
+                yield imports;
+            }
+            case GoParser.RULE_importSpec -> {
+                GoParser.ImportSpecContext spec = (GoParser.ImportSpecContext) ctx;
+                String path = text(child(GoParser.ImportPathContext.class));
+                yield new ImportSpecNode(line(spec), column(spec), spec.alias != null ? spec.alias.getText() : null,
+                        path.substring(1, path.length() - 1));
+            }
+            case GoParser.RULE_expressionList -> raw(children(GoParser.ExpressionContext.class));
+            case GoParser.RULE_statementList -> raw(children(GoParser.StatementContext.class));
+            case GoParser.RULE_varSpec -> {
+                GoParser.Type_Context type = child(GoParser.Type_Context.class);
+                GoParser.ExpressionListContext values = child(GoParser.ExpressionListContext.class);
+                yield new VarSpec(names(child(GoParser.IdentifierListContext.class)),
+                        type, type != null ? raw(type) : null, values != null ? info(values) : null);
+            }
+            case GoParser.RULE_parameterDecl -> {
+                GoParser.IdentifierListContext names = child(GoParser.IdentifierListContext.class);
+                GoParser.Type_Context type = child(GoParser.Type_Context.class);
+                yield new Param(ctx.getStart(), names != null ? names(names) : List.of(), raw(type), text(type));
+            }
+            case GoParser.RULE_parameters -> {
+                List<Param> params = new ArrayList<>();
+                for (GoParser.ParameterDeclContext param : children(GoParser.ParameterDeclContext.class)) {
+                    params.add(info(param));
+                }
+                yield params;
+            }
+            case GoParser.RULE_signature, GoParser.RULE_receiver -> {
+                GoParser.ParametersContext params = child(GoParser.ParametersContext.class);
+                yield params != null ? info(params) : null;
+            }
+            case GoParser.RULE_operand -> {
+                GoParser.OperandNameContext name = child(GoParser.OperandNameContext.class);
+                yield name != null ? text(name) : null;
+            }
+            case GoParser.RULE_arguments -> {
+                GoParser.ExpressionListContext args = child(GoParser.ExpressionListContext.class);
+                yield args != null ? info(args) : List.of();
+            }
+            case GoParser.RULE_primarySuffix -> {
+                // Only calls need anything: their arguments
+                GoParser.ArgumentsContext args = child(GoParser.ArgumentsContext.class);
+                yield args != null ? info(args) : null;
+            }
+            case GoParser.RULE_forClause -> {
+                GoParser.ForClauseContext clause = (GoParser.ForClauseContext) ctx;
+                GoParser.ExpressionContext condition = child(GoParser.ExpressionContext.class);
+                yield new Header(clause.initStmt, clause.initStmt != null ? raw(clause.initStmt) : null,
+                        condition != null, condition != null ? raw(condition) : null,
+                        clause.postStmt, clause.postStmt != null ? raw(clause.postStmt) : null, null);
+            }
+            case GoParser.RULE_exprSwitchStmt -> {
+                GoParser.SimpleStmtContext init = child(GoParser.SimpleStmtContext.class);
+                GoParser.ExpressionContext condition = child(GoParser.ExpressionContext.class);
+                List<Clause> clauses = new ArrayList<>();
+                for (GoParser.ExprCaseClauseContext clause : children(GoParser.ExprCaseClauseContext.class)) {
+                    clauses.add(info(clause));
+                }
+                yield new Header(init, init != null ? raw(init) : null,
+                        condition != null, condition != null ? raw(condition) : null, null, null, clauses);
+            }
+            case GoParser.RULE_exprSwitchCase -> ((GoParser.ExprSwitchCaseContext) ctx).CASE() != null
+                    ? info(child(GoParser.ExpressionListContext.class))
+                    : null;
+            case GoParser.RULE_exprCaseClause -> clause(ctx, info(child(GoParser.ExprSwitchCaseContext.class)));
+            case GoParser.RULE_commCase -> {
+                GoParser.CommCaseContext commCase = (GoParser.CommCaseContext) ctx;
+                ParserRuleContext comm = child(GoParser.SendStmtContext.class);
+                if (comm == null) {
+                    comm = child(GoParser.RecvStmtContext.class);
+                }
+                yield new CommCase(commCase.DEFAULT() != null, comm, comm != null ? raw(comm) : null);
+            }
+            case GoParser.RULE_commClause -> clause(ctx, info(child(GoParser.CommCaseContext.class)));
+            default -> null;
+        };
+    }
+
+    // A packing builder's declarations are Packed already, and its program
+    // is packed over them
+    private Object sourceFile(GoParser.SourceFileContext ctx) {
+        String packageName = child(GoParser.PackageClauseContext.class).packageName.getText();
+        List<ImportNode> imports = new ArrayList<>();
+        for (GoParser.ImportDeclContext importDecl : children(GoParser.ImportDeclContext.class)) {
+            List<ImportNode> specs = info(importDecl);
+            imports.addAll(specs);
+        }
+        List<ASTNode> declarations = new ArrayList<>();
+        List<Integer> packed = new ArrayList<>();
+        for (int i = 0; i < current.children.size(); i++) {
+            ParserRuleContext child = current.children.get(i);
+            if (current.values.get(i) instanceof Packed decl) {
+                packed.add(decl.index());
+            } else if (child instanceof GoParser.DeclarationContext) {
+                DeclarationNode decl = (DeclarationNode) value(child);
+                if (decl != null) {
+                    declarations.add(decl);
+                }
+            } else if (child instanceof GoParser.FunctionDeclContext || child instanceof GoParser.MethodDeclContext) {
+                FunctionNode func = (FunctionNode) value(child);
+                if (func != null) {
+                    declarations.add(func);
+                }
+            }
+        }
+        if (packing) {
+            // A declaration that is not Packed built as null
+            int[] indexes = packed.stream().mapToInt(Integer::intValue).toArray();
+            return new Packed(arena.addProgram(line(ctx), column(ctx), packageName, imports, indexes));
+        }
+        return new ProgramNode(line(ctx), column(ctx), packageName, imports, declarations);
+    }
+
+    private ASTNode varDecl(ParserRuleContext ctx) {
+        List<DeclarationNode> declarations = new ArrayList<>();
+        for (GoParser.VarSpecContext specCtx : children(GoParser.VarSpecContext.class)) {
+            VarSpec spec = info(specCtx);
+            TypeNode type = spec.type != null ? (TypeNode) consume(spec.typeValue) : null;
+            List<ExpressionNode> initializers = new ArrayList<>();
+            if (spec.values != null) {
+                addValues(spec.values, initializers);
+            }
+            for (int i = 0; i < spec.names.size(); i++) {
+                ExpressionNode init = i < initializers.size() ? initializers.get(i) : null;
+                declarations.add(new DeclarationNode(line(ctx), column(ctx), spec.names.get(i), type, init));
+            }
+        }
+        return declarations.get(0);
+    }
+
+    // The grammar matches "a op b op c ..." as a flat list. Operators are
+    // shifted onto a stack and reduced while the one on top binds at least as
+    // tightly as the next, which gives Go's precedence with left
+    // associativity. The expression's own tokens are its operators, in order.
+    private ASTNode expression(ParserRuleContext ctx) {
+        List<GoParser.UnaryExprContext> operands = children(GoParser.UnaryExprContext.class);
+        if (operands.size() == 1) {
+            return value(operands.get(0));
+        }
+        List<Token> tokens = tokens(ctx);
+        int count = operands.size();
+        ExpressionNode[] values = new ExpressionNode[count];
+        Token[] starts = new Token[count];
+        Token[] operators = new Token[count - 1];
+        int valueTop = 0;
+        int operatorTop = 0;
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                Token operator = tokens.get(i - 1);
+                while (operatorTop > 0 && precedence(operators[operatorTop - 1]) >= precedence(operator)) {
+                    valueTop = reduce(values, starts, valueTop, operators[--operatorTop]);
+                }
+                operators[operatorTop++] = operator;
+            }
+            values[valueTop] = expressionValue(operands.get(i));
+            starts[valueTop++] = operands.get(i).getStart();
+        }
+        while (operatorTop > 0) {
+            valueTop = reduce(values, starts, valueTop, operators[--operatorTop]);
+        }
+        return values[0];
+    }
+
+    private static int precedence(Token operator) {
+        return switch (operator.getType()) {
+            case GoParser.LOGICAL_OR -> 1;
+            case GoParser.LOGICAL_AND -> 2;
+            case GoParser.EQUALS, GoParser.NOT_EQUALS, GoParser.LESS, GoParser.LESS_OR_EQUALS,
+                 GoParser.GREATER, GoParser.GREATER_OR_EQUALS -> 3;
+            case GoParser.PLUS, GoParser.MINUS, GoParser.OR, GoParser.CARET -> 4;
+            default -> 5;
+        };
+    }
+
+    // Replaces the top two values with their BinaryExpressionNode, positioned
+    // at the start of the left operand
+    private static int reduce(ExpressionNode[] values, Token[] starts, int top, Token operator) {
+        Token start = starts[top - 2];
+        values[top - 2] = new BinaryExpressionNode(start.getLine(), start.getCharPositionInLine(),
+                Symbol.of(operator.getText()), values[top - 2], values[top - 1]);
+        return top - 1;
+    }
+
+    private ASTNode basicLit(GoParser.BasicLitContext ctx) {
+        Object value;
+        GoParser.IntegerContext integer = child(GoParser.IntegerContext.class);
+        GoParser.String_Context string = child(GoParser.String_Context.class);
+        if (integer != null) {
+            value = Integer.parseInt(text(integer));
+        } else if (ctx.FLOAT_LIT() != null) {
+            value = Float.parseFloat(ctx.FLOAT_LIT().getText());
+        } else if (string != null) {
+            String str = text(string);
+            value = Symbol.of(str.substring(1, str.length() - 1));
+        } else {
+            value = null;
+        }
+        return new LiteralNode(line(ctx), column(ctx), value);
+    }
+
+    private ASTNode functionDecl(GoParser.FunctionDeclContext ctx) {
+        Symbol name = Symbol.of(ctx.IDENTIFIER().getText());
+        List<Param> params = info(child(GoParser.SignatureContext.class));
+        List<ParameterNode> parameters = new ArrayList<>();
+        addParameters(params, parameters);
+        GoParser.BlockContext block = child(GoParser.BlockContext.class);
+        BlockNode body = block != null ? (BlockNode) value(block) : null;
+        return new FunctionDeclNode(line(ctx), column(ctx), name, parameters, body);
+    }
+
+    private ASTNode methodDecl(GoParser.MethodDeclContext ctx) {
+        Symbol name = Symbol.of(ctx.IDENTIFIER().getText());
+        List<Param> receiverParams = info(child(GoParser.ReceiverContext.class));
+        List<ParameterNode> receivers = new ArrayList<>();
+        addParameters(receiverParams, receivers);
+        ParameterNode receiver = receivers.isEmpty() ? null : receivers.get(0);
+        String receiverType = receiverParams.isEmpty() ? "" : receiverParams.get(0).typeText;
+        List<Param> params = info(child(GoParser.SignatureContext.class));
+        List<ParameterNode> parameters = new ArrayList<>();
+        addParameters(params, parameters);
+        GoParser.BlockContext block = child(GoParser.BlockContext.class);
+        BlockNode body = block != null ? (BlockNode) value(block) : null;
+        return new MethodNode(line(ctx), column(ctx), name, receiver, receiverType, parameters, body);
+    }
+
+    private void addParameters(List<Param> params, List<ParameterNode> parameters) {
+        if (params == null) return;
+        for (Param param : params) {
+            TypeNode type = (TypeNode) consume(param.type);
+            for (Symbol name : param.names) {
+                parameters.add(new ParameterNode(param.start.getLine(), param.start.getCharPositionInLine(), name, type));
+            }
+        }
+    }
+
+    private ASTNode block(ParserRuleContext ctx) {
+        GoParser.StatementListContext statementList = child(GoParser.StatementListContext.class);
+        List<StatementNode> statements = new ArrayList<>();
+        if (statementList != null) {
+            addStatements(info(statementList), statements);
+        }
+        return new BlockNode(line(ctx), column(ctx), statements);
+    }
+
+    private ASTNode ifStmt(GoParser.IfStmtContext ctx) {
+        GoParser.ExpressionContext conditionCtx = child(GoParser.ExpressionContext.class);
+        ExpressionNode condition = conditionCtx != null ? expressionValue(conditionCtx) : null;
+        List<GoParser.BlockContext> blocks = children(GoParser.BlockContext.class);
+        BlockNode thenBlock = blocks.size() > 0 ? (BlockNode) value(blocks.get(0)) : null;
+        BlockNode elseBlock = ctx.ELSE() != null && blocks.size() > 1 ? (BlockNode) value(blocks.get(1)) : null;
+        return new IfStatementNode(line(ctx), column(ctx), condition, thenBlock, elseBlock);
+    }
+
+    private ASTNode shortVarDecl(ParserRuleContext ctx) {
+        List<Symbol> names = names(child(GoParser.IdentifierListContext.class));
+        List<Object> valueInfos = info(child(GoParser.ExpressionListContext.class));
+        List<ExpressionNode> values = new ArrayList<>();
+        addValues(valueInfos, values);
+        return new ShortVarDeclNode(line(ctx), column(ctx), names, values);
+    }
+
+    // An operand followed by its suffixes, applied left to right. The
+    // callee's text, everything before the call's arguments, is only needed
+    // for calls, so it is read when one comes up.
+    private ASTNode primaryExpr(ParserRuleContext ctx) {
+        ParserRuleContext first = current.children.get(0);
+        String name = first instanceof GoParser.OperandContext ? info(first) : null;
+        ASTNode value = name != null ? new IdentifierNode(line(ctx), column(ctx), Symbol.of(name)) : value(first);
+
+        ParserRuleContext previous = first;
+        for (GoParser.PrimarySuffixContext suffix : children(GoParser.PrimarySuffixContext.class)) {
+            List<Object> arguments = info(suffix);
+            if (arguments != null) {
+                value = call(ctx, text(first, previous), value, arguments);
+            } else {
+                value = null;
+            }
+            previous = suffix;
+        }
+        return value;
+    }
+
+    private ASTNode call(ParserRuleContext ctx, String callee, ASTNode function, List<Object> arguments) {
+        List<ExpressionNode> values = new ArrayList<>();
+        if (callee.startsWith("fmt.")) {
+            addValues(arguments, values);
+            FmtPrintNode fmtPrint = new FmtPrintNode(line(ctx), column(ctx), callee.substring(4), values);
+            return new ExpressionStatementNode(line(ctx), column(ctx), fmtPrint);
+        }
+        ExpressionNode target = asValue(function);
+        addValues(arguments, values);
+        return new CallExpressionNode(line(ctx), column(ctx), target, values);
+    }
+
+    private ASTNode forStmt(ParserRuleContext ctx) {
+        GoParser.ForClauseContext clauseCtx = child(GoParser.ForClauseContext.class);
+        GoParser.ExpressionContext conditionCtx = child(GoParser.ExpressionContext.class);
+        StatementNode init = null;
+        ExpressionNode condition = null;
+        StatementNode post = null;
+        if (clauseCtx != null) {
+            Header clause = info(clauseCtx);
+            if (clause.init != null) {
+                init = (StatementNode) consume(clause.initValue);
+            }
+            if (clause.hasCondition) {
+                condition = asValue(consume(clause.condition));
+            }
+            if (clause.post != null) {
+                ASTNode postValue = consume(clause.postValue);
+                if (postValue instanceof ExpressionNode) {
+                    post = new ExpressionStatementNode(line(clause.post), column(clause.post),
+                            (ExpressionNode) postValue);
+                } else if (postValue instanceof StatementNode) {
+                    post = (StatementNode) postValue;
+                }
+            }
+        } else if (conditionCtx != null) {
+            condition = expressionValue(conditionCtx);
+        }
+        GoParser.RangeClauseContext rangeCtx = child(GoParser.RangeClauseContext.class);
+        RangeClauseNode range = rangeCtx != null ? (RangeClauseNode) value(rangeCtx) : null;
+        GoParser.BlockContext block = child(GoParser.BlockContext.class);
+        BlockNode body = block != null ? (BlockNode) value(block) : null;
+        return new ForStatementNode(line(ctx), column(ctx), init, condition, post, range, body);
+    }
+
+    private ASTNode incDecStmt(ParserRuleContext ctx) {
+        ExpressionNode operand = expressionValue(child(GoParser.ExpressionContext.class));
+        Symbol operator = Symbol.of(tokens(ctx).get(0).getText()); // the statement's only token, "++" or "--"
+        IncDecExpressionNode incDec = new IncDecExpressionNode(line(ctx), column(ctx), operator, operand);
+        return new ExpressionStatementNode(line(ctx), column(ctx), incDec);
+    }
+
+    private ASTNode returnStmt(ParserRuleContext ctx) {
+        GoParser.ExpressionListContext valueList = child(GoParser.ExpressionListContext.class);
+        List<ExpressionNode> values = new ArrayList<>();
+        if (valueList != null) {
+            addValues(info(valueList), values);
+        }
+        return new ReturnStatementNode(line(ctx), column(ctx), values);
+    }
+
+    private ASTNode assignment(ParserRuleContext ctx) {
+        Symbol operator = Symbol.of(text(child(GoParser.Assign_opContext.class)));
+        List<Object> left = info(child(GoParser.ExpressionListContext.class, 0));
+        List<ExpressionNode> leftSide = new ArrayList<>();
+        addValues(left, leftSide);
+        List<Object> right = info(child(GoParser.ExpressionListContext.class, 1));
+        List<ExpressionNode> rightSide = new ArrayList<>();
+        addValues(right, rightSide);
+        return new AssignmentNode(line(ctx), column(ctx), operator, leftSide, rightSide);
+    }
+
+    private ASTNode switchStmt(ParserRuleContext ctx) {
+        // Type switches have no exprSwitchStmt and fail here
+        Header header = info(child(GoParser.ExprSwitchStmtContext.class));
+        StatementNode init = header.init != null ? (StatementNode) consume(header.initValue) : null;
+        ExpressionNode condition = header.hasCondition ? asValue(consume(header.condition)) : null;
+        List<CaseClauseNode> cases = new ArrayList<>();
+        for (Clause clause : header.clauses) {
+            List<ExpressionNode> expressions = new ArrayList<>();
+            if (clause.head != null) {
+                addValues((List<?>) clause.head, expressions);
+            }
+            cases.add(new CaseClauseNode(line(clause.start), column(clause.start), expressions, clause.body()));
+        }
+        return new SwitchStatementNode(line(ctx), column(ctx), init, condition, cases);
+    }
+
+    // Only the ":=" form has an identifierList; "=" assigns to an
+    // expressionList
+    private ASTNode rangeClause(ParserRuleContext ctx) {
+        GoParser.IdentifierListContext ids = child(GoParser.IdentifierListContext.class);
+        GoParser.ExpressionListContext targets = child(GoParser.ExpressionListContext.class);
+        List<ExpressionNode> variables = new ArrayList<>();
+        if (ids != null) {
+            for (TerminalNode id : ids.IDENTIFIER()) {
+                Token symbol = id.getSymbol();
+                variables.add(new IdentifierNode(symbol.getLine(), symbol.getCharPositionInLine(),
+                        Symbol.of(id.getText())));
+            }
+        } else if (targets != null) {
+            addValues(info(targets), variables);
+        }
+        GoParser.ExpressionContext expression = child(GoParser.ExpressionContext.class);
+        ExpressionNode rangeExpression = expression != null ? expressionValue(expression) : null;
+        return new RangeClauseNode(line(ctx), column(ctx), ids != null, variables, rangeExpression);
+    }
+
+    private ASTNode selectStmt(ParserRuleContext ctx) {
+        List<CommClauseNode> commClauses = new ArrayList<>();
+        for (GoParser.CommClauseContext clauseCtx : children(GoParser.CommClauseContext.class)) {
+            Clause clause = info(clauseCtx);
+            CommCase commCase = (CommCase) clause.head;
+            StatementNode comm = !commCase.isDefault && commCase.comm != null
+                    ? (StatementNode) consume(commCase.value)
+                    : null;
+            commClauses.add(new CommClauseNode(line(clause.start), column(clause.start), commCase.isDefault, comm,
+                    clause.body()));
+        }
+        return new SelectStatementNode(line(ctx), column(ctx), commClauses);
+    }
+
+    private Clause clause(ParserRuleContext ctx, Object head) {
+        GoParser.StatementListContext statements = child(GoParser.StatementListContext.class);
+        return new Clause(ctx.getStart(), head, statements != null ? statements.getStart() : null,
+                statements != null ? info(statements) : null);
+    }
+
+    // Calls such as fmt.Errorf(...) come back wrapped as statements; in
+    // value position only the wrapped expression is wanted
+    private static ExpressionNode asValue(ASTNode node) {
+        if (node instanceof ExpressionStatementNode statement) {
+            return statement.expression();
+        }
+        return (ExpressionNode) node;
+    }
+
+    private void addValues(List<?> values, List<ExpressionNode> out) {
+        for (Object value : values) {
+            out.add(asValue(consume(value)));
+        }
+    }
+
+    private static void addStatements(List<?> statements, List<StatementNode> out) {
+        for (Object statement : statements) {
+            ASTNode node = consume(statement);
+            if (node instanceof StatementNode) {
+                out.add((StatementNode) node);
+            }
+        }
+    }
+
+    private static List<Symbol> names(GoParser.IdentifierListContext ctx) {
+        List<Symbol> names = new ArrayList<>();
+        for (TerminalNode id : ctx.IDENTIFIER()) {
+            names.add(Symbol.of(id.getText()));
+        }
+        return names;
+    }
+
+    // Lookups among the direct children of the rule being built
+
+    private int indexOf(ParserRuleContext child) {
+        if (child == null) {
+            throw new NullPointerException("missing child context");
+        }
+        List<ParserRuleContext> children = current.children;
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i) == child) return i;
+        }
+        throw new IllegalStateException("not a child of the current rule: " + child);
+    }
+
+    private Object raw(ParserRuleContext child) {
+        return current.values.get(indexOf(child));
+    }
+
+    private List<Object> raw(List<? extends ParserRuleContext> children) {
+        List<Object> values = new ArrayList<>(children.size());
+        for (ParserRuleContext child : children) {
+            values.add(raw(child));
+        }
+        return values;
+    }
+
+    private ASTNode value(ParserRuleContext child) {
+        return consume(raw(child));
+    }
+
+    private ExpressionNode expressionValue(ParserRuleContext child) {
+        return asValue(value(child));
+    }
+
+    private <T> T info(ParserRuleContext child) {
+        return consumeInfo(current.infos.get(indexOf(child)));
+    }
+
+    private <T extends ParserRuleContext> T child(Class<T> type) {
+        return child(type, 0);
+    }
+
+    private <T extends ParserRuleContext> T child(Class<T> type, int i) {
+        for (ParserRuleContext child : current.children) {
+            if (type.isInstance(child) && i-- == 0) {
+                return type.cast(child);
+            }
+        }
+        return null;
+    }
+
+    private <T extends ParserRuleContext> List<T> children(Class<T> type) {
+        List<T> matches = new ArrayList<>();
+        for (ParserRuleContext child : current.children) {
+            if (type.isInstance(child)) {
+                matches.add(type.cast(child));
+            }
+        }
+        return matches;
+    }
+
+    private static ASTNode consume(Object value) {
+        if (value instanceof Failed failed) {
+            throw failed.exception;
+        }
+        return (ASTNode) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T consumeInfo(Object info) {
+        if (info instanceof Failed failed) {
+            throw failed.exception;
+        }
+        return (T) info;
+    }
+
+    // A rule's own tokens, in order. In a walked tree its children include
+    // its child contexts too.
+    private static List<Token> tokens(ParserRuleContext ctx) {
+        List<Token> tokens = new ArrayList<>();
+        for (int i = 0; i < ctx.getChildCount(); i++) {
+            if (ctx.getChild(i) instanceof TerminalNode terminal) {
+                tokens.add(terminal.getSymbol());
+            }
+        }
+        return tokens;
+    }
+
+    // What getText() returns for a whole subtree: its default-channel tokens
+    private String text(ParserRuleContext ctx) {
+        return parser != null ? text(ctx.getStart(), ctx.getStop()) : ctx.getText();
+    }
+
+    // The text of the current rule's children from first to last
+    private String text(ParserRuleContext first, ParserRuleContext last) {
+        if (parser != null) {
+            return text(first.getStart(), last.getStop());
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = indexOf(first); i <= indexOf(last); i++) {
+            text.append(current.children.get(i).getText());
+        }
+        return text.toString();
+    }
+
+    private String text(Token start, Token stop) {
+        if (start == null || stop == null || stop.getTokenIndex() < start.getTokenIndex()) {
+            return "";
+        }
+        if (start == stop) {
+            return start.getType() == Token.EOF ? "" : start.getText();
+        }
+        TokenStream tokens = parser.getTokenStream();
+        StringBuilder text = new StringBuilder();
+        for (int i = start.getTokenIndex(); i <= stop.getTokenIndex(); i++) {
+            Token token = tokens.get(i);
+            if (token.getChannel() == Token.DEFAULT_CHANNEL && token.getType() != Token.EOF) {
+                text.append(token.getText());
+            }
+        }
+        return text.toString();
+    }
+
+    private static int line(ParserRuleContext ctx) {
+        return ctx.getStart().getLine();
+    }
+
+    private static int column(ParserRuleContext ctx) {
+        return ctx.getStart().getCharPositionInLine();
+    }
+
+    private static int line(Token token) {
+        return token.getLine();
+    }
+
+    private static int column(Token token) {
+        return token.getCharPositionInLine();
+    }
+
+    // The direct children of an open rule, with their values and infos
+    private static class Frame {
+        final List<ParserRuleContext> children = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();  // ASTNode, null or Failed
+        final List<Object> infos = new ArrayList<>();
+        Object last;        // result of the last child, null after a token
+        Failed failure;     // first child that failed
+
+        void clear() {
+            children.clear();
+            values.clear();
+            infos.clear();
+            last = null;
+            failure = null;
+        }
+    }
+
+    // A value whose visit method would have thrown
+    private static class Failed {
+        final RuntimeException exception;
+
+        Failed(RuntimeException exception) {
+            this.exception = exception;
+        }
+    }
+
+    // A packing builder's value for a node it has packed: the node's index
+    // in the arena
+    private record Packed(int index) {}
+
+    private record Param(Token start, List<Symbol> names, Object type, String typeText) {}
+
+    private record VarSpec(List<Symbol> names, ParserRuleContext type, Object typeValue, List<Object> values) {}
+
+    // Init statement, condition and post statement of a for clause, or init,
+    // tag and case clauses of an expression switch
+    private record Header(ParserRuleContext init, Object initValue, boolean hasCondition, Object condition,
+                          ParserRuleContext post, Object postValue, List<Clause> clauses) {}
+
+    // A switch case or select clause. head is the case's expression values
+    // (null for default) or a CommCase.
+    private record Clause(Token start, Object head, Token bodyStart, List<Object> statements) {
+        BlockNode body() {
+            if (bodyStart == null) return null;
+            List<StatementNode> body = new ArrayList<>();
+            addStatements(statements, body);
+            return new BlockNode(bodyStart.getLine(), bodyStart.getCharPositionInLine(), body);
+        }
+    }
+
+    private record CommCase(boolean isDefault, ParserRuleContext comm, Object value) {}
+}
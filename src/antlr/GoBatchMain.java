@@ -0,0 +1,510 @@
+package antlr;
+
+import antlr.AST.*;
+import org.antlr.v4.runtime.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+// Headless batch driver: walks directory trees for .go files and runs
+// lex -> parse -> AST -> CFG -> SSA on each one using a bounded worker pool.
+// Every file produces one JSON line on stdout. A throughput and per-stage
+// latency summary goes to stderr at the end.
+//
+//   java antlr.GoBatchMain [--threads N] [--ll-only] [--stream] [--direct-ast] [--split-decls]
+//                          [--fast-lexer] [--arena] [--ast-cache DIR] [--warmup <dir-or-file>]... [--dfa-snapshot FILE]
+//                          <dir-or-file>...
+//
+// Parsing is two-stage (TwoStageParser); --ll-only parses with full LL
+// directly, for comparing the two. All workers share one GoParserFactory.
+// --warmup parses a corpus before the run, and --dfa-snapshot loads the
+// warmed DFAs from FILE, or warms up and writes FILE if it is missing or stale
+// (the bundled tests are the default corpus). --stream parses each file one
+// declaration at a time (StreamingParser) and analyzes every function as
+// soon as it is parsed, so huge files need little memory. Lexing and AST
+// building are then part of the parse stage. --direct-ast builds the AST
+// while parsing (GoASTBuilder) instead of from a parse tree afterwards, so
+// it too is timed as part of parse. --split-decls parses the declarations
+// of each file in parallel (ParallelParser) on a second pool of N threads,
+// which helps when a few files are much bigger than the rest; the AST is
+// again built by the parse stage. --fast-lexer lexes with the hand-written
+// GoScanner instead of GoLexer. --arena builds each file's AST straight
+// into an AstArena (timed as part of ast), packing each top-level
+// declaration as soon as it is built, and then builds and analyzes one
+// function at a time from the arena through cursors. So at most one
+// declaration's AST and one function's graphs are objects at once; with
+// --split-decls the whole AST is built and then packed. --ast-cache DIR implies --arena and saves each arena under DIR,
+// mirroring the source path. A file whose saved arena was built from the
+// same bytes (same size and CRC-32C) is not lexed or parsed at all: the
+// arena is mapped (AstArena.map()) and analyzed from there, and its JSON
+// line has no tokens or parse stage.
+// Files with syntax errors are not saved, so their errors are reported on
+// every run.
+public class GoBatchMain {
+    static final String[] STAGES = { "lex", "parse", "ast", "cfg", "ssa" };
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean llOnly = false;
+        boolean stream = false;
+        boolean directAst = false;
+        boolean splitDecls = false;
+        boolean fastLexer = false;
+        boolean arena = false;
+        Path astCache = null;
+        Path snapshot = null;
+        List<Path> warmup = new ArrayList<>();
+        List<Path> roots = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--threads") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--ll-only")) {
+                llOnly = true;
+            } else if (args[i].equals("--stream")) {
+                stream = true;
+            } else if (args[i].equals("--direct-ast")) {
+                directAst = true;
+            } else if (args[i].equals("--split-decls")) {
+                splitDecls = true;
+            } else if (args[i].equals("--fast-lexer")) {
+                fastLexer = true;
+            } else if (args[i].equals("--arena")) {
+                arena = true;
+            } else if (args[i].equals("--ast-cache") && i + 1 < args.length) {
+                astCache = Paths.get(args[++i]);
+                arena = true;
+            } else if (args[i].equals("--warmup") && i + 1 < args.length) {
+                warmup.add(Paths.get(args[++i]));
+            } else if (args[i].equals("--dfa-snapshot") && i + 1 < args.length) {
+                snapshot = Paths.get(args[++i]);
+            } else {
+                roots.add(Paths.get(args[i]));
+            }
+        }
+        if (roots.isEmpty() || threads < 1) {
+            System.err.println("usage: GoBatchMain [--threads N] [--ll-only] [--stream] [--direct-ast] [--split-decls] "
+                    + "[--fast-lexer] [--arena] [--ast-cache DIR] [--warmup <dir-or-file>]... [--dfa-snapshot FILE] "
+                    + "<dir-or-file>...");
+            System.exit(2);
+        }
+
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16),
+                false, StandardCharsets.UTF_8);
+        long start = System.nanoTime();
+        GoParserFactory factory;
+        List<Path> corpus = goFiles(warmup);
+        if (snapshot != null) {
+            if (corpus.isEmpty()) {
+                for (String file : GoParserFactory.DEFAULT_WARMUP_CORPUS) corpus.add(Paths.get(file));
+            }
+            factory = GoParserFactory.loadOrWarmUp(snapshot, corpus);
+        } else {
+            factory = new GoParserFactory();
+            factory.warmUp(corpus);
+        }
+        factory.setFastLexer(fastLexer);
+        System.err.printf("parser ready in %.3f s (%d DFA states)%n",
+                (System.nanoTime() - start) / 1e9, factory.dfaStateCount());
+
+        ExecutorService declPool = null;
+        ParallelParser splitter = null;
+        if (splitDecls) {
+            declPool = Executors.newFixedThreadPool(threads);
+            splitter = new ParallelParser(factory, declPool, threads);
+        }
+        BatchStats stats;
+        try {
+            stats = run(roots, threads, factory, llOnly, stream, directAst, arena, astCache, splitter, out);
+        } finally {
+            // As run() does with the file pool: no declaration task may
+            // still be running when the summary is printed. A task's failure
+            // has already reached its file's result through
+            // ParallelParser.parse().
+            if (declPool != null) {
+                declPool.shutdown();
+                declPool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+        }
+        out.flush();
+        stats.print(System.err);
+        if (stats.failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    // The queue is bounded at a few files per worker. When it is full the
+    // walking thread runs the file itself, so a huge tree never gets queued
+    // up front.
+    static BatchStats run(List<Path> roots, int threads, GoParserFactory factory, boolean llOnly, boolean stream,
+                          boolean directAst, boolean arena, Path astCache, ParallelParser splitter,
+                          PrintStream out)
+            throws IOException, InterruptedException {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+        BatchStats stats = new BatchStats();
+        long start = System.nanoTime();
+        try {
+            for (Path root : roots) {
+                try (Stream<Path> files = Files.walk(root)) {
+                    files.filter(p -> p.toString().endsWith(".go") && Files.isRegularFile(p))
+                         .forEach(p -> pool.execute(() -> {
+                             FileResult result = stream
+                                     ? streamFile(p, factory)
+                                     : analyzeFile(p, factory, llOnly, directAst, arena, astCache, splitter);
+                             stats.record(result);
+                             synchronized (out) {
+                                 out.println(result.toJson());
+                             }
+                         }));
+                }
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        stats.wallNanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    static List<Path> goFiles(List<Path> roots) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path root : roots) {
+            try (Stream<Path> walk = Files.walk(root)) {
+                walk.filter(p -> p.toString().endsWith(".go") && Files.isRegularFile(p)).forEach(files::add);
+            }
+        }
+        return files;
+    }
+
+    // With a splitter, llOnly and directAst do not apply: each declaration
+    // is parsed SLL first, and the AST comes with the parse
+    static FileResult analyzeFile(Path path, GoParserFactory factory, boolean llOnly, boolean directAst,
+                                  boolean arena, Path astCache, ParallelParser splitter) {
+        FileResult result = new FileResult(path);
+        long t = System.nanoTime();
+        try {
+            MappedCharStream input = MappedCharStream.fromPath(path);
+            result.bytes = input.byteSize();
+            Path cached = astCache != null ? cachedArena(astCache, path) : null;
+            int checksum = cached != null ? input.checksum() : 0;
+            AstArena mapped = cached != null ? mapIfFresh(cached, input.byteSize(), checksum) : null;
+            if (mapped != null) {
+                result.lap(2, t);
+                analyzePacked(mapped.cursor(mapped.root()), result);
+                return result;
+            }
+
+            GoLexer lexer = factory.newLexer(input);
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(result);
+            CommonTokenStream tokens = new CommonTokenStream(lexer);
+            tokens.fill();
+            result.tokens = tokens.size();
+            t = result.lap(0, t);
+
+            ProgramNode program = null;
+            AstArena packed = null;
+            if (splitter != null) {
+                ParallelParser.Result parsed = splitter.parse(tokens.getTokens(), result);
+                result.parseStage = parsed.stage;
+                program = parsed.program;
+                t = result.lap(1, t);
+            } else {
+                GoParser parser = factory.newParser(tokens);
+                GoASTBuilder builder = !directAst ? null
+                        : arena ? GoASTBuilder.packing(parser) : new GoASTBuilder(parser);
+                TwoStageParser.Result parsed = llOnly
+                        ? TwoStageParser.parseLL(parser, result)
+                        : TwoStageParser.parse(parser, result);
+                result.parseStage = parsed.stage;
+                t = result.lap(1, t);
+
+                if (arena) {
+                    packed = builder != null ? builder.arena() : GoASTBuilder.pack(parsed.tree);
+                } else {
+                    program = (ProgramNode) (builder != null
+                            ? builder.result()
+                            : GoASTBuilder.build(parsed.tree));
+                }
+                t = result.lap(2, t);
+            }
+
+            if (arena) {
+                if (packed == null) {
+                    packed = new AstArena();
+                    packed.add(program);
+                    program = null;
+                }
+                AstArena.Cursor root = packed.cursor(packed.root());
+                if (cached != null && result.syntaxErrors == 0) {
+                    Files.createDirectories(cached.getParent());
+                    packed.save(cached, input.byteSize(), checksum);
+                }
+                long now = System.nanoTime();
+                result.stageNanos[2] = Math.max(result.stageNanos[2], 0) + now - t;
+                analyzePacked(root, result);
+                return result;
+            }
+
+            List<FunctionCFG> functions = new ArrayList<>();
+            for (FunctionNode function : FunctionCFG.functionsOf(program)) {
+                functions.add(FunctionCFG.build(function));
+            }
+            t = result.lap(3, t);
+
+            for (FunctionCFG function : functions) {
+                function.analyze();
+            }
+            result.lap(4, t);
+            for (FunctionCFG function : functions) {
+                result.functions.add(FunctionSummary.of(function));
+            }
+        } catch (Exception | StackOverflowError e) {
+            result.error = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        }
+        return result;
+    }
+
+    // Where --ast-cache keeps the arena for source
+    private static Path cachedArena(Path astCache, Path source) {
+        Path absolute = source.toAbsolutePath().normalize();
+        Path relative = absolute.getRoot() != null ? absolute.getRoot().relativize(absolute) : absolute;
+        return astCache.resolve(relative.toString() + ".ast");
+    }
+
+    // null if the saved arena is missing, unreadable or corrupt, or was
+    // built from other bytes than the source has now; the file is then
+    // parsed and the arena saved again. Modification times are not enough:
+    // a checkout or a copy can leave an edited file older than its arena.
+    private static AstArena mapIfFresh(Path cached, int sourceBytes, int sourceChecksum) {
+        if (!Files.isRegularFile(cached)) {
+            return null;
+        }
+        try {
+            AstArena mapped = AstArena.map(cached);
+            return mapped.isFrom(sourceBytes, sourceChecksum) ? mapped : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Builds and analyzes one function at a time, straight from the arena.
+    // Stage times are summed over the functions.
+    private static void analyzePacked(AstArena.Cursor program, FileResult result) {
+        long[] nanos = new long[STAGES.length];
+        List<FunctionSummary> summaries = new ArrayList<>();
+        for (AstArena.Cursor function : FunctionCFG.functionsOf(program)) {
+            long t = System.nanoTime();
+            FunctionCFG cfg = FunctionCFG.build(function);
+            long built = System.nanoTime();
+            nanos[3] += built - t;
+            cfg.analyze();
+            nanos[4] += System.nanoTime() - built;
+            summaries.add(FunctionSummary.of(cfg));
+        }
+        result.stageNanos[3] = nanos[3];
+        result.stageNanos[4] = nanos[4];
+        result.functions.addAll(summaries);
+    }
+
+    // Streaming counterpart of analyzeFile(). Stage times are summed over the
+    // declarations, and each function's graphs are dropped once its summary
+    // is taken.
+    static FileResult streamFile(Path path, GoParserFactory factory) {
+        FileResult result = new FileResult(path);
+        long[] nanos = new long[STAGES.length];
+        StreamingParser stream = null;
+        try {
+            MappedCharStream input = MappedCharStream.fromPath(path);
+            result.bytes = input.byteSize();
+            stream = new StreamingParser(factory, input, result);
+
+            long t = System.nanoTime();
+            stream.header();
+            nanos[1] += System.nanoTime() - t;
+            while (stream.hasNext()) {
+                t = System.nanoTime();
+                ASTNode decl = stream.next();
+                long parsed = System.nanoTime();
+                // next() parses and builds the AST in one go, so the ast
+                // stage is folded into parse
+                nanos[1] += parsed - t;
+                if (!(decl instanceof FunctionNode)) {
+                    continue;
+                }
+                FunctionCFG function = FunctionCFG.build((FunctionNode) decl);
+                long built = System.nanoTime();
+                nanos[3] += built - parsed;
+                function.analyze();
+                nanos[4] += System.nanoTime() - built;
+                result.functions.add(FunctionSummary.of(function));
+            }
+            result.stageNanos[1] = nanos[1];
+            result.stageNanos[3] = nanos[3];
+            result.stageNanos[4] = nanos[4];
+        } catch (Exception | StackOverflowError e) {
+            result.error = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        }
+        if (stream != null) {
+            result.tokens = stream.tokenCount();
+            result.parseStage = stream.stage();
+        }
+        return result;
+    }
+
+    // What a JSON line reports about one function. Results keep this rather
+    // than the FunctionCFG so the graphs can be collected early.
+    record FunctionSummary(String name, int line, int nodes, int blocks, int phis) {
+        static FunctionSummary of(FunctionCFG function) {
+            boolean analyzed = function.analyzer != null;
+            return new FunctionSummary(function.name(), function.function.line(),
+                    function.builder.getGraph().nodeCount(),
+                    analyzed ? function.analyzer.rpo.length : -1,
+                    analyzed ? function.phiCount() : -1);
+        }
+    }
+
+    // Per-file outcome. Doubles as the error listener so syntax errors are
+    // counted instead of printed.
+    static class FileResult extends BaseErrorListener {
+        final Path path;
+        long bytes;
+        int tokens;
+        int syntaxErrors;
+        TwoStageParser.Stage parseStage;
+        String error;
+        final List<FunctionSummary> functions = new ArrayList<>();
+        final long[] stageNanos = new long[STAGES.length];
+
+        FileResult(Path path) {
+            this.path = path;
+            Arrays.fill(stageNanos, -1);
+        }
+
+        long lap(int stage, long since) {
+            long now = System.nanoTime();
+            stageNanos[stage] = now - since;
+            return now;
+        }
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                int charPositionInLine, String msg, RecognitionException e) {
+            syntaxErrors++;
+        }
+
+        String toJson() {
+            StringBuilder sb = new StringBuilder(256);
+            sb.append("{\"file\":").append(jsonString(path.toString()));
+            sb.append(",\"bytes\":").append(bytes);
+            sb.append(",\"tokens\":").append(tokens);
+            sb.append(",\"syntaxErrors\":").append(syntaxErrors);
+            if (parseStage != null) {
+                sb.append(",\"parseStage\":\"").append(parseStage).append('"');
+            }
+            if (error != null) {
+                sb.append(",\"error\":").append(jsonString(error));
+            }
+            sb.append(",\"stageMicros\":{");
+            for (int i = 0; i < STAGES.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append('"').append(STAGES[i]).append("\":")
+                  .append(stageNanos[i] < 0 ? "null" : String.valueOf(stageNanos[i] / 1000));
+            }
+            sb.append("},\"functions\":[");
+            for (int i = 0; i < functions.size(); i++) {
+                FunctionSummary function = functions.get(i);
+                if (i > 0) sb.append(',');
+                sb.append("{\"name\":").append(jsonString(function.name()));
+                sb.append(",\"line\":").append(function.line());
+                sb.append(",\"nodes\":").append(function.nodes());
+                if (function.blocks() >= 0) {
+                    sb.append(",\"blocks\":").append(function.blocks());
+                    sb.append(",\"phis\":").append(function.phis());
+                }
+                sb.append('}');
+            }
+            sb.append("]}");
+            return sb.toString();
+        }
+    }
+
+    static String jsonString(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    // Totals and per-stage latency samples, collected from all workers
+    static class BatchStats {
+        int files;
+        int failures;
+        int filesWithSyntaxErrors;
+        final int[] parseStages = new int[TwoStageParser.Stage.values().length];
+        long bytes;
+        long wallNanos;
+        private final long[][] samples = new long[STAGES.length][];
+        private final int[] sampleCount = new int[STAGES.length];
+
+        BatchStats() {
+            for (int i = 0; i < STAGES.length; i++) {
+                samples[i] = new long[1024];
+            }
+        }
+
+        synchronized void record(FileResult result) {
+            files++;
+            bytes += result.bytes;
+            if (result.error != null) failures++;
+            if (result.syntaxErrors > 0) filesWithSyntaxErrors++;
+            if (result.parseStage != null) parseStages[result.parseStage.ordinal()]++;
+            for (int i = 0; i < STAGES.length; i++) {
+                if (result.stageNanos[i] < 0) continue;
+                if (sampleCount[i] == samples[i].length) {
+                    samples[i] = Arrays.copyOf(samples[i], samples[i].length * 2);
+                }
+                samples[i][sampleCount[i]++] = result.stageNanos[i];
+            }
+        }
+
+        synchronized void print(PrintStream err) {
+            double seconds = wallNanos / 1e9;
+            err.printf("files: %d (%d failed, %d with syntax errors), bytes: %d, wall: %.3f s%n",
+                    files, failures, filesWithSyntaxErrors, bytes, seconds);
+            err.printf("throughput: %.1f files/s, %.1f KB/s%n",
+                    files / seconds, bytes / 1024.0 / seconds);
+            err.printf("parsed by stage: SLL %d, LL %d%n",
+                    parseStages[TwoStageParser.Stage.SLL.ordinal()], parseStages[TwoStageParser.Stage.LL.ordinal()]);
+            err.printf("%-6s %10s %10s %10s %10s   (microseconds per file)%n", "stage", "p50", "p90", "p99", "max");
+            for (int i = 0; i < STAGES.length; i++) {
+                long[] sorted = Arrays.copyOf(samples[i], sampleCount[i]);
+                Arrays.sort(sorted);
+                err.printf("%-6s %10d %10d %10d %10d%n", STAGES[i],
+                        percentile(sorted, 50) / 1000, percentile(sorted, 90) / 1000,
+                        percentile(sorted, 99) / 1000, percentile(sorted, 100) / 1000);
+            }
+        }
+
+        // Nearest-rank percentile of an ascending array
+        static long percentile(long[] sorted, int p) {
+            if (sorted.length == 0) return 0;
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
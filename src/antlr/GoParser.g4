@@ -21,7 +21,7 @@ packageClause
     ;
 
 importDecl
-    : IMPORT (importSpec | L_PAREN (importSpec eos)* R_PAREN)
+    : IMPORT (importSpec | L_PAREN (importSpec (listEos importSpec)* listEos?)? R_PAREN)
     ;
 
 importSpec
@@ -39,7 +39,7 @@ declaration
     ;
 
 constDecl
-    : CONST (constSpec | L_PAREN (constSpec eos)* R_PAREN)
+    : CONST (constSpec | L_PAREN (constSpec (listEos constSpec)* listEos?)? R_PAREN)
     ;
 
 constSpec
@@ -55,7 +55,7 @@ expressionList
     ;
 
 typeDecl
-    : TYPE (typeSpec | L_PAREN (typeSpec eos)* R_PAREN)
+    : TYPE (typeSpec | L_PAREN (typeSpec (listEos typeSpec)* listEos?)? R_PAREN)
     ;
 
 typeSpec
@@ -102,7 +102,7 @@ receiver
     ;
 
 varDecl
-    : VAR (varSpec | L_PAREN (varSpec eos)* R_PAREN)
+    : VAR (varSpec | L_PAREN (varSpec (listEos varSpec)* listEos?)? R_PAREN)
     ;
 
 varSpec
@@ -114,7 +114,7 @@ block
     ;
 
 statementList
-    : ((SEMI? | EOS? | {this.closingBracket()}?) statement eos)+
+    : (SEMI | EOS)? statement (listEos (SEMI | EOS)? statement)* listEos? {this.statementListEnd();}
     ;
 
 statement
@@ -314,7 +314,7 @@ pointerType
     ;
 
 interfaceType
-    : INTERFACE L_CURLY ((methodSpec | typeElement) eos)* R_CURLY
+    : INTERFACE L_CURLY ((methodSpec | typeElement) (listEos (methodSpec | typeElement))* listEos?)? R_CURLY
     ;
 
 sliceType
@@ -356,28 +356,53 @@ parameterDecl
     : identifierList? ELLIPSIS? type_
     ;
 
+// Binary operators are matched as a flat list and GoASTBuilder applies
+// their precedence. Without left recursion there are no precedence
+// predicates to evaluate while predicting, and each operator costs a single
+// loop decision.
 expression
+    : unaryExpr (
+        binary_op = (
+            LOGICAL_OR
+            | LOGICAL_AND
+            | EQUALS
+            | NOT_EQUALS
+            | LESS
+            | LESS_OR_EQUALS
+            | GREATER
+            | GREATER_OR_EQUALS
+            | PLUS
+            | MINUS
+            | OR
+            | CARET
+            | STAR
+            | DIV
+            | MOD
+            | LSHIFT
+            | RSHIFT
+            | AMPERSAND
+            | BIT_CLEAR
+        ) unaryExpr
+    )*
+    ;
+
+unaryExpr
     : primaryExpr
-    | unary_op = (PLUS | MINUS | EXCLAMATION | CARET | STAR | AMPERSAND | RECEIVE) expression
-    | expression mul_op = (STAR | DIV | MOD | LSHIFT | RSHIFT | AMPERSAND | BIT_CLEAR) expression
-    | expression add_op = (PLUS | MINUS | OR | CARET) expression
-    | expression rel_op = (
-        EQUALS
-        | NOT_EQUALS
-        | LESS
-        | LESS_OR_EQUALS
-        | GREATER
-        | GREATER_OR_EQUALS
-    ) expression
-    | expression LOGICAL_AND expression
-    | expression LOGICAL_OR expression
+    | unary_op = (PLUS | MINUS | EXCLAMATION | CARET | STAR | AMPERSAND | RECEIVE) unaryExpr
     ;
 
+// Selectors, index and slice expressions, type assertions and calls apply
+// left to right to the operand
 primaryExpr
-    : operand
-    | conversion
-    | methodExpr
-    | primaryExpr ( DOT IDENTIFIER | index | slice_ | typeAssertion | arguments)
+    : (operand | conversion | methodExpr) primarySuffix*
+    ;
+
+primarySuffix
+    : DOT IDENTIFIER
+    | index
+    | slice_
+    | typeAssertion
+    | arguments
     ;
 
 conversion
@@ -456,7 +481,7 @@ element
     ;
 
 structType
-    : STRUCT L_CURLY (fieldDecl eos)* R_CURLY
+    : STRUCT L_CURLY (fieldDecl (listEos fieldDecl)* listEos?)? R_CURLY
     ;
 
 fieldDecl
@@ -496,9 +521,20 @@ methodExpr
     : type_ DOT IDENTIFIER
     ;
 
+// Statement and declaration terminators. A terminator may be omitted before a
+// closing ")" or "}": list rules take an optional trailing listEos instead of
+// asking a semantic predicate, so every terminator decision can be cached in
+// the DFA. A statement list can also end at the next case or default clause,
+// so statementList checks afterwards, in an action, that a missing
+// terminator was followed by "}".
 eos
     : SEMI
     | EOF
     | EOS
-    | {this.closingBracket()}?
+    ;
+
+// Terminator between the items of a bracketed list, where EOF cannot occur
+listEos
+    : SEMI
+    | EOS
     ;
@@ -55,14 +55,14 @@ public class GoParser extends GoParserBase {
 		RULE_elementType = 64, RULE_pointerType = 65, RULE_interfaceType = 66, 
 		RULE_sliceType = 67, RULE_mapType = 68, RULE_channelType = 69, RULE_methodSpec = 70, 
 		RULE_functionType = 71, RULE_signature = 72, RULE_result = 73, RULE_parameters = 74, 
-		RULE_parameterDecl = 75, RULE_expression = 76, RULE_primaryExpr = 77, 
-		RULE_conversion = 78, RULE_operand = 79, RULE_literal = 80, RULE_basicLit = 81, 
-		RULE_integer = 82, RULE_operandName = 83, RULE_qualifiedIdent = 84, RULE_compositeLit = 85, 
-		RULE_literalType = 86, RULE_literalValue = 87, RULE_elementList = 88, 
-		RULE_keyedElement = 89, RULE_key = 90, RULE_element = 91, RULE_structType = 92, 
-		RULE_fieldDecl = 93, RULE_string_ = 94, RULE_embeddedField = 95, RULE_functionLit = 96, 
-		RULE_index = 97, RULE_slice_ = 98, RULE_typeAssertion = 99, RULE_arguments = 100, 
-		RULE_methodExpr = 101, RULE_eos = 102;
+		RULE_parameterDecl = 75, RULE_expression = 76, RULE_unaryExpr = 77, RULE_primaryExpr = 78, 
+		RULE_primarySuffix = 79, RULE_conversion = 80, RULE_operand = 81, RULE_literal = 82, 
+		RULE_basicLit = 83, RULE_integer = 84, RULE_operandName = 85, RULE_qualifiedIdent = 86, 
+		RULE_compositeLit = 87, RULE_literalType = 88, RULE_literalValue = 89, 
+		RULE_elementList = 90, RULE_keyedElement = 91, RULE_key = 92, RULE_element = 93, 
+		RULE_structType = 94, RULE_fieldDecl = 95, RULE_string_ = 96, RULE_embeddedField = 97, 
+		RULE_functionLit = 98, RULE_index = 99, RULE_slice_ = 100, RULE_typeAssertion = 101, 
+		RULE_arguments = 102, RULE_methodExpr = 103, RULE_eos = 104, RULE_listEos = 105;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"sourceFile", "packageClause", "importDecl", "importSpec", "importPath", 
@@ -79,11 +79,12 @@ public class GoParser extends GoParserBase {
 			"type_", "typeArgs", "typeName", "typeLit", "arrayType", "arrayLength", 
 			"elementType", "pointerType", "interfaceType", "sliceType", "mapType", 
 			"channelType", "methodSpec", "functionType", "signature", "result", "parameters", 
-			"parameterDecl", "expression", "primaryExpr", "conversion", "operand", 
-			"literal", "basicLit", "integer", "operandName", "qualifiedIdent", "compositeLit", 
-			"literalType", "literalValue", "elementList", "keyedElement", "key", 
-			"element", "structType", "fieldDecl", "string_", "embeddedField", "functionLit", 
-			"index", "slice_", "typeAssertion", "arguments", "methodExpr", "eos"
+			"parameterDecl", "expression", "unaryExpr", "primaryExpr", "primarySuffix", 
+			"conversion", "operand", "literal", "basicLit", "integer", "operandName", 
+			"qualifiedIdent", "compositeLit", "literalType", "literalValue", "elementList", 
+			"keyedElement", "key", "element", "structType", "fieldDecl", "string_", 
+			"embeddedField", "functionLit", "index", "slice_", "typeAssertion", "arguments", 
+			"methodExpr", "eos", "listEos"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -233,63 +234,63 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(206);
+			setState(212);
 			packageClause();
-			setState(207);
-			eos();
 			setState(213);
+			eos();
+			setState(219);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==IMPORT) {
 				{
 				{
-				setState(208);
+				setState(214);
 				importDecl();
-				setState(209);
+				setState(215);
 				eos();
 				}
 				}
-				setState(215);
+				setState(221);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(225);
+			setState(231);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 34668552L) != 0)) {
 				{
 				{
-				setState(219);
+				setState(225);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
 				case 1:
 					{
-					setState(216);
+					setState(222);
 					functionDecl();
 					}
 					break;
 				case 2:
 					{
-					setState(217);
+					setState(223);
 					methodDecl();
 					}
 					break;
 				case 3:
 					{
-					setState(218);
+					setState(224);
 					declaration();
 					}
 					break;
 				}
-				setState(221);
+				setState(227);
 				eos();
 				}
 				}
-				setState(227);
+				setState(233);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(228);
+			setState(234);
 			match(EOF);
 			}
 		}
@@ -334,9 +335,9 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(230);
+			setState(236);
 			match(PACKAGE);
-			setState(231);
+			setState(237);
 			((PackageClauseContext)_localctx).packageName = match(IDENTIFIER);
 			}
 		}
@@ -362,11 +363,11 @@ public class GoParser extends GoParserBase {
 		}
 		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
 		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
-		public List<EosContext> eos() {
-			return getRuleContexts(EosContext.class);
+		public List<ListEosContext> listEos() {
+			return getRuleContexts(ListEosContext.class);
 		}
-		public EosContext eos(int i) {
-			return getRuleContext(EosContext.class,i);
+		public ListEosContext listEos(int i) {
+			return getRuleContext(ListEosContext.class,i);
 		}
 		public ImportDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -392,11 +393,12 @@ public class GoParser extends GoParserBase {
 		enterRule(_localctx, 4, RULE_importDecl);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(233);
+			setState(239);
 			match(IMPORT);
-			setState(245);
+			setState(257);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
@@ -404,31 +406,53 @@ public class GoParser extends GoParserBase {
 			case RAW_STRING_LIT:
 			case INTERPRETED_STRING_LIT:
 				{
-				setState(234);
+				setState(240);
 				importSpec();
 				}
 				break;
 			case L_PAREN:
 				{
-				setState(235);
-				match(L_PAREN);
 				setState(241);
+				match(L_PAREN);
+				setState(254);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (((((_la - 27)) & ~0x3f) == 0 && ((1L << (_la - 27)) & 13510798882113537L) != 0)) {
-					{
+				if (((((_la - 27)) & ~0x3f) == 0 && ((1L << (_la - 27)) & 13510798882113537L) != 0)) {
 					{
-					setState(236);
+					setState(242);
 					importSpec();
-					setState(237);
-					eos();
-					}
+					setState(248);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+						if ( _alt==1 ) {
+							{
+							{
+							setState(243);
+							listEos();
+							setState(244);
+							importSpec();
+							}
+							} 
+						}
+						setState(250);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 					}
-					setState(243);
+					setState(252);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
+					if (_la==SEMI || _la==EOS) {
+						{
+						setState(251);
+						listEos();
+						}
+					}
+
+					}
 				}
-				setState(244);
+
+				setState(256);
 				match(R_PAREN);
 				}
 				break;
@@ -482,12 +506,12 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(248);
+			setState(260);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==IDENTIFIER || _la==DOT) {
 				{
-				setState(247);
+				setState(259);
 				((ImportSpecContext)_localctx).alias = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==IDENTIFIER || _la==DOT) ) {
@@ -501,7 +525,7 @@ public class GoParser extends GoParserBase {
 				}
 			}
 
-			setState(250);
+			setState(262);
 			importPath();
 			}
 		}
@@ -546,7 +570,7 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(252);
+			setState(264);
 			string_();
 			}
 		}
@@ -595,27 +619,27 @@ public class GoParser extends GoParserBase {
 		DeclarationContext _localctx = new DeclarationContext(_ctx, getState());
 		enterRule(_localctx, 10, RULE_declaration);
 		try {
-			setState(257);
+			setState(269);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case CONST:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(254);
+				setState(266);
 				constDecl();
 				}
 				break;
 			case TYPE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(255);
+				setState(267);
 				typeDecl();
 				}
 				break;
 			case VAR:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(256);
+				setState(268);
 				varDecl();
 				}
 				break;
@@ -645,11 +669,11 @@ public class GoParser extends GoParserBase {
 		}
 		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
 		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
-		public List<EosContext> eos() {
-			return getRuleContexts(EosContext.class);
+		public List<ListEosContext> listEos() {
+			return getRuleContexts(ListEosContext.class);
 		}
-		public EosContext eos(int i) {
-			return getRuleContext(EosContext.class,i);
+		public ListEosContext listEos(int i) {
+			return getRuleContext(ListEosContext.class,i);
 		}
 		public ConstDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -675,40 +699,63 @@ public class GoParser extends GoParserBase {
 		enterRule(_localctx, 12, RULE_constDecl);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(259);
-			match(CONST);
 			setState(271);
+			match(CONST);
+			setState(289);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				{
-				setState(260);
+				setState(272);
 				constSpec();
 				}
 				break;
 			case L_PAREN:
 				{
-				setState(261);
+				setState(273);
 				match(L_PAREN);
-				setState(267);
+				setState(286);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==IDENTIFIER) {
-					{
+				if (_la==IDENTIFIER) {
 					{
-					setState(262);
+					setState(274);
 					constSpec();
-					setState(263);
-					eos();
-					}
+					setState(280);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+						if ( _alt==1 ) {
+							{
+							{
+							setState(275);
+							listEos();
+							setState(276);
+							constSpec();
+							}
+							} 
+						}
+						setState(282);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
 					}
-					setState(269);
+					setState(284);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
+					if (_la==SEMI || _la==EOS) {
+						{
+						setState(283);
+						listEos();
+						}
+					}
+
+					}
 				}
-				setState(270);
+
+				setState(288);
 				match(R_PAREN);
 				}
 				break;
@@ -766,30 +813,30 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(273);
+			setState(291);
 			identifierList();
-			setState(279);
+			setState(297);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (((((_la - 3)) & ~0x3f) == 0 && ((1L << (_la - 3)) & 2882303764251804099L) != 0)) {
 				{
-				setState(275);
+				setState(293);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (((((_la - 3)) & ~0x3f) == 0 && ((1L << (_la - 3)) & 2882303762104320451L) != 0)) {
 					{
-					setState(274);
+					setState(292);
 					type_();
 					}
 				}
 
-				setState(277);
+				setState(295);
 				match(ASSIGN);
-				setState(278);
+				setState(296);
 				expressionList();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -835,29 +882,27 @@ public class GoParser extends GoParserBase {
 	public final IdentifierListContext identifierList() throws RecognitionException {
 		IdentifierListContext _localctx = new IdentifierListContext(_ctx, getState());
 		enterRule(_localctx, 16, RULE_identifierList);
+		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(281);
+			setState(299);
 			match(IDENTIFIER);
-			setState(286);
+			setState(304);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					{
-					{
-					setState(282);
-					match(COMMA);
-					setState(283);
-					match(IDENTIFIER);
-					}
-					} 
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(300);
+				match(COMMA);
+				setState(301);
+				match(IDENTIFIER);
 				}
-				setState(288);
+				}
+				setState(306);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+				_la = _input.LA(1);
 			}
 			}
 		}
@@ -910,25 +955,25 @@ public class GoParser extends GoParserBase {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(289);
-			expression(0);
-			setState(294);
+			setState(307);
+			expression();
+			setState(312);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(290);
+					setState(308);
 					match(COMMA);
-					setState(291);
-					expression(0);
+					setState(309);
+					expression();
 					}
 					} 
 				}
-				setState(296);
+				setState(314);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
 			}
 			}
 		}
@@ -954,11 +999,11 @@ public class GoParser extends GoParserBase {
 		}
 		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
 		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
-		public List<EosContext> eos() {
-			return getRuleContexts(EosContext.class);
+		public List<ListEosContext> listEos() {
+			return getRuleContexts(ListEosContext.class);
 		}
-		public EosContext eos(int i) {
-			return getRuleContext(EosContext.class,i);
+		public ListEosContext listEos(int i) {
+			return getRuleContext(ListEosContext.class,i);
 		}
 		public TypeDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -984,40 +1029,63 @@ public class GoParser extends GoParserBase {
 		enterRule(_localctx, 20, RULE_typeDecl);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(297);
+			setState(315);
 			match(TYPE);
-			setState(309);
+			setState(333);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				{
-				setState(298);
+				setState(316);
 				typeSpec();
 				}
 				break;
 			case L_PAREN:
 				{
-				setState(299);
+				setState(317);
 				match(L_PAREN);
-				setState(305);
+				setState(330);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==IDENTIFIER) {
-					{
+				if (_la==IDENTIFIER) {
 					{
-					setState(300);
+					setState(318);
 					typeSpec();
-					setState(301);
-					eos();
-					}
+					setState(324);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
+					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+						if ( _alt==1 ) {
+							{
+							{
+							setState(319);
+							listEos();
+							setState(320);
+							typeSpec();
+							}
+							} 
+						}
+						setState(326);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 					}
-					setState(307);
+					setState(328);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
+					if (_la==SEMI || _la==EOS) {
+						{
+						setState(327);
+						listEos();
+						}
+					}
+
+					}
 				}
-				setState(308);
+
+				setState(332);
 				match(R_PAREN);
 				}
 				break;
@@ -1068,20 +1136,20 @@ public class GoParser extends GoParserBase {
 		TypeSpecContext _localctx = new TypeSpecContext(_ctx, getState());
 		enterRule(_localctx, 22, RULE_typeSpec);
 		try {
-			setState(313);
+			setState(337);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,21,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(311);
+				setState(335);
 				aliasDecl();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(312);
+				setState(336);
 				typeDef();
 				}
 				break;
@@ -1130,11 +1198,11 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(315);
+			setState(339);
 			match(IDENTIFIER);
-			setState(316);
+			setState(340);
 			match(ASSIGN);
-			setState(317);
+			setState(341);
 			type_();
 			}
 		}
@@ -1183,19 +1251,19 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(319);
+			setState(343);
 			match(IDENTIFIER);
-			setState(321);
+			setState(345);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
 			case 1:
 				{
-				setState(320);
+				setState(344);
 				typeParameters();
 				}
 				break;
 			}
-			setState(323);
+			setState(347);
 			type_();
 			}
 		}
@@ -1250,27 +1318,27 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(325);
+			setState(349);
 			match(L_BRACKET);
-			setState(326);
+			setState(350);
 			typeParameterDecl();
-			setState(331);
+			setState(355);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(327);
+				setState(351);
 				match(COMMA);
-				setState(328);
+				setState(352);
 				typeParameterDecl();
 				}
 				}
-				setState(333);
+				setState(357);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(334);
+			setState(358);
 			match(R_BRACKET);
 			}
 		}
@@ -1318,9 +1386,9 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(336);
+			setState(360);
 			identifierList();
-			setState(337);
+			setState(361);
 			typeElement();
 			}
 		}
@@ -1369,29 +1437,27 @@ public class GoParser extends GoParserBase {
 	public final TypeElementContext typeElement() throws RecognitionException {
 		TypeElementContext _localctx = new TypeElementContext(_ctx, getState());
 		enterRule(_localctx, 32, RULE_typeElement);
+		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(339);
+			setState(363);
 			typeTerm();
-			setState(344);
+			setState(368);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					{
-					{
-					setState(340);
-					match(OR);
-					setState(341);
-					typeTerm();
-					}
-					} 
+			_la = _input.LA(1);
+			while (_la==OR) {
+				{
+				{
+				setState(364);
+				match(OR);
+				setState(365);
+				typeTerm();
+				}
 				}
-				setState(346);
+				setState(370);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
+				_la = _input.LA(1);
 			}
 			}
 		}
@@ -1438,17 +1504,17 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(348);
+			setState(372);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==UNDERLYING) {
 				{
-				setState(347);
+				setState(371);
 				match(UNDERLYING);
 				}
 			}
 
-			setState(350);
+			setState(374);
 			type_();
 			}
 		}
@@ -1502,32 +1568,32 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(352);
+			setState(376);
 			match(FUNC);
-			setState(353);
+			setState(377);
 			match(IDENTIFIER);
-			setState(355);
+			setState(379);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==L_BRACKET) {
 				{
-				setState(354);
+				setState(378);
 				typeParameters();
 				}
 			}
 
-			setState(357);
+			setState(381);
 			signature();
-			setState(359);
+			setState(383);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,21,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==L_CURLY) {
 				{
-				setState(358);
+				setState(382);
 				block();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1576,27 +1642,28 @@ public class GoParser extends GoParserBase {
 	public final MethodDeclContext methodDecl() throws RecognitionException {
 		MethodDeclContext _localctx = new MethodDeclContext(_ctx, getState());
 		enterRule(_localctx, 38, RULE_methodDecl);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(361);
+			setState(385);
 			match(FUNC);
-			setState(362);
+			setState(386);
 			receiver();
-			setState(363);
+			setState(387);
 			match(IDENTIFIER);
-			setState(364);
+			setState(388);
 			signature();
-			setState(366);
+			setState(390);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==L_CURLY) {
 				{
-				setState(365);
+				setState(389);
 				block();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1640,7 +1707,7 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(368);
+			setState(392);
 			parameters();
 			}
 		}
@@ -1666,11 +1733,11 @@ public class GoParser extends GoParserBase {
 		}
 		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
 		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
-		public List<EosContext> eos() {
-			return getRuleContexts(EosContext.class);
+		public List<ListEosContext> listEos() {
+			return getRuleContexts(ListEosContext.class);
 		}
-		public EosContext eos(int i) {
-			return getRuleContext(EosContext.class,i);
+		public ListEosContext listEos(int i) {
+			return getRuleContext(ListEosContext.class,i);
 		}
 		public VarDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1696,40 +1763,63 @@ public class GoParser extends GoParserBase {
 		enterRule(_localctx, 42, RULE_varDecl);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(370);
+			setState(394);
 			match(VAR);
-			setState(382);
+			setState(412);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				{
-				setState(371);
+				setState(395);
 				varSpec();
 				}
 				break;
 			case L_PAREN:
 				{
-				setState(372);
+				setState(396);
 				match(L_PAREN);
-				setState(378);
+				setState(409);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==IDENTIFIER) {
+				if (_la==IDENTIFIER) {
 					{
-					{
-					setState(373);
+					setState(397);
 					varSpec();
-					setState(374);
-					eos();
-					}
+					setState(403);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+						if ( _alt==1 ) {
+							{
+							{
+							setState(398);
+							listEos();
+							setState(399);
+							varSpec();
+							}
+							} 
+						}
+						setState(405);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 					}
-					setState(380);
+					setState(407);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
+					if (_la==SEMI || _la==EOS) {
+						{
+						setState(406);
+						listEos();
+						}
+					}
+
+					}
 				}
-				setState(381);
+
+				setState(411);
 				match(R_PAREN);
 				}
 				break;
@@ -1783,12 +1873,13 @@ public class GoParser extends GoParserBase {
 	public final VarSpecContext varSpec() throws RecognitionException {
 		VarSpecContext _localctx = new VarSpecContext(_ctx, getState());
 		enterRule(_localctx, 44, RULE_varSpec);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(384);
+			setState(414);
 			identifierList();
-			setState(392);
+			setState(422);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case FUNC:
@@ -1802,27 +1893,27 @@ public class GoParser extends GoParserBase {
 			case STAR:
 			case RECEIVE:
 				{
-				setState(385);
+				setState(415);
 				type_();
-				setState(388);
+				setState(418);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==ASSIGN) {
 					{
-					setState(386);
+					setState(416);
 					match(ASSIGN);
-					setState(387);
+					setState(417);
 					expressionList();
 					}
-					break;
 				}
+
 				}
 				break;
 			case ASSIGN:
 				{
-				setState(390);
+				setState(420);
 				match(ASSIGN);
-				setState(391);
+				setState(421);
 				expressionList();
 				}
 				break;
@@ -1871,22 +1962,23 @@ public class GoParser extends GoParserBase {
 	public final BlockContext block() throws RecognitionException {
 		BlockContext _localctx = new BlockContext(_ctx, getState());
 		enterRule(_localctx, 46, RULE_block);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(394);
+			setState(424);
 			match(L_CURLY);
-			setState(396);
+			setState(426);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230301535588422L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 16876351L) != 0)) {
 				{
-				setState(395);
+				setState(425);
 				statementList();
 				}
-				break;
 			}
-			setState(398);
+
+			setState(428);
 			match(R_CURLY);
 			}
 		}
@@ -1909,11 +2001,11 @@ public class GoParser extends GoParserBase {
 		public StatementContext statement(int i) {
 			return getRuleContext(StatementContext.class,i);
 		}
-		public List<EosContext> eos() {
-			return getRuleContexts(EosContext.class);
+		public List<ListEosContext> listEos() {
+			return getRuleContexts(ListEosContext.class);
 		}
-		public EosContext eos(int i) {
-			return getRuleContext(EosContext.class,i);
+		public ListEosContext listEos(int i) {
+			return getRuleContext(ListEosContext.class,i);
 		}
 		public List<TerminalNode> SEMI() { return getTokens(GoParser.SEMI); }
 		public TerminalNode SEMI(int i) {
@@ -1950,70 +2042,77 @@ public class GoParser extends GoParserBase {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(412); 
+			setState(431);
 			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
+			_la = _input.LA(1);
+			if (_la==SEMI || _la==EOS) {
+				{
+				setState(430);
+				_la = _input.LA(1);
+				if ( !(_la==SEMI || _la==EOS) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(433);
+			statement();
+			setState(442);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,38,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
 					{
 					{
-					setState(407);
+					setState(434);
+					listEos();
+					setState(436);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
-					case 1:
-						{
-						setState(401);
-						_errHandler.sync(this);
-						_la = _input.LA(1);
-						if (_la==SEMI) {
-							{
-							setState(400);
-							match(SEMI);
-							}
-						}
-
-						}
-						break;
-					case 2:
+					_la = _input.LA(1);
+					if (_la==SEMI || _la==EOS) {
 						{
-						setState(404);
-						_errHandler.sync(this);
+						setState(435);
 						_la = _input.LA(1);
-						if (_la==EOS) {
-							{
-							setState(403);
-							match(EOS);
-							}
+						if ( !(_la==SEMI || _la==EOS) ) {
+						_errHandler.recoverInline(this);
 						}
-
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
 						}
-						break;
-					case 3:
-						{
-						setState(406);
-						if (!(this.closingBracket())) throw new FailedPredicateException(this, "this.closingBracket()");
 						}
-						break;
 					}
-					setState(409);
+
+					setState(438);
 					statement();
-					setState(410);
-					eos();
 					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
+					} 
 				}
-				setState(414); 
+				setState(444);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				_alt = getInterpreter().adaptivePredict(_input,38,_ctx);
 			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
+			setState(446);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==SEMI || _la==EOS) {
+				{
+				setState(445);
+				listEos();
+				}
+			}
+
+			this.statementListEnd();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
 			_errHandler.reportError(this, re);
 			_errHandler.recover(this, re);
 		}
@@ -2093,111 +2192,111 @@ public class GoParser extends GoParserBase {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 50, RULE_statement);
 		try {
-			setState(431);
+			setState(465);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(416);
+				setState(450);
 				declaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(417);
+				setState(451);
 				labeledStmt();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(418);
+				setState(452);
 				simpleStmt();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(419);
+				setState(453);
 				goStmt();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(420);
+				setState(454);
 				returnStmt();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(421);
+				setState(455);
 				breakStmt();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(422);
+				setState(456);
 				continueStmt();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(423);
+				setState(457);
 				gotoStmt();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(424);
+				setState(458);
 				fallthroughStmt();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(425);
+				setState(459);
 				block();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(426);
+				setState(460);
 				ifStmt();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(427);
+				setState(461);
 				switchStmt();
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(428);
+				setState(462);
 				selectStmt();
 				}
 				break;
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(429);
+				setState(463);
 				forStmt();
 				}
 				break;
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(430);
+				setState(464);
 				deferStmt();
 				}
 				break;
@@ -2254,41 +2353,41 @@ public class GoParser extends GoParserBase {
 		SimpleStmtContext _localctx = new SimpleStmtContext(_ctx, getState());
 		enterRule(_localctx, 52, RULE_simpleStmt);
 		try {
-			setState(438);
+			setState(472);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(433);
+				setState(467);
 				sendStmt();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(434);
+				setState(468);
 				incDecStmt();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(435);
+				setState(469);
 				assignment();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(436);
+				setState(470);
 				expressionStmt();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(437);
+				setState(471);
 				shortVarDecl();
 				}
 				break;
@@ -2335,8 +2434,8 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(440);
-			expression(0);
+			setState(474);
+			expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2385,12 +2484,12 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(442);
-			((SendStmtContext)_localctx).channel = expression(0);
-			setState(443);
+			setState(476);
+			((SendStmtContext)_localctx).channel = expression();
+			setState(477);
 			match(RECEIVE);
-			setState(444);
-			expression(0);
+			setState(478);
+			expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2437,9 +2536,9 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(446);
-			expression(0);
-			setState(447);
+			setState(480);
+			expression();
+			setState(481);
 			_la = _input.LA(1);
 			if ( !(_la==PLUS_PLUS || _la==MINUS_MINUS) ) {
 			_errHandler.recoverInline(this);
@@ -2498,11 +2597,11 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(449);
+			setState(483);
 			expressionList();
-			setState(450);
+			setState(484);
 			assign_op();
-			setState(451);
+			setState(485);
 			expressionList();
 			}
 		}
@@ -2557,12 +2656,12 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(454);
+			setState(488);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -434597364041252864L) != 0)) {
 				{
-				setState(453);
+				setState(487);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & -434597364041252864L) != 0)) ) {
 				_errHandler.recoverInline(this);
@@ -2575,7 +2674,7 @@ public class GoParser extends GoParserBase {
 				}
 			}
 
-			setState(456);
+			setState(490);
 			match(ASSIGN);
 			}
 		}
@@ -2624,11 +2723,11 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(458);
+			setState(492);
 			identifierList();
-			setState(459);
+			setState(493);
 			match(DECLARE_ASSIGN);
-			setState(460);
+			setState(494);
 			expressionList();
 			}
 		}
@@ -2672,23 +2771,24 @@ public class GoParser extends GoParserBase {
 	public final LabeledStmtContext labeledStmt() throws RecognitionException {
 		LabeledStmtContext _localctx = new LabeledStmtContext(_ctx, getState());
 		enterRule(_localctx, 66, RULE_labeledStmt);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(462);
+			setState(496);
 			match(IDENTIFIER);
-			setState(463);
+			setState(497);
 			match(COLON);
-			setState(465);
+			setState(499);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230370255065158L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 				{
-				setState(464);
+				setState(498);
 				statement();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -2730,21 +2830,22 @@ public class GoParser extends GoParserBase {
 	public final ReturnStmtContext returnStmt() throws RecognitionException {
 		ReturnStmtContext _localctx = new ReturnStmtContext(_ctx, getState());
 		enterRule(_localctx, 68, RULE_returnStmt);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(467);
+			setState(501);
 			match(RETURN);
-			setState(469);
+			setState(503);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 				{
-				setState(468);
+				setState(502);
 				expressionList();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -2784,21 +2885,22 @@ public class GoParser extends GoParserBase {
 	public final BreakStmtContext breakStmt() throws RecognitionException {
 		BreakStmtContext _localctx = new BreakStmtContext(_ctx, getState());
 		enterRule(_localctx, 70, RULE_breakStmt);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(471);
+			setState(505);
 			match(BREAK);
-			setState(473);
+			setState(507);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==IDENTIFIER) {
 				{
-				setState(472);
+				setState(506);
 				match(IDENTIFIER);
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -2838,21 +2940,22 @@ public class GoParser extends GoParserBase {
 	public final ContinueStmtContext continueStmt() throws RecognitionException {
 		ContinueStmtContext _localctx = new ContinueStmtContext(_ctx, getState());
 		enterRule(_localctx, 72, RULE_continueStmt);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(475);
+			setState(509);
 			match(CONTINUE);
-			setState(477);
+			setState(511);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==IDENTIFIER) {
 				{
-				setState(476);
+				setState(510);
 				match(IDENTIFIER);
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -2895,9 +2998,9 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(479);
+			setState(513);
 			match(GOTO);
-			setState(480);
+			setState(514);
 			match(IDENTIFIER);
 			}
 		}
@@ -2940,7 +3043,7 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(482);
+			setState(516);
 			match(FALLTHROUGH);
 			}
 		}
@@ -2986,10 +3089,10 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(484);
+			setState(518);
 			match(DEFER);
-			setState(485);
-			expression(0);
+			setState(519);
+			expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3047,60 +3150,61 @@ public class GoParser extends GoParserBase {
 	public final IfStmtContext ifStmt() throws RecognitionException {
 		IfStmtContext _localctx = new IfStmtContext(_ctx, getState());
 		enterRule(_localctx, 80, RULE_ifStmt);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(487);
+			setState(521);
 			match(IF);
-			setState(496);
+			setState(530);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
 			case 1:
 				{
-				setState(488);
-				expression(0);
+				setState(522);
+				expression();
 				}
 				break;
 			case 2:
 				{
-				setState(489);
+				setState(523);
 				eos();
-				setState(490);
-				expression(0);
+				setState(524);
+				expression();
 				}
 				break;
 			case 3:
 				{
-				setState(492);
+				setState(526);
 				simpleStmt();
-				setState(493);
+				setState(527);
 				eos();
-				setState(494);
-				expression(0);
+				setState(528);
+				expression();
 				}
 				break;
 			}
-			setState(498);
+			setState(532);
 			block();
-			setState(504);
+			setState(538);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==ELSE) {
 				{
-				setState(499);
+				setState(533);
 				match(ELSE);
-				setState(502);
+				setState(536);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case IF:
 					{
-					setState(500);
+					setState(534);
 					ifStmt();
 					}
 					break;
 				case L_CURLY:
 					{
-					setState(501);
+					setState(535);
 					block();
 					}
 					break;
@@ -3108,8 +3212,8 @@ public class GoParser extends GoParserBase {
 					throw new NoViableAltException(this);
 				}
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -3154,20 +3258,20 @@ public class GoParser extends GoParserBase {
 		SwitchStmtContext _localctx = new SwitchStmtContext(_ctx, getState());
 		enterRule(_localctx, 82, RULE_switchStmt);
 		try {
-			setState(508);
+			setState(542);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(506);
+				setState(540);
 				exprSwitchStmt();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(507);
+				setState(541);
 				typeSwitchStmt();
 				}
 				break;
@@ -3230,20 +3334,20 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(510);
+			setState(544);
 			match(SWITCH);
-			setState(521);
+			setState(555);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
 			case 1:
 				{
-				setState(512);
+				setState(546);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 					{
-					setState(511);
-					expression(0);
+					setState(545);
+					expression();
 					}
 				}
 
@@ -3251,48 +3355,48 @@ public class GoParser extends GoParserBase {
 				break;
 			case 2:
 				{
-				setState(515);
+				setState(549);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 					{
-					setState(514);
+					setState(548);
 					simpleStmt();
 					}
-					break;
 				}
-				setState(517);
+
+				setState(551);
 				eos();
-				setState(519);
+				setState(553);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 					{
-					setState(518);
-					expression(0);
+					setState(552);
+					expression();
 					}
 				}
 
 				}
 				break;
 			}
-			setState(523);
+			setState(557);
 			match(L_CURLY);
-			setState(527);
+			setState(561);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==DEFAULT || _la==CASE) {
 				{
 				{
-				setState(524);
+				setState(558);
 				exprCaseClause();
 				}
 				}
-				setState(529);
+				setState(563);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(530);
+			setState(564);
 			match(R_CURLY);
 			}
 		}
@@ -3338,23 +3442,24 @@ public class GoParser extends GoParserBase {
 	public final ExprCaseClauseContext exprCaseClause() throws RecognitionException {
 		ExprCaseClauseContext _localctx = new ExprCaseClauseContext(_ctx, getState());
 		enterRule(_localctx, 86, RULE_exprCaseClause);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(532);
+			setState(566);
 			exprSwitchCase();
-			setState(533);
+			setState(567);
 			match(COLON);
-			setState(535);
+			setState(569);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230301535588422L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 16876351L) != 0)) {
 				{
-				setState(534);
+				setState(568);
 				statementList();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -3398,22 +3503,22 @@ public class GoParser extends GoParserBase {
 		ExprSwitchCaseContext _localctx = new ExprSwitchCaseContext(_ctx, getState());
 		enterRule(_localctx, 88, RULE_exprSwitchCase);
 		try {
-			setState(540);
+			setState(574);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case CASE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(537);
+				setState(571);
 				match(CASE);
-				setState(538);
+				setState(572);
 				expressionList();
 				}
 				break;
 			case DEFAULT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(539);
+				setState(573);
 				match(DEFAULT);
 				}
 				break;
@@ -3478,53 +3583,53 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(542);
+			setState(576);
 			match(SWITCH);
-			setState(551);
+			setState(585);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
 			case 1:
 				{
-				setState(543);
+				setState(577);
 				typeSwitchGuard();
 				}
 				break;
 			case 2:
 				{
-				setState(544);
+				setState(578);
 				eos();
-				setState(545);
+				setState(579);
 				typeSwitchGuard();
 				}
 				break;
 			case 3:
 				{
-				setState(547);
+				setState(581);
 				simpleStmt();
-				setState(548);
+				setState(582);
 				eos();
-				setState(549);
+				setState(583);
 				typeSwitchGuard();
 				}
 				break;
 			}
-			setState(553);
+			setState(587);
 			match(L_CURLY);
-			setState(557);
+			setState(591);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==DEFAULT || _la==CASE) {
 				{
 				{
-				setState(554);
+				setState(588);
 				typeCaseClause();
 				}
 				}
-				setState(559);
+				setState(593);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(560);
+			setState(594);
 			match(R_CURLY);
 			}
 		}
@@ -3575,27 +3680,27 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(564);
+			setState(598);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
 			case 1:
 				{
-				setState(562);
+				setState(596);
 				match(IDENTIFIER);
-				setState(563);
+				setState(597);
 				match(DECLARE_ASSIGN);
 				}
 				break;
 			}
-			setState(566);
-			primaryExpr(0);
-			setState(567);
+			setState(600);
+			primaryExpr();
+			setState(601);
 			match(DOT);
-			setState(568);
+			setState(602);
 			match(L_PAREN);
-			setState(569);
+			setState(603);
 			match(TYPE);
-			setState(570);
+			setState(604);
 			match(R_PAREN);
 			}
 		}
@@ -3641,23 +3746,24 @@ public class GoParser extends GoParserBase {
 	public final TypeCaseClauseContext typeCaseClause() throws RecognitionException {
 		TypeCaseClauseContext _localctx = new TypeCaseClauseContext(_ctx, getState());
 		enterRule(_localctx, 94, RULE_typeCaseClause);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(572);
+			setState(606);
 			typeSwitchCase();
-			setState(573);
+			setState(607);
 			match(COLON);
-			setState(575);
+			setState(609);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230301535588422L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 16876351L) != 0)) {
 				{
-				setState(574);
+				setState(608);
 				statementList();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -3701,22 +3807,22 @@ public class GoParser extends GoParserBase {
 		TypeSwitchCaseContext _localctx = new TypeSwitchCaseContext(_ctx, getState());
 		enterRule(_localctx, 96, RULE_typeSwitchCase);
 		try {
-			setState(580);
+			setState(614);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case CASE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(577);
+				setState(611);
 				match(CASE);
-				setState(578);
+				setState(612);
 				typeList();
 				}
 				break;
 			case DEFAULT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(579);
+				setState(613);
 				match(DEFAULT);
 				}
 				break;
@@ -3777,7 +3883,7 @@ public class GoParser extends GoParserBase {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(584);
+			setState(618);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case FUNC:
@@ -3791,29 +3897,29 @@ public class GoParser extends GoParserBase {
 			case STAR:
 			case RECEIVE:
 				{
-				setState(582);
+				setState(616);
 				type_();
 				}
 				break;
 			case NIL_LIT:
 				{
-				setState(583);
+				setState(617);
 				match(NIL_LIT);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(593);
+			setState(627);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(586);
+					setState(620);
 					match(COMMA);
-					setState(589);
+					setState(623);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case FUNC:
@@ -3827,13 +3933,13 @@ public class GoParser extends GoParserBase {
 					case STAR:
 					case RECEIVE:
 						{
-						setState(587);
+						setState(621);
 						type_();
 						}
 						break;
 					case NIL_LIT:
 						{
-						setState(588);
+						setState(622);
 						match(NIL_LIT);
 						}
 						break;
@@ -3843,9 +3949,9 @@ public class GoParser extends GoParserBase {
 					}
 					} 
 				}
-				setState(595);
+				setState(629);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
 			}
 			}
 		}
@@ -3897,25 +4003,25 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(596);
+			setState(630);
 			match(SELECT);
-			setState(597);
+			setState(631);
 			match(L_CURLY);
-			setState(601);
+			setState(635);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==DEFAULT || _la==CASE) {
 				{
 				{
-				setState(598);
+				setState(632);
 				commClause();
 				}
 				}
-				setState(603);
+				setState(637);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(604);
+			setState(638);
 			match(R_CURLY);
 			}
 		}
@@ -3961,23 +4067,24 @@ public class GoParser extends GoParserBase {
 	public final CommClauseContext commClause() throws RecognitionException {
 		CommClauseContext _localctx = new CommClauseContext(_ctx, getState());
 		enterRule(_localctx, 102, RULE_commClause);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(606);
+			setState(640);
 			commCase();
-			setState(607);
+			setState(641);
 			match(COLON);
-			setState(609);
+			setState(643);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230301535588422L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 16876351L) != 0)) {
 				{
-				setState(608);
+				setState(642);
 				statementList();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -4024,26 +4131,26 @@ public class GoParser extends GoParserBase {
 		CommCaseContext _localctx = new CommCaseContext(_ctx, getState());
 		enterRule(_localctx, 104, RULE_commCase);
 		try {
-			setState(617);
+			setState(651);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case CASE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(611);
+				setState(645);
 				match(CASE);
-				setState(614);
+				setState(648);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,68,_ctx) ) {
 				case 1:
 					{
-					setState(612);
+					setState(646);
 					sendStmt();
 					}
 					break;
 				case 2:
 					{
-					setState(613);
+					setState(647);
 					recvStmt();
 					}
 					break;
@@ -4053,7 +4160,7 @@ public class GoParser extends GoParserBase {
 			case DEFAULT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(616);
+				setState(650);
 				match(DEFAULT);
 				}
 				break;
@@ -4111,28 +4218,28 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(625);
+			setState(659);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
 			case 1:
 				{
-				setState(619);
+				setState(653);
 				expressionList();
-				setState(620);
+				setState(654);
 				match(ASSIGN);
 				}
 				break;
 			case 2:
 				{
-				setState(622);
+				setState(656);
 				identifierList();
-				setState(623);
+				setState(657);
 				match(DECLARE_ASSIGN);
 				}
 				break;
 			}
-			setState(627);
-			((RecvStmtContext)_localctx).recvExpr = expression(0);
+			setState(661);
+			((RecvStmtContext)_localctx).recvExpr = expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4187,20 +4294,20 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(629);
+			setState(663);
 			match(FOR);
-			setState(637);
+			setState(671);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
 			case 1:
 				{
-				setState(631);
+				setState(665);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 					{
-					setState(630);
-					expression(0);
+					setState(664);
+					expression();
 					}
 				}
 
@@ -4208,18 +4315,18 @@ public class GoParser extends GoParserBase {
 				break;
 			case 2:
 				{
-				setState(633);
+				setState(667);
 				forClause();
 				}
 				break;
 			case 3:
 				{
-				setState(635);
+				setState(669);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386454504L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 					{
-					setState(634);
+					setState(668);
 					rangeClause();
 					}
 				}
@@ -4227,7 +4334,7 @@ public class GoParser extends GoParserBase {
 				}
 				break;
 			}
-			setState(639);
+			setState(673);
 			block();
 			}
 		}
@@ -4287,36 +4394,36 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(642);
+			setState(676);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 				{
-				setState(641);
+				setState(675);
 				((ForClauseContext)_localctx).initStmt = simpleStmt();
 				}
-				break;
 			}
-			setState(644);
+
+			setState(678);
 			eos();
-			setState(646);
+			setState(680);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,67,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 				{
-				setState(645);
-				expression(0);
+				setState(679);
+				expression();
 				}
-				break;
 			}
-			setState(648);
+
+			setState(682);
 			eos();
-			setState(650);
+			setState(684);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 				{
-				setState(649);
+				setState(683);
 				((ForClauseContext)_localctx).postStmt = simpleStmt();
 				}
 			}
@@ -4373,30 +4480,30 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(658);
+			setState(692);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,77,_ctx) ) {
 			case 1:
 				{
-				setState(652);
+				setState(686);
 				expressionList();
-				setState(653);
+				setState(687);
 				match(ASSIGN);
 				}
 				break;
 			case 2:
 				{
-				setState(655);
+				setState(689);
 				identifierList();
-				setState(656);
+				setState(690);
 				match(DECLARE_ASSIGN);
 				}
 				break;
 			}
-			setState(660);
+			setState(694);
 			match(RANGE);
-			setState(661);
-			expression(0);
+			setState(695);
+			expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4441,10 +4548,10 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(663);
+			setState(697);
 			match(GO);
-			setState(664);
-			expression(0);
+			setState(698);
+			expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4496,25 +4603,26 @@ public class GoParser extends GoParserBase {
 	public final Type_Context type_() throws RecognitionException {
 		Type_Context _localctx = new Type_Context(_ctx, getState());
 		enterRule(_localctx, 116, RULE_type_);
+		int _la;
 		try {
-			setState(675);
+			setState(709);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(666);
+				setState(700);
 				typeName();
-				setState(668);
+				setState(702);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==L_BRACKET) {
 					{
-					setState(667);
+					setState(701);
 					typeArgs();
 					}
-					break;
 				}
+
 				}
 				break;
 			case FUNC:
@@ -4527,18 +4635,18 @@ public class GoParser extends GoParserBase {
 			case RECEIVE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(670);
+				setState(704);
 				typeLit();
 				}
 				break;
 			case L_PAREN:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(671);
+				setState(705);
 				match(L_PAREN);
-				setState(672);
+				setState(706);
 				type_();
-				setState(673);
+				setState(707);
 				match(R_PAREN);
 				}
 				break;
@@ -4591,21 +4699,21 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(677);
+			setState(711);
 			match(L_BRACKET);
-			setState(678);
+			setState(712);
 			typeList();
-			setState(680);
+			setState(714);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(679);
+				setState(713);
 				match(COMMA);
 				}
 			}
 
-			setState(682);
+			setState(716);
 			match(R_BRACKET);
 			}
 		}
@@ -4649,20 +4757,20 @@ public class GoParser extends GoParserBase {
 		TypeNameContext _localctx = new TypeNameContext(_ctx, getState());
 		enterRule(_localctx, 120, RULE_typeName);
 		try {
-			setState(686);
+			setState(720);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(684);
+				setState(718);
 				qualifiedIdent();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(685);
+				setState(719);
 				match(IDENTIFIER);
 				}
 				break;
@@ -4728,62 +4836,62 @@ public class GoParser extends GoParserBase {
 		TypeLitContext _localctx = new TypeLitContext(_ctx, getState());
 		enterRule(_localctx, 122, RULE_typeLit);
 		try {
-			setState(696);
+			setState(730);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,74,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,82,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(688);
+				setState(722);
 				arrayType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(689);
+				setState(723);
 				structType();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(690);
+				setState(724);
 				pointerType();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(691);
+				setState(725);
 				functionType();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(692);
+				setState(726);
 				interfaceType();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(693);
+				setState(727);
 				sliceType();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(694);
+				setState(728);
 				mapType();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(695);
+				setState(729);
 				channelType();
 				}
 				break;
@@ -4835,13 +4943,13 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(698);
+			setState(732);
 			match(L_BRACKET);
-			setState(699);
+			setState(733);
 			arrayLength();
-			setState(700);
+			setState(734);
 			match(R_BRACKET);
-			setState(701);
+			setState(735);
 			elementType();
 			}
 		}
@@ -4886,8 +4994,8 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(703);
-			expression(0);
+			setState(737);
+			expression();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4931,7 +5039,7 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(705);
+			setState(739);
 			type_();
 			}
 		}
@@ -4977,9 +5085,9 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(707);
+			setState(741);
 			match(STAR);
-			setState(708);
+			setState(742);
 			type_();
 			}
 		}
@@ -4999,12 +5107,6 @@ public class GoParser extends GoParserBase {
 		public TerminalNode INTERFACE() { return getToken(GoParser.INTERFACE, 0); }
 		public TerminalNode L_CURLY() { return getToken(GoParser.L_CURLY, 0); }
 		public TerminalNode R_CURLY() { return getToken(GoParser.R_CURLY, 0); }
-		public List<EosContext> eos() {
-			return getRuleContexts(EosContext.class);
-		}
-		public EosContext eos(int i) {
-			return getRuleContext(EosContext.class,i);
-		}
 		public List<MethodSpecContext> methodSpec() {
 			return getRuleContexts(MethodSpecContext.class);
 		}
@@ -5017,6 +5119,12 @@ public class GoParser extends GoParserBase {
 		public TypeElementContext typeElement(int i) {
 			return getRuleContext(TypeElementContext.class,i);
 		}
+		public List<ListEosContext> listEos() {
+			return getRuleContexts(ListEosContext.class);
+		}
+		public ListEosContext listEos(int i) {
+			return getRuleContext(ListEosContext.class,i);
+		}
 		public InterfaceTypeContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5041,43 +5149,80 @@ public class GoParser extends GoParserBase {
 		enterRule(_localctx, 132, RULE_interfaceType);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(710);
+			setState(744);
 			match(INTERFACE);
-			setState(711);
+			setState(745);
 			match(L_CURLY);
-			setState(720);
+			setState(763);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (((((_la - 3)) & ~0x3f) == 0 && ((1L << (_la - 3)) & 2900318160613802435L) != 0)) {
+			if (((((_la - 3)) & ~0x3f) == 0 && ((1L << (_la - 3)) & 2900318160613802435L) != 0)) {
 				{
-				{
-				setState(714);
+				setState(748);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,83,_ctx) ) {
 				case 1:
 					{
-					setState(712);
+					setState(746);
 					methodSpec();
 					}
 					break;
 				case 2:
 					{
-					setState(713);
+					setState(747);
 					typeElement();
 					}
 					break;
 				}
-				setState(716);
-				eos();
-				}
+				setState(757);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,85,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(750);
+						listEos();
+						setState(753);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,84,_ctx) ) {
+						case 1:
+							{
+							setState(751);
+							methodSpec();
+							}
+							break;
+						case 2:
+							{
+							setState(752);
+							typeElement();
+							}
+							break;
+						}
+						}
+						} 
+					}
+					setState(759);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,85,_ctx);
 				}
-				setState(722);
+				setState(761);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
+				if (_la==SEMI || _la==EOS) {
+					{
+					setState(760);
+					listEos();
+					}
+				}
+
+				}
 			}
-			setState(723);
+
+			setState(765);
 			match(R_CURLY);
 			}
 		}
@@ -5124,11 +5269,11 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(725);
+			setState(767);
 			match(L_BRACKET);
-			setState(726);
+			setState(768);
 			match(R_BRACKET);
-			setState(727);
+			setState(769);
 			elementType();
 			}
 		}
@@ -5179,15 +5324,15 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(729);
+			setState(771);
 			match(MAP);
-			setState(730);
+			setState(772);
 			match(L_BRACKET);
-			setState(731);
+			setState(773);
 			type_();
-			setState(732);
+			setState(774);
 			match(R_BRACKET);
-			setState(733);
+			setState(775);
 			elementType();
 			}
 		}
@@ -5234,33 +5379,33 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(740);
+			setState(782);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,77,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,88,_ctx) ) {
 			case 1:
 				{
-				setState(735);
+				setState(777);
 				match(CHAN);
 				}
 				break;
 			case 2:
 				{
-				setState(736);
+				setState(778);
 				match(CHAN);
-				setState(737);
+				setState(779);
 				match(RECEIVE);
 				}
 				break;
 			case 3:
 				{
-				setState(738);
+				setState(780);
 				match(RECEIVE);
-				setState(739);
+				setState(781);
 				match(CHAN);
 				}
 				break;
 			}
-			setState(742);
+			setState(784);
 			elementType();
 			}
 		}
@@ -5307,26 +5452,26 @@ public class GoParser extends GoParserBase {
 		MethodSpecContext _localctx = new MethodSpecContext(_ctx, getState());
 		enterRule(_localctx, 140, RULE_methodSpec);
 		try {
-			setState(750);
+			setState(792);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,89,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(744);
+				setState(786);
 				match(IDENTIFIER);
-				setState(745);
+				setState(787);
 				parameters();
-				setState(746);
+				setState(788);
 				result();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(748);
+				setState(790);
 				match(IDENTIFIER);
-				setState(749);
+				setState(791);
 				parameters();
 				}
 				break;
@@ -5374,9 +5519,9 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(752);
+			setState(794);
 			match(FUNC);
-			setState(753);
+			setState(795);
 			signature();
 			}
 		}
@@ -5424,14 +5569,14 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(755);
+			setState(797);
 			parameters();
-			setState(757);
+			setState(799);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
 			case 1:
 				{
-				setState(756);
+				setState(798);
 				result();
 				}
 				break;
@@ -5480,20 +5625,20 @@ public class GoParser extends GoParserBase {
 		ResultContext _localctx = new ResultContext(_ctx, getState());
 		enterRule(_localctx, 146, RULE_result);
 		try {
-			setState(761);
+			setState(803);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,91,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(759);
+				setState(801);
 				parameters();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(760);
+				setState(802);
 				type_();
 				}
 				break;
@@ -5551,39 +5696,39 @@ public class GoParser extends GoParserBase {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(763);
+			setState(805);
 			match(L_PAREN);
-			setState(775);
+			setState(817);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (((((_la - 3)) & ~0x3f) == 0 && ((1L << (_la - 3)) & 2882304311860134339L) != 0)) {
 				{
-				setState(764);
+				setState(806);
 				parameterDecl();
-				setState(769);
+				setState(811);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,81,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,92,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(765);
+						setState(807);
 						match(COMMA);
-						setState(766);
+						setState(808);
 						parameterDecl();
 						}
 						} 
 					}
-					setState(771);
+					setState(813);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,81,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,92,_ctx);
 				}
-				setState(773);
+				setState(815);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==COMMA) {
 					{
-					setState(772);
+					setState(814);
 					match(COMMA);
 					}
 				}
@@ -5591,7 +5736,7 @@ public class GoParser extends GoParserBase {
 				}
 			}
 
-			setState(777);
+			setState(819);
 			match(R_PAREN);
 			}
 		}
@@ -5641,27 +5786,27 @@ public class GoParser extends GoParserBase {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(780);
+			setState(822);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,84,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,95,_ctx) ) {
 			case 1:
 				{
-				setState(779);
+				setState(821);
 				identifierList();
 				}
 				break;
 			}
-			setState(783);
+			setState(825);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ELLIPSIS) {
 				{
-				setState(782);
+				setState(824);
 				match(ELLIPSIS);
 				}
 			}
 
-			setState(785);
+			setState(827);
 			type_();
 			}
 		}
@@ -5678,40 +5823,89 @@ public class GoParser extends GoParserBase {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ExpressionContext extends ParserRuleContext {
-		public Token unary_op;
-		public Token mul_op;
-		public Token add_op;
-		public Token rel_op;
-		public PrimaryExprContext primaryExpr() {
-			return getRuleContext(PrimaryExprContext.class,0);
+		public Token binary_op;
+		public List<UnaryExprContext> unaryExpr() {
+			return getRuleContexts(UnaryExprContext.class);
 		}
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
+		public UnaryExprContext unaryExpr(int i) {
+			return getRuleContext(UnaryExprContext.class,i);
 		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
+		public List<TerminalNode> LOGICAL_OR() { return getTokens(GoParser.LOGICAL_OR); }
+		public TerminalNode LOGICAL_OR(int i) {
+			return getToken(GoParser.LOGICAL_OR, i);
+		}
+		public List<TerminalNode> LOGICAL_AND() { return getTokens(GoParser.LOGICAL_AND); }
+		public TerminalNode LOGICAL_AND(int i) {
+			return getToken(GoParser.LOGICAL_AND, i);
+		}
+		public List<TerminalNode> EQUALS() { return getTokens(GoParser.EQUALS); }
+		public TerminalNode EQUALS(int i) {
+			return getToken(GoParser.EQUALS, i);
+		}
+		public List<TerminalNode> NOT_EQUALS() { return getTokens(GoParser.NOT_EQUALS); }
+		public TerminalNode NOT_EQUALS(int i) {
+			return getToken(GoParser.NOT_EQUALS, i);
+		}
+		public List<TerminalNode> LESS() { return getTokens(GoParser.LESS); }
+		public TerminalNode LESS(int i) {
+			return getToken(GoParser.LESS, i);
+		}
+		public List<TerminalNode> LESS_OR_EQUALS() { return getTokens(GoParser.LESS_OR_EQUALS); }
+		public TerminalNode LESS_OR_EQUALS(int i) {
+			return getToken(GoParser.LESS_OR_EQUALS, i);
+		}
+		public List<TerminalNode> GREATER() { return getTokens(GoParser.GREATER); }
+		public TerminalNode GREATER(int i) {
+			return getToken(GoParser.GREATER, i);
+		}
+		public List<TerminalNode> GREATER_OR_EQUALS() { return getTokens(GoParser.GREATER_OR_EQUALS); }
+		public TerminalNode GREATER_OR_EQUALS(int i) {
+			return getToken(GoParser.GREATER_OR_EQUALS, i);
+		}
+		public List<TerminalNode> PLUS() { return getTokens(GoParser.PLUS); }
+		public TerminalNode PLUS(int i) {
+			return getToken(GoParser.PLUS, i);
+		}
+		public List<TerminalNode> MINUS() { return getTokens(GoParser.MINUS); }
+		public TerminalNode MINUS(int i) {
+			return getToken(GoParser.MINUS, i);
+		}
+		public List<TerminalNode> OR() { return getTokens(GoParser.OR); }
+		public TerminalNode OR(int i) {
+			return getToken(GoParser.OR, i);
+		}
+		public List<TerminalNode> CARET() { return getTokens(GoParser.CARET); }
+		public TerminalNode CARET(int i) {
+			return getToken(GoParser.CARET, i);
+		}
+		public List<TerminalNode> STAR() { return getTokens(GoParser.STAR); }
+		public TerminalNode STAR(int i) {
+			return getToken(GoParser.STAR, i);
+		}
+		public List<TerminalNode> DIV() { return getTokens(GoParser.DIV); }
+		public TerminalNode DIV(int i) {
+			return getToken(GoParser.DIV, i);
+		}
+		public List<TerminalNode> MOD() { return getTokens(GoParser.MOD); }
+		public TerminalNode MOD(int i) {
+			return getToken(GoParser.MOD, i);
+		}
+		public List<TerminalNode> LSHIFT() { return getTokens(GoParser.LSHIFT); }
+		public TerminalNode LSHIFT(int i) {
+			return getToken(GoParser.LSHIFT, i);
+		}
+		public List<TerminalNode> RSHIFT() { return getTokens(GoParser.RSHIFT); }
+		public TerminalNode RSHIFT(int i) {
+			return getToken(GoParser.RSHIFT, i);
+		}
+		public List<TerminalNode> AMPERSAND() { return getTokens(GoParser.AMPERSAND); }
+		public TerminalNode AMPERSAND(int i) {
+			return getToken(GoParser.AMPERSAND, i);
+		}
+		public List<TerminalNode> BIT_CLEAR() { return getTokens(GoParser.BIT_CLEAR); }
+		public TerminalNode BIT_CLEAR(int i) {
+			return getToken(GoParser.BIT_CLEAR, i);
 		}
-		public TerminalNode PLUS() { return getToken(GoParser.PLUS, 0); }
-		public TerminalNode MINUS() { return getToken(GoParser.MINUS, 0); }
-		public TerminalNode EXCLAMATION() { return getToken(GoParser.EXCLAMATION, 0); }
-		public TerminalNode CARET() { return getToken(GoParser.CARET, 0); }
-		public TerminalNode STAR() { return getToken(GoParser.STAR, 0); }
-		public TerminalNode AMPERSAND() { return getToken(GoParser.AMPERSAND, 0); }
-		public TerminalNode RECEIVE() { return getToken(GoParser.RECEIVE, 0); }
-		public TerminalNode DIV() { return getToken(GoParser.DIV, 0); }
-		public TerminalNode MOD() { return getToken(GoParser.MOD, 0); }
-		public TerminalNode LSHIFT() { return getToken(GoParser.LSHIFT, 0); }
-		public TerminalNode RSHIFT() { return getToken(GoParser.RSHIFT, 0); }
-		public TerminalNode BIT_CLEAR() { return getToken(GoParser.BIT_CLEAR, 0); }
-		public TerminalNode OR() { return getToken(GoParser.OR, 0); }
-		public TerminalNode EQUALS() { return getToken(GoParser.EQUALS, 0); }
-		public TerminalNode NOT_EQUALS() { return getToken(GoParser.NOT_EQUALS, 0); }
-		public TerminalNode LESS() { return getToken(GoParser.LESS, 0); }
-		public TerminalNode LESS_OR_EQUALS() { return getToken(GoParser.LESS_OR_EQUALS, 0); }
-		public TerminalNode GREATER() { return getToken(GoParser.GREATER, 0); }
-		public TerminalNode GREATER_OR_EQUALS() { return getToken(GoParser.GREATER_OR_EQUALS, 0); }
-		public TerminalNode LOGICAL_AND() { return getToken(GoParser.LOGICAL_AND, 0); }
-		public TerminalNode LOGICAL_OR() { return getToken(GoParser.LOGICAL_OR, 0); }
 		public ExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5732,155 +5926,124 @@ public class GoParser extends GoParserBase {
 	}
 
 	public final ExpressionContext expression() throws RecognitionException {
-		return expression(0);
-	}
-
-	private ExpressionContext expression(int _p) throws RecognitionException {
-		ParserRuleContext _parentctx = _ctx;
-		int _parentState = getState();
-		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
-		ExpressionContext _prevctx = _localctx;
-		int _startState = 152;
-		enterRecursionRule(_localctx, 152, RULE_expression, _p);
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 152, RULE_expression);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(791);
+			setState(829);
+			unaryExpr();
+			setState(834);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,86,_ctx) ) {
+			_alt = getInterpreter().adaptivePredict(_input,97,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(830);
+					((ExpressionContext)_localctx).binary_op = _input.LT(1);
+					_la = _input.LA(1);
+					if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & -432354360320589824L) != 0)) ) {
+						((ExpressionContext)_localctx).binary_op = (Token)_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(831);
+					unaryExpr();
+					}
+					} 
+				}
+				setState(836);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,97,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class UnaryExprContext extends ParserRuleContext {
+		public Token unary_op;
+		public PrimaryExprContext primaryExpr() {
+			return getRuleContext(PrimaryExprContext.class,0);
+		}
+		public UnaryExprContext unaryExpr() {
+			return getRuleContext(UnaryExprContext.class,0);
+		}
+		public TerminalNode PLUS() { return getToken(GoParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(GoParser.MINUS, 0); }
+		public TerminalNode EXCLAMATION() { return getToken(GoParser.EXCLAMATION, 0); }
+		public TerminalNode CARET() { return getToken(GoParser.CARET, 0); }
+		public TerminalNode STAR() { return getToken(GoParser.STAR, 0); }
+		public TerminalNode AMPERSAND() { return getToken(GoParser.AMPERSAND, 0); }
+		public TerminalNode RECEIVE() { return getToken(GoParser.RECEIVE, 0); }
+		public UnaryExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unaryExpr; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).enterUnaryExpr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).exitUnaryExpr(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitUnaryExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnaryExprContext unaryExpr() throws RecognitionException {
+		UnaryExprContext _localctx = new UnaryExprContext(_ctx, getState());
+		enterRule(_localctx, 154, RULE_unaryExpr);
+		int _la;
+		try {
+			setState(840);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,98,_ctx) ) {
 			case 1:
+				enterOuterAlt(_localctx, 1);
 				{
-				setState(788);
-				primaryExpr(0);
+				setState(837);
+				primaryExpr();
 				}
 				break;
 			case 2:
+				enterOuterAlt(_localctx, 2);
 				{
-				setState(789);
-				((ExpressionContext)_localctx).unary_op = _input.LT(1);
+				setState(838);
+				((UnaryExprContext)_localctx).unary_op = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(((((_la - 58)) & ~0x3f) == 0 && ((1L << (_la - 58)) & 127L) != 0)) ) {
-					((ExpressionContext)_localctx).unary_op = (Token)_errHandler.recoverInline(this);
+					((UnaryExprContext)_localctx).unary_op = (Token)_errHandler.recoverInline(this);
 				}
 				else {
 					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(790);
-				expression(6);
+				setState(839);
+				unaryExpr();
 				}
 				break;
 			}
-			_ctx.stop = _input.LT(-1);
-			setState(810);
-			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,88,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					if ( _parseListeners!=null ) triggerExitRuleEvent();
-					_prevctx = _localctx;
-					{
-					setState(808);
-					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,87,_ctx) ) {
-					case 1:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(793);
-						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(794);
-						((ExpressionContext)_localctx).mul_op = _input.LT(1);
-						_la = _input.LA(1);
-						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & -4472074429978902528L) != 0)) ) {
-							((ExpressionContext)_localctx).mul_op = (Token)_errHandler.recoverInline(this);
-						}
-						else {
-							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-							_errHandler.reportMatch(this);
-							consume();
-						}
-						setState(795);
-						expression(6);
-						}
-						break;
-					case 2:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(796);
-						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(797);
-						((ExpressionContext)_localctx).add_op = _input.LT(1);
-						_la = _input.LA(1);
-						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 4037477065937649664L) != 0)) ) {
-							((ExpressionContext)_localctx).add_op = (Token)_errHandler.recoverInline(this);
-						}
-						else {
-							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-							_errHandler.reportMatch(this);
-							consume();
-						}
-						setState(798);
-						expression(5);
-						}
-						break;
-					case 3:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(799);
-						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(800);
-						((ExpressionContext)_localctx).rel_op = _input.LT(1);
-						_la = _input.LA(1);
-						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 2216615441596416L) != 0)) ) {
-							((ExpressionContext)_localctx).rel_op = (Token)_errHandler.recoverInline(this);
-						}
-						else {
-							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-							_errHandler.reportMatch(this);
-							consume();
-						}
-						setState(801);
-						expression(4);
-						}
-						break;
-					case 4:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(802);
-						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(803);
-						match(LOGICAL_AND);
-						setState(804);
-						expression(3);
-						}
-						break;
-					case 5:
-						{
-						_localctx = new ExpressionContext(_parentctx, _parentState);
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(805);
-						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(806);
-						match(LOGICAL_OR);
-						setState(807);
-						expression(2);
-						}
-						break;
-					}
-					} 
-				}
-				setState(812);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,88,_ctx);
-			}
-			}
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -5888,7 +6051,7 @@ public class GoParser extends GoParserBase {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			unrollRecursionContexts(_parentctx);
+			exitRule();
 		}
 		return _localctx;
 	}
@@ -5904,9 +6067,91 @@ public class GoParser extends GoParserBase {
 		public MethodExprContext methodExpr() {
 			return getRuleContext(MethodExprContext.class,0);
 		}
-		public PrimaryExprContext primaryExpr() {
-			return getRuleContext(PrimaryExprContext.class,0);
+		public List<PrimarySuffixContext> primarySuffix() {
+			return getRuleContexts(PrimarySuffixContext.class);
+		}
+		public PrimarySuffixContext primarySuffix(int i) {
+			return getRuleContext(PrimarySuffixContext.class,i);
+		}
+		public PrimaryExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primaryExpr; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).enterPrimaryExpr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).exitPrimaryExpr(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitPrimaryExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PrimaryExprContext primaryExpr() throws RecognitionException {
+		PrimaryExprContext _localctx = new PrimaryExprContext(_ctx, getState());
+		enterRule(_localctx, 156, RULE_primaryExpr);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(845);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,99,_ctx) ) {
+			case 1:
+				{
+				setState(842);
+				operand();
+				}
+				break;
+			case 2:
+				{
+				setState(843);
+				conversion();
+				}
+				break;
+			case 3:
+				{
+				setState(844);
+				methodExpr();
+				}
+				break;
+			}
+			setState(850);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,100,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(847);
+					primarySuffix();
+					}
+					} 
+				}
+				setState(852);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,100,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
 		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class PrimarySuffixContext extends ParserRuleContext {
 		public TerminalNode DOT() { return getToken(GoParser.DOT, 0); }
 		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
 		public IndexContext index() {
@@ -5921,119 +6166,69 @@ public class GoParser extends GoParserBase {
 		public ArgumentsContext arguments() {
 			return getRuleContext(ArgumentsContext.class,0);
 		}
-		public PrimaryExprContext(ParserRuleContext parent, int invokingState) {
+		public PrimarySuffixContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_primaryExpr; }
+		@Override public int getRuleIndex() { return RULE_primarySuffix; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).enterPrimaryExpr(this);
+			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).enterPrimarySuffix(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).exitPrimaryExpr(this);
+			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).exitPrimarySuffix(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitPrimaryExpr(this);
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitPrimarySuffix(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final PrimaryExprContext primaryExpr() throws RecognitionException {
-		return primaryExpr(0);
-	}
-
-	private PrimaryExprContext primaryExpr(int _p) throws RecognitionException {
-		ParserRuleContext _parentctx = _ctx;
-		int _parentState = getState();
-		PrimaryExprContext _localctx = new PrimaryExprContext(_ctx, _parentState);
-		PrimaryExprContext _prevctx = _localctx;
-		int _startState = 154;
-		enterRecursionRule(_localctx, 154, RULE_primaryExpr, _p);
+	public final PrimarySuffixContext primarySuffix() throws RecognitionException {
+		PrimarySuffixContext _localctx = new PrimarySuffixContext(_ctx, getState());
+		enterRule(_localctx, 158, RULE_primarySuffix);
 		try {
-			int _alt;
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(817);
+			setState(859);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,89,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,101,_ctx) ) {
 			case 1:
+				enterOuterAlt(_localctx, 1);
 				{
-				setState(814);
-				operand();
+				setState(853);
+				match(DOT);
+				setState(854);
+				match(IDENTIFIER);
 				}
 				break;
 			case 2:
+				enterOuterAlt(_localctx, 2);
 				{
-				setState(815);
-				conversion();
+				setState(855);
+				index();
 				}
 				break;
 			case 3:
+				enterOuterAlt(_localctx, 3);
 				{
-				setState(816);
-				methodExpr();
+				setState(856);
+				slice_();
 				}
 				break;
-			}
-			_ctx.stop = _input.LT(-1);
-			setState(830);
-			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,91,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					if ( _parseListeners!=null ) triggerExitRuleEvent();
-					_prevctx = _localctx;
-					{
-					{
-					_localctx = new PrimaryExprContext(_parentctx, _parentState);
-					pushNewRecursionContext(_localctx, _startState, RULE_primaryExpr);
-					setState(819);
-					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(826);
-					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
-					case 1:
-						{
-						setState(820);
-						match(DOT);
-						setState(821);
-						match(IDENTIFIER);
-						}
-						break;
-					case 2:
-						{
-						setState(822);
-						index();
-						}
-						break;
-					case 3:
-						{
-						setState(823);
-						slice_();
-						}
-						break;
-					case 4:
-						{
-						setState(824);
-						typeAssertion();
-						}
-						break;
-					case 5:
-						{
-						setState(825);
-						arguments();
-						}
-						break;
-					}
-					}
-					} 
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(857);
+				typeAssertion();
 				}
-				setState(832);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,91,_ctx);
-			}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(858);
+				arguments();
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -6042,7 +6237,7 @@ public class GoParser extends GoParserBase {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			unrollRecursionContexts(_parentctx);
+			exitRule();
 		}
 		return _localctx;
 	}
@@ -6079,28 +6274,28 @@ public class GoParser extends GoParserBase {
 
 	public final ConversionContext conversion() throws RecognitionException {
 		ConversionContext _localctx = new ConversionContext(_ctx, getState());
-		enterRule(_localctx, 156, RULE_conversion);
+		enterRule(_localctx, 160, RULE_conversion);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(833);
+			setState(861);
 			type_();
-			setState(834);
+			setState(862);
 			match(L_PAREN);
-			setState(835);
-			expression(0);
-			setState(837);
+			setState(863);
+			expression();
+			setState(865);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(836);
+				setState(864);
 				match(COMMA);
 				}
 			}
 
-			setState(839);
+			setState(867);
 			match(R_PAREN);
 			}
 		}
@@ -6152,29 +6347,29 @@ public class GoParser extends GoParserBase {
 
 	public final OperandContext operand() throws RecognitionException {
 		OperandContext _localctx = new OperandContext(_ctx, getState());
-		enterRule(_localctx, 158, RULE_operand);
+		enterRule(_localctx, 162, RULE_operand);
 		try {
-			setState(850);
+			setState(878);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,94,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,104,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(841);
+				setState(869);
 				literal();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(842);
+				setState(870);
 				operandName();
-				setState(844);
+				setState(872);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,93,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,103,_ctx) ) {
 				case 1:
 					{
-					setState(843);
+					setState(871);
 					typeArgs();
 					}
 					break;
@@ -6184,11 +6379,11 @@ public class GoParser extends GoParserBase {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(846);
+				setState(874);
 				match(L_PAREN);
-				setState(847);
-				expression(0);
-				setState(848);
+				setState(875);
+				expression();
+				setState(876);
 				match(R_PAREN);
 				}
 				break;
@@ -6237,9 +6432,9 @@ public class GoParser extends GoParserBase {
 
 	public final LiteralContext literal() throws RecognitionException {
 		LiteralContext _localctx = new LiteralContext(_ctx, getState());
-		enterRule(_localctx, 160, RULE_literal);
+		enterRule(_localctx, 164, RULE_literal);
 		try {
-			setState(855);
+			setState(883);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case NIL_LIT:
@@ -6254,7 +6449,7 @@ public class GoParser extends GoParserBase {
 			case INTERPRETED_STRING_LIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(852);
+				setState(880);
 				basicLit();
 				}
 				break;
@@ -6264,14 +6459,14 @@ public class GoParser extends GoParserBase {
 			case L_BRACKET:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(853);
+				setState(881);
 				compositeLit();
 				}
 				break;
 			case FUNC:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(854);
+				setState(882);
 				functionLit();
 				}
 				break;
@@ -6321,15 +6516,15 @@ public class GoParser extends GoParserBase {
 
 	public final BasicLitContext basicLit() throws RecognitionException {
 		BasicLitContext _localctx = new BasicLitContext(_ctx, getState());
-		enterRule(_localctx, 162, RULE_basicLit);
+		enterRule(_localctx, 166, RULE_basicLit);
 		try {
-			setState(861);
+			setState(889);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case NIL_LIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(857);
+				setState(885);
 				match(NIL_LIT);
 				}
 				break;
@@ -6341,7 +6536,7 @@ public class GoParser extends GoParserBase {
 			case RUNE_LIT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(858);
+				setState(886);
 				integer();
 				}
 				break;
@@ -6349,14 +6544,14 @@ public class GoParser extends GoParserBase {
 			case INTERPRETED_STRING_LIT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(859);
+				setState(887);
 				string_();
 				}
 				break;
 			case FLOAT_LIT:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(860);
+				setState(888);
 				match(FLOAT_LIT);
 				}
 				break;
@@ -6404,12 +6599,12 @@ public class GoParser extends GoParserBase {
 
 	public final IntegerContext integer() throws RecognitionException {
 		IntegerContext _localctx = new IntegerContext(_ctx, getState());
-		enterRule(_localctx, 164, RULE_integer);
+		enterRule(_localctx, 168, RULE_integer);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(863);
+			setState(891);
 			_la = _input.LA(1);
 			if ( !(((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & 399L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -6456,11 +6651,11 @@ public class GoParser extends GoParserBase {
 
 	public final OperandNameContext operandName() throws RecognitionException {
 		OperandNameContext _localctx = new OperandNameContext(_ctx, getState());
-		enterRule(_localctx, 166, RULE_operandName);
+		enterRule(_localctx, 170, RULE_operandName);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(865);
+			setState(893);
 			match(IDENTIFIER);
 			}
 		}
@@ -6503,15 +6698,15 @@ public class GoParser extends GoParserBase {
 
 	public final QualifiedIdentContext qualifiedIdent() throws RecognitionException {
 		QualifiedIdentContext _localctx = new QualifiedIdentContext(_ctx, getState());
-		enterRule(_localctx, 168, RULE_qualifiedIdent);
+		enterRule(_localctx, 172, RULE_qualifiedIdent);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(867);
+			setState(895);
 			match(IDENTIFIER);
-			setState(868);
+			setState(896);
 			match(DOT);
-			setState(869);
+			setState(897);
 			match(IDENTIFIER);
 			}
 		}
@@ -6555,13 +6750,13 @@ public class GoParser extends GoParserBase {
 
 	public final CompositeLitContext compositeLit() throws RecognitionException {
 		CompositeLitContext _localctx = new CompositeLitContext(_ctx, getState());
-		enterRule(_localctx, 170, RULE_compositeLit);
+		enterRule(_localctx, 174, RULE_compositeLit);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(871);
+			setState(899);
 			literalType();
-			setState(872);
+			setState(900);
 			literalValue();
 			}
 		}
@@ -6623,64 +6818,64 @@ public class GoParser extends GoParserBase {
 
 	public final LiteralTypeContext literalType() throws RecognitionException {
 		LiteralTypeContext _localctx = new LiteralTypeContext(_ctx, getState());
-		enterRule(_localctx, 172, RULE_literalType);
+		enterRule(_localctx, 176, RULE_literalType);
 		int _la;
 		try {
-			setState(886);
+			setState(914);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,98,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,108,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(874);
+				setState(902);
 				structType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(875);
+				setState(903);
 				arrayType();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(876);
+				setState(904);
 				match(L_BRACKET);
-				setState(877);
+				setState(905);
 				match(ELLIPSIS);
-				setState(878);
+				setState(906);
 				match(R_BRACKET);
-				setState(879);
+				setState(907);
 				elementType();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(880);
+				setState(908);
 				sliceType();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(881);
+				setState(909);
 				mapType();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(882);
+				setState(910);
 				typeName();
-				setState(884);
+				setState(912);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==L_BRACKET) {
 					{
-					setState(883);
+					setState(911);
 					typeArgs();
 					}
 				}
@@ -6729,26 +6924,26 @@ public class GoParser extends GoParserBase {
 
 	public final LiteralValueContext literalValue() throws RecognitionException {
 		LiteralValueContext _localctx = new LiteralValueContext(_ctx, getState());
-		enterRule(_localctx, 174, RULE_literalValue);
+		enterRule(_localctx, 178, RULE_literalValue);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(888);
+			setState(916);
 			match(L_CURLY);
-			setState(893);
+			setState(921);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230370313236968L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 				{
-				setState(889);
+				setState(917);
 				elementList();
-				setState(891);
+				setState(919);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==COMMA) {
 					{
-					setState(890);
+					setState(918);
 					match(COMMA);
 					}
 				}
@@ -6756,7 +6951,7 @@ public class GoParser extends GoParserBase {
 				}
 			}
 
-			setState(895);
+			setState(923);
 			match(R_CURLY);
 			}
 		}
@@ -6804,30 +6999,30 @@ public class GoParser extends GoParserBase {
 
 	public final ElementListContext elementList() throws RecognitionException {
 		ElementListContext _localctx = new ElementListContext(_ctx, getState());
-		enterRule(_localctx, 176, RULE_elementList);
+		enterRule(_localctx, 180, RULE_elementList);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(897);
+			setState(925);
 			keyedElement();
-			setState(902);
+			setState(930);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,101,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,111,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(898);
+					setState(926);
 					match(COMMA);
-					setState(899);
+					setState(927);
 					keyedElement();
 					}
 					} 
 				}
-				setState(904);
+				setState(932);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,101,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,111,_ctx);
 			}
 			}
 		}
@@ -6872,23 +7067,23 @@ public class GoParser extends GoParserBase {
 
 	public final KeyedElementContext keyedElement() throws RecognitionException {
 		KeyedElementContext _localctx = new KeyedElementContext(_ctx, getState());
-		enterRule(_localctx, 178, RULE_keyedElement);
+		enterRule(_localctx, 182, RULE_keyedElement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(908);
+			setState(936);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,102,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,112,_ctx) ) {
 			case 1:
 				{
-				setState(905);
+				setState(933);
 				key();
-				setState(906);
+				setState(934);
 				match(COLON);
 				}
 				break;
 			}
-			setState(910);
+			setState(938);
 			element();
 			}
 		}
@@ -6932,9 +7127,9 @@ public class GoParser extends GoParserBase {
 
 	public final KeyContext key() throws RecognitionException {
 		KeyContext _localctx = new KeyContext(_ctx, getState());
-		enterRule(_localctx, 180, RULE_key);
+		enterRule(_localctx, 184, RULE_key);
 		try {
-			setState(914);
+			setState(942);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case FUNC:
@@ -6964,14 +7159,14 @@ public class GoParser extends GoParserBase {
 			case INTERPRETED_STRING_LIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(912);
-				expression(0);
+				setState(940);
+				expression();
 				}
 				break;
 			case L_CURLY:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(913);
+				setState(941);
 				literalValue();
 				}
 				break;
@@ -7019,9 +7214,9 @@ public class GoParser extends GoParserBase {
 
 	public final ElementContext element() throws RecognitionException {
 		ElementContext _localctx = new ElementContext(_ctx, getState());
-		enterRule(_localctx, 182, RULE_element);
+		enterRule(_localctx, 186, RULE_element);
 		try {
-			setState(918);
+			setState(946);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case FUNC:
@@ -7051,14 +7246,14 @@ public class GoParser extends GoParserBase {
 			case INTERPRETED_STRING_LIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(916);
-				expression(0);
+				setState(944);
+				expression();
 				}
 				break;
 			case L_CURLY:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(917);
+				setState(945);
 				literalValue();
 				}
 				break;
@@ -7088,11 +7283,11 @@ public class GoParser extends GoParserBase {
 		public FieldDeclContext fieldDecl(int i) {
 			return getRuleContext(FieldDeclContext.class,i);
 		}
-		public List<EosContext> eos() {
-			return getRuleContexts(EosContext.class);
+		public List<ListEosContext> listEos() {
+			return getRuleContexts(ListEosContext.class);
 		}
-		public EosContext eos(int i) {
-			return getRuleContext(EosContext.class,i);
+		public ListEosContext listEos(int i) {
+			return getRuleContext(ListEosContext.class,i);
 		}
 		public StructTypeContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -7115,32 +7310,55 @@ public class GoParser extends GoParserBase {
 
 	public final StructTypeContext structType() throws RecognitionException {
 		StructTypeContext _localctx = new StructTypeContext(_ctx, getState());
-		enterRule(_localctx, 184, RULE_structType);
+		enterRule(_localctx, 188, RULE_structType);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(920);
+			setState(948);
 			match(STRUCT);
-			setState(921);
+			setState(949);
 			match(L_CURLY);
-			setState(927);
+			setState(962);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==IDENTIFIER || _la==STAR) {
-				{
+			if (_la==IDENTIFIER || _la==STAR) {
 				{
-				setState(922);
+				setState(950);
 				fieldDecl();
-				setState(923);
-				eos();
-				}
+				setState(956);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,115,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(951);
+						listEos();
+						setState(952);
+						fieldDecl();
+						}
+						} 
+					}
+					setState(958);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,115,_ctx);
 				}
-				setState(929);
+				setState(960);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
+				if (_la==SEMI || _la==EOS) {
+					{
+					setState(959);
+					listEos();
+					}
+				}
+
+				}
 			}
-			setState(930);
+
+			setState(964);
 			match(R_CURLY);
 			}
 		}
@@ -7191,38 +7409,39 @@ public class GoParser extends GoParserBase {
 
 	public final FieldDeclContext fieldDecl() throws RecognitionException {
 		FieldDeclContext _localctx = new FieldDeclContext(_ctx, getState());
-		enterRule(_localctx, 186, RULE_fieldDecl);
+		enterRule(_localctx, 190, RULE_fieldDecl);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(936);
+			setState(970);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,106,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,118,_ctx) ) {
 			case 1:
 				{
-				setState(932);
+				setState(966);
 				identifierList();
-				setState(933);
+				setState(967);
 				type_();
 				}
 				break;
 			case 2:
 				{
-				setState(935);
+				setState(969);
 				embeddedField();
 				}
 				break;
 			}
-			setState(939);
+			setState(973);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,107,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==RAW_STRING_LIT || _la==INTERPRETED_STRING_LIT) {
 				{
-				setState(938);
+				setState(972);
 				((FieldDeclContext)_localctx).tag = string_();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -7261,12 +7480,12 @@ public class GoParser extends GoParserBase {
 
 	public final String_Context string_() throws RecognitionException {
 		String_Context _localctx = new String_Context(_ctx, getState());
-		enterRule(_localctx, 188, RULE_string_);
+		enterRule(_localctx, 192, RULE_string_);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(941);
+			setState(975);
 			_la = _input.LA(1);
 			if ( !(_la==RAW_STRING_LIT || _la==INTERPRETED_STRING_LIT) ) {
 			_errHandler.recoverInline(this);
@@ -7319,33 +7538,33 @@ public class GoParser extends GoParserBase {
 
 	public final EmbeddedFieldContext embeddedField() throws RecognitionException {
 		EmbeddedFieldContext _localctx = new EmbeddedFieldContext(_ctx, getState());
-		enterRule(_localctx, 190, RULE_embeddedField);
+		enterRule(_localctx, 194, RULE_embeddedField);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(944);
+			setState(978);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==STAR) {
 				{
-				setState(943);
+				setState(977);
 				match(STAR);
 				}
 			}
 
-			setState(946);
+			setState(980);
 			typeName();
-			setState(948);
+			setState(982);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,109,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==L_BRACKET) {
 				{
-				setState(947);
+				setState(981);
 				typeArgs();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -7389,15 +7608,15 @@ public class GoParser extends GoParserBase {
 
 	public final FunctionLitContext functionLit() throws RecognitionException {
 		FunctionLitContext _localctx = new FunctionLitContext(_ctx, getState());
-		enterRule(_localctx, 192, RULE_functionLit);
+		enterRule(_localctx, 196, RULE_functionLit);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(950);
+			setState(984);
 			match(FUNC);
-			setState(951);
+			setState(985);
 			signature();
-			setState(952);
+			setState(986);
 			block();
 			}
 		}
@@ -7440,15 +7659,15 @@ public class GoParser extends GoParserBase {
 
 	public final IndexContext index() throws RecognitionException {
 		IndexContext _localctx = new IndexContext(_ctx, getState());
-		enterRule(_localctx, 194, RULE_index);
+		enterRule(_localctx, 198, RULE_index);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(954);
+			setState(988);
 			match(L_BRACKET);
-			setState(955);
-			expression(0);
-			setState(956);
+			setState(989);
+			expression();
+			setState(990);
 			match(R_BRACKET);
 			}
 		}
@@ -7498,37 +7717,37 @@ public class GoParser extends GoParserBase {
 
 	public final Slice_Context slice_() throws RecognitionException {
 		Slice_Context _localctx = new Slice_Context(_ctx, getState());
-		enterRule(_localctx, 196, RULE_slice_);
+		enterRule(_localctx, 200, RULE_slice_);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(958);
+			setState(992);
 			match(L_BRACKET);
-			setState(974);
+			setState(1008);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,113,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,125,_ctx) ) {
 			case 1:
 				{
-				setState(960);
+				setState(994);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 					{
-					setState(959);
-					expression(0);
+					setState(993);
+					expression();
 					}
 				}
 
-				setState(962);
+				setState(996);
 				match(COLON);
-				setState(964);
+				setState(998);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 					{
-					setState(963);
-					expression(0);
+					setState(997);
+					expression();
 					}
 				}
 
@@ -7536,28 +7755,28 @@ public class GoParser extends GoParserBase {
 				break;
 			case 2:
 				{
-				setState(967);
+				setState(1001);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 					{
-					setState(966);
-					expression(0);
+					setState(1000);
+					expression();
 					}
 				}
 
-				setState(969);
+				setState(1003);
 				match(COLON);
-				setState(970);
-				expression(0);
-				setState(971);
+				setState(1004);
+				expression();
+				setState(1005);
 				match(COLON);
-				setState(972);
-				expression(0);
+				setState(1006);
+				expression();
 				}
 				break;
 			}
-			setState(976);
+			setState(1010);
 			match(R_BRACKET);
 			}
 		}
@@ -7601,17 +7820,17 @@ public class GoParser extends GoParserBase {
 
 	public final TypeAssertionContext typeAssertion() throws RecognitionException {
 		TypeAssertionContext _localctx = new TypeAssertionContext(_ctx, getState());
-		enterRule(_localctx, 198, RULE_typeAssertion);
+		enterRule(_localctx, 202, RULE_typeAssertion);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(978);
+			setState(1012);
 			match(DOT);
-			setState(979);
+			setState(1013);
 			match(L_PAREN);
-			setState(980);
+			setState(1014);
 			type_();
-			setState(981);
+			setState(1015);
 			match(R_PAREN);
 			}
 		}
@@ -7662,39 +7881,39 @@ public class GoParser extends GoParserBase {
 
 	public final ArgumentsContext arguments() throws RecognitionException {
 		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
-		enterRule(_localctx, 200, RULE_arguments);
+		enterRule(_localctx, 204, RULE_arguments);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(983);
+			setState(1017);
 			match(L_PAREN);
-			setState(998);
+			setState(1032);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & -288230371386978792L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 99135L) != 0)) {
 				{
-				setState(990);
+				setState(1024);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,115,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,127,_ctx) ) {
 				case 1:
 					{
-					setState(984);
+					setState(1018);
 					expressionList();
 					}
 					break;
 				case 2:
 					{
-					setState(985);
+					setState(1019);
 					type_();
-					setState(988);
+					setState(1022);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,114,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,126,_ctx) ) {
 					case 1:
 						{
-						setState(986);
+						setState(1020);
 						match(COMMA);
-						setState(987);
+						setState(1021);
 						expressionList();
 						}
 						break;
@@ -7702,22 +7921,22 @@ public class GoParser extends GoParserBase {
 					}
 					break;
 				}
-				setState(993);
+				setState(1027);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==ELLIPSIS) {
 					{
-					setState(992);
+					setState(1026);
 					match(ELLIPSIS);
 					}
 				}
 
-				setState(996);
+				setState(1030);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==COMMA) {
 					{
-					setState(995);
+					setState(1029);
 					match(COMMA);
 					}
 				}
@@ -7725,7 +7944,7 @@ public class GoParser extends GoParserBase {
 				}
 			}
 
-			setState(1000);
+			setState(1034);
 			match(R_PAREN);
 			}
 		}
@@ -7768,15 +7987,15 @@ public class GoParser extends GoParserBase {
 
 	public final MethodExprContext methodExpr() throws RecognitionException {
 		MethodExprContext _localctx = new MethodExprContext(_ctx, getState());
-		enterRule(_localctx, 202, RULE_methodExpr);
+		enterRule(_localctx, 206, RULE_methodExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1002);
+			setState(1036);
 			type_();
-			setState(1003);
+			setState(1037);
 			match(DOT);
-			setState(1004);
+			setState(1038);
 			match(IDENTIFIER);
 			}
 		}
@@ -7817,39 +8036,21 @@ public class GoParser extends GoParserBase {
 
 	public final EosContext eos() throws RecognitionException {
 		EosContext _localctx = new EosContext(_ctx, getState());
-		enterRule(_localctx, 204, RULE_eos);
+		enterRule(_localctx, 208, RULE_eos);
+		int _la;
 		try {
-			setState(1010);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1006);
-				match(SEMI);
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1007);
-				match(EOF);
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1008);
-				match(EOS);
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1009);
-				if (!(this.closingBracket())) throw new FailedPredicateException(this, "this.closingBracket()");
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1040);
+			_la = _input.LA(1);
+			if ( !(_la==EOF || _la==SEMI || _la==EOS) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -7863,58 +8064,61 @@ public class GoParser extends GoParserBase {
 		return _localctx;
 	}
 
-	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
-		switch (ruleIndex) {
-		case 24:
-			return statementList_sempred((StatementListContext)_localctx, predIndex);
-		case 76:
-			return expression_sempred((ExpressionContext)_localctx, predIndex);
-		case 77:
-			return primaryExpr_sempred((PrimaryExprContext)_localctx, predIndex);
-		case 102:
-			return eos_sempred((EosContext)_localctx, predIndex);
+	@SuppressWarnings("CheckReturnValue")
+	public static class ListEosContext extends ParserRuleContext {
+		public TerminalNode SEMI() { return getToken(GoParser.SEMI, 0); }
+		public TerminalNode EOS() { return getToken(GoParser.EOS, 0); }
+		public ListEosContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		return true;
-	}
-	private boolean statementList_sempred(StatementListContext _localctx, int predIndex) {
-		switch (predIndex) {
-		case 0:
-			return this.closingBracket();
+		@Override public int getRuleIndex() { return RULE_listEos; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).enterListEos(this);
 		}
-		return true;
-	}
-	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
-		switch (predIndex) {
-		case 1:
-			return precpred(_ctx, 5);
-		case 2:
-			return precpred(_ctx, 4);
-		case 3:
-			return precpred(_ctx, 3);
-		case 4:
-			return precpred(_ctx, 2);
-		case 5:
-			return precpred(_ctx, 1);
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof GoParserListener ) ((GoParserListener)listener).exitListEos(this);
 		}
-		return true;
-	}
-	private boolean primaryExpr_sempred(PrimaryExprContext _localctx, int predIndex) {
-		switch (predIndex) {
-		case 6:
-			return precpred(_ctx, 1);
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitListEos(this);
+			else return visitor.visitChildren(this);
 		}
-		return true;
 	}
-	private boolean eos_sempred(EosContext _localctx, int predIndex) {
-		switch (predIndex) {
-		case 7:
-			return this.closingBracket();
+
+	public final ListEosContext listEos() throws RecognitionException {
+		ListEosContext _localctx = new ListEosContext(_ctx, getState());
+		enterRule(_localctx, 210, RULE_listEos);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1042);
+			_la = _input.LA(1);
+			if ( !(_la==SEMI || _la==EOS) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
 		}
-		return true;
+		finally {
+			exitRule();
+		}
+		return _localctx;
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001Y\u03f5\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001Y\u0415\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -7938,627 +8142,648 @@ public class GoParser extends GoParserBase {
 		"U\u0007U\u0002V\u0007V\u0002W\u0007W\u0002X\u0007X\u0002Y\u0007Y\u0002"+
 		"Z\u0007Z\u0002[\u0007[\u0002\\\u0007\\\u0002]\u0007]\u0002^\u0007^\u0002"+
 		"_\u0007_\u0002`\u0007`\u0002a\u0007a\u0002b\u0007b\u0002c\u0007c\u0002"+
-		"d\u0007d\u0002e\u0007e\u0002f\u0007f\u0001\u0000\u0001\u0000\u0001\u0000"+
-		"\u0001\u0000\u0001\u0000\u0005\u0000\u00d4\b\u0000\n\u0000\f\u0000\u00d7"+
-		"\t\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0003\u0000\u00dc\b\u0000"+
-		"\u0001\u0000\u0001\u0000\u0005\u0000\u00e0\b\u0000\n\u0000\f\u0000\u00e3"+
-		"\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
-		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0005"+
-		"\u0002\u00f0\b\u0002\n\u0002\f\u0002\u00f3\t\u0002\u0001\u0002\u0003\u0002"+
-		"\u00f6\b\u0002\u0001\u0003\u0003\u0003\u00f9\b\u0003\u0001\u0003\u0001"+
-		"\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0003"+
-		"\u0005\u0102\b\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
-		"\u0006\u0001\u0006\u0005\u0006\u010a\b\u0006\n\u0006\f\u0006\u010d\t\u0006"+
-		"\u0001\u0006\u0003\u0006\u0110\b\u0006\u0001\u0007\u0001\u0007\u0003\u0007"+
-		"\u0114\b\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u0118\b\u0007\u0001"+
-		"\b\u0001\b\u0001\b\u0005\b\u011d\b\b\n\b\f\b\u0120\t\b\u0001\t\u0001\t"+
-		"\u0001\t\u0005\t\u0125\b\t\n\t\f\t\u0128\t\t\u0001\n\u0001\n\u0001\n\u0001"+
-		"\n\u0001\n\u0001\n\u0005\n\u0130\b\n\n\n\f\n\u0133\t\n\u0001\n\u0003\n"+
-		"\u0136\b\n\u0001\u000b\u0001\u000b\u0003\u000b\u013a\b\u000b\u0001\f\u0001"+
-		"\f\u0001\f\u0001\f\u0001\r\u0001\r\u0003\r\u0142\b\r\u0001\r\u0001\r\u0001"+
-		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0005\u000e\u014a\b\u000e\n"+
-		"\u000e\f\u000e\u014d\t\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0005\u0010\u0157"+
-		"\b\u0010\n\u0010\f\u0010\u015a\t\u0010\u0001\u0011\u0003\u0011\u015d\b"+
-		"\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0003"+
-		"\u0012\u0164\b\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u0168\b\u0012"+
-		"\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0003\u0013"+
-		"\u016f\b\u0013\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015"+
-		"\u0001\u0015\u0001\u0015\u0001\u0015\u0005\u0015\u0179\b\u0015\n\u0015"+
-		"\f\u0015\u017c\t\u0015\u0001\u0015\u0003\u0015\u017f\b\u0015\u0001\u0016"+
-		"\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0185\b\u0016\u0001\u0016"+
-		"\u0001\u0016\u0003\u0016\u0189\b\u0016\u0001\u0017\u0001\u0017\u0003\u0017"+
-		"\u018d\b\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0003\u0018\u0192\b"+
-		"\u0018\u0001\u0018\u0003\u0018\u0195\b\u0018\u0001\u0018\u0003\u0018\u0198"+
-		"\b\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0004\u0018\u019d\b\u0018"+
-		"\u000b\u0018\f\u0018\u019e\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019"+
-		"\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019"+
-		"\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019"+
-		"\u01b0\b\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
-		"\u0003\u001a\u01b7\b\u001a\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c"+
-		"\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e"+
-		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0003\u001f\u01c7\b\u001f"+
-		"\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001!\u0001!\u0001"+
-		"!\u0003!\u01d2\b!\u0001\"\u0001\"\u0003\"\u01d6\b\"\u0001#\u0001#\u0003"+
-		"#\u01da\b#\u0001$\u0001$\u0003$\u01de\b$\u0001%\u0001%\u0001%\u0001&\u0001"+
-		"&\u0001\'\u0001\'\u0001\'\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001"+
-		"(\u0001(\u0001(\u0003(\u01f1\b(\u0001(\u0001(\u0001(\u0001(\u0003(\u01f7"+
-		"\b(\u0003(\u01f9\b(\u0001)\u0001)\u0003)\u01fd\b)\u0001*\u0001*\u0003"+
-		"*\u0201\b*\u0001*\u0003*\u0204\b*\u0001*\u0001*\u0003*\u0208\b*\u0003"+
-		"*\u020a\b*\u0001*\u0001*\u0005*\u020e\b*\n*\f*\u0211\t*\u0001*\u0001*"+
-		"\u0001+\u0001+\u0001+\u0003+\u0218\b+\u0001,\u0001,\u0001,\u0003,\u021d"+
-		"\b,\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0003"+
-		"-\u0228\b-\u0001-\u0001-\u0005-\u022c\b-\n-\f-\u022f\t-\u0001-\u0001-"+
-		"\u0001.\u0001.\u0003.\u0235\b.\u0001.\u0001.\u0001.\u0001.\u0001.\u0001"+
-		".\u0001/\u0001/\u0001/\u0003/\u0240\b/\u00010\u00010\u00010\u00030\u0245"+
-		"\b0\u00011\u00011\u00031\u0249\b1\u00011\u00011\u00011\u00031\u024e\b"+
-		"1\u00051\u0250\b1\n1\f1\u0253\t1\u00012\u00012\u00012\u00052\u0258\b2"+
-		"\n2\f2\u025b\t2\u00012\u00012\u00013\u00013\u00013\u00033\u0262\b3\u0001"+
-		"4\u00014\u00014\u00034\u0267\b4\u00014\u00034\u026a\b4\u00015\u00015\u0001"+
-		"5\u00015\u00015\u00015\u00035\u0272\b5\u00015\u00015\u00016\u00016\u0003"+
-		"6\u0278\b6\u00016\u00016\u00036\u027c\b6\u00036\u027e\b6\u00016\u0001"+
-		"6\u00017\u00037\u0283\b7\u00017\u00017\u00037\u0287\b7\u00017\u00017\u0003"+
-		"7\u028b\b7\u00018\u00018\u00018\u00018\u00018\u00018\u00038\u0293\b8\u0001"+
-		"8\u00018\u00018\u00019\u00019\u00019\u0001:\u0001:\u0003:\u029d\b:\u0001"+
-		":\u0001:\u0001:\u0001:\u0001:\u0003:\u02a4\b:\u0001;\u0001;\u0001;\u0003"+
-		";\u02a9\b;\u0001;\u0001;\u0001<\u0001<\u0003<\u02af\b<\u0001=\u0001=\u0001"+
-		"=\u0001=\u0001=\u0001=\u0001=\u0001=\u0003=\u02b9\b=\u0001>\u0001>\u0001"+
-		">\u0001>\u0001>\u0001?\u0001?\u0001@\u0001@\u0001A\u0001A\u0001A\u0001"+
-		"B\u0001B\u0001B\u0001B\u0003B\u02cb\bB\u0001B\u0001B\u0005B\u02cf\bB\n"+
-		"B\fB\u02d2\tB\u0001B\u0001B\u0001C\u0001C\u0001C\u0001C\u0001D\u0001D"+
-		"\u0001D\u0001D\u0001D\u0001D\u0001E\u0001E\u0001E\u0001E\u0001E\u0003"+
-		"E\u02e5\bE\u0001E\u0001E\u0001F\u0001F\u0001F\u0001F\u0001F\u0001F\u0003"+
-		"F\u02ef\bF\u0001G\u0001G\u0001G\u0001H\u0001H\u0003H\u02f6\bH\u0001I\u0001"+
-		"I\u0003I\u02fa\bI\u0001J\u0001J\u0001J\u0001J\u0005J\u0300\bJ\nJ\fJ\u0303"+
-		"\tJ\u0001J\u0003J\u0306\bJ\u0003J\u0308\bJ\u0001J\u0001J\u0001K\u0003"+
-		"K\u030d\bK\u0001K\u0003K\u0310\bK\u0001K\u0001K\u0001L\u0001L\u0001L\u0001"+
-		"L\u0003L\u0318\bL\u0001L\u0001L\u0001L\u0001L\u0001L\u0001L\u0001L\u0001"+
-		"L\u0001L\u0001L\u0001L\u0001L\u0001L\u0001L\u0001L\u0005L\u0329\bL\nL"+
-		"\fL\u032c\tL\u0001M\u0001M\u0001M\u0001M\u0003M\u0332\bM\u0001M\u0001"+
-		"M\u0001M\u0001M\u0001M\u0001M\u0001M\u0003M\u033b\bM\u0005M\u033d\bM\n"+
-		"M\fM\u0340\tM\u0001N\u0001N\u0001N\u0001N\u0003N\u0346\bN\u0001N\u0001"+
-		"N\u0001O\u0001O\u0001O\u0003O\u034d\bO\u0001O\u0001O\u0001O\u0001O\u0003"+
-		"O\u0353\bO\u0001P\u0001P\u0001P\u0003P\u0358\bP\u0001Q\u0001Q\u0001Q\u0001"+
-		"Q\u0003Q\u035e\bQ\u0001R\u0001R\u0001S\u0001S\u0001T\u0001T\u0001T\u0001"+
-		"T\u0001U\u0001U\u0001U\u0001V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001"+
-		"V\u0001V\u0001V\u0001V\u0003V\u0375\bV\u0003V\u0377\bV\u0001W\u0001W\u0001"+
-		"W\u0003W\u037c\bW\u0003W\u037e\bW\u0001W\u0001W\u0001X\u0001X\u0001X\u0005"+
-		"X\u0385\bX\nX\fX\u0388\tX\u0001Y\u0001Y\u0001Y\u0003Y\u038d\bY\u0001Y"+
-		"\u0001Y\u0001Z\u0001Z\u0003Z\u0393\bZ\u0001[\u0001[\u0003[\u0397\b[\u0001"+
-		"\\\u0001\\\u0001\\\u0001\\\u0001\\\u0005\\\u039e\b\\\n\\\f\\\u03a1\t\\"+
-		"\u0001\\\u0001\\\u0001]\u0001]\u0001]\u0001]\u0003]\u03a9\b]\u0001]\u0003"+
-		"]\u03ac\b]\u0001^\u0001^\u0001_\u0003_\u03b1\b_\u0001_\u0001_\u0003_\u03b5"+
-		"\b_\u0001`\u0001`\u0001`\u0001`\u0001a\u0001a\u0001a\u0001a\u0001b\u0001"+
-		"b\u0003b\u03c1\bb\u0001b\u0001b\u0003b\u03c5\bb\u0001b\u0003b\u03c8\b"+
-		"b\u0001b\u0001b\u0001b\u0001b\u0001b\u0003b\u03cf\bb\u0001b\u0001b\u0001"+
-		"c\u0001c\u0001c\u0001c\u0001c\u0001d\u0001d\u0001d\u0001d\u0001d\u0003"+
-		"d\u03dd\bd\u0003d\u03df\bd\u0001d\u0003d\u03e2\bd\u0001d\u0003d\u03e5"+
-		"\bd\u0003d\u03e7\bd\u0001d\u0001d\u0001e\u0001e\u0001e\u0001e\u0001f\u0001"+
-		"f\u0001f\u0001f\u0003f\u03f3\bf\u0001f\u0000\u0002\u0098\u009ag\u0000"+
-		"\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c"+
-		"\u001e \"$&(*,.02468:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084"+
-		"\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c"+
-		"\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4"+
-		"\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4\u00c6\u00c8\u00ca\u00cc"+
-		"\u0000\t\u0002\u0000\u001b\u001b&&\u0001\u0000\'(\u0002\u000038;?\u0001"+
-		"\u0000:@\u0002\u000048>?\u0002\u000033;=\u0001\u0000-2\u0002\u0000ADH"+
-		"I\u0001\u0000OP\u0436\u0000\u00ce\u0001\u0000\u0000\u0000\u0002\u00e6"+
-		"\u0001\u0000\u0000\u0000\u0004\u00e9\u0001\u0000\u0000\u0000\u0006\u00f8"+
-		"\u0001\u0000\u0000\u0000\b\u00fc\u0001\u0000\u0000\u0000\n\u0101\u0001"+
-		"\u0000\u0000\u0000\f\u0103\u0001\u0000\u0000\u0000\u000e\u0111\u0001\u0000"+
-		"\u0000\u0000\u0010\u0119\u0001\u0000\u0000\u0000\u0012\u0121\u0001\u0000"+
-		"\u0000\u0000\u0014\u0129\u0001\u0000\u0000\u0000\u0016\u0139\u0001\u0000"+
-		"\u0000\u0000\u0018\u013b\u0001\u0000\u0000\u0000\u001a\u013f\u0001\u0000"+
-		"\u0000\u0000\u001c\u0145\u0001\u0000\u0000\u0000\u001e\u0150\u0001\u0000"+
-		"\u0000\u0000 \u0153\u0001\u0000\u0000\u0000\"\u015c\u0001\u0000\u0000"+
-		"\u0000$\u0160\u0001\u0000\u0000\u0000&\u0169\u0001\u0000\u0000\u0000("+
-		"\u0170\u0001\u0000\u0000\u0000*\u0172\u0001\u0000\u0000\u0000,\u0180\u0001"+
-		"\u0000\u0000\u0000.\u018a\u0001\u0000\u0000\u00000\u019c\u0001\u0000\u0000"+
-		"\u00002\u01af\u0001\u0000\u0000\u00004\u01b6\u0001\u0000\u0000\u00006"+
-		"\u01b8\u0001\u0000\u0000\u00008\u01ba\u0001\u0000\u0000\u0000:\u01be\u0001"+
-		"\u0000\u0000\u0000<\u01c1\u0001\u0000\u0000\u0000>\u01c6\u0001\u0000\u0000"+
-		"\u0000@\u01ca\u0001\u0000\u0000\u0000B\u01ce\u0001\u0000\u0000\u0000D"+
-		"\u01d3\u0001\u0000\u0000\u0000F\u01d7\u0001\u0000\u0000\u0000H\u01db\u0001"+
-		"\u0000\u0000\u0000J\u01df\u0001\u0000\u0000\u0000L\u01e2\u0001\u0000\u0000"+
-		"\u0000N\u01e4\u0001\u0000\u0000\u0000P\u01e7\u0001\u0000\u0000\u0000R"+
-		"\u01fc\u0001\u0000\u0000\u0000T\u01fe\u0001\u0000\u0000\u0000V\u0214\u0001"+
-		"\u0000\u0000\u0000X\u021c\u0001\u0000\u0000\u0000Z\u021e\u0001\u0000\u0000"+
-		"\u0000\\\u0234\u0001\u0000\u0000\u0000^\u023c\u0001\u0000\u0000\u0000"+
-		"`\u0244\u0001\u0000\u0000\u0000b\u0248\u0001\u0000\u0000\u0000d\u0254"+
-		"\u0001\u0000\u0000\u0000f\u025e\u0001\u0000\u0000\u0000h\u0269\u0001\u0000"+
-		"\u0000\u0000j\u0271\u0001\u0000\u0000\u0000l\u0275\u0001\u0000\u0000\u0000"+
-		"n\u0282\u0001\u0000\u0000\u0000p\u0292\u0001\u0000\u0000\u0000r\u0297"+
-		"\u0001\u0000\u0000\u0000t\u02a3\u0001\u0000\u0000\u0000v\u02a5\u0001\u0000"+
-		"\u0000\u0000x\u02ae\u0001\u0000\u0000\u0000z\u02b8\u0001\u0000\u0000\u0000"+
-		"|\u02ba\u0001\u0000\u0000\u0000~\u02bf\u0001\u0000\u0000\u0000\u0080\u02c1"+
-		"\u0001\u0000\u0000\u0000\u0082\u02c3\u0001\u0000\u0000\u0000\u0084\u02c6"+
-		"\u0001\u0000\u0000\u0000\u0086\u02d5\u0001\u0000\u0000\u0000\u0088\u02d9"+
-		"\u0001\u0000\u0000\u0000\u008a\u02e4\u0001\u0000\u0000\u0000\u008c\u02ee"+
-		"\u0001\u0000\u0000\u0000\u008e\u02f0\u0001\u0000\u0000\u0000\u0090\u02f3"+
-		"\u0001\u0000\u0000\u0000\u0092\u02f9\u0001\u0000\u0000\u0000\u0094\u02fb"+
-		"\u0001\u0000\u0000\u0000\u0096\u030c\u0001\u0000\u0000\u0000\u0098\u0317"+
-		"\u0001\u0000\u0000\u0000\u009a\u0331\u0001\u0000\u0000\u0000\u009c\u0341"+
-		"\u0001\u0000\u0000\u0000\u009e\u0352\u0001\u0000\u0000\u0000\u00a0\u0357"+
-		"\u0001\u0000\u0000\u0000\u00a2\u035d\u0001\u0000\u0000\u0000\u00a4\u035f"+
-		"\u0001\u0000\u0000\u0000\u00a6\u0361\u0001\u0000\u0000\u0000\u00a8\u0363"+
-		"\u0001\u0000\u0000\u0000\u00aa\u0367\u0001\u0000\u0000\u0000\u00ac\u0376"+
-		"\u0001\u0000\u0000\u0000\u00ae\u0378\u0001\u0000\u0000\u0000\u00b0\u0381"+
-		"\u0001\u0000\u0000\u0000\u00b2\u038c\u0001\u0000\u0000\u0000\u00b4\u0392"+
-		"\u0001\u0000\u0000\u0000\u00b6\u0396\u0001\u0000\u0000\u0000\u00b8\u0398"+
-		"\u0001\u0000\u0000\u0000\u00ba\u03a8\u0001\u0000\u0000\u0000\u00bc\u03ad"+
-		"\u0001\u0000\u0000\u0000\u00be\u03b0\u0001\u0000\u0000\u0000\u00c0\u03b6"+
-		"\u0001\u0000\u0000\u0000\u00c2\u03ba\u0001\u0000\u0000\u0000\u00c4\u03be"+
-		"\u0001\u0000\u0000\u0000\u00c6\u03d2\u0001\u0000\u0000\u0000\u00c8\u03d7"+
-		"\u0001\u0000\u0000\u0000\u00ca\u03ea\u0001\u0000\u0000\u0000\u00cc\u03f2"+
-		"\u0001\u0000\u0000\u0000\u00ce\u00cf\u0003\u0002\u0001\u0000\u00cf\u00d5"+
-		"\u0003\u00ccf\u0000\u00d0\u00d1\u0003\u0004\u0002\u0000\u00d1\u00d2\u0003"+
-		"\u00ccf\u0000\u00d2\u00d4\u0001\u0000\u0000\u0000\u00d3\u00d0\u0001\u0000"+
-		"\u0000\u0000\u00d4\u00d7\u0001\u0000\u0000\u0000\u00d5\u00d3\u0001\u0000"+
-		"\u0000\u0000\u00d5\u00d6\u0001\u0000\u0000\u0000\u00d6\u00e1\u0001\u0000"+
-		"\u0000\u0000\u00d7\u00d5\u0001\u0000\u0000\u0000\u00d8\u00dc\u0003$\u0012"+
-		"\u0000\u00d9\u00dc\u0003&\u0013\u0000\u00da\u00dc\u0003\n\u0005\u0000"+
-		"\u00db\u00d8\u0001\u0000\u0000\u0000\u00db\u00d9\u0001\u0000\u0000\u0000"+
-		"\u00db\u00da\u0001\u0000\u0000\u0000\u00dc\u00dd\u0001\u0000\u0000\u0000"+
-		"\u00dd\u00de\u0003\u00ccf\u0000\u00de\u00e0\u0001\u0000\u0000\u0000\u00df"+
-		"\u00db\u0001\u0000\u0000\u0000\u00e0\u00e3\u0001\u0000\u0000\u0000\u00e1"+
-		"\u00df\u0001\u0000\u0000\u0000\u00e1\u00e2\u0001\u0000\u0000\u0000\u00e2"+
-		"\u00e4\u0001\u0000\u0000\u0000\u00e3\u00e1\u0001\u0000\u0000\u0000\u00e4"+
-		"\u00e5\u0005\u0000\u0000\u0001\u00e5\u0001\u0001\u0000\u0000\u0000\u00e6"+
-		"\u00e7\u0005\u000e\u0000\u0000\u00e7\u00e8\u0005\u001b\u0000\u0000\u00e8"+
-		"\u0003\u0001\u0000\u0000\u0000\u00e9\u00f5\u0005\u0017\u0000\u0000\u00ea"+
-		"\u00f6\u0003\u0006\u0003\u0000\u00eb\u00f1\u0005\u001c\u0000\u0000\u00ec"+
-		"\u00ed\u0003\u0006\u0003\u0000\u00ed\u00ee\u0003\u00ccf\u0000\u00ee\u00f0"+
-		"\u0001\u0000\u0000\u0000\u00ef\u00ec\u0001\u0000\u0000\u0000\u00f0\u00f3"+
-		"\u0001\u0000\u0000\u0000\u00f1\u00ef\u0001\u0000\u0000\u0000\u00f1\u00f2"+
-		"\u0001\u0000\u0000\u0000\u00f2\u00f4\u0001\u0000\u0000\u0000\u00f3\u00f1"+
-		"\u0001\u0000\u0000\u0000\u00f4\u00f6\u0005\u001d\u0000\u0000\u00f5\u00ea"+
-		"\u0001\u0000\u0000\u0000\u00f5\u00eb\u0001\u0000\u0000\u0000\u00f6\u0005"+
-		"\u0001\u0000\u0000\u0000\u00f7\u00f9\u0007\u0000\u0000\u0000\u00f8\u00f7"+
-		"\u0001\u0000\u0000\u0000\u00f8\u00f9\u0001\u0000\u0000\u0000\u00f9\u00fa"+
-		"\u0001\u0000\u0000\u0000\u00fa\u00fb\u0003\b\u0004\u0000\u00fb\u0007\u0001"+
-		"\u0000\u0000\u0000\u00fc\u00fd\u0003\u00bc^\u0000\u00fd\t\u0001\u0000"+
-		"\u0000\u0000\u00fe\u0102\u0003\f\u0006\u0000\u00ff\u0102\u0003\u0014\n"+
-		"\u0000\u0100\u0102\u0003*\u0015\u0000\u0101\u00fe\u0001\u0000\u0000\u0000"+
-		"\u0101\u00ff\u0001\u0000\u0000\u0000\u0101\u0100\u0001\u0000\u0000\u0000"+
-		"\u0102\u000b\u0001\u0000\u0000\u0000\u0103\u010f\u0005\u0010\u0000\u0000"+
-		"\u0104\u0110\u0003\u000e\u0007\u0000\u0105\u010b\u0005\u001c\u0000\u0000"+
-		"\u0106\u0107\u0003\u000e\u0007\u0000\u0107\u0108\u0003\u00ccf\u0000\u0108"+
-		"\u010a\u0001\u0000\u0000\u0000\u0109\u0106\u0001\u0000\u0000\u0000\u010a"+
-		"\u010d\u0001\u0000\u0000\u0000\u010b\u0109\u0001\u0000\u0000\u0000\u010b"+
-		"\u010c\u0001\u0000\u0000\u0000\u010c\u010e\u0001\u0000\u0000\u0000\u010d"+
-		"\u010b\u0001\u0000\u0000\u0000\u010e\u0110\u0005\u001d\u0000\u0000\u010f"+
-		"\u0104\u0001\u0000\u0000\u0000\u010f\u0105\u0001\u0000\u0000\u0000\u0110"+
-		"\r\u0001\u0000\u0000\u0000\u0111\u0117\u0003\u0010\b\u0000\u0112\u0114"+
-		"\u0003t:\u0000\u0113\u0112\u0001\u0000\u0000\u0000\u0113\u0114\u0001\u0000"+
-		"\u0000\u0000\u0114\u0115\u0001\u0000\u0000\u0000\u0115\u0116\u0005\"\u0000"+
-		"\u0000\u0116\u0118\u0003\u0012\t\u0000\u0117\u0113\u0001\u0000\u0000\u0000"+
-		"\u0117\u0118\u0001\u0000\u0000\u0000\u0118\u000f\u0001\u0000\u0000\u0000"+
-		"\u0119\u011e\u0005\u001b\u0000\u0000\u011a\u011b\u0005#\u0000\u0000\u011b"+
-		"\u011d\u0005\u001b\u0000\u0000\u011c\u011a\u0001\u0000\u0000\u0000\u011d"+
-		"\u0120\u0001\u0000\u0000\u0000\u011e\u011c\u0001\u0000\u0000\u0000\u011e"+
-		"\u011f\u0001\u0000\u0000\u0000\u011f\u0011\u0001\u0000\u0000\u0000\u0120"+
-		"\u011e\u0001\u0000\u0000\u0000\u0121\u0126\u0003\u0098L\u0000\u0122\u0123"+
-		"\u0005#\u0000\u0000\u0123\u0125\u0003\u0098L\u0000\u0124\u0122\u0001\u0000"+
-		"\u0000\u0000\u0125\u0128\u0001\u0000\u0000\u0000\u0126\u0124\u0001\u0000"+
-		"\u0000\u0000\u0126\u0127\u0001\u0000\u0000\u0000\u0127\u0013\u0001\u0000"+
-		"\u0000\u0000\u0128\u0126\u0001\u0000\u0000\u0000\u0129\u0135\u0005\u0014"+
-		"\u0000\u0000\u012a\u0136\u0003\u0016\u000b\u0000\u012b\u0131\u0005\u001c"+
-		"\u0000\u0000\u012c\u012d\u0003\u0016\u000b\u0000\u012d\u012e\u0003\u00cc"+
-		"f\u0000\u012e\u0130\u0001\u0000\u0000\u0000\u012f\u012c\u0001\u0000\u0000"+
-		"\u0000\u0130\u0133\u0001\u0000\u0000\u0000\u0131\u012f\u0001\u0000\u0000"+
-		"\u0000\u0131\u0132\u0001\u0000\u0000\u0000\u0132\u0134\u0001\u0000\u0000"+
-		"\u0000\u0133\u0131\u0001\u0000\u0000\u0000\u0134\u0136\u0005\u001d\u0000"+
-		"\u0000\u0135\u012a\u0001\u0000\u0000\u0000\u0135\u012b\u0001\u0000\u0000"+
-		"\u0000\u0136\u0015\u0001\u0000\u0000\u0000\u0137\u013a\u0003\u0018\f\u0000"+
-		"\u0138\u013a\u0003\u001a\r\u0000\u0139\u0137\u0001\u0000\u0000\u0000\u0139"+
-		"\u0138\u0001\u0000\u0000\u0000\u013a\u0017\u0001\u0000\u0000\u0000\u013b"+
-		"\u013c\u0005\u001b\u0000\u0000\u013c\u013d\u0005\"\u0000\u0000\u013d\u013e"+
-		"\u0003t:\u0000\u013e\u0019\u0001\u0000\u0000\u0000\u013f\u0141\u0005\u001b"+
-		"\u0000\u0000\u0140\u0142\u0003\u001c\u000e\u0000\u0141\u0140\u0001\u0000"+
-		"\u0000\u0000\u0141\u0142\u0001\u0000\u0000\u0000\u0142\u0143\u0001\u0000"+
-		"\u0000\u0000\u0143\u0144\u0003t:\u0000\u0144\u001b\u0001\u0000\u0000\u0000"+
-		"\u0145\u0146\u0005 \u0000\u0000\u0146\u014b\u0003\u001e\u000f\u0000\u0147"+
-		"\u0148\u0005#\u0000\u0000\u0148\u014a\u0003\u001e\u000f\u0000\u0149\u0147"+
-		"\u0001\u0000\u0000\u0000\u014a\u014d\u0001\u0000\u0000\u0000\u014b\u0149"+
-		"\u0001\u0000\u0000\u0000\u014b\u014c\u0001\u0000\u0000\u0000\u014c\u014e"+
-		"\u0001\u0000\u0000\u0000\u014d\u014b\u0001\u0000\u0000\u0000\u014e\u014f"+
-		"\u0005!\u0000\u0000\u014f\u001d\u0001\u0000\u0000\u0000\u0150\u0151\u0003"+
-		"\u0010\b\u0000\u0151\u0152\u0003 \u0010\u0000\u0152\u001f\u0001\u0000"+
-		"\u0000\u0000\u0153\u0158\u0003\"\u0011\u0000\u0154\u0155\u00053\u0000"+
-		"\u0000\u0155\u0157\u0003\"\u0011\u0000\u0156\u0154\u0001\u0000\u0000\u0000"+
-		"\u0157\u015a\u0001\u0000\u0000\u0000\u0158\u0156\u0001\u0000\u0000\u0000"+
-		"\u0158\u0159\u0001\u0000\u0000\u0000\u0159!\u0001\u0000\u0000\u0000\u015a"+
-		"\u0158\u0001\u0000\u0000\u0000\u015b\u015d\u00059\u0000\u0000\u015c\u015b"+
-		"\u0001\u0000\u0000\u0000\u015c\u015d\u0001\u0000\u0000\u0000\u015d\u015e"+
-		"\u0001\u0000\u0000\u0000\u015e\u015f\u0003t:\u0000\u015f#\u0001\u0000"+
-		"\u0000\u0000\u0160\u0161\u0005\u0003\u0000\u0000\u0161\u0163\u0005\u001b"+
-		"\u0000\u0000\u0162\u0164\u0003\u001c\u000e\u0000\u0163\u0162\u0001\u0000"+
-		"\u0000\u0000\u0163\u0164\u0001\u0000\u0000\u0000\u0164\u0165\u0001\u0000"+
-		"\u0000\u0000\u0165\u0167\u0003\u0090H\u0000\u0166\u0168\u0003.\u0017\u0000"+
-		"\u0167\u0166\u0001\u0000\u0000\u0000\u0167\u0168\u0001\u0000\u0000\u0000"+
-		"\u0168%\u0001\u0000\u0000\u0000\u0169\u016a\u0005\u0003\u0000\u0000\u016a"+
-		"\u016b\u0003(\u0014\u0000\u016b\u016c\u0005\u001b\u0000\u0000\u016c\u016e"+
-		"\u0003\u0090H\u0000\u016d\u016f\u0003.\u0017\u0000\u016e\u016d\u0001\u0000"+
-		"\u0000\u0000\u016e\u016f\u0001\u0000\u0000\u0000\u016f\'\u0001\u0000\u0000"+
-		"\u0000\u0170\u0171\u0003\u0094J\u0000\u0171)\u0001\u0000\u0000\u0000\u0172"+
-		"\u017e\u0005\u0019\u0000\u0000\u0173\u017f\u0003,\u0016\u0000\u0174\u017a"+
-		"\u0005\u001c\u0000\u0000\u0175\u0176\u0003,\u0016\u0000\u0176\u0177\u0003"+
-		"\u00ccf\u0000\u0177\u0179\u0001\u0000\u0000\u0000\u0178\u0175\u0001\u0000"+
-		"\u0000\u0000\u0179\u017c\u0001\u0000\u0000\u0000\u017a\u0178\u0001\u0000"+
-		"\u0000\u0000\u017a\u017b\u0001\u0000\u0000\u0000\u017b\u017d\u0001\u0000"+
-		"\u0000\u0000\u017c\u017a\u0001\u0000\u0000\u0000\u017d\u017f\u0005\u001d"+
-		"\u0000\u0000\u017e\u0173\u0001\u0000\u0000\u0000\u017e\u0174\u0001\u0000"+
-		"\u0000\u0000\u017f+\u0001\u0000\u0000\u0000\u0180\u0188\u0003\u0010\b"+
-		"\u0000\u0181\u0184\u0003t:\u0000\u0182\u0183\u0005\"\u0000\u0000\u0183"+
-		"\u0185\u0003\u0012\t\u0000\u0184\u0182\u0001\u0000\u0000\u0000\u0184\u0185"+
-		"\u0001\u0000\u0000\u0000\u0185\u0189\u0001\u0000\u0000\u0000\u0186\u0187"+
-		"\u0005\"\u0000\u0000\u0187\u0189\u0003\u0012\t\u0000\u0188\u0181\u0001"+
-		"\u0000\u0000\u0000\u0188\u0186\u0001\u0000\u0000\u0000\u0189-\u0001\u0000"+
-		"\u0000\u0000\u018a\u018c\u0005\u001e\u0000\u0000\u018b\u018d\u00030\u0018"+
-		"\u0000\u018c\u018b\u0001\u0000\u0000\u0000\u018c\u018d\u0001\u0000\u0000"+
-		"\u0000\u018d\u018e\u0001\u0000\u0000\u0000\u018e\u018f\u0005\u001f\u0000"+
-		"\u0000\u018f/\u0001\u0000\u0000\u0000\u0190\u0192\u0005$\u0000\u0000\u0191"+
-		"\u0190\u0001\u0000\u0000\u0000\u0191\u0192\u0001\u0000\u0000\u0000\u0192"+
-		"\u0198\u0001\u0000\u0000\u0000\u0193\u0195\u0005X\u0000\u0000\u0194\u0193"+
-		"\u0001\u0000\u0000\u0000\u0194\u0195\u0001\u0000\u0000\u0000\u0195\u0198"+
-		"\u0001\u0000\u0000\u0000\u0196\u0198\u0004\u0018\u0000\u0000\u0197\u0191"+
-		"\u0001\u0000\u0000\u0000\u0197\u0194\u0001\u0000\u0000\u0000\u0197\u0196"+
-		"\u0001\u0000\u0000\u0000\u0198\u0199\u0001\u0000\u0000\u0000\u0199\u019a"+
-		"\u00032\u0019\u0000\u019a\u019b\u0003\u00ccf\u0000\u019b\u019d\u0001\u0000"+
-		"\u0000\u0000\u019c\u0197\u0001\u0000\u0000\u0000\u019d\u019e\u0001\u0000"+
-		"\u0000\u0000\u019e\u019c\u0001\u0000\u0000\u0000\u019e\u019f\u0001\u0000"+
-		"\u0000\u0000\u019f1\u0001\u0000\u0000\u0000\u01a0\u01b0\u0003\n\u0005"+
-		"\u0000\u01a1\u01b0\u0003B!\u0000\u01a2\u01b0\u00034\u001a\u0000\u01a3"+
-		"\u01b0\u0003r9\u0000\u01a4\u01b0\u0003D\"\u0000\u01a5\u01b0\u0003F#\u0000"+
-		"\u01a6\u01b0\u0003H$\u0000\u01a7\u01b0\u0003J%\u0000\u01a8\u01b0\u0003"+
-		"L&\u0000\u01a9\u01b0\u0003.\u0017\u0000\u01aa\u01b0\u0003P(\u0000\u01ab"+
-		"\u01b0\u0003R)\u0000\u01ac\u01b0\u0003d2\u0000\u01ad\u01b0\u0003l6\u0000"+
-		"\u01ae\u01b0\u0003N\'\u0000\u01af\u01a0\u0001\u0000\u0000\u0000\u01af"+
-		"\u01a1\u0001\u0000\u0000\u0000\u01af\u01a2\u0001\u0000\u0000\u0000\u01af"+
-		"\u01a3\u0001\u0000\u0000\u0000\u01af\u01a4\u0001\u0000\u0000\u0000\u01af"+
-		"\u01a5\u0001\u0000\u0000\u0000\u01af\u01a6\u0001\u0000\u0000\u0000\u01af"+
-		"\u01a7\u0001\u0000\u0000\u0000\u01af\u01a8\u0001\u0000\u0000\u0000\u01af"+
-		"\u01a9\u0001\u0000\u0000\u0000\u01af\u01aa\u0001\u0000\u0000\u0000\u01af"+
-		"\u01ab\u0001\u0000\u0000\u0000\u01af\u01ac\u0001\u0000\u0000\u0000\u01af"+
-		"\u01ad\u0001\u0000\u0000\u0000\u01af\u01ae\u0001\u0000\u0000\u0000\u01b0"+
-		"3\u0001\u0000\u0000\u0000\u01b1\u01b7\u00038\u001c\u0000\u01b2\u01b7\u0003"+
-		":\u001d\u0000\u01b3\u01b7\u0003<\u001e\u0000\u01b4\u01b7\u00036\u001b"+
-		"\u0000\u01b5\u01b7\u0003@ \u0000\u01b6\u01b1\u0001\u0000\u0000\u0000\u01b6"+
-		"\u01b2\u0001\u0000\u0000\u0000\u01b6\u01b3\u0001\u0000\u0000\u0000\u01b6"+
-		"\u01b4\u0001\u0000\u0000\u0000\u01b6\u01b5\u0001\u0000\u0000\u0000\u01b7"+
-		"5\u0001\u0000\u0000\u0000\u01b8\u01b9\u0003\u0098L\u0000\u01b97\u0001"+
-		"\u0000\u0000\u0000\u01ba\u01bb\u0003\u0098L\u0000\u01bb\u01bc\u0005@\u0000"+
-		"\u0000\u01bc\u01bd\u0003\u0098L\u0000\u01bd9\u0001\u0000\u0000\u0000\u01be"+
-		"\u01bf\u0003\u0098L\u0000\u01bf\u01c0\u0007\u0001\u0000\u0000\u01c0;\u0001"+
-		"\u0000\u0000\u0000\u01c1\u01c2\u0003\u0012\t\u0000\u01c2\u01c3\u0003>"+
-		"\u001f\u0000\u01c3\u01c4\u0003\u0012\t\u0000\u01c4=\u0001\u0000\u0000"+
-		"\u0000\u01c5\u01c7\u0007\u0002\u0000\u0000\u01c6\u01c5\u0001\u0000\u0000"+
-		"\u0000\u01c6\u01c7\u0001\u0000\u0000\u0000\u01c7\u01c8\u0001\u0000\u0000"+
-		"\u0000\u01c8\u01c9\u0005\"\u0000\u0000\u01c9?\u0001\u0000\u0000\u0000"+
-		"\u01ca\u01cb\u0003\u0010\b\u0000\u01cb\u01cc\u0005)\u0000\u0000\u01cc"+
-		"\u01cd\u0003\u0012\t\u0000\u01cdA\u0001\u0000\u0000\u0000\u01ce\u01cf"+
-		"\u0005\u001b\u0000\u0000\u01cf\u01d1\u0005%\u0000\u0000\u01d0\u01d2\u0003"+
-		"2\u0019\u0000\u01d1\u01d0\u0001\u0000\u0000\u0000\u01d1\u01d2\u0001\u0000"+
-		"\u0000\u0000\u01d2C\u0001\u0000\u0000\u0000\u01d3\u01d5\u0005\u0018\u0000"+
-		"\u0000\u01d4\u01d6\u0003\u0012\t\u0000\u01d5\u01d4\u0001\u0000\u0000\u0000"+
-		"\u01d5\u01d6\u0001\u0000\u0000\u0000\u01d6E\u0001\u0000\u0000\u0000\u01d7"+
-		"\u01d9\u0005\u0001\u0000\u0000\u01d8\u01da\u0005\u001b\u0000\u0000\u01d9"+
-		"\u01d8\u0001\u0000\u0000\u0000\u01d9\u01da\u0001\u0000\u0000\u0000\u01da"+
-		"G\u0001\u0000\u0000\u0000\u01db\u01dd\u0005\u0015\u0000\u0000\u01dc\u01de"+
-		"\u0005\u001b\u0000\u0000\u01dd\u01dc\u0001\u0000\u0000\u0000\u01dd\u01de"+
-		"\u0001\u0000\u0000\u0000\u01deI\u0001\u0000\u0000\u0000\u01df\u01e0\u0005"+
-		"\r\u0000\u0000\u01e0\u01e1\u0005\u001b\u0000\u0000\u01e1K\u0001\u0000"+
-		"\u0000\u0000\u01e2\u01e3\u0005\u0011\u0000\u0000\u01e3M\u0001\u0000\u0000"+
-		"\u0000\u01e4\u01e5\u0005\u0007\u0000\u0000\u01e5\u01e6\u0003\u0098L\u0000"+
-		"\u01e6O\u0001\u0000\u0000\u0000\u01e7\u01f0\u0005\u0012\u0000\u0000\u01e8"+
-		"\u01f1\u0003\u0098L\u0000\u01e9\u01ea\u0003\u00ccf\u0000\u01ea\u01eb\u0003"+
-		"\u0098L\u0000\u01eb\u01f1\u0001\u0000\u0000\u0000\u01ec\u01ed\u00034\u001a"+
-		"\u0000\u01ed\u01ee\u0003\u00ccf\u0000\u01ee\u01ef\u0003\u0098L\u0000\u01ef"+
-		"\u01f1\u0001\u0000\u0000\u0000\u01f0\u01e8\u0001\u0000\u0000\u0000\u01f0"+
-		"\u01e9\u0001\u0000\u0000\u0000\u01f0\u01ec\u0001\u0000\u0000\u0000\u01f1"+
-		"\u01f2\u0001\u0000\u0000\u0000\u01f2\u01f8\u0003.\u0017\u0000\u01f3\u01f6"+
-		"\u0005\f\u0000\u0000\u01f4\u01f7\u0003P(\u0000\u01f5\u01f7\u0003.\u0017"+
-		"\u0000\u01f6\u01f4\u0001\u0000\u0000\u0000\u01f6\u01f5\u0001\u0000\u0000"+
-		"\u0000\u01f7\u01f9\u0001\u0000\u0000\u0000\u01f8\u01f3\u0001\u0000\u0000"+
-		"\u0000\u01f8\u01f9\u0001\u0000\u0000\u0000\u01f9Q\u0001\u0000\u0000\u0000"+
-		"\u01fa\u01fd\u0003T*\u0000\u01fb\u01fd\u0003Z-\u0000\u01fc\u01fa\u0001"+
-		"\u0000\u0000\u0000\u01fc\u01fb\u0001\u0000\u0000\u0000\u01fdS\u0001\u0000"+
-		"\u0000\u0000\u01fe\u0209\u0005\u000f\u0000\u0000\u01ff\u0201\u0003\u0098"+
-		"L\u0000\u0200\u01ff\u0001\u0000\u0000\u0000\u0200\u0201\u0001\u0000\u0000"+
-		"\u0000\u0201\u020a\u0001\u0000\u0000\u0000\u0202\u0204\u00034\u001a\u0000"+
-		"\u0203\u0202\u0001\u0000\u0000\u0000\u0203\u0204\u0001\u0000\u0000\u0000"+
-		"\u0204\u0205\u0001\u0000\u0000\u0000\u0205\u0207\u0003\u00ccf\u0000\u0206"+
-		"\u0208\u0003\u0098L\u0000\u0207\u0206\u0001\u0000\u0000\u0000\u0207\u0208"+
-		"\u0001\u0000\u0000\u0000\u0208\u020a\u0001\u0000\u0000\u0000\u0209\u0200"+
-		"\u0001\u0000\u0000\u0000\u0209\u0203\u0001\u0000\u0000\u0000\u020a\u020b"+
-		"\u0001\u0000\u0000\u0000\u020b\u020f\u0005\u001e\u0000\u0000\u020c\u020e"+
-		"\u0003V+\u0000\u020d\u020c\u0001\u0000\u0000\u0000\u020e\u0211\u0001\u0000"+
-		"\u0000\u0000\u020f\u020d\u0001\u0000\u0000\u0000\u020f\u0210\u0001\u0000"+
-		"\u0000\u0000\u0210\u0212\u0001\u0000\u0000\u0000\u0211\u020f\u0001\u0000"+
-		"\u0000\u0000\u0212\u0213\u0005\u001f\u0000\u0000\u0213U\u0001\u0000\u0000"+
-		"\u0000\u0214\u0215\u0003X,\u0000\u0215\u0217\u0005%\u0000\u0000\u0216"+
-		"\u0218\u00030\u0018\u0000\u0217\u0216\u0001\u0000\u0000\u0000\u0217\u0218"+
-		"\u0001\u0000\u0000\u0000\u0218W\u0001\u0000\u0000\u0000\u0219\u021a\u0005"+
-		"\u0006\u0000\u0000\u021a\u021d\u0003\u0012\t\u0000\u021b\u021d\u0005\u0002"+
-		"\u0000\u0000\u021c\u0219\u0001\u0000\u0000\u0000\u021c\u021b\u0001\u0000"+
-		"\u0000\u0000\u021dY\u0001\u0000\u0000\u0000\u021e\u0227\u0005\u000f\u0000"+
-		"\u0000\u021f\u0228\u0003\\.\u0000\u0220\u0221\u0003\u00ccf\u0000\u0221"+
-		"\u0222\u0003\\.\u0000\u0222\u0228\u0001\u0000\u0000\u0000\u0223\u0224"+
-		"\u00034\u001a\u0000\u0224\u0225\u0003\u00ccf\u0000\u0225\u0226\u0003\\"+
-		".\u0000\u0226\u0228\u0001\u0000\u0000\u0000\u0227\u021f\u0001\u0000\u0000"+
-		"\u0000\u0227\u0220\u0001\u0000\u0000\u0000\u0227\u0223\u0001\u0000\u0000"+
-		"\u0000\u0228\u0229\u0001\u0000\u0000\u0000\u0229\u022d\u0005\u001e\u0000"+
-		"\u0000\u022a\u022c\u0003^/\u0000\u022b\u022a\u0001\u0000\u0000\u0000\u022c"+
-		"\u022f\u0001\u0000\u0000\u0000\u022d\u022b\u0001\u0000\u0000\u0000\u022d"+
-		"\u022e\u0001\u0000\u0000\u0000\u022e\u0230\u0001\u0000\u0000\u0000\u022f"+
-		"\u022d\u0001\u0000\u0000\u0000\u0230\u0231\u0005\u001f\u0000\u0000\u0231"+
-		"[\u0001\u0000\u0000\u0000\u0232\u0233\u0005\u001b\u0000\u0000\u0233\u0235"+
-		"\u0005)\u0000\u0000\u0234\u0232\u0001\u0000\u0000\u0000\u0234\u0235\u0001"+
-		"\u0000\u0000\u0000\u0235\u0236\u0001\u0000\u0000\u0000\u0236\u0237\u0003"+
-		"\u009aM\u0000\u0237\u0238\u0005&\u0000\u0000\u0238\u0239\u0005\u001c\u0000"+
-		"\u0000\u0239\u023a\u0005\u0014\u0000\u0000\u023a\u023b\u0005\u001d\u0000"+
-		"\u0000\u023b]\u0001\u0000\u0000\u0000\u023c\u023d\u0003`0\u0000\u023d"+
-		"\u023f\u0005%\u0000\u0000\u023e\u0240\u00030\u0018\u0000\u023f\u023e\u0001"+
-		"\u0000\u0000\u0000\u023f\u0240\u0001\u0000\u0000\u0000\u0240_\u0001\u0000"+
-		"\u0000\u0000\u0241\u0242\u0005\u0006\u0000\u0000\u0242\u0245\u0003b1\u0000"+
-		"\u0243\u0245\u0005\u0002\u0000\u0000\u0244\u0241\u0001\u0000\u0000\u0000"+
-		"\u0244\u0243\u0001\u0000\u0000\u0000\u0245a\u0001\u0000\u0000\u0000\u0246"+
-		"\u0249\u0003t:\u0000\u0247\u0249\u0005\u001a\u0000\u0000\u0248\u0246\u0001"+
-		"\u0000\u0000\u0000\u0248\u0247\u0001\u0000\u0000\u0000\u0249\u0251\u0001"+
-		"\u0000\u0000\u0000\u024a\u024d\u0005#\u0000\u0000\u024b\u024e\u0003t:"+
-		"\u0000\u024c\u024e\u0005\u001a\u0000\u0000\u024d\u024b\u0001\u0000\u0000"+
-		"\u0000\u024d\u024c\u0001\u0000\u0000\u0000\u024e\u0250\u0001\u0000\u0000"+
-		"\u0000\u024f\u024a\u0001\u0000\u0000\u0000\u0250\u0253\u0001\u0000\u0000"+
-		"\u0000\u0251\u024f\u0001\u0000\u0000\u0000\u0251\u0252\u0001\u0000\u0000"+
-		"\u0000\u0252c\u0001\u0000\u0000\u0000\u0253\u0251\u0001\u0000\u0000\u0000"+
-		"\u0254\u0255\u0005\u0005\u0000\u0000\u0255\u0259\u0005\u001e\u0000\u0000"+
-		"\u0256\u0258\u0003f3\u0000\u0257\u0256\u0001\u0000\u0000\u0000\u0258\u025b"+
-		"\u0001\u0000\u0000\u0000\u0259\u0257\u0001\u0000\u0000\u0000\u0259\u025a"+
-		"\u0001\u0000\u0000\u0000\u025a\u025c\u0001\u0000\u0000\u0000\u025b\u0259"+
-		"\u0001\u0000\u0000\u0000\u025c\u025d\u0005\u001f\u0000\u0000\u025de\u0001"+
-		"\u0000\u0000\u0000\u025e\u025f\u0003h4\u0000\u025f\u0261\u0005%\u0000"+
-		"\u0000\u0260\u0262\u00030\u0018\u0000\u0261\u0260\u0001\u0000\u0000\u0000"+
-		"\u0261\u0262\u0001\u0000\u0000\u0000\u0262g\u0001\u0000\u0000\u0000\u0263"+
-		"\u0266\u0005\u0006\u0000\u0000\u0264\u0267\u00038\u001c\u0000\u0265\u0267"+
-		"\u0003j5\u0000\u0266\u0264\u0001\u0000\u0000\u0000\u0266\u0265\u0001\u0000"+
-		"\u0000\u0000\u0267\u026a\u0001\u0000\u0000\u0000\u0268\u026a\u0005\u0002"+
-		"\u0000\u0000\u0269\u0263\u0001\u0000\u0000\u0000\u0269\u0268\u0001\u0000"+
-		"\u0000\u0000\u026ai\u0001\u0000\u0000\u0000\u026b\u026c\u0003\u0012\t"+
-		"\u0000\u026c\u026d\u0005\"\u0000\u0000\u026d\u0272\u0001\u0000\u0000\u0000"+
-		"\u026e\u026f\u0003\u0010\b\u0000\u026f\u0270\u0005)\u0000\u0000\u0270"+
-		"\u0272\u0001\u0000\u0000\u0000\u0271\u026b\u0001\u0000\u0000\u0000\u0271"+
-		"\u026e\u0001\u0000\u0000\u0000\u0271\u0272\u0001\u0000\u0000\u0000\u0272"+
-		"\u0273\u0001\u0000\u0000\u0000\u0273\u0274\u0003\u0098L\u0000\u0274k\u0001"+
-		"\u0000\u0000\u0000\u0275\u027d\u0005\u0016\u0000\u0000\u0276\u0278\u0003"+
-		"\u0098L\u0000\u0277\u0276\u0001\u0000\u0000\u0000\u0277\u0278\u0001\u0000"+
-		"\u0000\u0000\u0278\u027e\u0001\u0000\u0000\u0000\u0279\u027e\u0003n7\u0000"+
-		"\u027a\u027c\u0003p8\u0000\u027b\u027a\u0001\u0000\u0000\u0000\u027b\u027c"+
-		"\u0001\u0000\u0000\u0000\u027c\u027e\u0001\u0000\u0000\u0000\u027d\u0277"+
-		"\u0001\u0000\u0000\u0000\u027d\u0279\u0001\u0000\u0000\u0000\u027d\u027b"+
-		"\u0001\u0000\u0000\u0000\u027e\u027f\u0001\u0000\u0000\u0000\u027f\u0280"+
-		"\u0003.\u0017\u0000\u0280m\u0001\u0000\u0000\u0000\u0281\u0283\u00034"+
-		"\u001a\u0000\u0282\u0281\u0001\u0000\u0000\u0000\u0282\u0283\u0001\u0000"+
-		"\u0000\u0000\u0283\u0284\u0001\u0000\u0000\u0000\u0284\u0286\u0003\u00cc"+
-		"f\u0000\u0285\u0287\u0003\u0098L\u0000\u0286\u0285\u0001\u0000\u0000\u0000"+
-		"\u0286\u0287\u0001\u0000\u0000\u0000\u0287\u0288\u0001\u0000\u0000\u0000"+
-		"\u0288\u028a\u0003\u00ccf\u0000\u0289\u028b\u00034\u001a\u0000\u028a\u0289"+
-		"\u0001\u0000\u0000\u0000\u028a\u028b\u0001\u0000\u0000\u0000\u028bo\u0001"+
-		"\u0000\u0000\u0000\u028c\u028d\u0003\u0012\t\u0000\u028d\u028e\u0005\""+
-		"\u0000\u0000\u028e\u0293\u0001\u0000\u0000\u0000\u028f\u0290\u0003\u0010"+
-		"\b\u0000\u0290\u0291\u0005)\u0000\u0000\u0291\u0293\u0001\u0000\u0000"+
-		"\u0000\u0292\u028c\u0001\u0000\u0000\u0000\u0292\u028f\u0001\u0000\u0000"+
-		"\u0000\u0292\u0293\u0001\u0000\u0000\u0000\u0293\u0294\u0001\u0000\u0000"+
-		"\u0000\u0294\u0295\u0005\u0013\u0000\u0000\u0295\u0296\u0003\u0098L\u0000"+
-		"\u0296q\u0001\u0000\u0000\u0000\u0297\u0298\u0005\b\u0000\u0000\u0298"+
-		"\u0299\u0003\u0098L\u0000\u0299s\u0001\u0000\u0000\u0000\u029a\u029c\u0003"+
-		"x<\u0000\u029b\u029d\u0003v;\u0000\u029c\u029b\u0001\u0000\u0000\u0000"+
-		"\u029c\u029d\u0001\u0000\u0000\u0000\u029d\u02a4\u0001\u0000\u0000\u0000"+
-		"\u029e\u02a4\u0003z=\u0000\u029f\u02a0\u0005\u001c\u0000\u0000\u02a0\u02a1"+
-		"\u0003t:\u0000\u02a1\u02a2\u0005\u001d\u0000\u0000\u02a2\u02a4\u0001\u0000"+
-		"\u0000\u0000\u02a3\u029a\u0001\u0000\u0000\u0000\u02a3\u029e\u0001\u0000"+
-		"\u0000\u0000\u02a3\u029f\u0001\u0000\u0000\u0000\u02a4u\u0001\u0000\u0000"+
-		"\u0000\u02a5\u02a6\u0005 \u0000\u0000\u02a6\u02a8\u0003b1\u0000\u02a7"+
-		"\u02a9\u0005#\u0000\u0000\u02a8\u02a7\u0001\u0000\u0000\u0000\u02a8\u02a9"+
-		"\u0001\u0000\u0000\u0000\u02a9\u02aa\u0001\u0000\u0000\u0000\u02aa\u02ab"+
-		"\u0005!\u0000\u0000\u02abw\u0001\u0000\u0000\u0000\u02ac\u02af\u0003\u00a8"+
-		"T\u0000\u02ad\u02af\u0005\u001b\u0000\u0000\u02ae\u02ac\u0001\u0000\u0000"+
-		"\u0000\u02ae\u02ad\u0001\u0000\u0000\u0000\u02afy\u0001\u0000\u0000\u0000"+
-		"\u02b0\u02b9\u0003|>\u0000\u02b1\u02b9\u0003\u00b8\\\u0000\u02b2\u02b9"+
-		"\u0003\u0082A\u0000\u02b3\u02b9\u0003\u008eG\u0000\u02b4\u02b9\u0003\u0084"+
-		"B\u0000\u02b5\u02b9\u0003\u0086C\u0000\u02b6\u02b9\u0003\u0088D\u0000"+
-		"\u02b7\u02b9\u0003\u008aE\u0000\u02b8\u02b0\u0001\u0000\u0000\u0000\u02b8"+
-		"\u02b1\u0001\u0000\u0000\u0000\u02b8\u02b2\u0001\u0000\u0000\u0000\u02b8"+
-		"\u02b3\u0001\u0000\u0000\u0000\u02b8\u02b4\u0001\u0000\u0000\u0000\u02b8"+
-		"\u02b5\u0001\u0000\u0000\u0000\u02b8\u02b6\u0001\u0000\u0000\u0000\u02b8"+
-		"\u02b7\u0001\u0000\u0000\u0000\u02b9{\u0001\u0000\u0000\u0000\u02ba\u02bb"+
-		"\u0005 \u0000\u0000\u02bb\u02bc\u0003~?\u0000\u02bc\u02bd\u0005!\u0000"+
-		"\u0000\u02bd\u02be\u0003\u0080@\u0000\u02be}\u0001\u0000\u0000\u0000\u02bf"+
-		"\u02c0\u0003\u0098L\u0000\u02c0\u007f\u0001\u0000\u0000\u0000\u02c1\u02c2"+
-		"\u0003t:\u0000\u02c2\u0081\u0001\u0000\u0000\u0000\u02c3\u02c4\u0005>"+
-		"\u0000\u0000\u02c4\u02c5\u0003t:\u0000\u02c5\u0083\u0001\u0000\u0000\u0000"+
-		"\u02c6\u02c7\u0005\u0004\u0000\u0000\u02c7\u02d0\u0005\u001e\u0000\u0000"+
-		"\u02c8\u02cb\u0003\u008cF\u0000\u02c9\u02cb\u0003 \u0010\u0000\u02ca\u02c8"+
-		"\u0001\u0000\u0000\u0000\u02ca\u02c9\u0001\u0000\u0000\u0000\u02cb\u02cc"+
-		"\u0001\u0000\u0000\u0000\u02cc\u02cd\u0003\u00ccf\u0000\u02cd\u02cf\u0001"+
-		"\u0000\u0000\u0000\u02ce\u02ca\u0001\u0000\u0000\u0000\u02cf\u02d2\u0001"+
-		"\u0000\u0000\u0000\u02d0\u02ce\u0001\u0000\u0000\u0000\u02d0\u02d1\u0001"+
-		"\u0000\u0000\u0000\u02d1\u02d3\u0001\u0000\u0000\u0000\u02d2\u02d0\u0001"+
-		"\u0000\u0000\u0000\u02d3\u02d4\u0005\u001f\u0000\u0000\u02d4\u0085\u0001"+
-		"\u0000\u0000\u0000\u02d5\u02d6\u0005 \u0000\u0000\u02d6\u02d7\u0005!\u0000"+
-		"\u0000\u02d7\u02d8\u0003\u0080@\u0000\u02d8\u0087\u0001\u0000\u0000\u0000"+
-		"\u02d9\u02da\u0005\t\u0000\u0000\u02da\u02db\u0005 \u0000\u0000\u02db"+
-		"\u02dc\u0003t:\u0000\u02dc\u02dd\u0005!\u0000\u0000\u02dd\u02de\u0003"+
-		"\u0080@\u0000\u02de\u0089\u0001\u0000\u0000\u0000\u02df\u02e5\u0005\u000b"+
-		"\u0000\u0000\u02e0\u02e1\u0005\u000b\u0000\u0000\u02e1\u02e5\u0005@\u0000"+
-		"\u0000\u02e2\u02e3\u0005@\u0000\u0000\u02e3\u02e5\u0005\u000b\u0000\u0000"+
-		"\u02e4\u02df\u0001\u0000\u0000\u0000\u02e4\u02e0\u0001\u0000\u0000\u0000"+
-		"\u02e4\u02e2\u0001\u0000\u0000\u0000\u02e5\u02e6\u0001\u0000\u0000\u0000"+
-		"\u02e6\u02e7\u0003\u0080@\u0000\u02e7\u008b\u0001\u0000\u0000\u0000\u02e8"+
-		"\u02e9\u0005\u001b\u0000\u0000\u02e9\u02ea\u0003\u0094J\u0000\u02ea\u02eb"+
-		"\u0003\u0092I\u0000\u02eb\u02ef\u0001\u0000\u0000\u0000\u02ec\u02ed\u0005"+
-		"\u001b\u0000\u0000\u02ed\u02ef\u0003\u0094J\u0000\u02ee\u02e8\u0001\u0000"+
-		"\u0000\u0000\u02ee\u02ec\u0001\u0000\u0000\u0000\u02ef\u008d\u0001\u0000"+
-		"\u0000\u0000\u02f0\u02f1\u0005\u0003\u0000\u0000\u02f1\u02f2\u0003\u0090"+
-		"H\u0000\u02f2\u008f\u0001\u0000\u0000\u0000\u02f3\u02f5\u0003\u0094J\u0000"+
-		"\u02f4\u02f6\u0003\u0092I\u0000\u02f5\u02f4\u0001\u0000\u0000\u0000\u02f5"+
-		"\u02f6\u0001\u0000\u0000\u0000\u02f6\u0091\u0001\u0000\u0000\u0000\u02f7"+
-		"\u02fa\u0003\u0094J\u0000\u02f8\u02fa\u0003t:\u0000\u02f9\u02f7\u0001"+
-		"\u0000\u0000\u0000\u02f9\u02f8\u0001\u0000\u0000\u0000\u02fa\u0093\u0001"+
-		"\u0000\u0000\u0000\u02fb\u0307\u0005\u001c\u0000\u0000\u02fc\u0301\u0003"+
-		"\u0096K\u0000\u02fd\u02fe\u0005#\u0000\u0000\u02fe\u0300\u0003\u0096K"+
-		"\u0000\u02ff\u02fd\u0001\u0000\u0000\u0000\u0300\u0303\u0001\u0000\u0000"+
-		"\u0000\u0301\u02ff\u0001\u0000\u0000\u0000\u0301\u0302\u0001\u0000\u0000"+
-		"\u0000\u0302\u0305\u0001\u0000\u0000\u0000\u0303\u0301\u0001\u0000\u0000"+
-		"\u0000\u0304\u0306\u0005#\u0000\u0000\u0305\u0304\u0001\u0000\u0000\u0000"+
-		"\u0305\u0306\u0001\u0000\u0000\u0000\u0306\u0308\u0001\u0000\u0000\u0000"+
-		"\u0307\u02fc\u0001\u0000\u0000\u0000\u0307\u0308\u0001\u0000\u0000\u0000"+
-		"\u0308\u0309\u0001\u0000\u0000\u0000\u0309\u030a\u0005\u001d\u0000\u0000"+
-		"\u030a\u0095\u0001\u0000\u0000\u0000\u030b\u030d\u0003\u0010\b\u0000\u030c"+
-		"\u030b\u0001\u0000\u0000\u0000\u030c\u030d\u0001\u0000\u0000\u0000\u030d"+
-		"\u030f\u0001\u0000\u0000\u0000\u030e\u0310\u0005*\u0000\u0000\u030f\u030e"+
-		"\u0001\u0000\u0000\u0000\u030f\u0310\u0001\u0000\u0000\u0000\u0310\u0311"+
-		"\u0001\u0000\u0000\u0000\u0311\u0312\u0003t:\u0000\u0312\u0097\u0001\u0000"+
-		"\u0000\u0000\u0313\u0314\u0006L\uffff\uffff\u0000\u0314\u0318\u0003\u009a"+
-		"M\u0000\u0315\u0316\u0007\u0003\u0000\u0000\u0316\u0318\u0003\u0098L\u0006"+
-		"\u0317\u0313\u0001\u0000\u0000\u0000\u0317\u0315\u0001\u0000\u0000\u0000"+
-		"\u0318\u032a\u0001\u0000\u0000\u0000\u0319\u031a\n\u0005\u0000\u0000\u031a"+
-		"\u031b\u0007\u0004\u0000\u0000\u031b\u0329\u0003\u0098L\u0006\u031c\u031d"+
-		"\n\u0004\u0000\u0000\u031d\u031e\u0007\u0005\u0000\u0000\u031e\u0329\u0003"+
-		"\u0098L\u0005\u031f\u0320\n\u0003\u0000\u0000\u0320\u0321\u0007\u0006"+
-		"\u0000\u0000\u0321\u0329\u0003\u0098L\u0004\u0322\u0323\n\u0002\u0000"+
-		"\u0000\u0323\u0324\u0005,\u0000\u0000\u0324\u0329\u0003\u0098L\u0003\u0325"+
-		"\u0326\n\u0001\u0000\u0000\u0326\u0327\u0005+\u0000\u0000\u0327\u0329"+
-		"\u0003\u0098L\u0002\u0328\u0319\u0001\u0000\u0000\u0000\u0328\u031c\u0001"+
-		"\u0000\u0000\u0000\u0328\u031f\u0001\u0000\u0000\u0000\u0328\u0322\u0001"+
-		"\u0000\u0000\u0000\u0328\u0325\u0001\u0000\u0000\u0000\u0329\u032c\u0001"+
-		"\u0000\u0000\u0000\u032a\u0328\u0001\u0000\u0000\u0000\u032a\u032b\u0001"+
-		"\u0000\u0000\u0000\u032b\u0099\u0001\u0000\u0000\u0000\u032c\u032a\u0001"+
-		"\u0000\u0000\u0000\u032d\u032e\u0006M\uffff\uffff\u0000\u032e\u0332\u0003"+
-		"\u009eO\u0000\u032f\u0332\u0003\u009cN\u0000\u0330\u0332\u0003\u00cae"+
-		"\u0000\u0331\u032d\u0001\u0000\u0000\u0000\u0331\u032f\u0001\u0000\u0000"+
-		"\u0000\u0331\u0330\u0001\u0000\u0000\u0000\u0332\u033e\u0001\u0000\u0000"+
-		"\u0000\u0333\u033a\n\u0001\u0000\u0000\u0334\u0335\u0005&\u0000\u0000"+
-		"\u0335\u033b\u0005\u001b\u0000\u0000\u0336\u033b\u0003\u00c2a\u0000\u0337"+
-		"\u033b\u0003\u00c4b\u0000\u0338\u033b\u0003\u00c6c\u0000\u0339\u033b\u0003"+
-		"\u00c8d\u0000\u033a\u0334\u0001\u0000\u0000\u0000\u033a\u0336\u0001\u0000"+
-		"\u0000\u0000\u033a\u0337\u0001\u0000\u0000\u0000\u033a\u0338\u0001\u0000"+
-		"\u0000\u0000\u033a\u0339\u0001\u0000\u0000\u0000\u033b\u033d\u0001\u0000"+
-		"\u0000\u0000\u033c\u0333\u0001\u0000\u0000\u0000\u033d\u0340\u0001\u0000"+
-		"\u0000\u0000\u033e\u033c\u0001\u0000\u0000\u0000\u033e\u033f\u0001\u0000"+
-		"\u0000\u0000\u033f\u009b\u0001\u0000\u0000\u0000\u0340\u033e\u0001\u0000"+
-		"\u0000\u0000\u0341\u0342\u0003t:\u0000\u0342\u0343\u0005\u001c\u0000\u0000"+
-		"\u0343\u0345\u0003\u0098L\u0000\u0344\u0346\u0005#\u0000\u0000\u0345\u0344"+
-		"\u0001\u0000\u0000\u0000\u0345\u0346\u0001\u0000\u0000\u0000\u0346\u0347"+
-		"\u0001\u0000\u0000\u0000\u0347\u0348\u0005\u001d\u0000\u0000\u0348\u009d"+
-		"\u0001\u0000\u0000\u0000\u0349\u0353\u0003\u00a0P\u0000\u034a\u034c\u0003"+
-		"\u00a6S\u0000\u034b\u034d\u0003v;\u0000\u034c\u034b\u0001\u0000\u0000"+
-		"\u0000\u034c\u034d\u0001\u0000\u0000\u0000\u034d\u0353\u0001\u0000\u0000"+
-		"\u0000\u034e\u034f\u0005\u001c\u0000\u0000\u034f\u0350\u0003\u0098L\u0000"+
-		"\u0350\u0351\u0005\u001d\u0000\u0000\u0351\u0353\u0001\u0000\u0000\u0000"+
-		"\u0352\u0349\u0001\u0000\u0000\u0000\u0352\u034a\u0001\u0000\u0000\u0000"+
-		"\u0352\u034e\u0001\u0000\u0000\u0000\u0353\u009f\u0001\u0000\u0000\u0000"+
-		"\u0354\u0358\u0003\u00a2Q\u0000\u0355\u0358\u0003\u00aaU\u0000\u0356\u0358"+
-		"\u0003\u00c0`\u0000\u0357\u0354\u0001\u0000\u0000\u0000\u0357\u0355\u0001"+
-		"\u0000\u0000\u0000\u0357\u0356\u0001\u0000\u0000\u0000\u0358\u00a1\u0001"+
-		"\u0000\u0000\u0000\u0359\u035e\u0005\u001a\u0000\u0000\u035a\u035e\u0003"+
-		"\u00a4R\u0000\u035b\u035e\u0003\u00bc^\u0000\u035c\u035e\u0005E\u0000"+
-		"\u0000\u035d\u0359\u0001\u0000\u0000\u0000\u035d\u035a\u0001\u0000\u0000"+
-		"\u0000\u035d\u035b\u0001\u0000\u0000\u0000\u035d\u035c\u0001\u0000\u0000"+
-		"\u0000\u035e\u00a3\u0001\u0000\u0000\u0000\u035f\u0360\u0007\u0007\u0000"+
-		"\u0000\u0360\u00a5\u0001\u0000\u0000\u0000\u0361\u0362\u0005\u001b\u0000"+
-		"\u0000\u0362\u00a7\u0001\u0000\u0000\u0000\u0363\u0364\u0005\u001b\u0000"+
-		"\u0000\u0364\u0365\u0005&\u0000\u0000\u0365\u0366\u0005\u001b\u0000\u0000"+
-		"\u0366\u00a9\u0001\u0000\u0000\u0000\u0367\u0368\u0003\u00acV\u0000\u0368"+
-		"\u0369\u0003\u00aeW\u0000\u0369\u00ab\u0001\u0000\u0000\u0000\u036a\u0377"+
-		"\u0003\u00b8\\\u0000\u036b\u0377\u0003|>\u0000\u036c\u036d\u0005 \u0000"+
-		"\u0000\u036d\u036e\u0005*\u0000\u0000\u036e\u036f\u0005!\u0000\u0000\u036f"+
-		"\u0377\u0003\u0080@\u0000\u0370\u0377\u0003\u0086C\u0000\u0371\u0377\u0003"+
-		"\u0088D\u0000\u0372\u0374\u0003x<\u0000\u0373\u0375\u0003v;\u0000\u0374"+
-		"\u0373\u0001\u0000\u0000\u0000\u0374\u0375\u0001\u0000\u0000\u0000\u0375"+
-		"\u0377\u0001\u0000\u0000\u0000\u0376\u036a\u0001\u0000\u0000\u0000\u0376"+
-		"\u036b\u0001\u0000\u0000\u0000\u0376\u036c\u0001\u0000\u0000\u0000\u0376"+
-		"\u0370\u0001\u0000\u0000\u0000\u0376\u0371\u0001\u0000\u0000\u0000\u0376"+
-		"\u0372\u0001\u0000\u0000\u0000\u0377\u00ad\u0001\u0000\u0000\u0000\u0378"+
-		"\u037d\u0005\u001e\u0000\u0000\u0379\u037b\u0003\u00b0X\u0000\u037a\u037c"+
-		"\u0005#\u0000\u0000\u037b\u037a\u0001\u0000\u0000\u0000\u037b\u037c\u0001"+
-		"\u0000\u0000\u0000\u037c\u037e\u0001\u0000\u0000\u0000\u037d\u0379\u0001"+
-		"\u0000\u0000\u0000\u037d\u037e\u0001\u0000\u0000\u0000\u037e\u037f\u0001"+
-		"\u0000\u0000\u0000\u037f\u0380\u0005\u001f\u0000\u0000\u0380\u00af\u0001"+
-		"\u0000\u0000\u0000\u0381\u0386\u0003\u00b2Y\u0000\u0382\u0383\u0005#\u0000"+
-		"\u0000\u0383\u0385\u0003\u00b2Y\u0000\u0384\u0382\u0001\u0000\u0000\u0000"+
-		"\u0385\u0388\u0001\u0000\u0000\u0000\u0386\u0384\u0001\u0000\u0000\u0000"+
-		"\u0386\u0387\u0001\u0000\u0000\u0000\u0387\u00b1\u0001\u0000\u0000\u0000"+
-		"\u0388\u0386\u0001\u0000\u0000\u0000\u0389\u038a\u0003\u00b4Z\u0000\u038a"+
-		"\u038b\u0005%\u0000\u0000\u038b\u038d\u0001\u0000\u0000\u0000\u038c\u0389"+
-		"\u0001\u0000\u0000\u0000\u038c\u038d\u0001\u0000\u0000\u0000\u038d\u038e"+
-		"\u0001\u0000\u0000\u0000\u038e\u038f\u0003\u00b6[\u0000\u038f\u00b3\u0001"+
-		"\u0000\u0000\u0000\u0390\u0393\u0003\u0098L\u0000\u0391\u0393\u0003\u00ae"+
-		"W\u0000\u0392\u0390\u0001\u0000\u0000\u0000\u0392\u0391\u0001\u0000\u0000"+
-		"\u0000\u0393\u00b5\u0001\u0000\u0000\u0000\u0394\u0397\u0003\u0098L\u0000"+
-		"\u0395\u0397\u0003\u00aeW\u0000\u0396\u0394\u0001\u0000\u0000\u0000\u0396"+
-		"\u0395\u0001\u0000\u0000\u0000\u0397\u00b7\u0001\u0000\u0000\u0000\u0398"+
-		"\u0399\u0005\n\u0000\u0000\u0399\u039f\u0005\u001e\u0000\u0000\u039a\u039b"+
-		"\u0003\u00ba]\u0000\u039b\u039c\u0003\u00ccf\u0000\u039c\u039e\u0001\u0000"+
-		"\u0000\u0000\u039d\u039a\u0001\u0000\u0000\u0000\u039e\u03a1\u0001\u0000"+
-		"\u0000\u0000\u039f\u039d\u0001\u0000\u0000\u0000\u039f\u03a0\u0001\u0000"+
-		"\u0000\u0000\u03a0\u03a2\u0001\u0000\u0000\u0000\u03a1\u039f\u0001\u0000"+
-		"\u0000\u0000\u03a2\u03a3\u0005\u001f\u0000\u0000\u03a3\u00b9\u0001\u0000"+
-		"\u0000\u0000\u03a4\u03a5\u0003\u0010\b\u0000\u03a5\u03a6\u0003t:\u0000"+
-		"\u03a6\u03a9\u0001\u0000\u0000\u0000\u03a7\u03a9\u0003\u00be_\u0000\u03a8"+
-		"\u03a4\u0001\u0000\u0000\u0000\u03a8\u03a7\u0001\u0000\u0000\u0000\u03a9"+
-		"\u03ab\u0001\u0000\u0000\u0000\u03aa\u03ac\u0003\u00bc^\u0000\u03ab\u03aa"+
-		"\u0001\u0000\u0000\u0000\u03ab\u03ac\u0001\u0000\u0000\u0000\u03ac\u00bb"+
-		"\u0001\u0000\u0000\u0000\u03ad\u03ae\u0007\b\u0000\u0000\u03ae\u00bd\u0001"+
-		"\u0000\u0000\u0000\u03af\u03b1\u0005>\u0000\u0000\u03b0\u03af\u0001\u0000"+
-		"\u0000\u0000\u03b0\u03b1\u0001\u0000\u0000\u0000\u03b1\u03b2\u0001\u0000"+
-		"\u0000\u0000\u03b2\u03b4\u0003x<\u0000\u03b3\u03b5\u0003v;\u0000\u03b4"+
-		"\u03b3\u0001\u0000\u0000\u0000\u03b4\u03b5\u0001\u0000\u0000\u0000\u03b5"+
-		"\u00bf\u0001\u0000\u0000\u0000\u03b6\u03b7\u0005\u0003\u0000\u0000\u03b7"+
-		"\u03b8\u0003\u0090H\u0000\u03b8\u03b9\u0003.\u0017\u0000\u03b9\u00c1\u0001"+
-		"\u0000\u0000\u0000\u03ba\u03bb\u0005 \u0000\u0000\u03bb\u03bc\u0003\u0098"+
-		"L\u0000\u03bc\u03bd\u0005!\u0000\u0000\u03bd\u00c3\u0001\u0000\u0000\u0000"+
-		"\u03be\u03ce\u0005 \u0000\u0000\u03bf\u03c1\u0003\u0098L\u0000\u03c0\u03bf"+
-		"\u0001\u0000\u0000\u0000\u03c0\u03c1\u0001\u0000\u0000\u0000\u03c1\u03c2"+
-		"\u0001\u0000\u0000\u0000\u03c2\u03c4\u0005%\u0000\u0000\u03c3\u03c5\u0003"+
-		"\u0098L\u0000\u03c4\u03c3\u0001\u0000\u0000\u0000\u03c4\u03c5\u0001\u0000"+
-		"\u0000\u0000\u03c5\u03cf\u0001\u0000\u0000\u0000\u03c6\u03c8\u0003\u0098"+
-		"L\u0000\u03c7\u03c6\u0001\u0000\u0000\u0000\u03c7\u03c8\u0001\u0000\u0000"+
-		"\u0000\u03c8\u03c9\u0001\u0000\u0000\u0000\u03c9\u03ca\u0005%\u0000\u0000"+
-		"\u03ca\u03cb\u0003\u0098L\u0000\u03cb\u03cc\u0005%\u0000\u0000\u03cc\u03cd"+
-		"\u0003\u0098L\u0000\u03cd\u03cf\u0001\u0000\u0000\u0000\u03ce\u03c0\u0001"+
-		"\u0000\u0000\u0000\u03ce\u03c7\u0001\u0000\u0000\u0000\u03cf\u03d0\u0001"+
-		"\u0000\u0000\u0000\u03d0\u03d1\u0005!\u0000\u0000\u03d1\u00c5\u0001\u0000"+
-		"\u0000\u0000\u03d2\u03d3\u0005&\u0000\u0000\u03d3\u03d4\u0005\u001c\u0000"+
-		"\u0000\u03d4\u03d5\u0003t:\u0000\u03d5\u03d6\u0005\u001d\u0000\u0000\u03d6"+
-		"\u00c7\u0001\u0000\u0000\u0000\u03d7\u03e6\u0005\u001c\u0000\u0000\u03d8"+
-		"\u03df\u0003\u0012\t\u0000\u03d9\u03dc\u0003t:\u0000\u03da\u03db\u0005"+
-		"#\u0000\u0000\u03db\u03dd\u0003\u0012\t\u0000\u03dc\u03da\u0001\u0000"+
-		"\u0000\u0000\u03dc\u03dd\u0001\u0000\u0000\u0000\u03dd\u03df\u0001\u0000"+
-		"\u0000\u0000\u03de\u03d8\u0001\u0000\u0000\u0000\u03de\u03d9\u0001\u0000"+
-		"\u0000\u0000\u03df\u03e1\u0001\u0000\u0000\u0000\u03e0\u03e2\u0005*\u0000"+
-		"\u0000\u03e1\u03e0\u0001\u0000\u0000\u0000\u03e1\u03e2\u0001\u0000\u0000"+
-		"\u0000\u03e2\u03e4\u0001\u0000\u0000\u0000\u03e3\u03e5\u0005#\u0000\u0000"+
-		"\u03e4\u03e3\u0001\u0000\u0000\u0000\u03e4\u03e5\u0001\u0000\u0000\u0000"+
-		"\u03e5\u03e7\u0001\u0000\u0000\u0000\u03e6\u03de\u0001\u0000\u0000\u0000"+
-		"\u03e6\u03e7\u0001\u0000\u0000\u0000\u03e7\u03e8\u0001\u0000\u0000\u0000"+
-		"\u03e8\u03e9\u0005\u001d\u0000\u0000\u03e9\u00c9\u0001\u0000\u0000\u0000"+
-		"\u03ea\u03eb\u0003t:\u0000\u03eb\u03ec\u0005&\u0000\u0000\u03ec\u03ed"+
-		"\u0005\u001b\u0000\u0000\u03ed\u00cb\u0001\u0000\u0000\u0000\u03ee\u03f3"+
-		"\u0005$\u0000\u0000\u03ef\u03f3\u0005\u0000\u0000\u0001\u03f0\u03f3\u0005"+
-		"X\u0000\u0000\u03f1\u03f3\u0004f\u0007\u0000\u03f2\u03ee\u0001\u0000\u0000"+
-		"\u0000\u03f2\u03ef\u0001\u0000\u0000\u0000\u03f2\u03f0\u0001\u0000\u0000"+
-		"\u0000\u03f2\u03f1\u0001\u0000\u0000\u0000\u03f3\u00cd\u0001\u0000\u0000"+
-		"\u0000x\u00d5\u00db\u00e1\u00f1\u00f5\u00f8\u0101\u010b\u010f\u0113\u0117"+
-		"\u011e\u0126\u0131\u0135\u0139\u0141\u014b\u0158\u015c\u0163\u0167\u016e"+
-		"\u017a\u017e\u0184\u0188\u018c\u0191\u0194\u0197\u019e\u01af\u01b6\u01c6"+
-		"\u01d1\u01d5\u01d9\u01dd\u01f0\u01f6\u01f8\u01fc\u0200\u0203\u0207\u0209"+
-		"\u020f\u0217\u021c\u0227\u022d\u0234\u023f\u0244\u0248\u024d\u0251\u0259"+
-		"\u0261\u0266\u0269\u0271\u0277\u027b\u027d\u0282\u0286\u028a\u0292\u029c"+
-		"\u02a3\u02a8\u02ae\u02b8\u02ca\u02d0\u02e4\u02ee\u02f5\u02f9\u0301\u0305"+
-		"\u0307\u030c\u030f\u0317\u0328\u032a\u0331\u033a\u033e\u0345\u034c\u0352"+
-		"\u0357\u035d\u0374\u0376\u037b\u037d\u0386\u038c\u0392\u0396\u039f\u03a8"+
-		"\u03ab\u03b0\u03b4\u03c0\u03c4\u03c7\u03ce\u03dc\u03de\u03e1\u03e4\u03e6"+
-		"\u03f2";
+		"d\u0007d\u0002e\u0007e\u0002f\u0007f\u0002g\u0007g\u0002h\u0007h\u0002"+
+		"i\u0007i\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0005"+
+		"\u0000\u00da\b\u0000\n\u0000\f\u0000\u00dd\t\u0000\u0001\u0000\u0001\u0000"+
+		"\u0001\u0000\u0003\u0000\u00e2\b\u0000\u0001\u0000\u0001\u0000\u0005\u0000"+
+		"\u00e6\b\u0000\n\u0000\f\u0000\u00e9\t\u0000\u0001\u0000\u0001\u0000\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0005\u0002\u00f7\b\u0002\n"+
+		"\u0002\f\u0002\u00fa\t\u0002\u0001\u0002\u0003\u0002\u00fd\b\u0002\u0003"+
+		"\u0002\u00ff\b\u0002\u0001\u0002\u0003\u0002\u0102\b\u0002\u0001\u0003"+
+		"\u0003\u0003\u0105\b\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004"+
+		"\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u0005\u010e\b\u0005\u0001\u0006"+
+		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
+		"\u0005\u0006\u0117\b\u0006\n\u0006\f\u0006\u011a\t\u0006\u0001\u0006\u0003"+
+		"\u0006\u011d\b\u0006\u0003\u0006\u011f\b\u0006\u0001\u0006\u0003\u0006"+
+		"\u0122\b\u0006\u0001\u0007\u0001\u0007\u0003\u0007\u0126\b\u0007\u0001"+
+		"\u0007\u0001\u0007\u0003\u0007\u012a\b\u0007\u0001\b\u0001\b\u0001\b\u0005"+
+		"\b\u012f\b\b\n\b\f\b\u0132\t\b\u0001\t\u0001\t\u0001\t\u0005\t\u0137\b"+
+		"\t\n\t\f\t\u013a\t\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
+		"\n\u0005\n\u0143\b\n\n\n\f\n\u0146\t\n\u0001\n\u0003\n\u0149\b\n\u0003"+
+		"\n\u014b\b\n\u0001\n\u0003\n\u014e\b\n\u0001\u000b\u0001\u000b\u0003\u000b"+
+		"\u0152\b\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001\r\u0003\r"+
+		"\u015a\b\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
+		"\u0005\u000e\u0162\b\u000e\n\u000e\f\u000e\u0165\t\u000e\u0001\u000e\u0001"+
+		"\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001"+
+		"\u0010\u0005\u0010\u016f\b\u0010\n\u0010\f\u0010\u0172\t\u0010\u0001\u0011"+
+		"\u0003\u0011\u0175\b\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0003\u0012\u017c\b\u0012\u0001\u0012\u0001\u0012\u0003\u0012"+
+		"\u0180\b\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013"+
+		"\u0003\u0013\u0187\b\u0013\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0005\u0015"+
+		"\u0192\b\u0015\n\u0015\f\u0015\u0195\t\u0015\u0001\u0015\u0003\u0015\u0198"+
+		"\b\u0015\u0003\u0015\u019a\b\u0015\u0001\u0015\u0003\u0015\u019d\b\u0015"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u01a3\b\u0016"+
+		"\u0001\u0016\u0001\u0016\u0003\u0016\u01a7\b\u0016\u0001\u0017\u0001\u0017"+
+		"\u0003\u0017\u01ab\b\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0003\u0018"+
+		"\u01b0\b\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u01b5\b"+
+		"\u0018\u0001\u0018\u0001\u0018\u0005\u0018\u01b9\b\u0018\n\u0018\f\u0018"+
+		"\u01bc\t\u0018\u0001\u0018\u0003\u0018\u01bf\b\u0018\u0001\u0018\u0001"+
+		"\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019\u01d2\b\u0019\u0001"+
+		"\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0003\u001a\u01d9"+
+		"\b\u001a\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001"+
+		"\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001"+
+		"\u001e\u0001\u001e\u0001\u001f\u0003\u001f\u01e9\b\u001f\u0001\u001f\u0001"+
+		"\u001f\u0001 \u0001 \u0001 \u0001 \u0001!\u0001!\u0001!\u0003!\u01f4\b"+
+		"!\u0001\"\u0001\"\u0003\"\u01f8\b\"\u0001#\u0001#\u0003#\u01fc\b#\u0001"+
+		"$\u0001$\u0003$\u0200\b$\u0001%\u0001%\u0001%\u0001&\u0001&\u0001\'\u0001"+
+		"\'\u0001\'\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001"+
+		"(\u0003(\u0213\b(\u0001(\u0001(\u0001(\u0001(\u0003(\u0219\b(\u0003(\u021b"+
+		"\b(\u0001)\u0001)\u0003)\u021f\b)\u0001*\u0001*\u0003*\u0223\b*\u0001"+
+		"*\u0003*\u0226\b*\u0001*\u0001*\u0003*\u022a\b*\u0003*\u022c\b*\u0001"+
+		"*\u0001*\u0005*\u0230\b*\n*\f*\u0233\t*\u0001*\u0001*\u0001+\u0001+\u0001"+
+		"+\u0003+\u023a\b+\u0001,\u0001,\u0001,\u0003,\u023f\b,\u0001-\u0001-\u0001"+
+		"-\u0001-\u0001-\u0001-\u0001-\u0001-\u0001-\u0003-\u024a\b-\u0001-\u0001"+
+		"-\u0005-\u024e\b-\n-\f-\u0251\t-\u0001-\u0001-\u0001.\u0001.\u0003.\u0257"+
+		"\b.\u0001.\u0001.\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001/\u0003"+
+		"/\u0262\b/\u00010\u00010\u00010\u00030\u0267\b0\u00011\u00011\u00031\u026b"+
+		"\b1\u00011\u00011\u00011\u00031\u0270\b1\u00051\u0272\b1\n1\f1\u0275\t"+
+		"1\u00012\u00012\u00012\u00052\u027a\b2\n2\f2\u027d\t2\u00012\u00012\u0001"+
+		"3\u00013\u00013\u00033\u0284\b3\u00014\u00014\u00014\u00034\u0289\b4\u0001"+
+		"4\u00034\u028c\b4\u00015\u00015\u00015\u00015\u00015\u00015\u00035\u0294"+
+		"\b5\u00015\u00015\u00016\u00016\u00036\u029a\b6\u00016\u00016\u00036\u029e"+
+		"\b6\u00036\u02a0\b6\u00016\u00016\u00017\u00037\u02a5\b7\u00017\u0001"+
+		"7\u00037\u02a9\b7\u00017\u00017\u00037\u02ad\b7\u00018\u00018\u00018\u0001"+
+		"8\u00018\u00018\u00038\u02b5\b8\u00018\u00018\u00018\u00019\u00019\u0001"+
+		"9\u0001:\u0001:\u0003:\u02bf\b:\u0001:\u0001:\u0001:\u0001:\u0001:\u0003"+
+		":\u02c6\b:\u0001;\u0001;\u0001;\u0003;\u02cb\b;\u0001;\u0001;\u0001<\u0001"+
+		"<\u0003<\u02d1\b<\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001"+
+		"=\u0003=\u02db\b=\u0001>\u0001>\u0001>\u0001>\u0001>\u0001?\u0001?\u0001"+
+		"@\u0001@\u0001A\u0001A\u0001A\u0001B\u0001B\u0001B\u0001B\u0003B\u02ed"+
+		"\bB\u0001B\u0001B\u0001B\u0003B\u02f2\bB\u0005B\u02f4\bB\nB\fB\u02f7\t"+
+		"B\u0001B\u0003B\u02fa\bB\u0003B\u02fc\bB\u0001B\u0001B\u0001C\u0001C\u0001"+
+		"C\u0001C\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001E\u0001E\u0001"+
+		"E\u0001E\u0001E\u0003E\u030f\bE\u0001E\u0001E\u0001F\u0001F\u0001F\u0001"+
+		"F\u0001F\u0001F\u0003F\u0319\bF\u0001G\u0001G\u0001G\u0001H\u0001H\u0003"+
+		"H\u0320\bH\u0001I\u0001I\u0003I\u0324\bI\u0001J\u0001J\u0001J\u0001J\u0005"+
+		"J\u032a\bJ\nJ\fJ\u032d\tJ\u0001J\u0003J\u0330\bJ\u0003J\u0332\bJ\u0001"+
+		"J\u0001J\u0001K\u0003K\u0337\bK\u0001K\u0003K\u033a\bK\u0001K\u0001K\u0001"+
+		"L\u0001L\u0001L\u0005L\u0341\bL\nL\fL\u0344\tL\u0001M\u0001M\u0001M\u0003"+
+		"M\u0349\bM\u0001N\u0001N\u0001N\u0003N\u034e\bN\u0001N\u0005N\u0351\b"+
+		"N\nN\fN\u0354\tN\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0003O\u035c"+
+		"\bO\u0001P\u0001P\u0001P\u0001P\u0003P\u0362\bP\u0001P\u0001P\u0001Q\u0001"+
+		"Q\u0001Q\u0003Q\u0369\bQ\u0001Q\u0001Q\u0001Q\u0001Q\u0003Q\u036f\bQ\u0001"+
+		"R\u0001R\u0001R\u0003R\u0374\bR\u0001S\u0001S\u0001S\u0001S\u0003S\u037a"+
+		"\bS\u0001T\u0001T\u0001U\u0001U\u0001V\u0001V\u0001V\u0001V\u0001W\u0001"+
+		"W\u0001W\u0001X\u0001X\u0001X\u0001X\u0001X\u0001X\u0001X\u0001X\u0001"+
+		"X\u0001X\u0003X\u0391\bX\u0003X\u0393\bX\u0001Y\u0001Y\u0001Y\u0003Y\u0398"+
+		"\bY\u0003Y\u039a\bY\u0001Y\u0001Y\u0001Z\u0001Z\u0001Z\u0005Z\u03a1\b"+
+		"Z\nZ\fZ\u03a4\tZ\u0001[\u0001[\u0001[\u0003[\u03a9\b[\u0001[\u0001[\u0001"+
+		"\\\u0001\\\u0003\\\u03af\b\\\u0001]\u0001]\u0003]\u03b3\b]\u0001^\u0001"+
+		"^\u0001^\u0001^\u0001^\u0001^\u0005^\u03bb\b^\n^\f^\u03be\t^\u0001^\u0003"+
+		"^\u03c1\b^\u0003^\u03c3\b^\u0001^\u0001^\u0001_\u0001_\u0001_\u0001_\u0003"+
+		"_\u03cb\b_\u0001_\u0003_\u03ce\b_\u0001`\u0001`\u0001a\u0003a\u03d3\b"+
+		"a\u0001a\u0001a\u0003a\u03d7\ba\u0001b\u0001b\u0001b\u0001b\u0001c\u0001"+
+		"c\u0001c\u0001c\u0001d\u0001d\u0003d\u03e3\bd\u0001d\u0001d\u0003d\u03e7"+
+		"\bd\u0001d\u0003d\u03ea\bd\u0001d\u0001d\u0001d\u0001d\u0001d\u0003d\u03f1"+
+		"\bd\u0001d\u0001d\u0001e\u0001e\u0001e\u0001e\u0001e\u0001f\u0001f\u0001"+
+		"f\u0001f\u0001f\u0003f\u03ff\bf\u0003f\u0401\bf\u0001f\u0003f\u0404\b"+
+		"f\u0001f\u0003f\u0407\bf\u0003f\u0409\bf\u0001f\u0001f\u0001g\u0001g\u0001"+
+		"g\u0001g\u0001h\u0001h\u0001i\u0001i\u0001i\u0000\u0000j\u0000\u0002\u0004"+
+		"\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \""+
+		"$&(*,.02468:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086"+
+		"\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e"+
+		"\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6"+
+		"\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4\u00c6\u00c8\u00ca\u00cc\u00ce"+
+		"\u00d0\u00d2\u0000\t\u0002\u0000\u001b\u001b&&\u0002\u0000$$XX\u0001\u0000"+
+		"\'(\u0002\u000038;?\u0002\u0000+8;?\u0001\u0000:@\u0002\u0000ADHI\u0001"+
+		"\u0000OP\u0002\u0001$$XX\u0458\u0000\u00d4\u0001\u0000\u0000\u0000\u0002"+
+		"\u00ec\u0001\u0000\u0000\u0000\u0004\u00ef\u0001\u0000\u0000\u0000\u0006"+
+		"\u0104\u0001\u0000\u0000\u0000\b\u0108\u0001\u0000\u0000\u0000\n\u010d"+
+		"\u0001\u0000\u0000\u0000\f\u010f\u0001\u0000\u0000\u0000\u000e\u0123\u0001"+
+		"\u0000\u0000\u0000\u0010\u012b\u0001\u0000\u0000\u0000\u0012\u0133\u0001"+
+		"\u0000\u0000\u0000\u0014\u013b\u0001\u0000\u0000\u0000\u0016\u0151\u0001"+
+		"\u0000\u0000\u0000\u0018\u0153\u0001\u0000\u0000\u0000\u001a\u0157\u0001"+
+		"\u0000\u0000\u0000\u001c\u015d\u0001\u0000\u0000\u0000\u001e\u0168\u0001"+
+		"\u0000\u0000\u0000 \u016b\u0001\u0000\u0000\u0000\"\u0174\u0001\u0000"+
+		"\u0000\u0000$\u0178\u0001\u0000\u0000\u0000&\u0181\u0001\u0000\u0000\u0000"+
+		"(\u0188\u0001\u0000\u0000\u0000*\u018a\u0001\u0000\u0000\u0000,\u019e"+
+		"\u0001\u0000\u0000\u0000.\u01a8\u0001\u0000\u0000\u00000\u01af\u0001\u0000"+
+		"\u0000\u00002\u01d1\u0001\u0000\u0000\u00004\u01d8\u0001\u0000\u0000\u0000"+
+		"6\u01da\u0001\u0000\u0000\u00008\u01dc\u0001\u0000\u0000\u0000:\u01e0"+
+		"\u0001\u0000\u0000\u0000<\u01e3\u0001\u0000\u0000\u0000>\u01e8\u0001\u0000"+
+		"\u0000\u0000@\u01ec\u0001\u0000\u0000\u0000B\u01f0\u0001\u0000\u0000\u0000"+
+		"D\u01f5\u0001\u0000\u0000\u0000F\u01f9\u0001\u0000\u0000\u0000H\u01fd"+
+		"\u0001\u0000\u0000\u0000J\u0201\u0001\u0000\u0000\u0000L\u0204\u0001\u0000"+
+		"\u0000\u0000N\u0206\u0001\u0000\u0000\u0000P\u0209\u0001\u0000\u0000\u0000"+
+		"R\u021e\u0001\u0000\u0000\u0000T\u0220\u0001\u0000\u0000\u0000V\u0236"+
+		"\u0001\u0000\u0000\u0000X\u023e\u0001\u0000\u0000\u0000Z\u0240\u0001\u0000"+
+		"\u0000\u0000\\\u0256\u0001\u0000\u0000\u0000^\u025e\u0001\u0000\u0000"+
+		"\u0000`\u0266\u0001\u0000\u0000\u0000b\u026a\u0001\u0000\u0000\u0000d"+
+		"\u0276\u0001\u0000\u0000\u0000f\u0280\u0001\u0000\u0000\u0000h\u028b\u0001"+
+		"\u0000\u0000\u0000j\u0293\u0001\u0000\u0000\u0000l\u0297\u0001\u0000\u0000"+
+		"\u0000n\u02a4\u0001\u0000\u0000\u0000p\u02b4\u0001\u0000\u0000\u0000r"+
+		"\u02b9\u0001\u0000\u0000\u0000t\u02c5\u0001\u0000\u0000\u0000v\u02c7\u0001"+
+		"\u0000\u0000\u0000x\u02d0\u0001\u0000\u0000\u0000z\u02da\u0001\u0000\u0000"+
+		"\u0000|\u02dc\u0001\u0000\u0000\u0000~\u02e1\u0001\u0000\u0000\u0000\u0080"+
+		"\u02e3\u0001\u0000\u0000\u0000\u0082\u02e5\u0001\u0000\u0000\u0000\u0084"+
+		"\u02e8\u0001\u0000\u0000\u0000\u0086\u02ff\u0001\u0000\u0000\u0000\u0088"+
+		"\u0303\u0001\u0000\u0000\u0000\u008a\u030e\u0001\u0000\u0000\u0000\u008c"+
+		"\u0318\u0001\u0000\u0000\u0000\u008e\u031a\u0001\u0000\u0000\u0000\u0090"+
+		"\u031d\u0001\u0000\u0000\u0000\u0092\u0323\u0001\u0000\u0000\u0000\u0094"+
+		"\u0325\u0001\u0000\u0000\u0000\u0096\u0336\u0001\u0000\u0000\u0000\u0098"+
+		"\u033d\u0001\u0000\u0000\u0000\u009a\u0348\u0001\u0000\u0000\u0000\u009c"+
+		"\u034d\u0001\u0000\u0000\u0000\u009e\u035b\u0001\u0000\u0000\u0000\u00a0"+
+		"\u035d\u0001\u0000\u0000\u0000\u00a2\u036e\u0001\u0000\u0000\u0000\u00a4"+
+		"\u0373\u0001\u0000\u0000\u0000\u00a6\u0379\u0001\u0000\u0000\u0000\u00a8"+
+		"\u037b\u0001\u0000\u0000\u0000\u00aa\u037d\u0001\u0000\u0000\u0000\u00ac"+
+		"\u037f\u0001\u0000\u0000\u0000\u00ae\u0383\u0001\u0000\u0000\u0000\u00b0"+
+		"\u0392\u0001\u0000\u0000\u0000\u00b2\u0394\u0001\u0000\u0000\u0000\u00b4"+
+		"\u039d\u0001\u0000\u0000\u0000\u00b6\u03a8\u0001\u0000\u0000\u0000\u00b8"+
+		"\u03ae\u0001\u0000\u0000\u0000\u00ba\u03b2\u0001\u0000\u0000\u0000\u00bc"+
+		"\u03b4\u0001\u0000\u0000\u0000\u00be\u03ca\u0001\u0000\u0000\u0000\u00c0"+
+		"\u03cf\u0001\u0000\u0000\u0000\u00c2\u03d2\u0001\u0000\u0000\u0000\u00c4"+
+		"\u03d8\u0001\u0000\u0000\u0000\u00c6\u03dc\u0001\u0000\u0000\u0000\u00c8"+
+		"\u03e0\u0001\u0000\u0000\u0000\u00ca\u03f4\u0001\u0000\u0000\u0000\u00cc"+
+		"\u03f9\u0001\u0000\u0000\u0000\u00ce\u040c\u0001\u0000\u0000\u0000\u00d0"+
+		"\u0410\u0001\u0000\u0000\u0000\u00d2\u0412\u0001\u0000\u0000\u0000\u00d4"+
+		"\u00d5\u0003\u0002\u0001\u0000\u00d5\u00db\u0003\u00d0h\u0000\u00d6\u00d7"+
+		"\u0003\u0004\u0002\u0000\u00d7\u00d8\u0003\u00d0h\u0000\u00d8\u00da\u0001"+
+		"\u0000\u0000\u0000\u00d9\u00d6\u0001\u0000\u0000\u0000\u00da\u00dd\u0001"+
+		"\u0000\u0000\u0000\u00db\u00d9\u0001\u0000\u0000\u0000\u00db\u00dc\u0001"+
+		"\u0000\u0000\u0000\u00dc\u00e7\u0001\u0000\u0000\u0000\u00dd\u00db\u0001"+
+		"\u0000\u0000\u0000\u00de\u00e2\u0003$\u0012\u0000\u00df\u00e2\u0003&\u0013"+
+		"\u0000\u00e0\u00e2\u0003\n\u0005\u0000\u00e1\u00de\u0001\u0000\u0000\u0000"+
+		"\u00e1\u00df\u0001\u0000\u0000\u0000\u00e1\u00e0\u0001\u0000\u0000\u0000"+
+		"\u00e2\u00e3\u0001\u0000\u0000\u0000\u00e3\u00e4\u0003\u00d0h\u0000\u00e4"+
+		"\u00e6\u0001\u0000\u0000\u0000\u00e5\u00e1\u0001\u0000\u0000\u0000\u00e6"+
+		"\u00e9\u0001\u0000\u0000\u0000\u00e7\u00e5\u0001\u0000\u0000\u0000\u00e7"+
+		"\u00e8\u0001\u0000\u0000\u0000\u00e8\u00ea\u0001\u0000\u0000\u0000\u00e9"+
+		"\u00e7\u0001\u0000\u0000\u0000\u00ea\u00eb\u0005\u0000\u0000\u0001\u00eb"+
+		"\u0001\u0001\u0000\u0000\u0000\u00ec\u00ed\u0005\u000e\u0000\u0000\u00ed"+
+		"\u00ee\u0005\u001b\u0000\u0000\u00ee\u0003\u0001\u0000\u0000\u0000\u00ef"+
+		"\u0101\u0005\u0017\u0000\u0000\u00f0\u0102\u0003\u0006\u0003\u0000\u00f1"+
+		"\u00fe\u0005\u001c\u0000\u0000\u00f2\u00f8\u0003\u0006\u0003\u0000\u00f3"+
+		"\u00f4\u0003\u00d2i\u0000\u00f4\u00f5\u0003\u0006\u0003\u0000\u00f5\u00f7"+
+		"\u0001\u0000\u0000\u0000\u00f6\u00f3\u0001\u0000\u0000\u0000\u00f7\u00fa"+
+		"\u0001\u0000\u0000\u0000\u00f8\u00f6\u0001\u0000\u0000\u0000\u00f8\u00f9"+
+		"\u0001\u0000\u0000\u0000\u00f9\u00fc\u0001\u0000\u0000\u0000\u00fa\u00f8"+
+		"\u0001\u0000\u0000\u0000\u00fb\u00fd\u0003\u00d2i\u0000\u00fc\u00fb\u0001"+
+		"\u0000\u0000\u0000\u00fc\u00fd\u0001\u0000\u0000\u0000\u00fd\u00ff\u0001"+
+		"\u0000\u0000\u0000\u00fe\u00f2\u0001\u0000\u0000\u0000\u00fe\u00ff\u0001"+
+		"\u0000\u0000\u0000\u00ff\u0100\u0001\u0000\u0000\u0000\u0100\u0102\u0005"+
+		"\u001d\u0000\u0000\u0101\u00f0\u0001\u0000\u0000\u0000\u0101\u00f1\u0001"+
+		"\u0000\u0000\u0000\u0102\u0005\u0001\u0000\u0000\u0000\u0103\u0105\u0007"+
+		"\u0000\u0000\u0000\u0104\u0103\u0001\u0000\u0000\u0000\u0104\u0105\u0001"+
+		"\u0000\u0000\u0000\u0105\u0106\u0001\u0000\u0000\u0000\u0106\u0107\u0003"+
+		"\b\u0004\u0000\u0107\u0007\u0001\u0000\u0000\u0000\u0108\u0109\u0003\u00c0"+
+		"`\u0000\u0109\t\u0001\u0000\u0000\u0000\u010a\u010e\u0003\f\u0006\u0000"+
+		"\u010b\u010e\u0003\u0014\n\u0000\u010c\u010e\u0003*\u0015\u0000\u010d"+
+		"\u010a\u0001\u0000\u0000\u0000\u010d\u010b\u0001\u0000\u0000\u0000\u010d"+
+		"\u010c\u0001\u0000\u0000\u0000\u010e\u000b\u0001\u0000\u0000\u0000\u010f"+
+		"\u0121\u0005\u0010\u0000\u0000\u0110\u0122\u0003\u000e\u0007\u0000\u0111"+
+		"\u011e\u0005\u001c\u0000\u0000\u0112\u0118\u0003\u000e\u0007\u0000\u0113"+
+		"\u0114\u0003\u00d2i\u0000\u0114\u0115\u0003\u000e\u0007\u0000\u0115\u0117"+
+		"\u0001\u0000\u0000\u0000\u0116\u0113\u0001\u0000\u0000\u0000\u0117\u011a"+
+		"\u0001\u0000\u0000\u0000\u0118\u0116\u0001\u0000\u0000\u0000\u0118\u0119"+
+		"\u0001\u0000\u0000\u0000\u0119\u011c\u0001\u0000\u0000\u0000\u011a\u0118"+
+		"\u0001\u0000\u0000\u0000\u011b\u011d\u0003\u00d2i\u0000\u011c\u011b\u0001"+
+		"\u0000\u0000\u0000\u011c\u011d\u0001\u0000\u0000\u0000\u011d\u011f\u0001"+
+		"\u0000\u0000\u0000\u011e\u0112\u0001\u0000\u0000\u0000\u011e\u011f\u0001"+
+		"\u0000\u0000\u0000\u011f\u0120\u0001\u0000\u0000\u0000\u0120\u0122\u0005"+
+		"\u001d\u0000\u0000\u0121\u0110\u0001\u0000\u0000\u0000\u0121\u0111\u0001"+
+		"\u0000\u0000\u0000\u0122\r\u0001\u0000\u0000\u0000\u0123\u0129\u0003\u0010"+
+		"\b\u0000\u0124\u0126\u0003t:\u0000\u0125\u0124\u0001\u0000\u0000\u0000"+
+		"\u0125\u0126\u0001\u0000\u0000\u0000\u0126\u0127\u0001\u0000\u0000\u0000"+
+		"\u0127\u0128\u0005\"\u0000\u0000\u0128\u012a\u0003\u0012\t\u0000\u0129"+
+		"\u0125\u0001\u0000\u0000\u0000\u0129\u012a\u0001\u0000\u0000\u0000\u012a"+
+		"\u000f\u0001\u0000\u0000\u0000\u012b\u0130\u0005\u001b\u0000\u0000\u012c"+
+		"\u012d\u0005#\u0000\u0000\u012d\u012f\u0005\u001b\u0000\u0000\u012e\u012c"+
+		"\u0001\u0000\u0000\u0000\u012f\u0132\u0001\u0000\u0000\u0000\u0130\u012e"+
+		"\u0001\u0000\u0000\u0000\u0130\u0131\u0001\u0000\u0000\u0000\u0131\u0011"+
+		"\u0001\u0000\u0000\u0000\u0132\u0130\u0001\u0000\u0000\u0000\u0133\u0138"+
+		"\u0003\u0098L\u0000\u0134\u0135\u0005#\u0000\u0000\u0135\u0137\u0003\u0098"+
+		"L\u0000\u0136\u0134\u0001\u0000\u0000\u0000\u0137\u013a\u0001\u0000\u0000"+
+		"\u0000\u0138\u0136\u0001\u0000\u0000\u0000\u0138\u0139\u0001\u0000\u0000"+
+		"\u0000\u0139\u0013\u0001\u0000\u0000\u0000\u013a\u0138\u0001\u0000\u0000"+
+		"\u0000\u013b\u014d\u0005\u0014\u0000\u0000\u013c\u014e\u0003\u0016\u000b"+
+		"\u0000\u013d\u014a\u0005\u001c\u0000\u0000\u013e\u0144\u0003\u0016\u000b"+
+		"\u0000\u013f\u0140\u0003\u00d2i\u0000\u0140\u0141\u0003\u0016\u000b\u0000"+
+		"\u0141\u0143\u0001\u0000\u0000\u0000\u0142\u013f\u0001\u0000\u0000\u0000"+
+		"\u0143\u0146\u0001\u0000\u0000\u0000\u0144\u0142\u0001\u0000\u0000\u0000"+
+		"\u0144\u0145\u0001\u0000\u0000\u0000\u0145\u0148\u0001\u0000\u0000\u0000"+
+		"\u0146\u0144\u0001\u0000\u0000\u0000\u0147\u0149\u0003\u00d2i\u0000\u0148"+
+		"\u0147\u0001\u0000\u0000\u0000\u0148\u0149\u0001\u0000\u0000\u0000\u0149"+
+		"\u014b\u0001\u0000\u0000\u0000\u014a\u013e\u0001\u0000\u0000\u0000\u014a"+
+		"\u014b\u0001\u0000\u0000\u0000\u014b\u014c\u0001\u0000\u0000\u0000\u014c"+
+		"\u014e\u0005\u001d\u0000\u0000\u014d\u013c\u0001\u0000\u0000\u0000\u014d"+
+		"\u013d\u0001\u0000\u0000\u0000\u014e\u0015\u0001\u0000\u0000\u0000\u014f"+
+		"\u0152\u0003\u0018\f\u0000\u0150\u0152\u0003\u001a\r\u0000\u0151\u014f"+
+		"\u0001\u0000\u0000\u0000\u0151\u0150\u0001\u0000\u0000\u0000\u0152\u0017"+
+		"\u0001\u0000\u0000\u0000\u0153\u0154\u0005\u001b\u0000\u0000\u0154\u0155"+
+		"\u0005\"\u0000\u0000\u0155\u0156\u0003t:\u0000\u0156\u0019\u0001\u0000"+
+		"\u0000\u0000\u0157\u0159\u0005\u001b\u0000\u0000\u0158\u015a\u0003\u001c"+
+		"\u000e\u0000\u0159\u0158\u0001\u0000\u0000\u0000\u0159\u015a\u0001\u0000"+
+		"\u0000\u0000\u015a\u015b\u0001\u0000\u0000\u0000\u015b\u015c\u0003t:\u0000"+
+		"\u015c\u001b\u0001\u0000\u0000\u0000\u015d\u015e\u0005 \u0000\u0000\u015e"+
+		"\u0163\u0003\u001e\u000f\u0000\u015f\u0160\u0005#\u0000\u0000\u0160\u0162"+
+		"\u0003\u001e\u000f\u0000\u0161\u015f\u0001\u0000\u0000\u0000\u0162\u0165"+
+		"\u0001\u0000\u0000\u0000\u0163\u0161\u0001\u0000\u0000\u0000\u0163\u0164"+
+		"\u0001\u0000\u0000\u0000\u0164\u0166\u0001\u0000\u0000\u0000\u0165\u0163"+
+		"\u0001\u0000\u0000\u0000\u0166\u0167\u0005!\u0000\u0000\u0167\u001d\u0001"+
+		"\u0000\u0000\u0000\u0168\u0169\u0003\u0010\b\u0000\u0169\u016a\u0003 "+
+		"\u0010\u0000\u016a\u001f\u0001\u0000\u0000\u0000\u016b\u0170\u0003\"\u0011"+
+		"\u0000\u016c\u016d\u00053\u0000\u0000\u016d\u016f\u0003\"\u0011\u0000"+
+		"\u016e\u016c\u0001\u0000\u0000\u0000\u016f\u0172\u0001\u0000\u0000\u0000"+
+		"\u0170\u016e\u0001\u0000\u0000\u0000\u0170\u0171\u0001\u0000\u0000\u0000"+
+		"\u0171!\u0001\u0000\u0000\u0000\u0172\u0170\u0001\u0000\u0000\u0000\u0173"+
+		"\u0175\u00059\u0000\u0000\u0174\u0173\u0001\u0000\u0000\u0000\u0174\u0175"+
+		"\u0001\u0000\u0000\u0000\u0175\u0176\u0001\u0000\u0000\u0000\u0176\u0177"+
+		"\u0003t:\u0000\u0177#\u0001\u0000\u0000\u0000\u0178\u0179\u0005\u0003"+
+		"\u0000\u0000\u0179\u017b\u0005\u001b\u0000\u0000\u017a\u017c\u0003\u001c"+
+		"\u000e\u0000\u017b\u017a\u0001\u0000\u0000\u0000\u017b\u017c\u0001\u0000"+
+		"\u0000\u0000\u017c\u017d\u0001\u0000\u0000\u0000\u017d\u017f\u0003\u0090"+
+		"H\u0000\u017e\u0180\u0003.\u0017\u0000\u017f\u017e\u0001\u0000\u0000\u0000"+
+		"\u017f\u0180\u0001\u0000\u0000\u0000\u0180%\u0001\u0000\u0000\u0000\u0181"+
+		"\u0182\u0005\u0003\u0000\u0000\u0182\u0183\u0003(\u0014\u0000\u0183\u0184"+
+		"\u0005\u001b\u0000\u0000\u0184\u0186\u0003\u0090H\u0000\u0185\u0187\u0003"+
+		".\u0017\u0000\u0186\u0185\u0001\u0000\u0000\u0000\u0186\u0187\u0001\u0000"+
+		"\u0000\u0000\u0187\'\u0001\u0000\u0000\u0000\u0188\u0189\u0003\u0094J"+
+		"\u0000\u0189)\u0001\u0000\u0000\u0000\u018a\u019c\u0005\u0019\u0000\u0000"+
+		"\u018b\u019d\u0003,\u0016\u0000\u018c\u0199\u0005\u001c\u0000\u0000\u018d"+
+		"\u0193\u0003,\u0016\u0000\u018e\u018f\u0003\u00d2i\u0000\u018f\u0190\u0003"+
+		",\u0016\u0000\u0190\u0192\u0001\u0000\u0000\u0000\u0191\u018e\u0001\u0000"+
+		"\u0000\u0000\u0192\u0195\u0001\u0000\u0000\u0000\u0193\u0191\u0001\u0000"+
+		"\u0000\u0000\u0193\u0194\u0001\u0000\u0000\u0000\u0194\u0197\u0001\u0000"+
+		"\u0000\u0000\u0195\u0193\u0001\u0000\u0000\u0000\u0196\u0198\u0003\u00d2"+
+		"i\u0000\u0197\u0196\u0001\u0000\u0000\u0000\u0197\u0198\u0001\u0000\u0000"+
+		"\u0000\u0198\u019a\u0001\u0000\u0000\u0000\u0199\u018d\u0001\u0000\u0000"+
+		"\u0000\u0199\u019a\u0001\u0000\u0000\u0000\u019a\u019b\u0001\u0000\u0000"+
+		"\u0000\u019b\u019d\u0005\u001d\u0000\u0000\u019c\u018b\u0001\u0000\u0000"+
+		"\u0000\u019c\u018c\u0001\u0000\u0000\u0000\u019d+\u0001\u0000\u0000\u0000"+
+		"\u019e\u01a6\u0003\u0010\b\u0000\u019f\u01a2\u0003t:\u0000\u01a0\u01a1"+
+		"\u0005\"\u0000\u0000\u01a1\u01a3\u0003\u0012\t\u0000\u01a2\u01a0\u0001"+
+		"\u0000\u0000\u0000\u01a2\u01a3\u0001\u0000\u0000\u0000\u01a3\u01a7\u0001"+
+		"\u0000\u0000\u0000\u01a4\u01a5\u0005\"\u0000\u0000\u01a5\u01a7\u0003\u0012"+
+		"\t\u0000\u01a6\u019f\u0001\u0000\u0000\u0000\u01a6\u01a4\u0001\u0000\u0000"+
+		"\u0000\u01a7-\u0001\u0000\u0000\u0000\u01a8\u01aa\u0005\u001e\u0000\u0000"+
+		"\u01a9\u01ab\u00030\u0018\u0000\u01aa\u01a9\u0001\u0000\u0000\u0000\u01aa"+
+		"\u01ab\u0001\u0000\u0000\u0000\u01ab\u01ac\u0001\u0000\u0000\u0000\u01ac"+
+		"\u01ad\u0005\u001f\u0000\u0000\u01ad/\u0001\u0000\u0000\u0000\u01ae\u01b0"+
+		"\u0007\u0001\u0000\u0000\u01af\u01ae\u0001\u0000\u0000\u0000\u01af\u01b0"+
+		"\u0001\u0000\u0000\u0000\u01b0\u01b1\u0001\u0000\u0000\u0000\u01b1\u01ba"+
+		"\u00032\u0019\u0000\u01b2\u01b4\u0003\u00d2i\u0000\u01b3\u01b5\u0007\u0001"+
+		"\u0000\u0000\u01b4\u01b3\u0001\u0000\u0000\u0000\u01b4\u01b5\u0001\u0000"+
+		"\u0000\u0000\u01b5\u01b6\u0001\u0000\u0000\u0000\u01b6\u01b7\u00032\u0019"+
+		"\u0000\u01b7\u01b9\u0001\u0000\u0000\u0000\u01b8\u01b2\u0001\u0000\u0000"+
+		"\u0000\u01b9\u01bc\u0001\u0000\u0000\u0000\u01ba\u01b8\u0001\u0000\u0000"+
+		"\u0000\u01ba\u01bb\u0001\u0000\u0000\u0000\u01bb\u01be\u0001\u0000\u0000"+
+		"\u0000\u01bc\u01ba\u0001\u0000\u0000\u0000\u01bd\u01bf\u0003\u00d2i\u0000"+
+		"\u01be\u01bd\u0001\u0000\u0000\u0000\u01be\u01bf\u0001\u0000\u0000\u0000"+
+		"\u01bf\u01c0\u0001\u0000\u0000\u0000\u01c0\u01c1\u0006\u0018\uffff\uffff"+
+		"\u0000\u01c11\u0001\u0000\u0000\u0000\u01c2\u01d2\u0003\n\u0005\u0000"+
+		"\u01c3\u01d2\u0003B!\u0000\u01c4\u01d2\u00034\u001a\u0000\u01c5\u01d2"+
+		"\u0003r9\u0000\u01c6\u01d2\u0003D\"\u0000\u01c7\u01d2\u0003F#\u0000\u01c8"+
+		"\u01d2\u0003H$\u0000\u01c9\u01d2\u0003J%\u0000\u01ca\u01d2\u0003L&\u0000"+
+		"\u01cb\u01d2\u0003.\u0017\u0000\u01cc\u01d2\u0003P(\u0000\u01cd\u01d2"+
+		"\u0003R)\u0000\u01ce\u01d2\u0003d2\u0000\u01cf\u01d2\u0003l6\u0000\u01d0"+
+		"\u01d2\u0003N\'\u0000\u01d1\u01c2\u0001\u0000\u0000\u0000\u01d1\u01c3"+
+		"\u0001\u0000\u0000\u0000\u01d1\u01c4\u0001\u0000\u0000\u0000\u01d1\u01c5"+
+		"\u0001\u0000\u0000\u0000\u01d1\u01c6\u0001\u0000\u0000\u0000\u01d1\u01c7"+
+		"\u0001\u0000\u0000\u0000\u01d1\u01c8\u0001\u0000\u0000\u0000\u01d1\u01c9"+
+		"\u0001\u0000\u0000\u0000\u01d1\u01ca\u0001\u0000\u0000\u0000\u01d1\u01cb"+
+		"\u0001\u0000\u0000\u0000\u01d1\u01cc\u0001\u0000\u0000\u0000\u01d1\u01cd"+
+		"\u0001\u0000\u0000\u0000\u01d1\u01ce\u0001\u0000\u0000\u0000\u01d1\u01cf"+
+		"\u0001\u0000\u0000\u0000\u01d1\u01d0\u0001\u0000\u0000\u0000\u01d23\u0001"+
+		"\u0000\u0000\u0000\u01d3\u01d9\u00038\u001c\u0000\u01d4\u01d9\u0003:\u001d"+
+		"\u0000\u01d5\u01d9\u0003<\u001e\u0000\u01d6\u01d9\u00036\u001b\u0000\u01d7"+
+		"\u01d9\u0003@ \u0000\u01d8\u01d3\u0001\u0000\u0000\u0000\u01d8\u01d4\u0001"+
+		"\u0000\u0000\u0000\u01d8\u01d5\u0001\u0000\u0000\u0000\u01d8\u01d6\u0001"+
+		"\u0000\u0000\u0000\u01d8\u01d7\u0001\u0000\u0000\u0000\u01d95\u0001\u0000"+
+		"\u0000\u0000\u01da\u01db\u0003\u0098L\u0000\u01db7\u0001\u0000\u0000\u0000"+
+		"\u01dc\u01dd\u0003\u0098L\u0000\u01dd\u01de\u0005@\u0000\u0000\u01de\u01df"+
+		"\u0003\u0098L\u0000\u01df9\u0001\u0000\u0000\u0000\u01e0\u01e1\u0003\u0098"+
+		"L\u0000\u01e1\u01e2\u0007\u0002\u0000\u0000\u01e2;\u0001\u0000\u0000\u0000"+
+		"\u01e3\u01e4\u0003\u0012\t\u0000\u01e4\u01e5\u0003>\u001f\u0000\u01e5"+
+		"\u01e6\u0003\u0012\t\u0000\u01e6=\u0001\u0000\u0000\u0000\u01e7\u01e9"+
+		"\u0007\u0003\u0000\u0000\u01e8\u01e7\u0001\u0000\u0000\u0000\u01e8\u01e9"+
+		"\u0001\u0000\u0000\u0000\u01e9\u01ea\u0001\u0000\u0000\u0000\u01ea\u01eb"+
+		"\u0005\"\u0000\u0000\u01eb?\u0001\u0000\u0000\u0000\u01ec\u01ed\u0003"+
+		"\u0010\b\u0000\u01ed\u01ee\u0005)\u0000\u0000\u01ee\u01ef\u0003\u0012"+
+		"\t\u0000\u01efA\u0001\u0000\u0000\u0000\u01f0\u01f1\u0005\u001b\u0000"+
+		"\u0000\u01f1\u01f3\u0005%\u0000\u0000\u01f2\u01f4\u00032\u0019\u0000\u01f3"+
+		"\u01f2\u0001\u0000\u0000\u0000\u01f3\u01f4\u0001\u0000\u0000\u0000\u01f4"+
+		"C\u0001\u0000\u0000\u0000\u01f5\u01f7\u0005\u0018\u0000\u0000\u01f6\u01f8"+
+		"\u0003\u0012\t\u0000\u01f7\u01f6\u0001\u0000\u0000\u0000\u01f7\u01f8\u0001"+
+		"\u0000\u0000\u0000\u01f8E\u0001\u0000\u0000\u0000\u01f9\u01fb\u0005\u0001"+
+		"\u0000\u0000\u01fa\u01fc\u0005\u001b\u0000\u0000\u01fb\u01fa\u0001\u0000"+
+		"\u0000\u0000\u01fb\u01fc\u0001\u0000\u0000\u0000\u01fcG\u0001\u0000\u0000"+
+		"\u0000\u01fd\u01ff\u0005\u0015\u0000\u0000\u01fe\u0200\u0005\u001b\u0000"+
+		"\u0000\u01ff\u01fe\u0001\u0000\u0000\u0000\u01ff\u0200\u0001\u0000\u0000"+
+		"\u0000\u0200I\u0001\u0000\u0000\u0000\u0201\u0202\u0005\r\u0000\u0000"+
+		"\u0202\u0203\u0005\u001b\u0000\u0000\u0203K\u0001\u0000\u0000\u0000\u0204"+
+		"\u0205\u0005\u0011\u0000\u0000\u0205M\u0001\u0000\u0000\u0000\u0206\u0207"+
+		"\u0005\u0007\u0000\u0000\u0207\u0208\u0003\u0098L\u0000\u0208O\u0001\u0000"+
+		"\u0000\u0000\u0209\u0212\u0005\u0012\u0000\u0000\u020a\u0213\u0003\u0098"+
+		"L\u0000\u020b\u020c\u0003\u00d0h\u0000\u020c\u020d\u0003\u0098L\u0000"+
+		"\u020d\u0213\u0001\u0000\u0000\u0000\u020e\u020f\u00034\u001a\u0000\u020f"+
+		"\u0210\u0003\u00d0h\u0000\u0210\u0211\u0003\u0098L\u0000\u0211\u0213\u0001"+
+		"\u0000\u0000\u0000\u0212\u020a\u0001\u0000\u0000\u0000\u0212\u020b\u0001"+
+		"\u0000\u0000\u0000\u0212\u020e\u0001\u0000\u0000\u0000\u0213\u0214\u0001"+
+		"\u0000\u0000\u0000\u0214\u021a\u0003.\u0017\u0000\u0215\u0218\u0005\f"+
+		"\u0000\u0000\u0216\u0219\u0003P(\u0000\u0217\u0219\u0003.\u0017\u0000"+
+		"\u0218\u0216\u0001\u0000\u0000\u0000\u0218\u0217\u0001\u0000\u0000\u0000"+
+		"\u0219\u021b\u0001\u0000\u0000\u0000\u021a\u0215\u0001\u0000\u0000\u0000"+
+		"\u021a\u021b\u0001\u0000\u0000\u0000\u021bQ\u0001\u0000\u0000\u0000\u021c"+
+		"\u021f\u0003T*\u0000\u021d\u021f\u0003Z-\u0000\u021e\u021c\u0001\u0000"+
+		"\u0000\u0000\u021e\u021d\u0001\u0000\u0000\u0000\u021fS\u0001\u0000\u0000"+
+		"\u0000\u0220\u022b\u0005\u000f\u0000\u0000\u0221\u0223\u0003\u0098L\u0000"+
+		"\u0222\u0221\u0001\u0000\u0000\u0000\u0222\u0223\u0001\u0000\u0000\u0000"+
+		"\u0223\u022c\u0001\u0000\u0000\u0000\u0224\u0226\u00034\u001a\u0000\u0225"+
+		"\u0224\u0001\u0000\u0000\u0000\u0225\u0226\u0001\u0000\u0000\u0000\u0226"+
+		"\u0227\u0001\u0000\u0000\u0000\u0227\u0229\u0003\u00d0h\u0000\u0228\u022a"+
+		"\u0003\u0098L\u0000\u0229\u0228\u0001\u0000\u0000\u0000\u0229\u022a\u0001"+
+		"\u0000\u0000\u0000\u022a\u022c\u0001\u0000\u0000\u0000\u022b\u0222\u0001"+
+		"\u0000\u0000\u0000\u022b\u0225\u0001\u0000\u0000\u0000\u022c\u022d\u0001"+
+		"\u0000\u0000\u0000\u022d\u0231\u0005\u001e\u0000\u0000\u022e\u0230\u0003"+
+		"V+\u0000\u022f\u022e\u0001\u0000\u0000\u0000\u0230\u0233\u0001\u0000\u0000"+
+		"\u0000\u0231\u022f\u0001\u0000\u0000\u0000\u0231\u0232\u0001\u0000\u0000"+
+		"\u0000\u0232\u0234\u0001\u0000\u0000\u0000\u0233\u0231\u0001\u0000\u0000"+
+		"\u0000\u0234\u0235\u0005\u001f\u0000\u0000\u0235U\u0001\u0000\u0000\u0000"+
+		"\u0236\u0237\u0003X,\u0000\u0237\u0239\u0005%\u0000\u0000\u0238\u023a"+
+		"\u00030\u0018\u0000\u0239\u0238\u0001\u0000\u0000\u0000\u0239\u023a\u0001"+
+		"\u0000\u0000\u0000\u023aW\u0001\u0000\u0000\u0000\u023b\u023c\u0005\u0006"+
+		"\u0000\u0000\u023c\u023f\u0003\u0012\t\u0000\u023d\u023f\u0005\u0002\u0000"+
+		"\u0000\u023e\u023b\u0001\u0000\u0000\u0000\u023e\u023d\u0001\u0000\u0000"+
+		"\u0000\u023fY\u0001\u0000\u0000\u0000\u0240\u0249\u0005\u000f\u0000\u0000"+
+		"\u0241\u024a\u0003\\.\u0000\u0242\u0243\u0003\u00d0h\u0000\u0243\u0244"+
+		"\u0003\\.\u0000\u0244\u024a\u0001\u0000\u0000\u0000\u0245\u0246\u0003"+
+		"4\u001a\u0000\u0246\u0247\u0003\u00d0h\u0000\u0247\u0248\u0003\\.\u0000"+
+		"\u0248\u024a\u0001\u0000\u0000\u0000\u0249\u0241\u0001\u0000\u0000\u0000"+
+		"\u0249\u0242\u0001\u0000\u0000\u0000\u0249\u0245\u0001\u0000\u0000\u0000"+
+		"\u024a\u024b\u0001\u0000\u0000\u0000\u024b\u024f\u0005\u001e\u0000\u0000"+
+		"\u024c\u024e\u0003^/\u0000\u024d\u024c\u0001\u0000\u0000\u0000\u024e\u0251"+
+		"\u0001\u0000\u0000\u0000\u024f\u024d\u0001\u0000\u0000\u0000\u024f\u0250"+
+		"\u0001\u0000\u0000\u0000\u0250\u0252\u0001\u0000\u0000\u0000\u0251\u024f"+
+		"\u0001\u0000\u0000\u0000\u0252\u0253\u0005\u001f\u0000\u0000\u0253[\u0001"+
+		"\u0000\u0000\u0000\u0254\u0255\u0005\u001b\u0000\u0000\u0255\u0257\u0005"+
+		")\u0000\u0000\u0256\u0254\u0001\u0000\u0000\u0000\u0256\u0257\u0001\u0000"+
+		"\u0000\u0000\u0257\u0258\u0001\u0000\u0000\u0000\u0258\u0259\u0003\u009c"+
+		"N\u0000\u0259\u025a\u0005&\u0000\u0000\u025a\u025b\u0005\u001c\u0000\u0000"+
+		"\u025b\u025c\u0005\u0014\u0000\u0000\u025c\u025d\u0005\u001d\u0000\u0000"+
+		"\u025d]\u0001\u0000\u0000\u0000\u025e\u025f\u0003`0\u0000\u025f\u0261"+
+		"\u0005%\u0000\u0000\u0260\u0262\u00030\u0018\u0000\u0261\u0260\u0001\u0000"+
+		"\u0000\u0000\u0261\u0262\u0001\u0000\u0000\u0000\u0262_\u0001\u0000\u0000"+
+		"\u0000\u0263\u0264\u0005\u0006\u0000\u0000\u0264\u0267\u0003b1\u0000\u0265"+
+		"\u0267\u0005\u0002\u0000\u0000\u0266\u0263\u0001\u0000\u0000\u0000\u0266"+
+		"\u0265\u0001\u0000\u0000\u0000\u0267a\u0001\u0000\u0000\u0000\u0268\u026b"+
+		"\u0003t:\u0000\u0269\u026b\u0005\u001a\u0000\u0000\u026a\u0268\u0001\u0000"+
+		"\u0000\u0000\u026a\u0269\u0001\u0000\u0000\u0000\u026b\u0273\u0001\u0000"+
+		"\u0000\u0000\u026c\u026f\u0005#\u0000\u0000\u026d\u0270\u0003t:\u0000"+
+		"\u026e\u0270\u0005\u001a\u0000\u0000\u026f\u026d\u0001\u0000\u0000\u0000"+
+		"\u026f\u026e\u0001\u0000\u0000\u0000\u0270\u0272\u0001\u0000\u0000\u0000"+
+		"\u0271\u026c\u0001\u0000\u0000\u0000\u0272\u0275\u0001\u0000\u0000\u0000"+
+		"\u0273\u0271\u0001\u0000\u0000\u0000\u0273\u0274\u0001\u0000\u0000\u0000"+
+		"\u0274c\u0001\u0000\u0000\u0000\u0275\u0273\u0001\u0000\u0000\u0000\u0276"+
+		"\u0277\u0005\u0005\u0000\u0000\u0277\u027b\u0005\u001e\u0000\u0000\u0278"+
+		"\u027a\u0003f3\u0000\u0279\u0278\u0001\u0000\u0000\u0000\u027a\u027d\u0001"+
+		"\u0000\u0000\u0000\u027b\u0279\u0001\u0000\u0000\u0000\u027b\u027c\u0001"+
+		"\u0000\u0000\u0000\u027c\u027e\u0001\u0000\u0000\u0000\u027d\u027b\u0001"+
+		"\u0000\u0000\u0000\u027e\u027f\u0005\u001f\u0000\u0000\u027fe\u0001\u0000"+
+		"\u0000\u0000\u0280\u0281\u0003h4\u0000\u0281\u0283\u0005%\u0000\u0000"+
+		"\u0282\u0284\u00030\u0018\u0000\u0283\u0282\u0001\u0000\u0000\u0000\u0283"+
+		"\u0284\u0001\u0000\u0000\u0000\u0284g\u0001\u0000\u0000\u0000\u0285\u0288"+
+		"\u0005\u0006\u0000\u0000\u0286\u0289\u00038\u001c\u0000\u0287\u0289\u0003"+
+		"j5\u0000\u0288\u0286\u0001\u0000\u0000\u0000\u0288\u0287\u0001\u0000\u0000"+
+		"\u0000\u0289\u028c\u0001\u0000\u0000\u0000\u028a\u028c\u0005\u0002\u0000"+
+		"\u0000\u028b\u0285\u0001\u0000\u0000\u0000\u028b\u028a\u0001\u0000\u0000"+
+		"\u0000\u028ci\u0001\u0000\u0000\u0000\u028d\u028e\u0003\u0012\t\u0000"+
+		"\u028e\u028f\u0005\"\u0000\u0000\u028f\u0294\u0001\u0000\u0000\u0000\u0290"+
+		"\u0291\u0003\u0010\b\u0000\u0291\u0292\u0005)\u0000\u0000\u0292\u0294"+
+		"\u0001\u0000\u0000\u0000\u0293\u028d\u0001\u0000\u0000\u0000\u0293\u0290"+
+		"\u0001\u0000\u0000\u0000\u0293\u0294\u0001\u0000\u0000\u0000\u0294\u0295"+
+		"\u0001\u0000\u0000\u0000\u0295\u0296\u0003\u0098L\u0000\u0296k\u0001\u0000"+
+		"\u0000\u0000\u0297\u029f\u0005\u0016\u0000\u0000\u0298\u029a\u0003\u0098"+
+		"L\u0000\u0299\u0298\u0001\u0000\u0000\u0000\u0299\u029a\u0001\u0000\u0000"+
+		"\u0000\u029a\u02a0\u0001\u0000\u0000\u0000\u029b\u02a0\u0003n7\u0000\u029c"+
+		"\u029e\u0003p8\u0000\u029d\u029c\u0001\u0000\u0000\u0000\u029d\u029e\u0001"+
+		"\u0000\u0000\u0000\u029e\u02a0\u0001\u0000\u0000\u0000\u029f\u0299\u0001"+
+		"\u0000\u0000\u0000\u029f\u029b\u0001\u0000\u0000\u0000\u029f\u029d\u0001"+
+		"\u0000\u0000\u0000\u02a0\u02a1\u0001\u0000\u0000\u0000\u02a1\u02a2\u0003"+
+		".\u0017\u0000\u02a2m\u0001\u0000\u0000\u0000\u02a3\u02a5\u00034\u001a"+
+		"\u0000\u02a4\u02a3\u0001\u0000\u0000\u0000\u02a4\u02a5\u0001\u0000\u0000"+
+		"\u0000\u02a5\u02a6\u0001\u0000\u0000\u0000\u02a6\u02a8\u0003\u00d0h\u0000"+
+		"\u02a7\u02a9\u0003\u0098L\u0000\u02a8\u02a7\u0001\u0000\u0000\u0000\u02a8"+
+		"\u02a9\u0001\u0000\u0000\u0000\u02a9\u02aa\u0001\u0000\u0000\u0000\u02aa"+
+		"\u02ac\u0003\u00d0h\u0000\u02ab\u02ad\u00034\u001a\u0000\u02ac\u02ab\u0001"+
+		"\u0000\u0000\u0000\u02ac\u02ad\u0001\u0000\u0000\u0000\u02ado\u0001\u0000"+
+		"\u0000\u0000\u02ae\u02af\u0003\u0012\t\u0000\u02af\u02b0\u0005\"\u0000"+
+		"\u0000\u02b0\u02b5\u0001\u0000\u0000\u0000\u02b1\u02b2\u0003\u0010\b\u0000"+
+		"\u02b2\u02b3\u0005)\u0000\u0000\u02b3\u02b5\u0001\u0000\u0000\u0000\u02b4"+
+		"\u02ae\u0001\u0000\u0000\u0000\u02b4\u02b1\u0001\u0000\u0000\u0000\u02b4"+
+		"\u02b5\u0001\u0000\u0000\u0000\u02b5\u02b6\u0001\u0000\u0000\u0000\u02b6"+
+		"\u02b7\u0005\u0013\u0000\u0000\u02b7\u02b8\u0003\u0098L\u0000\u02b8q\u0001"+
+		"\u0000\u0000\u0000\u02b9\u02ba\u0005\b\u0000\u0000\u02ba\u02bb\u0003\u0098"+
+		"L\u0000\u02bbs\u0001\u0000\u0000\u0000\u02bc\u02be\u0003x<\u0000\u02bd"+
+		"\u02bf\u0003v;\u0000\u02be\u02bd\u0001\u0000\u0000\u0000\u02be\u02bf\u0001"+
+		"\u0000\u0000\u0000\u02bf\u02c6\u0001\u0000\u0000\u0000\u02c0\u02c6\u0003"+
+		"z=\u0000\u02c1\u02c2\u0005\u001c\u0000\u0000\u02c2\u02c3\u0003t:\u0000"+
+		"\u02c3\u02c4\u0005\u001d\u0000\u0000\u02c4\u02c6\u0001\u0000\u0000\u0000"+
+		"\u02c5\u02bc\u0001\u0000\u0000\u0000\u02c5\u02c0\u0001\u0000\u0000\u0000"+
+		"\u02c5\u02c1\u0001\u0000\u0000\u0000\u02c6u\u0001\u0000\u0000\u0000\u02c7"+
+		"\u02c8\u0005 \u0000\u0000\u02c8\u02ca\u0003b1\u0000\u02c9\u02cb\u0005"+
+		"#\u0000\u0000\u02ca\u02c9\u0001\u0000\u0000\u0000\u02ca\u02cb\u0001\u0000"+
+		"\u0000\u0000\u02cb\u02cc\u0001\u0000\u0000\u0000\u02cc\u02cd\u0005!\u0000"+
+		"\u0000\u02cdw\u0001\u0000\u0000\u0000\u02ce\u02d1\u0003\u00acV\u0000\u02cf"+
+		"\u02d1\u0005\u001b\u0000\u0000\u02d0\u02ce\u0001\u0000\u0000\u0000\u02d0"+
+		"\u02cf\u0001\u0000\u0000\u0000\u02d1y\u0001\u0000\u0000\u0000\u02d2\u02db"+
+		"\u0003|>\u0000\u02d3\u02db\u0003\u00bc^\u0000\u02d4\u02db\u0003\u0082"+
+		"A\u0000\u02d5\u02db\u0003\u008eG\u0000\u02d6\u02db\u0003\u0084B\u0000"+
+		"\u02d7\u02db\u0003\u0086C\u0000\u02d8\u02db\u0003\u0088D\u0000\u02d9\u02db"+
+		"\u0003\u008aE\u0000\u02da\u02d2\u0001\u0000\u0000\u0000\u02da\u02d3\u0001"+
+		"\u0000\u0000\u0000\u02da\u02d4\u0001\u0000\u0000\u0000\u02da\u02d5\u0001"+
+		"\u0000\u0000\u0000\u02da\u02d6\u0001\u0000\u0000\u0000\u02da\u02d7\u0001"+
+		"\u0000\u0000\u0000\u02da\u02d8\u0001\u0000\u0000\u0000\u02da\u02d9\u0001"+
+		"\u0000\u0000\u0000\u02db{\u0001\u0000\u0000\u0000\u02dc\u02dd\u0005 \u0000"+
+		"\u0000\u02dd\u02de\u0003~?\u0000\u02de\u02df\u0005!\u0000\u0000\u02df"+
+		"\u02e0\u0003\u0080@\u0000\u02e0}\u0001\u0000\u0000\u0000\u02e1\u02e2\u0003"+
+		"\u0098L\u0000\u02e2\u007f\u0001\u0000\u0000\u0000\u02e3\u02e4\u0003t:"+
+		"\u0000\u02e4\u0081\u0001\u0000\u0000\u0000\u02e5\u02e6\u0005>\u0000\u0000"+
+		"\u02e6\u02e7\u0003t:\u0000\u02e7\u0083\u0001\u0000\u0000\u0000\u02e8\u02e9"+
+		"\u0005\u0004\u0000\u0000\u02e9\u02fb\u0005\u001e\u0000\u0000\u02ea\u02ed"+
+		"\u0003\u008cF\u0000\u02eb\u02ed\u0003 \u0010\u0000\u02ec\u02ea\u0001\u0000"+
+		"\u0000\u0000\u02ec\u02eb\u0001\u0000\u0000\u0000\u02ed\u02f5\u0001\u0000"+
+		"\u0000\u0000\u02ee\u02f1\u0003\u00d2i\u0000\u02ef\u02f2\u0003\u008cF\u0000"+
+		"\u02f0\u02f2\u0003 \u0010\u0000\u02f1\u02ef\u0001\u0000\u0000\u0000\u02f1"+
+		"\u02f0\u0001\u0000\u0000\u0000\u02f2\u02f4\u0001\u0000\u0000\u0000\u02f3"+
+		"\u02ee\u0001\u0000\u0000\u0000\u02f4\u02f7\u0001\u0000\u0000\u0000\u02f5"+
+		"\u02f3\u0001\u0000\u0000\u0000\u02f5\u02f6\u0001\u0000\u0000\u0000\u02f6"+
+		"\u02f9\u0001\u0000\u0000\u0000\u02f7\u02f5\u0001\u0000\u0000\u0000\u02f8"+
+		"\u02fa\u0003\u00d2i\u0000\u02f9\u02f8\u0001\u0000\u0000\u0000\u02f9\u02fa"+
+		"\u0001\u0000\u0000\u0000\u02fa\u02fc\u0001\u0000\u0000\u0000\u02fb\u02ec"+
+		"\u0001\u0000\u0000\u0000\u02fb\u02fc\u0001\u0000\u0000\u0000\u02fc\u02fd"+
+		"\u0001\u0000\u0000\u0000\u02fd\u02fe\u0005\u001f\u0000\u0000\u02fe\u0085"+
+		"\u0001\u0000\u0000\u0000\u02ff\u0300\u0005 \u0000\u0000\u0300\u0301\u0005"+
+		"!\u0000\u0000\u0301\u0302\u0003\u0080@\u0000\u0302\u0087\u0001\u0000\u0000"+
+		"\u0000\u0303\u0304\u0005\t\u0000\u0000\u0304\u0305\u0005 \u0000\u0000"+
+		"\u0305\u0306\u0003t:\u0000\u0306\u0307\u0005!\u0000\u0000\u0307\u0308"+
+		"\u0003\u0080@\u0000\u0308\u0089\u0001\u0000\u0000\u0000\u0309\u030f\u0005"+
+		"\u000b\u0000\u0000\u030a\u030b\u0005\u000b\u0000\u0000\u030b\u030f\u0005"+
+		"@\u0000\u0000\u030c\u030d\u0005@\u0000\u0000\u030d\u030f\u0005\u000b\u0000"+
+		"\u0000\u030e\u0309\u0001\u0000\u0000\u0000\u030e\u030a\u0001\u0000\u0000"+
+		"\u0000\u030e\u030c\u0001\u0000\u0000\u0000\u030f\u0310\u0001\u0000\u0000"+
+		"\u0000\u0310\u0311\u0003\u0080@\u0000\u0311\u008b\u0001\u0000\u0000\u0000"+
+		"\u0312\u0313\u0005\u001b\u0000\u0000\u0313\u0314\u0003\u0094J\u0000\u0314"+
+		"\u0315\u0003\u0092I\u0000\u0315\u0319\u0001\u0000\u0000\u0000\u0316\u0317"+
+		"\u0005\u001b\u0000\u0000\u0317\u0319\u0003\u0094J\u0000\u0318\u0312\u0001"+
+		"\u0000\u0000\u0000\u0318\u0316\u0001\u0000\u0000\u0000\u0319\u008d\u0001"+
+		"\u0000\u0000\u0000\u031a\u031b\u0005\u0003\u0000\u0000\u031b\u031c\u0003"+
+		"\u0090H\u0000\u031c\u008f\u0001\u0000\u0000\u0000\u031d\u031f\u0003\u0094"+
+		"J\u0000\u031e\u0320\u0003\u0092I\u0000\u031f\u031e\u0001\u0000\u0000\u0000"+
+		"\u031f\u0320\u0001\u0000\u0000\u0000\u0320\u0091\u0001\u0000\u0000\u0000"+
+		"\u0321\u0324\u0003\u0094J\u0000\u0322\u0324\u0003t:\u0000\u0323\u0321"+
+		"\u0001\u0000\u0000\u0000\u0323\u0322\u0001\u0000\u0000\u0000\u0324\u0093"+
+		"\u0001\u0000\u0000\u0000\u0325\u0331\u0005\u001c\u0000\u0000\u0326\u032b"+
+		"\u0003\u0096K\u0000\u0327\u0328\u0005#\u0000\u0000\u0328\u032a\u0003\u0096"+
+		"K\u0000\u0329\u0327\u0001\u0000\u0000\u0000\u032a\u032d\u0001\u0000\u0000"+
+		"\u0000\u032b\u0329\u0001\u0000\u0000\u0000\u032b\u032c\u0001\u0000\u0000"+
+		"\u0000\u032c\u032f\u0001\u0000\u0000\u0000\u032d\u032b\u0001\u0000\u0000"+
+		"\u0000\u032e\u0330\u0005#\u0000\u0000\u032f\u032e\u0001\u0000\u0000\u0000"+
+		"\u032f\u0330\u0001\u0000\u0000\u0000\u0330\u0332\u0001\u0000\u0000\u0000"+
+		"\u0331\u0326\u0001\u0000\u0000\u0000\u0331\u0332\u0001\u0000\u0000\u0000"+
+		"\u0332\u0333\u0001\u0000\u0000\u0000\u0333\u0334\u0005\u001d\u0000\u0000"+
+		"\u0334\u0095\u0001\u0000\u0000\u0000\u0335\u0337\u0003\u0010\b\u0000\u0336"+
+		"\u0335\u0001\u0000\u0000\u0000\u0336\u0337\u0001\u0000\u0000\u0000\u0337"+
+		"\u0339\u0001\u0000\u0000\u0000\u0338\u033a\u0005*\u0000\u0000\u0339\u0338"+
+		"\u0001\u0000\u0000\u0000\u0339\u033a\u0001\u0000\u0000\u0000\u033a\u033b"+
+		"\u0001\u0000\u0000\u0000\u033b\u033c\u0003t:\u0000\u033c\u0097\u0001\u0000"+
+		"\u0000\u0000\u033d\u0342\u0003\u009aM\u0000\u033e\u033f\u0007\u0004\u0000"+
+		"\u0000\u033f\u0341\u0003\u009aM\u0000\u0340\u033e\u0001\u0000\u0000\u0000"+
+		"\u0341\u0344\u0001\u0000\u0000\u0000\u0342\u0340\u0001\u0000\u0000\u0000"+
+		"\u0342\u0343\u0001\u0000\u0000\u0000\u0343\u0099\u0001\u0000\u0000\u0000"+
+		"\u0344\u0342\u0001\u0000\u0000\u0000\u0345\u0349\u0003\u009cN\u0000\u0346"+
+		"\u0347\u0007\u0005\u0000\u0000\u0347\u0349\u0003\u009aM\u0000\u0348\u0345"+
+		"\u0001\u0000\u0000\u0000\u0348\u0346\u0001\u0000\u0000\u0000\u0349\u009b"+
+		"\u0001\u0000\u0000\u0000\u034a\u034e\u0003\u00a2Q\u0000\u034b\u034e\u0003"+
+		"\u00a0P\u0000\u034c\u034e\u0003\u00ceg\u0000\u034d\u034a\u0001\u0000\u0000"+
+		"\u0000\u034d\u034b\u0001\u0000\u0000\u0000\u034d\u034c\u0001\u0000\u0000"+
+		"\u0000\u034e\u0352\u0001\u0000\u0000\u0000\u034f\u0351\u0003\u009eO\u0000"+
+		"\u0350\u034f\u0001\u0000\u0000\u0000\u0351\u0354\u0001\u0000\u0000\u0000"+
+		"\u0352\u0350\u0001\u0000\u0000\u0000\u0352\u0353\u0001\u0000\u0000\u0000"+
+		"\u0353\u009d\u0001\u0000\u0000\u0000\u0354\u0352\u0001\u0000\u0000\u0000"+
+		"\u0355\u0356\u0005&\u0000\u0000\u0356\u035c\u0005\u001b\u0000\u0000\u0357"+
+		"\u035c\u0003\u00c6c\u0000\u0358\u035c\u0003\u00c8d\u0000\u0359\u035c\u0003"+
+		"\u00cae\u0000\u035a\u035c\u0003\u00ccf\u0000\u035b\u0355\u0001\u0000\u0000"+
+		"\u0000\u035b\u0357\u0001\u0000\u0000\u0000\u035b\u0358\u0001\u0000\u0000"+
+		"\u0000\u035b\u0359\u0001\u0000\u0000\u0000\u035b\u035a\u0001\u0000\u0000"+
+		"\u0000\u035c\u009f\u0001\u0000\u0000\u0000\u035d\u035e\u0003t:\u0000\u035e"+
+		"\u035f\u0005\u001c\u0000\u0000\u035f\u0361\u0003\u0098L\u0000\u0360\u0362"+
+		"\u0005#\u0000\u0000\u0361\u0360\u0001\u0000\u0000\u0000\u0361\u0362\u0001"+
+		"\u0000\u0000\u0000\u0362\u0363\u0001\u0000\u0000\u0000\u0363\u0364\u0005"+
+		"\u001d\u0000\u0000\u0364\u00a1\u0001\u0000\u0000\u0000\u0365\u036f\u0003"+
+		"\u00a4R\u0000\u0366\u0368\u0003\u00aaU\u0000\u0367\u0369\u0003v;\u0000"+
+		"\u0368\u0367\u0001\u0000\u0000\u0000\u0368\u0369\u0001\u0000\u0000\u0000"+
+		"\u0369\u036f\u0001\u0000\u0000\u0000\u036a\u036b\u0005\u001c\u0000\u0000"+
+		"\u036b\u036c\u0003\u0098L\u0000\u036c\u036d\u0005\u001d\u0000\u0000\u036d"+
+		"\u036f\u0001\u0000\u0000\u0000\u036e\u0365\u0001\u0000\u0000\u0000\u036e"+
+		"\u0366\u0001\u0000\u0000\u0000\u036e\u036a\u0001\u0000\u0000\u0000\u036f"+
+		"\u00a3\u0001\u0000\u0000\u0000\u0370\u0374\u0003\u00a6S\u0000\u0371\u0374"+
+		"\u0003\u00aeW\u0000\u0372\u0374\u0003\u00c4b\u0000\u0373\u0370\u0001\u0000"+
+		"\u0000\u0000\u0373\u0371\u0001\u0000\u0000\u0000\u0373\u0372\u0001\u0000"+
+		"\u0000\u0000\u0374\u00a5\u0001\u0000\u0000\u0000\u0375\u037a\u0005\u001a"+
+		"\u0000\u0000\u0376\u037a\u0003\u00a8T\u0000\u0377\u037a\u0003\u00c0`\u0000"+
+		"\u0378\u037a\u0005E\u0000\u0000\u0379\u0375\u0001\u0000\u0000\u0000\u0379"+
+		"\u0376\u0001\u0000\u0000\u0000\u0379\u0377\u0001\u0000\u0000\u0000\u0379"+
+		"\u0378\u0001\u0000\u0000\u0000\u037a\u00a7\u0001\u0000\u0000\u0000\u037b"+
+		"\u037c\u0007\u0006\u0000\u0000\u037c\u00a9\u0001\u0000\u0000\u0000\u037d"+
+		"\u037e\u0005\u001b\u0000\u0000\u037e\u00ab\u0001\u0000\u0000\u0000\u037f"+
+		"\u0380\u0005\u001b\u0000\u0000\u0380\u0381\u0005&\u0000\u0000\u0381\u0382"+
+		"\u0005\u001b\u0000\u0000\u0382\u00ad\u0001\u0000\u0000\u0000\u0383\u0384"+
+		"\u0003\u00b0X\u0000\u0384\u0385\u0003\u00b2Y\u0000\u0385\u00af\u0001\u0000"+
+		"\u0000\u0000\u0386\u0393\u0003\u00bc^\u0000\u0387\u0393\u0003|>\u0000"+
+		"\u0388\u0389\u0005 \u0000\u0000\u0389\u038a\u0005*\u0000\u0000\u038a\u038b"+
+		"\u0005!\u0000\u0000\u038b\u0393\u0003\u0080@\u0000\u038c\u0393\u0003\u0086"+
+		"C\u0000\u038d\u0393\u0003\u0088D\u0000\u038e\u0390\u0003x<\u0000\u038f"+
+		"\u0391\u0003v;\u0000\u0390\u038f\u0001\u0000\u0000\u0000\u0390\u0391\u0001"+
+		"\u0000\u0000\u0000\u0391\u0393\u0001\u0000\u0000\u0000\u0392\u0386\u0001"+
+		"\u0000\u0000\u0000\u0392\u0387\u0001\u0000\u0000\u0000\u0392\u0388\u0001"+
+		"\u0000\u0000\u0000\u0392\u038c\u0001\u0000\u0000\u0000\u0392\u038d\u0001"+
+		"\u0000\u0000\u0000\u0392\u038e\u0001\u0000\u0000\u0000\u0393\u00b1\u0001"+
+		"\u0000\u0000\u0000\u0394\u0399\u0005\u001e\u0000\u0000\u0395\u0397\u0003"+
+		"\u00b4Z\u0000\u0396\u0398\u0005#\u0000\u0000\u0397\u0396\u0001\u0000\u0000"+
+		"\u0000\u0397\u0398\u0001\u0000\u0000\u0000\u0398\u039a\u0001\u0000\u0000"+
+		"\u0000\u0399\u0395\u0001\u0000\u0000\u0000\u0399\u039a\u0001\u0000\u0000"+
+		"\u0000\u039a\u039b\u0001\u0000\u0000\u0000\u039b\u039c\u0005\u001f\u0000"+
+		"\u0000\u039c\u00b3\u0001\u0000\u0000\u0000\u039d\u03a2\u0003\u00b6[\u0000"+
+		"\u039e\u039f\u0005#\u0000\u0000\u039f\u03a1\u0003\u00b6[\u0000\u03a0\u039e"+
+		"\u0001\u0000\u0000\u0000\u03a1\u03a4\u0001\u0000\u0000\u0000\u03a2\u03a0"+
+		"\u0001\u0000\u0000\u0000\u03a2\u03a3\u0001\u0000\u0000\u0000\u03a3\u00b5"+
+		"\u0001\u0000\u0000\u0000\u03a4\u03a2\u0001\u0000\u0000\u0000\u03a5\u03a6"+
+		"\u0003\u00b8\\\u0000\u03a6\u03a7\u0005%\u0000\u0000\u03a7\u03a9\u0001"+
+		"\u0000\u0000\u0000\u03a8\u03a5\u0001\u0000\u0000\u0000\u03a8\u03a9\u0001"+
+		"\u0000\u0000\u0000\u03a9\u03aa\u0001\u0000\u0000\u0000\u03aa\u03ab\u0003"+
+		"\u00ba]\u0000\u03ab\u00b7\u0001\u0000\u0000\u0000\u03ac\u03af\u0003\u0098"+
+		"L\u0000\u03ad\u03af\u0003\u00b2Y\u0000\u03ae\u03ac\u0001\u0000\u0000\u0000"+
+		"\u03ae\u03ad\u0001\u0000\u0000\u0000\u03af\u00b9\u0001\u0000\u0000\u0000"+
+		"\u03b0\u03b3\u0003\u0098L\u0000\u03b1\u03b3\u0003\u00b2Y\u0000\u03b2\u03b0"+
+		"\u0001\u0000\u0000\u0000\u03b2\u03b1\u0001\u0000\u0000\u0000\u03b3\u00bb"+
+		"\u0001\u0000\u0000\u0000\u03b4\u03b5\u0005\n\u0000\u0000\u03b5\u03c2\u0005"+
+		"\u001e\u0000\u0000\u03b6\u03bc\u0003\u00be_\u0000\u03b7\u03b8\u0003\u00d2"+
+		"i\u0000\u03b8\u03b9\u0003\u00be_\u0000\u03b9\u03bb\u0001\u0000\u0000\u0000"+
+		"\u03ba\u03b7\u0001\u0000\u0000\u0000\u03bb\u03be\u0001\u0000\u0000\u0000"+
+		"\u03bc\u03ba\u0001\u0000\u0000\u0000\u03bc\u03bd\u0001\u0000\u0000\u0000"+
+		"\u03bd\u03c0\u0001\u0000\u0000\u0000\u03be\u03bc\u0001\u0000\u0000\u0000"+
+		"\u03bf\u03c1\u0003\u00d2i\u0000\u03c0\u03bf\u0001\u0000\u0000\u0000\u03c0"+
+		"\u03c1\u0001\u0000\u0000\u0000\u03c1\u03c3\u0001\u0000\u0000\u0000\u03c2"+
+		"\u03b6\u0001\u0000\u0000\u0000\u03c2\u03c3\u0001\u0000\u0000\u0000\u03c3"+
+		"\u03c4\u0001\u0000\u0000\u0000\u03c4\u03c5\u0005\u001f\u0000\u0000\u03c5"+
+		"\u00bd\u0001\u0000\u0000\u0000\u03c6\u03c7\u0003\u0010\b\u0000\u03c7\u03c8"+
+		"\u0003t:\u0000\u03c8\u03cb\u0001\u0000\u0000\u0000\u03c9\u03cb\u0003\u00c2"+
+		"a\u0000\u03ca\u03c6\u0001\u0000\u0000\u0000\u03ca\u03c9\u0001\u0000\u0000"+
+		"\u0000\u03cb\u03cd\u0001\u0000\u0000\u0000\u03cc\u03ce\u0003\u00c0`\u0000"+
+		"\u03cd\u03cc\u0001\u0000\u0000\u0000\u03cd\u03ce\u0001\u0000\u0000\u0000"+
+		"\u03ce\u00bf\u0001\u0000\u0000\u0000\u03cf\u03d0\u0007\u0007\u0000\u0000"+
+		"\u03d0\u00c1\u0001\u0000\u0000\u0000\u03d1\u03d3\u0005>\u0000\u0000\u03d2"+
+		"\u03d1\u0001\u0000\u0000\u0000\u03d2\u03d3\u0001\u0000\u0000\u0000\u03d3"+
+		"\u03d4\u0001\u0000\u0000\u0000\u03d4\u03d6\u0003x<\u0000\u03d5\u03d7\u0003"+
+		"v;\u0000\u03d6\u03d5\u0001\u0000\u0000\u0000\u03d6\u03d7\u0001\u0000\u0000"+
+		"\u0000\u03d7\u00c3\u0001\u0000\u0000\u0000\u03d8\u03d9\u0005\u0003\u0000"+
+		"\u0000\u03d9\u03da\u0003\u0090H\u0000\u03da\u03db\u0003.\u0017\u0000\u03db"+
+		"\u00c5\u0001\u0000\u0000\u0000\u03dc\u03dd\u0005 \u0000\u0000\u03dd\u03de"+
+		"\u0003\u0098L\u0000\u03de\u03df\u0005!\u0000\u0000\u03df\u00c7\u0001\u0000"+
+		"\u0000\u0000\u03e0\u03f0\u0005 \u0000\u0000\u03e1\u03e3\u0003\u0098L\u0000"+
+		"\u03e2\u03e1\u0001\u0000\u0000\u0000\u03e2\u03e3\u0001\u0000\u0000\u0000"+
+		"\u03e3\u03e4\u0001\u0000\u0000\u0000\u03e4\u03e6\u0005%\u0000\u0000\u03e5"+
+		"\u03e7\u0003\u0098L\u0000\u03e6\u03e5\u0001\u0000\u0000\u0000\u03e6\u03e7"+
+		"\u0001\u0000\u0000\u0000\u03e7\u03f1\u0001\u0000\u0000\u0000\u03e8\u03ea"+
+		"\u0003\u0098L\u0000\u03e9\u03e8\u0001\u0000\u0000\u0000\u03e9\u03ea\u0001"+
+		"\u0000\u0000\u0000\u03ea\u03eb\u0001\u0000\u0000\u0000\u03eb\u03ec\u0005"+
+		"%\u0000\u0000\u03ec\u03ed\u0003\u0098L\u0000\u03ed\u03ee\u0005%\u0000"+
+		"\u0000\u03ee\u03ef\u0003\u0098L\u0000\u03ef\u03f1\u0001\u0000\u0000\u0000"+
+		"\u03f0\u03e2\u0001\u0000\u0000\u0000\u03f0\u03e9\u0001\u0000\u0000\u0000"+
+		"\u03f1\u03f2\u0001\u0000\u0000\u0000\u03f2\u03f3\u0005!\u0000\u0000\u03f3"+
+		"\u00c9\u0001\u0000\u0000\u0000\u03f4\u03f5\u0005&\u0000\u0000\u03f5\u03f6"+
+		"\u0005\u001c\u0000\u0000\u03f6\u03f7\u0003t:\u0000\u03f7\u03f8\u0005\u001d"+
+		"\u0000\u0000\u03f8\u00cb\u0001\u0000\u0000\u0000\u03f9\u0408\u0005\u001c"+
+		"\u0000\u0000\u03fa\u0401\u0003\u0012\t\u0000\u03fb\u03fe\u0003t:\u0000"+
+		"\u03fc\u03fd\u0005#\u0000\u0000\u03fd\u03ff\u0003\u0012\t\u0000\u03fe"+
+		"\u03fc\u0001\u0000\u0000\u0000\u03fe\u03ff\u0001\u0000\u0000\u0000\u03ff"+
+		"\u0401\u0001\u0000\u0000\u0000\u0400\u03fa\u0001\u0000\u0000\u0000\u0400"+
+		"\u03fb\u0001\u0000\u0000\u0000\u0401\u0403\u0001\u0000\u0000\u0000\u0402"+
+		"\u0404\u0005*\u0000\u0000\u0403\u0402\u0001\u0000\u0000\u0000\u0403\u0404"+
+		"\u0001\u0000\u0000\u0000\u0404\u0406\u0001\u0000\u0000\u0000\u0405\u0407"+
+		"\u0005#\u0000\u0000\u0406\u0405\u0001\u0000\u0000\u0000\u0406\u0407\u0001"+
+		"\u0000\u0000\u0000\u0407\u0409\u0001\u0000\u0000\u0000\u0408\u0400\u0001"+
+		"\u0000\u0000\u0000\u0408\u0409\u0001\u0000\u0000\u0000\u0409\u040a\u0001"+
+		"\u0000\u0000\u0000\u040a\u040b\u0005\u001d\u0000\u0000\u040b\u00cd\u0001"+
+		"\u0000\u0000\u0000\u040c\u040d\u0003t:\u0000\u040d\u040e\u0005&\u0000"+
+		"\u0000\u040e\u040f\u0005\u001b\u0000\u0000\u040f\u00cf\u0001\u0000\u0000"+
+		"\u0000\u0410\u0411\u0007\b\u0000\u0000\u0411\u00d1\u0001\u0000\u0000\u0000"+
+		"\u0412\u0413\u0007\u0001\u0000\u0000\u0413\u00d3\u0001\u0000\u0000\u0000"+
+		"\u0083\u00db\u00e1\u00e7\u00f8\u00fc\u00fe\u0101\u0104\u010d\u0118\u011c"+
+		"\u011e\u0121\u0125\u0129\u0130\u0138\u0144\u0148\u014a\u014d\u0151\u0159"+
+		"\u0163\u0170\u0174\u017b\u017f\u0186\u0193\u0197\u0199\u019c\u01a2\u01a6"+
+		"\u01aa\u01af\u01b4\u01ba\u01be\u01d1\u01d8\u01e8\u01f3\u01f7\u01fb\u01ff"+
+		"\u0212\u0218\u021a\u021e\u0222\u0225\u0229\u022b\u0231\u0239\u023e\u0249"+
+		"\u024f\u0256\u0261\u0266\u026a\u026f\u0273\u027b\u0283\u0288\u028b\u0293"+
+		"\u0299\u029d\u029f\u02a4\u02a8\u02ac\u02b4\u02be\u02c5\u02ca\u02d0\u02da"+
+		"\u02ec\u02f1\u02f5\u02f9\u02fb\u030e\u0318\u031f\u0323\u032b\u032f\u0331"+
+		"\u0336\u0339\u0342\u0348\u034d\u0352\u035b\u0361\u0368\u036e\u0373\u0379"+
+		"\u0390\u0392\u0397\u0399\u03a2\u03a8\u03ae\u03b2\u03bc\u03c0\u03c2\u03ca"+
+		"\u03cd\u03d2\u03d6\u03e2\u03e6\u03e9\u03f0\u03fe\u0400\u0403\u0406\u0408";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -11,15 +11,19 @@ public abstract class GoParserBase extends Parser
         super(input);
     }
 
-
     /**
-     * Returns true if the current Token is a closing bracket (")" or "}")
+     * Called at the end of a statement list. Its last terminator may only be
+     * left out before the closing "}", not before the next case or default
+     * clause. An action rather than a predicate, so prediction never sees it.
      */
-    protected boolean closingBracket()
-    {
-        BufferedTokenStream stream = (BufferedTokenStream)_input;
-        int prevTokenType = stream.LA(1);
-        
-        return prevTokenType == GoParser.R_CURLY || prevTokenType == GoParser.R_PAREN;
+    protected void statementListEnd() {
+        int previous = _input.LA(-1);
+        if (previous != GoParser.SEMI && previous != GoParser.EOS && _input.LA(1) != GoParser.R_CURLY) {
+            // Reported as a mismatch against a terminator; under
+            // BailErrorStrategy it bails like any other syntax error
+            throw new InputMismatchException(this,
+                    getATN().ruleToStartState[GoParser.RULE_listEos].stateNumber, _ctx);
+        }
     }
+
 }
\ No newline at end of file
@@ -938,6 +938,18 @@ public class GoParserBaseListener implements GoParserListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitExpression(GoParser.ExpressionContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterUnaryExpr(GoParser.UnaryExprContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitUnaryExpr(GoParser.UnaryExprContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -950,6 +962,18 @@ public class GoParserBaseListener implements GoParserListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitPrimaryExpr(GoParser.PrimaryExprContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterPrimarySuffix(GoParser.PrimarySuffixContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitPrimarySuffix(GoParser.PrimarySuffixContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -1250,6 +1274,18 @@ public class GoParserBaseListener implements GoParserListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitEos(GoParser.EosContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterListEos(GoParser.ListEosContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitListEos(GoParser.ListEosContext ctx) { }
 
 	/**
 	 * {@inheritDoc}
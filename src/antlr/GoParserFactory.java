@@ -0,0 +1,142 @@
+package antlr;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+// Creates lexers and parsers that share one set of DFAs and prediction
+// context caches. ANTLR's simulators lock the DFA and context cache when they
+// add to them, so a factory can be used from any number of threads at once.
+// What each parser learns about the grammar is then kept for every later
+// file.
+//
+// A fresh factory starts cold. warmUp() parses a corpus to fill the DFAs,
+// save() writes them to disk, and load() restores them in a later JVM so it
+// can skip the warm-up.
+//
+// setFastLexer(true) makes newLexer() return a GoScanner, which produces
+// the same tokens as GoLexer without the ATN simulator for most of them.
+public class GoParserFactory {
+    static final String[] DEFAULT_WARMUP_CORPUS = { "tests/ex.go", "tests/test2.go" };
+
+    private static final int SNAPSHOT_MAGIC = 0x474F4446;   // "GODF"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final DFA[] lexerDFA;
+    private final DFA[] parserDFA;
+    private final PredictionContextCache lexerContextCache = new PredictionContextCache();
+    private final PredictionContextCache parserContextCache = new PredictionContextCache();
+    private volatile boolean fastLexer;
+
+    public GoParserFactory() {
+        lexerDFA = newDFAs(GoLexer._ATN);
+        parserDFA = newDFAs(GoParser._ATN);
+    }
+
+    private static DFA[] newDFAs(ATN atn) {
+        DFA[] dfas = new DFA[atn.getNumberOfDecisions()];
+        for (int i = 0; i < dfas.length; i++) {
+            dfas[i] = new DFA(atn.getDecisionState(i), i);
+        }
+        return dfas;
+    }
+
+    public void setFastLexer(boolean fastLexer) {
+        this.fastLexer = fastLexer;
+    }
+
+    // GoScanner falls back on the ATN simulator for the odd token, so it
+    // gets the shared DFAs too
+    public GoLexer newLexer(CharStream input) {
+        GoLexer lexer = fastLexer ? new GoScanner(input) : new GoLexer(input);
+        lexer.setInterpreter(new LexerATNSimulator(lexer, GoLexer._ATN, lexerDFA, lexerContextCache));
+        return lexer;
+    }
+
+    public GoParser newParser(TokenStream tokens) {
+        GoParser parser = new GoParser(tokens);
+        parser.setInterpreter(new ParserATNSimulator(parser, GoParser._ATN, parserDFA, parserContextCache));
+        return parser;
+    }
+
+    // Two-stage parse (see TwoStageParser) with this factory's lexer and parser
+    public TwoStageParser.Result parse(CharStream input, ANTLRErrorListener errorListener) {
+        GoLexer lexer = newLexer(input);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        return TwoStageParser.parse(newParser(new CommonTokenStream(lexer)), errorListener);
+    }
+
+    // Parse every file once, in both prediction modes, so SLL and full-LL
+    // decisions are cached. Returns the number of files parsed.
+    public int warmUp(Collection<Path> corpus) throws IOException {
+        int parsed = 0;
+        for (Path file : corpus) {
+            CommonTokenStream tokens = new CommonTokenStream(newLexer(MappedCharStream.fromPath(file)));
+            GoParser parser = newParser(tokens);
+            TwoStageParser.parse(parser, new BaseErrorListener());
+            parser.reset();
+            TwoStageParser.parseLL(parser, new BaseErrorListener());
+            parsed++;
+        }
+        return parsed;
+    }
+
+    public int dfaStateCount() {
+        int count = 0;
+        for (DFA dfa : lexerDFA) count += dfa.states.size();
+        for (DFA dfa : parserDFA) count += dfa.states.size();
+        return count;
+    }
+
+    public void save(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(GoLexer._serializedATN.hashCode());
+            out.writeInt(GoParser._serializedATN.hashCode());
+            DFASnapshot.write(out, GoLexer._ATN, lexerDFA);
+            DFASnapshot.write(out, GoParser._ATN, parserDFA);
+        }
+        // Readers never see a half-written snapshot
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Throws IOException if the snapshot is unreadable or was written for a
+    // different version of the grammar
+    public static GoParserFactory load(Path file) throws IOException {
+        GoParserFactory factory = new GoParserFactory();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException(file + " is not a DFA snapshot");
+            }
+            if (in.readInt() != GoLexer._serializedATN.hashCode()
+                    || in.readInt() != GoParser._serializedATN.hashCode()) {
+                throw new IOException(file + " was written for a different grammar");
+            }
+            DFASnapshot.read(in, GoLexer._ATN, factory.lexerDFA, factory.lexerContextCache);
+            DFASnapshot.read(in, GoParser._ATN, factory.parserDFA, factory.parserContextCache);
+        }
+        return factory;
+    }
+
+    // Load the snapshot if it is usable; otherwise warm up on the corpus and
+    // write a new snapshot for the next run
+    public static GoParserFactory loadOrWarmUp(Path snapshot, Collection<Path> corpus) throws IOException {
+        if (Files.isRegularFile(snapshot)) {
+            try {
+                return load(snapshot);
+            } catch (IOException e) {
+                System.err.println("Ignoring DFA snapshot: " + e.getMessage());
+            }
+        }
+        GoParserFactory factory = new GoParserFactory();
+        factory.warmUp(corpus);
+        factory.save(snapshot);
+        return factory;
+    }
+}
@@ -779,6 +779,16 @@ public interface GoParserListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitExpression(GoParser.ExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link GoParser#unaryExpr}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnaryExpr(GoParser.UnaryExprContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link GoParser#unaryExpr}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnaryExpr(GoParser.UnaryExprContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link GoParser#primaryExpr}.
 	 * @param ctx the parse tree
@@ -789,6 +799,16 @@ public interface GoParserListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitPrimaryExpr(GoParser.PrimaryExprContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link GoParser#primarySuffix}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrimarySuffix(GoParser.PrimarySuffixContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link GoParser#primarySuffix}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrimarySuffix(GoParser.PrimarySuffixContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link GoParser#conversion}.
 	 * @param ctx the parse tree
@@ -1039,4 +1059,14 @@ public interface GoParserListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitEos(GoParser.EosContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link GoParser#listEos}.
+	 * @param ctx the parse tree
+	 */
+	void enterListEos(GoParser.ListEosContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link GoParser#listEos}.
+	 * @param ctx the parse tree
+	 */
+	void exitListEos(GoParser.ListEosContext ctx);
 }
\ No newline at end of file
@@ -474,12 +474,24 @@ public interface GoParserVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitExpression(GoParser.ExpressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link GoParser#unaryExpr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnaryExpr(GoParser.UnaryExprContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link GoParser#primaryExpr}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitPrimaryExpr(GoParser.PrimaryExprContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link GoParser#primarySuffix}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrimarySuffix(GoParser.PrimarySuffixContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link GoParser#conversion}.
 	 * @param ctx the parse tree
@@ -630,4 +642,10 @@ public interface GoParserVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitEos(GoParser.EosContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link GoParser#listEos}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitListEos(GoParser.ListEosContext ctx);
 }
\ No newline at end of file
@@ -0,0 +1,376 @@
+package antlr;
+
+import org.antlr.v4.runtime.*;
+
+// Hand-written scanner that produces the same tokens as GoLexer, including
+// the NLSEMI mode that turns a newline after an identifier, literal,
+// closing bracket or break/continue/fallthrough/return into an EOS token.
+// GoLexer runs the ATN simulator over every character; this reads the
+// common tokens with a few switches instead.
+//
+// Anything unusual is left to GoLexer itself, which this extends: for such
+// a token the input is still at the token's start, so super.nextToken()
+// lexes it exactly as GoLexer would, errors included. That covers the end
+// of the file, non-ASCII identifiers, number literals other than plain
+// decimal and hex integers, stray backslashes, invalid escapes and
+// unterminated strings and comments. Both read and update the line and
+// column kept by the ATN simulator, so they can take turns.
+//
+// Tokens come from a GoTokenFactory (see there).
+public class GoScanner extends GoLexer {
+    // Set by scanDefault() and scanNlsemi()
+    private int type;
+    private int length;
+    private int channel;
+    private int mode;
+
+    public GoScanner(CharStream input) {
+        super(input);
+        // The field rather than setTokenFactory(), which a subclass could
+        // override and which would then run before it is constructed
+        _factory = new GoTokenFactory();
+    }
+
+    @Override
+    public Token nextToken() {
+        if (_hitEOF || _input.LA(1) == IntStream.EOF) {
+            return super.nextToken();
+        }
+        channel = Token.DEFAULT_CHANNEL;
+        mode = _mode;
+        if (!(_mode == NLSEMI ? scanNlsemi() : scanDefault())) {
+            return super.nextToken();
+        }
+
+        int start = _input.index();
+        int line = _interp.getLine();
+        int column = _interp.getCharPositionInLine();
+        Token token = _factory.create(_tokenFactorySourcePair, type, null, channel, start, start + length - 1,
+                line, column);
+        switch (type) {
+            case TERMINATOR, EOS, COMMENT, RAW_STRING_LIT, INTERPRETED_STRING_LIT -> {
+                // May span lines
+                for (int i = 1; i <= length; i++) {
+                    if (_input.LA(i) == '\n') {
+                        line++;
+                        column = 0;
+                    } else {
+                        column++;
+                    }
+                }
+                _interp.setLine(line);
+            }
+            default -> column += length;
+        }
+        _interp.setCharPositionInLine(column);
+        _input.seek(start + length);
+        _mode = mode;
+        _token = token;
+        // As in Lexer.nextToken(): a token that ends the input is followed
+        // by EOF alone, even in NLSEMI mode
+        if (_input.LA(1) == IntStream.EOF) {
+            _hitEOF = true;
+        }
+        return token;
+    }
+
+    private boolean scanDefault() {
+        int c = _input.LA(1);
+        switch (c) {
+            case ' ', '\t' -> hidden(WS, run(1, ' ', '\t'));
+            case '\r', '\n' -> hidden(TERMINATOR, run(1, '\r', '\n'));
+            case '(' -> token(L_PAREN, 1);
+            case ')' -> literal(R_PAREN, 1);
+            case '{' -> token(L_CURLY, 1);
+            case '}' -> literal(R_CURLY, 1);
+            case '[' -> token(L_BRACKET, 1);
+            case ']' -> literal(R_BRACKET, 1);
+            case ',' -> token(COMMA, 1);
+            case ';' -> token(SEMI, 1);
+            case '%' -> token(MOD, 1);
+            case '~' -> token(UNDERLYING, 1);
+            case '^' -> token(CARET, 1);
+            case '*' -> token(STAR, 1);
+            case '=' -> token(_input.LA(2) == '=' ? EQUALS : ASSIGN, _input.LA(2) == '=' ? 2 : 1);
+            case ':' -> token(_input.LA(2) == '=' ? DECLARE_ASSIGN : COLON, _input.LA(2) == '=' ? 2 : 1);
+            case '!' -> token(_input.LA(2) == '=' ? NOT_EQUALS : EXCLAMATION, _input.LA(2) == '=' ? 2 : 1);
+            case '|' -> token(_input.LA(2) == '|' ? LOGICAL_OR : OR, _input.LA(2) == '|' ? 2 : 1);
+            case '+' -> {
+                if (_input.LA(2) == '+') literal(PLUS_PLUS, 2); else token(PLUS, 1);
+            }
+            case '-' -> {
+                if (_input.LA(2) == '-') literal(MINUS_MINUS, 2); else token(MINUS, 1);
+            }
+            case '&' -> {
+                switch (_input.LA(2)) {
+                    case '&' -> token(LOGICAL_AND, 2);
+                    case '^' -> token(BIT_CLEAR, 2);
+                    default -> token(AMPERSAND, 1);
+                }
+            }
+            case '<' -> {
+                switch (_input.LA(2)) {
+                    case '=' -> token(LESS_OR_EQUALS, 2);
+                    case '<' -> token(LSHIFT, 2);
+                    case '-' -> token(RECEIVE, 2);
+                    default -> token(LESS, 1);
+                }
+            }
+            case '>' -> {
+                switch (_input.LA(2)) {
+                    case '=' -> token(GREATER_OR_EQUALS, 2);
+                    case '>' -> token(RSHIFT, 2);
+                    default -> token(GREATER, 1);
+                }
+            }
+            case '.' -> {
+                if (isDigit(_input.LA(2))) return false;
+                if (_input.LA(2) == '.' && _input.LA(3) == '.') token(ELLIPSIS, 3); else token(DOT, 1);
+            }
+            case '/' -> {
+                if (_input.LA(2) == '/') {
+                    hidden(LINE_COMMENT, lineEnd(3));
+                } else if (_input.LA(2) == '*') {
+                    int end = commentEnd(false);
+                    if (end < 0) return false;
+                    hidden(COMMENT, end);
+                } else {
+                    token(DIV, 1);
+                }
+            }
+            case '"' -> {
+                int i = 2;
+                for (int d = _input.LA(i); d != '"'; d = _input.LA(i)) {
+                    if (d == IntStream.EOF) return false;
+                    int escape = d == '\\' ? escapeLength(i) : 1;
+                    if (escape == 0) return false;
+                    i += escape;
+                }
+                literal(INTERPRETED_STRING_LIT, i);
+            }
+            case '`' -> {
+                int i = 2;
+                for (int d = _input.LA(i); d != '`'; d = _input.LA(++i)) {
+                    if (d == IntStream.EOF) return false;
+                }
+                literal(RAW_STRING_LIT, i);
+            }
+            case '\'' -> {
+                // A backslash is a character of its own as well as the start
+                // of an escape, so '\'' could end at either quote; the
+                // longer match wins
+                int d = _input.LA(2);
+                int end = d != '\r' && d != '\n' && d != '\'' && d != IntStream.EOF && _input.LA(3) == '\'' ? 3 : 0;
+                int escape = d == '\\' ? escapeLength(2) : 0;
+                if (escape > 0 && _input.LA(2 + escape) == '\'') {
+                    end = Math.max(end, 2 + escape);
+                }
+                if (end == 0) return false;
+                literal(RUNE_LIT, end);
+            }
+            default -> {
+                if (isLetter(c)) {
+                    int i = 2;
+                    while (isLetter(_input.LA(i)) || isDigit(_input.LA(i))) i++;
+                    if (_input.LA(i) >= 0x80) return false;
+                    int keyword = keyword(i - 1);
+                    if (keyword == IDENTIFIER || keyword == BREAK || keyword == CONTINUE || keyword == FALLTHROUGH
+                            || keyword == RETURN || keyword == NIL_LIT) {
+                        literal(keyword, i - 1);
+                    } else {
+                        token(keyword, i - 1);
+                    }
+                } else if (isDigit(c)) {
+                    return scanNumber(c);
+                } else {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean scanNlsemi() {
+        int c = _input.LA(1);
+        if (c == ' ' || c == '\t') {
+            hidden(WS_NLSEMI, run(1, ' ', '\t'));
+            mode = NLSEMI;
+        } else if (c == '\r' || c == '\n') {
+            token(EOS, run(1, '\r', '\n'));
+        } else if (c == ';') {
+            token(EOS, 1);
+        } else if (c == '/' && _input.LA(2) == '/') {
+            hidden(LINE_COMMENT_NLSEMI, lineEnd(3));
+            mode = NLSEMI;
+        } else if (c == '/' && _input.LA(2) == '*') {
+            // A comment that spans lines ends the statement like a newline
+            int end = commentEnd(true);
+            if (end < 0) return false;
+            if (end > 0) {
+                hidden(COMMENT_NLSEMI, end);
+                mode = NLSEMI;
+            } else {
+                token(EOS, -end);
+            }
+        } else {
+            // Nothing ends the statement here: an empty OTHER token
+            hidden(OTHER, 0);
+        }
+        return true;
+    }
+
+    // Only plain decimal and hex integers; floats, imaginary literals, octal
+    // and binary literals and underscores go to GoLexer
+    private boolean scanNumber(int c) {
+        int i = 2;
+        if (c == '0' && (_input.LA(2) == 'x' || _input.LA(2) == 'X')) {
+            if (!isHexDigit(_input.LA(3))) return false;
+            for (i = 4; isHexDigit(_input.LA(i)); i++) { }
+            switch (_input.LA(i)) {
+                case '_', '.', 'p', 'P', 'i' -> { return false; }
+                default -> literal(HEX_LIT, i - 1);
+            }
+            return true;
+        }
+        if (c != '0') {
+            while (isDigit(_input.LA(i))) i++;
+        }
+        switch (_input.LA(i)) {
+            case '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '_', '.', 'e', 'E', 'i', 'o', 'O', 'b', 'B' -> {
+                return false;
+            }
+            default -> literal(DECIMAL_LIT, i - 1);
+        }
+        return true;
+    }
+
+    private void token(int type, int length) {
+        this.type = type;
+        this.length = length;
+        this.mode = DEFAULT_MODE;
+    }
+
+    // A token after which a newline ends the statement
+    private void literal(int type, int length) {
+        token(type, length);
+        mode = NLSEMI;
+    }
+
+    private void hidden(int type, int length) {
+        token(type, length);
+        channel = Token.HIDDEN_CHANNEL;
+    }
+
+    // Length of the run of a and b starting at LA(from)
+    private int run(int from, int a, int b) {
+        int i = from;
+        while (_input.LA(i) == a || _input.LA(i) == b) i++;
+        return i - 1;
+    }
+
+    // Length up to the end of the line, from LA(from) on
+    private int lineEnd(int from) {
+        int i = from;
+        for (int c = _input.LA(i); c != '\r' && c != '\n' && c != IntStream.EOF; c = _input.LA(++i)) { }
+        return i - 1;
+    }
+
+    // Length of the /* comment at LA(1), -1 if it is not closed. With
+    // negateMultiline, a comment that spans lines has its length negated.
+    private int commentEnd(boolean negateMultiline) {
+        boolean multiline = false;
+        for (int i = 3; ; i++) {
+            int c = _input.LA(i);
+            if (c == IntStream.EOF) return -1;
+            if (c == '*' && _input.LA(i + 1) == '/') {
+                return multiline && negateMultiline ? -(i + 1) : i + 1;
+            }
+            multiline |= c == '\r' || c == '\n';
+        }
+    }
+
+    // Length of the valid escape at LA(i), a backslash, or 0
+    private int escapeLength(int i) {
+        switch (_input.LA(i + 1)) {
+            case 'a', 'b', 'f', 'n', 'r', 't', 'v', '\\', '\'', '"' -> { return 2; }
+            case 'x' -> { return hexDigits(i + 2, 2) ? 4 : 0; }
+            case 'u' -> { return hexDigits(i + 2, 4) ? 6 : 0; }
+            case 'U' -> { return hexDigits(i + 2, 8) ? 10 : 0; }
+            default -> {
+                for (int j = 1; j <= 3; j++) {
+                    if (_input.LA(i + j) < '0' || _input.LA(i + j) > '7') return 0;
+                }
+                return 4;
+            }
+        }
+    }
+
+    private boolean hexDigits(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            if (!isHexDigit(_input.LA(i))) return false;
+        }
+        return true;
+    }
+
+    // Keyword type of the identifier of the given length at LA(1), or
+    // IDENTIFIER
+    private int keyword(int length) {
+        switch (_input.LA(1)) {
+            case 'b': return is("break", length) ? BREAK : IDENTIFIER;
+            case 'c':
+                if (is("case", length)) return CASE;
+                if (is("chan", length)) return CHAN;
+                if (is("const", length)) return CONST;
+                return is("continue", length) ? CONTINUE : IDENTIFIER;
+            case 'd':
+                if (is("default", length)) return DEFAULT;
+                return is("defer", length) ? DEFER : IDENTIFIER;
+            case 'e': return is("else", length) ? ELSE : IDENTIFIER;
+            case 'f':
+                if (is("func", length)) return FUNC;
+                if (is("for", length)) return FOR;
+                return is("fallthrough", length) ? FALLTHROUGH : IDENTIFIER;
+            case 'g':
+                if (is("go", length)) return GO;
+                return is("goto", length) ? GOTO : IDENTIFIER;
+            case 'i':
+                if (is("if", length)) return IF;
+                if (is("import", length)) return IMPORT;
+                return is("interface", length) ? INTERFACE : IDENTIFIER;
+            case 'm': return is("map", length) ? MAP : IDENTIFIER;
+            case 'n': return is("nil", length) ? NIL_LIT : IDENTIFIER;
+            case 'p': return is("package", length) ? PACKAGE : IDENTIFIER;
+            case 'r':
+                if (is("range", length)) return RANGE;
+                return is("return", length) ? RETURN : IDENTIFIER;
+            case 's':
+                if (is("select", length)) return SELECT;
+                if (is("struct", length)) return STRUCT;
+                return is("switch", length) ? SWITCH : IDENTIFIER;
+            case 't': return is("type", length) ? TYPE : IDENTIFIER;
+            case 'v': return is("var", length) ? VAR : IDENTIFIER;
+            default: return IDENTIFIER;
+        }
+    }
+
+    private boolean is(String keyword, int length) {
+        if (keyword.length() != length) return false;
+        for (int i = 1; i < length; i++) {
+            if (_input.LA(i + 1) != keyword.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    // ASCII only; GoLexer decides the rest
+    private static boolean isLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(int c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
@@ -0,0 +1,47 @@
+package antlr;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.Pair;
+
+// Token factory for GoScanner. Keywords and punctuation get their text from
+// one shared String per token type, as the vocabulary spells it, so their
+// getText() never goes back to the CharStream (MappedCharStream builds a
+// new String on every call). Identifiers get the shared symbol for their
+// text (see Symbol), which only takes a String the first time a thread
+// sees the name. Other tokens fetch their text lazily, as
+// CommonTokenFactory's do.
+public class GoTokenFactory implements TokenFactory<CommonToken> {
+    private static final String[] FIXED_TEXT = new String[GoLexer.VOCABULARY.getMaxTokenType() + 1];
+
+    static {
+        for (int type = 1; type < FIXED_TEXT.length; type++) {
+            String literal = GoLexer.VOCABULARY.getLiteralName(type);
+            if (literal != null) {
+                // 'func' -> func
+                FIXED_TEXT[type] = literal.substring(1, literal.length() - 1).intern();
+            }
+        }
+    }
+
+    @Override
+    public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel,
+                              int start, int stop, int line, int charPositionInLine) {
+        CommonToken token = new CommonToken(source, type, channel, start, stop);
+        token.setLine(line);
+        token.setCharPositionInLine(charPositionInLine);
+        if (text == null && type == GoLexer.IDENTIFIER && source.b != null) {
+            text = Symbol.lookup(source.b, start, stop).text;
+        } else if (text == null && type > 0 && type < FIXED_TEXT.length) {
+            text = FIXED_TEXT[type];
+        }
+        if (text != null) {
+            token.setText(text);
+        }
+        return token;
+    }
+
+    @Override
+    public CommonToken create(int type, String text) {
+        return new CommonToken(type, text);
+    }
+}
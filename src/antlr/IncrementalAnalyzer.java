@@ -0,0 +1,292 @@
+package antlr;
+
+import antlr.AST.*;
+import org.antlr.v4.runtime.*;
+import java.util.*;
+
+// Re-analyzes one file after an edit, redoing only the top-level
+// declarations whose tokens changed. Each update lexes the whole file,
+// which is cheap next to parsing, and splits it where ParallelParser would.
+// A declaration is keyed by its default-channel tokens: type, text, column
+// and line relative to its first token. When the previous version had a
+// declaration with the same key, its AST is reused, and so are its
+// FunctionCFGs if it is still on the same line. A declaration that only
+// moved up or down gets a copy of its AST with the lines shifted, and new
+// graphs, because CFG nodes copy the lines of their statements. Anything
+// else is parsed again with a StreamingParser of its own.
+//
+// The package clause and imports are always reparsed. A file with syntax
+// errors or unbalanced brackets is parsed whole, the way GoBatchMain would,
+// since error recovery in a single declaration can differ. ASTs of
+// unchanged declarations are shared between the results of successive
+// updates, and nothing changes a node once a Result holds it, so an
+// earlier Result stays valid.
+public class IncrementalAnalyzer {
+    public static class Result {
+        ProgramNode program;
+        final List<FunctionCFG> functions = new ArrayList<>();   // analyzed, in source order
+        int tokens;
+        TwoStageParser.Stage stage = TwoStageParser.Stage.SLL;
+        int reused;         // declarations whose AST and graphs were kept
+        int moved;          // declarations whose AST was kept with its lines shifted
+        int reparsed;
+        // Indexed like GoBatchMain.STAGES; AST building is part of parse
+        final long[] stageNanos = new long[GoBatchMain.STAGES.length];
+    }
+
+    // The result of one top-level declaration
+    private static class Declaration {
+        final String key;           // null for what is not a reusable declaration
+        final int line;
+        final List<ASTNode> nodes;
+        List<FunctionCFG> functions;
+
+        Declaration(String key, int line, List<ASTNode> nodes) {
+            this.key = key;
+            this.line = line;
+            this.nodes = nodes;
+        }
+    }
+
+    private final GoParserFactory factory;
+    private Map<String, List<Declaration>> previous = new HashMap<>();
+
+    public IncrementalAnalyzer(GoParserFactory factory) {
+        this.factory = factory;
+    }
+
+    public Result update(CharStream input, ANTLRErrorListener errorListener) {
+        Result result = new Result();
+        Arrays.fill(result.stageNanos, -1);
+        long t = System.nanoTime();
+        GoLexer lexer = factory.newLexer(input);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        CommonTokenStream stream = new CommonTokenStream(lexer);
+        stream.fill();
+        result.tokens = stream.size();
+        List<Token> tokens = new ArrayList<>(stream.size());
+        for (Token token : stream.getTokens()) {
+            if (token.getChannel() == Token.DEFAULT_CHANNEL && token.getType() != Token.EOF) {
+                tokens.add(token);
+            }
+        }
+        t = lap(result, 0, t);
+
+        List<Integer> starts = ParallelParser.declarationStarts(tokens);
+        ParallelParser.RecordedErrors errors = new ParallelParser.RecordedErrors();
+        Map<String, List<Declaration>> current = new HashMap<>();
+        List<Declaration> declarations = starts.isEmpty() ? null : parse(tokens, starts, result, errors, current);
+        if (declarations != null) {
+            previous = current;
+        } else {
+            // Error recovery in a single declaration can go differently
+            // from recovery in the whole file, so a file with syntax errors
+            // is parsed whole. The previous declarations stay cached for
+            // when the error is fixed.
+            stream.seek(0);
+            TwoStageParser.Result parsed = TwoStageParser.parse(factory.newParser(stream), errorListener);
+            result.program = (ProgramNode) GoASTBuilder.build(parsed.tree);
+            result.stage = parsed.stage;
+            result.reused = result.moved = 0;
+            result.reparsed = result.program.declarations().size();
+            declarations = List.of(new Declaration(null, 0, result.program.declarations()));
+        }
+        t = lap(result, 1, t);
+
+        List<FunctionCFG> built = new ArrayList<>();
+        for (Declaration decl : declarations) {
+            if (decl.functions == null) {
+                decl.functions = new ArrayList<>();
+                for (ASTNode node : decl.nodes) {
+                    if (node instanceof FunctionNode) {
+                        decl.functions.add(FunctionCFG.build((FunctionNode) node));
+                    }
+                }
+                built.addAll(decl.functions);
+            }
+        }
+        t = lap(result, 3, t);
+        for (FunctionCFG function : built) {
+            function.analyze();
+        }
+        lap(result, 4, t);
+
+        for (Declaration decl : declarations) {
+            result.functions.addAll(decl.functions);
+        }
+        return result;
+    }
+
+    // Reuses or parses each declaration and fills in result.program, or
+    // returns null if there were syntax errors. Reusable declarations are
+    // added to current.
+    private List<Declaration> parse(List<Token> tokens, List<Integer> starts, Result result,
+                                    ParallelParser.RecordedErrors errors, Map<String, List<Declaration>> current) {
+        StreamingParser header = new StreamingParser(factory, new ListTokenSource(tokens.subList(0, starts.get(0))),
+                errors);
+        ProgramNode program = header.header();
+        Declaration rest = new Declaration(null, 0, parseAll(header));   // normally empty
+        List<ASTNode> nodes = new ArrayList<>();
+        ParallelParser.addDeclarations(nodes, rest.nodes);
+        List<Declaration> declarations = new ArrayList<>();
+        declarations.add(rest);
+        boolean ll = header.stage() == TwoStageParser.Stage.LL;
+
+        Set<Declaration> taken = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < starts.size() && errors.isEmpty(); i++) {
+            List<Token> slice = tokens.subList(starts.get(i), i + 1 < starts.size() ? starts.get(i + 1) : tokens.size());
+            int line = slice.get(0).getLine();
+            String key = key(slice);
+            Declaration decl = take(key, taken);
+            if (decl != null && decl.line == line) {
+                result.reused++;
+            } else if (decl != null) {
+                decl = new Declaration(key, line, shiftedAll(decl.nodes, line - decl.line, new IdentityHashMap<>()));
+                result.moved++;
+            } else {
+                StreamingParser parser = new StreamingParser(factory, new ListTokenSource(slice), errors);
+                decl = new Declaration(key, line, parseAll(parser));
+                ll |= parser.stage() == TwoStageParser.Stage.LL;
+                result.reparsed++;
+            }
+            ParallelParser.addDeclarations(nodes, decl.nodes);
+            declarations.add(decl);
+            current.computeIfAbsent(key, k -> new ArrayList<>()).add(decl);
+        }
+        if (!errors.isEmpty()) {
+            return null;
+        }
+        result.program = program.withDeclarations(nodes);
+        result.stage = ll ? TwoStageParser.Stage.LL : TwoStageParser.Stage.SLL;
+        return declarations;
+    }
+
+    private static List<ASTNode> parseAll(StreamingParser parser) {
+        List<ASTNode> nodes = new ArrayList<>();
+        while (parser.hasNext()) {
+            nodes.add(parser.next());
+        }
+        return nodes;
+    }
+
+    private static long lap(Result result, int stage, long since) {
+        long now = System.nanoTime();
+        result.stageNanos[stage] = now - since;
+        return now;
+    }
+
+    // A previous declaration with this key that this update has not taken
+    // yet, if any
+    private Declaration take(String key, Set<Declaration> taken) {
+        for (Declaration decl : previous.getOrDefault(key, List.of())) {
+            if (taken.add(decl)) {
+                return decl;
+            }
+        }
+        return null;
+    }
+
+    private static String key(List<Token> slice) {
+        int firstLine = slice.get(0).getLine();
+        StringBuilder key = new StringBuilder(slice.size() * 8);
+        for (Token token : slice) {
+            String text = token.getText();
+            key.append(token.getType()).append(' ')
+               .append(token.getLine() - firstLine).append(' ')
+               .append(token.getCharPositionInLine()).append(' ')
+               .append(text.length()).append(' ')
+               .append(text);
+        }
+        return key.toString();
+    }
+
+    private static <T extends ASTNode> List<T> shiftedAll(List<T> nodes, int delta, Map<ASTNode, ASTNode> copies) {
+        List<T> shifted = new ArrayList<>(nodes.size());
+        for (T node : nodes) {
+            shifted.add(shifted(node, delta, copies));
+        }
+        return shifted;
+    }
+
+    // A copy of node and everything under it, delta lines further down. The
+    // original may belong to an earlier Result, so it is left as it is. A
+    // node can be reached twice (parameters declared together share their
+    // type) and is copied once, hence copies.
+    @SuppressWarnings("unchecked")
+    private static <T extends ASTNode> T shifted(T node, int delta, Map<ASTNode, ASTNode> copies) {
+        if (node == null) return null;
+        ASTNode done = copies.get(node);
+        if (done != null) return (T) done;
+
+        int line = node.line() + delta;
+        int column = node.column();
+        ASTNode copy = switch (node) {
+            case ProgramNode program -> new ProgramNode(line, column, program.packageName(),
+                    shiftedAll(program.imports(), delta, copies), shiftedAll(program.declarations(), delta, copies));
+            case ImportSpecNode imp -> new ImportSpecNode(line, column, imp.alias(), imp.path());
+            case PackageImportNode imp -> new PackageImportNode(line, column, imp.packageName(), imp.path());
+            case FunctionDeclNode func -> new FunctionDeclNode(line, column, func.name(),
+                    shiftedAll(func.parameters(), delta, copies), shifted(func.body(), delta, copies));
+            case MethodNode method -> new MethodNode(line, column, method.name(),
+                    shifted(method.receiver(), delta, copies), method.receiverType(),
+                    shiftedAll(method.parameters(), delta, copies), shifted(method.body(), delta, copies));
+            case ParameterNode param ->
+                new ParameterNode(line, column, param.name(), shifted(param.type(), delta, copies));
+            case DeclarationNode decl -> new DeclarationNode(line, column, decl.identifier(),
+                    shifted(decl.type(), delta, copies), shifted(decl.initializer(), delta, copies));
+            case TypeNode type -> new TypeNode(line, column, type.typeName());
+            case BlockNode block -> new BlockNode(line, column, shiftedAll(block.statements(), delta, copies));
+            case IfStatementNode ifStmt -> new IfStatementNode(line, column, shifted(ifStmt.condition(), delta, copies),
+                    shifted(ifStmt.thenBlock(), delta, copies), shifted(ifStmt.elseBlock(), delta, copies));
+            case ForStatementNode forStmt -> new ForStatementNode(line, column, shifted(forStmt.init(), delta, copies),
+                    shifted(forStmt.condition(), delta, copies), shifted(forStmt.post(), delta, copies),
+                    shifted(forStmt.range(), delta, copies), shifted(forStmt.body(), delta, copies));
+            case SwitchStatementNode switchStmt -> new SwitchStatementNode(line, column,
+                    shifted(switchStmt.init(), delta, copies), shifted(switchStmt.condition(), delta, copies),
+                    shiftedAll(switchStmt.cases(), delta, copies));
+            case CaseClauseNode caseClause -> new CaseClauseNode(line, column,
+                    shiftedAll(caseClause.expressions(), delta, copies), shifted(caseClause.body(), delta, copies));
+            case SelectStatementNode selectStmt ->
+                new SelectStatementNode(line, column, shiftedAll(selectStmt.commClauses(), delta, copies));
+            case CommClauseNode commClause -> new CommClauseNode(line, column, commClause.isDefault(),
+                    shifted(commClause.comm(), delta, copies), shifted(commClause.body(), delta, copies));
+            case ExpressionStatementNode exprStmt ->
+                new ExpressionStatementNode(line, column, shifted(exprStmt.expression(), delta, copies));
+            case ShortVarDeclNode shortVar ->
+                new ShortVarDeclNode(line, column, shortVar.names(), shiftedAll(shortVar.values(), delta, copies));
+            case AssignmentNode assignment -> new AssignmentNode(line, column, assignment.operator(),
+                    shiftedAll(assignment.leftSide(), delta, copies),
+                    shiftedAll(assignment.rightSide(), delta, copies));
+            case ReturnStatementNode returnStmt ->
+                new ReturnStatementNode(line, column, shiftedAll(returnStmt.returnValues(), delta, copies));
+            case RangeClauseNode rangeClause -> new RangeClauseNode(line, column, rangeClause.declares(),
+                    shiftedAll(rangeClause.variables(), delta, copies),
+                    shifted(rangeClause.rangeExpression(), delta, copies));
+            case LabeledStatementNode labeled ->
+                new LabeledStatementNode(line, column, labeled.label(), shifted(labeled.statement(), delta, copies));
+            case BreakStatementNode breakStmt -> new BreakStatementNode(line, column, breakStmt.label());
+            case ContinueStatementNode continueStmt -> new ContinueStatementNode(line, column, continueStmt.label());
+            case DeferStatementNode deferStmt ->
+                new DeferStatementNode(line, column, shifted(deferStmt.expression(), delta, copies));
+            case GoStatementNode goStmt ->
+                new GoStatementNode(line, column, shifted(goStmt.expression(), delta, copies));
+            case LogFatalStatementNode fatal ->
+                new LogFatalStatementNode(line, column, shifted(fatal.message(), delta, copies));
+            case BinaryExpressionNode binary -> new BinaryExpressionNode(line, column, binary.operator(),
+                    shifted(binary.left(), delta, copies), shifted(binary.right(), delta, copies));
+            case UnaryExpressionNode unary ->
+                new UnaryExpressionNode(line, column, unary.operator(), shifted(unary.operand(), delta, copies));
+            case IncDecExpressionNode incDec ->
+                new IncDecExpressionNode(line, column, incDec.operator(), shifted(incDec.operand(), delta, copies));
+            case CallExpressionNode call -> new CallExpressionNode(line, column,
+                    shifted(call.function(), delta, copies), shiftedAll(call.arguments(), delta, copies));
+            case FmtPrintNode fmt ->
+                new FmtPrintNode(line, column, fmt.printType(), shiftedAll(fmt.arguments(), delta, copies));
+            case IdentifierNode id -> new IdentifierNode(line, column, id.name());
+            case LiteralNode literal -> new LiteralNode(line, column, literal.value());
+        };
+        copies.put(node, copy);
+        return (T) copy;
+    }
+}
@@ -0,0 +1,77 @@
+package antlr;
+
+import org.antlr.v4.runtime.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+// Differential check: GoScanner must produce the same tokens as GoLexer,
+// field by field, and report the same errors. Run from src/ with no
+// arguments to check the bundled test programs, or pass .go files or
+// directories explicitly.
+public class LexerCheck {
+    private static final String[] DEFAULT_INPUTS = { "tests" };
+
+    public static void main(String[] args) throws IOException {
+        List<Path> roots = new ArrayList<>();
+        for (String arg : args.length > 0 ? args : DEFAULT_INPUTS) {
+            roots.add(Paths.get(arg));
+        }
+        boolean allAgree = true;
+        for (Path file : GoBatchMain.goFiles(roots)) {
+            allAgree &= check(file);
+        }
+        if (!allAgree) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(Path file) throws IOException {
+        CharStream input = CharStreams.fromPath(file);
+        List<String> expectedErrors = new ArrayList<>();
+        List<Token> expected = tokens(new GoLexer(input), expectedErrors);
+        input.seek(0);
+        List<String> actualErrors = new ArrayList<>();
+        List<Token> actual = tokens(new GoScanner(input), actualErrors);
+
+        int mismatches = 0;
+        for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+            String want = i < expected.size() ? describe(expected.get(i)) : "nothing";
+            String got = i < actual.size() ? describe(actual.get(i)) : "nothing";
+            if (!want.equals(got)) {
+                if (mismatches < 10) {
+                    System.out.println("  token " + i + ": GoLexer " + want + ", GoScanner " + got);
+                }
+                mismatches++;
+            }
+        }
+        if (!expectedErrors.equals(actualErrors)) {
+            System.out.println("  errors differ: GoLexer " + expectedErrors + ", GoScanner " + actualErrors);
+            mismatches++;
+        }
+
+        System.out.println((mismatches == 0 ? "OK   " : "FAIL ") + file + " (" + expected.size() + " tokens, "
+                + expectedErrors.size() + " errors, " + mismatches + " mismatches)");
+        return mismatches == 0;
+    }
+
+    private static List<Token> tokens(GoLexer lexer, List<String> errors) {
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                    int charPositionInLine, String msg, RecognitionException e) {
+                errors.add(line + ":" + charPositionInLine + " " + msg);
+            }
+        });
+        CommonTokenStream stream = new CommonTokenStream(lexer);
+        stream.fill();
+        return stream.getTokens();
+    }
+
+    // CommonToken.toString() covers index, range, text, type, channel, line
+    // and column
+    private static String describe(Token token) {
+        return new CommonToken(token).toString();
+    }
+}
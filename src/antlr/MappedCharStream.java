@@ -0,0 +1,295 @@
+package antlr;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+
+// CharStream over a memory-mapped UTF-8 file, for GoLexer in place of
+// CharStreams.fromPath(). CharStreams decodes the whole file onto the heap
+// up front: a byte per character for ASCII and up to four for the rest.
+// This stream keeps only a few chunks of the file on the heap at a time.
+//
+// Indexes are code points, as for any ANTLR CharStream. The constructor
+// makes one pass over the bytes, a word at a time, and splits the file into
+// chunks. In an all-ASCII chunk a code point is its byte, so no decoding is
+// needed. An all-ASCII file is read through a window copied from the
+// mapping, with no chunk lookup at all. Chunks containing other characters
+// are decoded only when the lexer reaches them, and only the last few are
+// kept.
+//
+// Malformed UTF-8 decodes to U+FFFD, one per byte. Go source has to be
+// valid UTF-8, so this only matters for broken input.
+//
+// Like any CharStream it is read by one lexer, but getText() may be called
+// from several threads once lexing is done, since tokens fetch their text
+// lazily and ParallelParser hands them to worker threads.
+public class MappedCharStream implements CharStream {
+    private static final int CHUNK_BITS = 16;
+    private static final int CACHED_CHUNKS = 4;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final ByteBuffer bytes;
+    private final String sourceName;
+    private final int size;             // in code points
+    private final boolean ascii;        // the whole file is ASCII
+
+    // Chunk i covers the code points whose first byte is in
+    // [i << chunkBits, (i + 1) << chunkBits). They start at byte chunkByte[i]
+    // and at index chunkIndex[i]; chunkIndex has an extra entry equal to size.
+    private final int[] chunkByte;
+    private final int[] chunkIndex;
+    private final boolean[] asciiChunk;
+    private int chunk;                  // chunk of the last lookup
+
+    private final int[][] decoded = new int[CACHED_CHUNKS][];
+    private final int[] decodedChunk = new int[CACHED_CHUNKS];
+    private int nextSlot;
+
+    // An ASCII file is read through a small on-heap window, which is cheaper
+    // per LA() than reading the buffer
+    private final byte[] window;
+    private int windowStart;
+    private int windowLength;
+
+    private int p;
+
+    public static MappedCharStream fromPath(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException(file + " is larger than 2 GB");
+            }
+            // The mapping stays valid after the channel is closed
+            return new MappedCharStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), file.toString());
+        }
+    }
+
+    public MappedCharStream(ByteBuffer bytes, String sourceName) {
+        this(bytes, sourceName, CHUNK_BITS);
+    }
+
+    MappedCharStream(ByteBuffer bytes, String sourceName, int chunkBits) {
+        this.bytes = bytes;
+        this.sourceName = sourceName;
+        int length = bytes.limit();
+        int chunks = (int) (((long) length + (1 << chunkBits) - 1) >>> chunkBits);
+        chunkByte = new int[chunks];
+        chunkIndex = new int[chunks + 1];
+        asciiChunk = new boolean[chunks];
+        Arrays.fill(decodedChunk, -1);
+
+        int index = 0;
+        int pos = 0;      // first byte not yet assigned to a code point
+        boolean allAscii = true;
+        for (int i = 0; i < chunks; i++) {
+            int from = i << chunkBits;
+            int to = (int) Math.min((long) from + (1 << chunkBits), length);
+            chunkByte[i] = Math.max(pos, from);
+            chunkIndex[i] = index;
+            // A sequence that ran on from the previous chunk leaves
+            // continuation bytes here, so pos > from never passes this test
+            if (pos <= from && isAscii(from, to)) {
+                asciiChunk[i] = true;
+                index += to - from;
+                pos = to;
+            } else {
+                allAscii = false;
+                while (pos < to) {
+                    pos += sequenceLength(pos);
+                    index++;
+                }
+            }
+        }
+        chunkIndex[chunks] = index;
+        size = index;
+        ascii = allAscii;
+        window = new byte[ascii ? 1 << chunkBits : 0];
+    }
+
+    private boolean isAscii(int from, int to) {
+        int i = from;
+        for (; i + 8 <= to; i += 8) {
+            if ((bytes.getLong(i) & HIGH_BITS) != 0) return false;
+        }
+        for (; i < to; i++) {
+            if (bytes.get(i) < 0) return false;
+        }
+        return true;
+    }
+
+    // Length of the UTF-8 sequence at pos, or 1 if it is malformed
+    private int sequenceLength(int pos) {
+        int lead = bytes.get(pos) & 0xFF;
+        if (lead < 0x80) return 1;
+        int length = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : 2;
+        return decode(pos, length) == -1 ? 1 : length;
+    }
+
+    // Code point of the length-byte sequence at pos, or -1 if it is malformed
+    private int decode(int pos, int length) {
+        int lead = bytes.get(pos) & 0xFF;
+        if (lead < 0xC2 || lead > 0xF4 || pos + length > bytes.limit()) return -1;
+        int cp = lead & (0x7F >> length);
+        for (int k = 1; k < length; k++) {
+            int b = bytes.get(pos + k) & 0xFF;
+            if ((b & 0xC0) != 0x80) return -1;
+            cp = (cp << 6) | (b & 0x3F);
+        }
+        int min = length == 2 ? 0x80 : length == 3 ? 0x800 : 0x10000;
+        if (cp < min || cp > Character.MAX_CODE_POINT || (cp >= 0xD800 && cp <= 0xDFFF)) return -1;
+        return cp;
+    }
+
+    private int codePointAt(int index) {
+        int c = chunk;
+        if (index < chunkIndex[c] || index >= chunkIndex[c + 1]) {
+            c = findChunk(index);
+            chunk = c;
+        }
+        int offset = index - chunkIndex[c];
+        if (asciiChunk[c]) {
+            return bytes.get(chunkByte[c] + offset);
+        }
+        return decodedChunk(c)[offset];
+    }
+
+    // Last chunk that starts at or before index
+    private int findChunk(int index) {
+        int lo = 0;
+        int hi = chunkByte.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (chunkIndex[mid] <= index) lo = mid; else hi = mid - 1;
+        }
+        return lo;
+    }
+
+    private int[] decodedChunk(int c) {
+        for (int slot = 0; slot < CACHED_CHUNKS; slot++) {
+            if (decodedChunk[slot] == c) return decoded[slot];
+        }
+        int[] codePoints = new int[chunkIndex[c + 1] - chunkIndex[c]];
+        int pos = chunkByte[c];
+        for (int k = 0; k < codePoints.length; k++) {
+            int length = sequenceLength(pos);
+            int lead = bytes.get(pos) & 0xFF;
+            codePoints[k] = lead < 0x80 ? lead : length == 1 ? 0xFFFD : decode(pos, length);
+            pos += length;
+        }
+        int slot = nextSlot;
+        nextSlot = (nextSlot + 1) % CACHED_CHUNKS;
+        decoded[slot] = codePoints;
+        decodedChunk[slot] = c;
+        return codePoints;
+    }
+
+    // Size of the underlying file in bytes
+    public int byteSize() {
+        return bytes.limit();
+    }
+
+    // CRC-32C of the file's bytes, which is what AstArena records of a
+    // source. Reads the whole mapping, but decodes nothing.
+    public int checksum() {
+        return AstArena.checksum(bytes);
+    }
+
+    @Override
+    public void consume() {
+        if (p >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        p++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (i == 0) {
+            return 0; // undefined
+        }
+        int index = i > 0 ? p + i - 1 : p + i;
+        if (index < 0 || index >= size) {
+            return IntStream.EOF;
+        }
+        if (ascii) {
+            int offset = index - windowStart;
+            if (offset < 0 || offset >= windowLength) {
+                offset = moveWindow(index);
+            }
+            return window[offset];
+        }
+        return codePointAt(index);
+    }
+
+    // Copies the aligned block of an ASCII file around index into window
+    // and returns the offset of index in it
+    private int moveWindow(int index) {
+        windowStart = index & -window.length;
+        windowLength = Math.min(window.length, size - windowStart);
+        bytes.get(windowStart, window, 0, windowLength);
+        return index - windowStart;
+    }
+
+    // The whole file is always available, so marks need no bookkeeping
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public void seek(int index) {
+        p = Math.min(index, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return sourceName == null || sourceName.isEmpty() ? UNKNOWN_SOURCE_NAME : sourceName;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.max(interval.a, 0);
+        int stop = Math.min(interval.b, size - 1);
+        if (start > stop) {
+            return "";
+        }
+        if (ascii) {
+            byte[] text = new byte[stop - start + 1];
+            bytes.get(start, text, 0, text.length);
+            return new String(text, StandardCharsets.ISO_8859_1);
+        }
+        // The decoded chunks are shared with the lexer's reads
+        synchronized (this) {
+            StringBuilder text = new StringBuilder(stop - start + 1);
+            for (int index = start; index <= stop; index++) {
+                text.appendCodePoint(codePointAt(index));
+            }
+            return text.toString();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
@@ -0,0 +1,170 @@
+package antlr;
+
+import java.util.*;
+
+// A set of CFG nodes stored as a bitset over a graph's dense node ids
+// (CFGNode.id). All sets over the same graph can be combined word-at-a-time
+// with the in-place bulk operations.
+class NodeSet extends AbstractSet<CFGNode> {
+    private final ControlFlowGraph universe;
+    private final int capacity;
+    private final long[] words;
+
+    NodeSet(ControlFlowGraph universe) {
+        this.universe = universe;
+        this.capacity = universe.nodeCount();
+        this.words = new long[(capacity + 63) >>> 6];
+    }
+
+    NodeSet(NodeSet other) {
+        this.universe = other.universe;
+        this.capacity = other.capacity;
+        this.words = other.words.clone();
+    }
+
+    private int indexOf(Object o) {
+        if (!(o instanceof CFGNode)) return -1;
+        CFGNode node = (CFGNode) o;
+        return node.graph == universe && node.id < capacity ? node.id : -1;
+    }
+
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // Returns true if the bit was not already set
+    public boolean set(int index) {
+        long mask = 1L << index;
+        long old = words[index >>> 6];
+        words[index >>> 6] = old | mask;
+        return (old & mask) == 0;
+    }
+
+    public int nextSetBit(int from) {
+        int w = from >>> 6;
+        if (w >= words.length) return -1;
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) return (w << 6) + Long.numberOfTrailingZeros(word);
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        int i = indexOf(o);
+        return i >= 0 && get(i);
+    }
+
+    @Override
+    public boolean add(CFGNode node) {
+        int i = indexOf(node);
+        if (i < 0) {
+            throw new IllegalArgumentException("Node " + node + " does not belong to this graph");
+        }
+        return set(i);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+        if (i < 0 || !get(i)) return false;
+        words[i >>> 6] &= ~(1L << i);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    @Override
+    public int size() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    // In-place union; returns true if this set changed
+    public boolean unionWith(NodeSet other) {
+        checkSameUniverse(other);
+        boolean changed = false;
+        for (int w = 0; w < words.length; w++) {
+            long merged = words[w] | other.words[w];
+            changed |= merged != words[w];
+            words[w] = merged;
+        }
+        return changed;
+    }
+
+    // In-place intersection; returns true if this set changed
+    public boolean intersectWith(NodeSet other) {
+        checkSameUniverse(other);
+        boolean changed = false;
+        for (int w = 0; w < words.length; w++) {
+            long merged = words[w] & other.words[w];
+            changed |= merged != words[w];
+            words[w] = merged;
+        }
+        return changed;
+    }
+
+    private void checkSameUniverse(NodeSet other) {
+        if (other.universe != universe || other.capacity != capacity) {
+            throw new IllegalArgumentException("NodeSets belong to different graphs");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof NodeSet && ((NodeSet) o).universe == universe
+                && ((NodeSet) o).capacity == capacity) {
+            return Arrays.equals(words, ((NodeSet) o).words);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public Iterator<CFGNode> iterator() {
+        return new Iterator<CFGNode>() {
+            private int next = nextSetBit(0);
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public CFGNode next() {
+                if (next < 0) throw new NoSuchElementException();
+                last = next;
+                next = nextSetBit(next + 1);
+                return universe.getNode(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) throw new IllegalStateException();
+                words[last >>> 6] &= ~(1L << last);
+                last = -1;
+            }
+        };
+    }
+}
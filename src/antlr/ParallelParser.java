@@ -0,0 +1,201 @@
+package antlr;
+
+import antlr.AST.*;
+import org.antlr.v4.runtime.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+// Parses the top-level declarations of one file on several threads. Go
+// declarations are independent of each other syntactically, so once the
+// file is lexed a cheap scan over the tokens can find where each one
+// starts: a func, type, var or const keyword at the start of a statement,
+// outside any braces, parentheses or brackets. The declarations are split
+// into slices of a few thousand tokens, and each slice is parsed by a
+// StreamingParser of its own on the executor. All parsers come from the
+// same GoParserFactory, so they share its DFA cache. The package clause
+// and imports are parsed on the calling thread meanwhile, and the results
+// are merged into one ProgramNode in source order.
+//
+// Syntax errors are collected per slice and replayed to the caller's
+// listener in source order. If the brackets do not balance, the file is
+// parsed as a single slice, since the split points cannot be trusted.
+public class ParallelParser {
+    static final int MIN_SLICE_TOKENS = 4096;
+    static final int SLICES_PER_THREAD = 4;
+
+    public static class Result {
+        final ProgramNode program;
+        final TwoStageParser.Stage stage;
+        final int slices;
+
+        Result(ProgramNode program, TwoStageParser.Stage stage, int slices) {
+            this.program = program;
+            this.stage = stage;
+            this.slices = slices;
+        }
+    }
+
+    private final GoParserFactory factory;
+    private final ExecutorService executor;
+    private final int threads;
+
+    public ParallelParser(GoParserFactory factory, ExecutorService executor, int threads) {
+        this.factory = factory;
+        this.executor = executor;
+        this.threads = threads;
+    }
+
+    // tokens is everything the lexer produced, e.g. CommonTokenStream's
+    // getTokens() after fill()
+    public Result parse(List<Token> tokens, ANTLRErrorListener errorListener) {
+        List<Token> program = new ArrayList<>(tokens.size());
+        for (Token token : tokens) {
+            if (token.getChannel() == Token.DEFAULT_CHANNEL && token.getType() != Token.EOF) {
+                program.add(token);
+            }
+        }
+        List<Integer> starts = declarationStarts(program);
+        int sliceTokens = Math.max(MIN_SLICE_TOKENS, program.size() / (threads * SLICES_PER_THREAD));
+
+        // Slice i covers [bounds[i], bounds[i + 1]); the header comes first
+        List<Integer> bounds = new ArrayList<>();
+        bounds.add(0);
+        if (!starts.isEmpty()) {
+            bounds.add(starts.get(0));
+            for (int start : starts) {
+                if (start - bounds.get(bounds.size() - 1) >= sliceTokens) {
+                    bounds.add(start);
+                }
+            }
+        }
+        bounds.add(program.size());
+
+        List<Future<Slice>> slices = new ArrayList<>();
+        for (int i = 1; i + 1 < bounds.size(); i++) {
+            List<Token> slice = program.subList(bounds.get(i), bounds.get(i + 1));
+            if (slice.isEmpty()) continue;
+            slices.add(executor.submit(() -> parseSlice(slice)));
+        }
+
+        try {
+            Slice header = new Slice();
+            StreamingParser headerParser = new StreamingParser(factory,
+                    new ListTokenSource(program.subList(0, bounds.get(1))), header.errors);
+            ProgramNode result = headerParser.header();
+            // Without split points this parses the whole file; otherwise
+            // there is nothing left, or only stray tokens to report
+            header.parse(headerParser);
+
+            boolean ll = headerParser.stage() == TwoStageParser.Stage.LL;
+            header.errors.replay(errorListener);
+            List<ASTNode> declarations = new ArrayList<>();
+            addDeclarations(declarations, header.declarations);
+            for (Future<Slice> future : slices) {
+                Slice slice = future.get();
+                ll |= slice.ll;
+                slice.errors.replay(errorListener);
+                addDeclarations(declarations, slice.declarations);
+            }
+            TwoStageParser.Stage stage = ll ? TwoStageParser.Stage.LL : TwoStageParser.Stage.SLL;
+            return new Result(result.withDeclarations(declarations), stage, slices.size() + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while parsing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            for (Future<Slice> future : slices) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    // Indexes of the tokens that start a top-level declaration, or none if
+    // the file's brackets do not balance
+    static List<Integer> declarationStarts(List<Token> tokens) {
+        List<Integer> starts = new ArrayList<>();
+        int braces = 0;
+        int parens = 0;
+        boolean statementStart = true;
+        for (int i = 0; i < tokens.size(); i++) {
+            int type = tokens.get(i).getType();
+            switch (type) {
+                case GoLexer.L_CURLY -> braces++;
+                case GoLexer.R_CURLY -> braces--;
+                case GoLexer.L_PAREN, GoLexer.L_BRACKET -> parens++;
+                case GoLexer.R_PAREN, GoLexer.R_BRACKET -> parens--;
+                case GoLexer.FUNC, GoLexer.TYPE, GoLexer.VAR, GoLexer.CONST -> {
+                    if (statementStart && braces == 0 && parens == 0) {
+                        starts.add(i);
+                    }
+                }
+                default -> { }
+            }
+            if (braces < 0 || parens < 0) {
+                return List.of();
+            }
+            statementStart = type == GoLexer.SEMI || type == GoLexer.EOS;
+        }
+        return braces == 0 && parens == 0 ? starts : List.of();
+    }
+
+    private Slice parseSlice(List<Token> tokens) {
+        Slice slice = new Slice();
+        StreamingParser parser = new StreamingParser(factory, new ListTokenSource(tokens), slice.errors);
+        slice.parse(parser);
+        slice.ll = parser.stage() == TwoStageParser.Stage.LL;
+        return slice;
+    }
+
+    // Adds what StreamingParser.next() returned to a program's
+    // declarations, the way GoASTBuilder does for a sourceFile
+    static void addDeclarations(List<ASTNode> into, List<ASTNode> declarations) {
+        for (ASTNode decl : declarations) {
+            if (decl != null) {
+                into.add(decl);
+            }
+        }
+    }
+
+    private static class Slice {
+        final List<ASTNode> declarations = new ArrayList<>();
+        final RecordedErrors errors = new RecordedErrors();
+        boolean ll;
+
+        void parse(StreamingParser parser) {
+            while (parser.hasNext()) {
+                declarations.add(parser.next());
+            }
+        }
+    }
+
+    // Holds on to syntax errors so they can be reported in order later
+    static class RecordedErrors extends BaseErrorListener {
+        private record SyntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                   int charPositionInLine, String msg, RecognitionException e) {}
+
+        private final List<SyntaxError> errors = new ArrayList<>();
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                int charPositionInLine, String msg, RecognitionException e) {
+            errors.add(new SyntaxError(recognizer, offendingSymbol, line, charPositionInLine, msg, e));
+        }
+
+        boolean isEmpty() {
+            return errors.isEmpty();
+        }
+
+        void replay(ANTLRErrorListener listener) {
+            for (SyntaxError error : errors) {
+                listener.syntaxError(error.recognizer, error.offendingSymbol, error.line, error.charPositionInLine,
+                        error.msg, error.e);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package antlr;
+
+import org.antlr.v4.runtime.*;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.file.*;
+import java.util.*;
+
+// Parse-time benchmark over a corpus of .go files. The files are lexed once
+// up front; each round then parses every file again with the same (warming)
+// GoParserFactory. Round 1 shows the cold cost and later rounds the
+// steady state.
+//
+// --ast also builds each file's AST from its parse tree with GoASTBuilder,
+// and --direct-ast builds it during the parse instead, for comparing the
+// two. Each round reports the megabytes it allocated.
+// --fast-lexer lexes the corpus with GoScanner instead of GoLexer; either
+// way the time it took is reported up front. --stream parses each file a
+// declaration at a time with StreamingParser, which always builds the AST,
+// and --lazy-bodies does the same without parsing function bodies, as a
+// pass that only looks at signatures would.
+//
+//   java antlr.ParseBenchmark [--rounds N] [--ll-only] [--ast | --direct-ast | --stream | --lazy-bodies]
+//                             [--fast-lexer] <dir-or-file>...
+public class ParseBenchmark {
+    public static void main(String[] args) throws IOException {
+        int rounds = 5;
+        boolean llOnly = false;
+        boolean ast = false;
+        boolean directAst = false;
+        boolean fastLexer = false;
+        boolean streaming = false;
+        boolean lazyBodies = false;
+        List<Path> roots = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--rounds") && i + 1 < args.length) {
+                rounds = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--ll-only")) {
+                llOnly = true;
+            } else if (args[i].equals("--ast")) {
+                ast = true;
+            } else if (args[i].equals("--direct-ast")) {
+                directAst = true;
+            } else if (args[i].equals("--fast-lexer")) {
+                fastLexer = true;
+            } else if (args[i].equals("--stream")) {
+                streaming = true;
+            } else if (args[i].equals("--lazy-bodies")) {
+                streaming = true;
+                lazyBodies = true;
+            } else {
+                roots.add(Paths.get(args[i]));
+            }
+        }
+        if (roots.isEmpty()) {
+            for (String file : GoParserFactory.DEFAULT_WARMUP_CORPUS) roots.add(Paths.get(file));
+        }
+
+        GoParserFactory factory = new GoParserFactory();
+        factory.setFastLexer(fastLexer);
+        List<CommonTokenStream> corpus = new ArrayList<>();
+        long tokens = 0;
+        long lexStart = System.nanoTime();
+        for (Path file : GoBatchMain.goFiles(roots)) {
+            GoLexer lexer = factory.newLexer(MappedCharStream.fromPath(file));
+            lexer.removeErrorListeners();
+            CommonTokenStream stream = new CommonTokenStream(lexer);
+            stream.fill();
+            tokens += stream.size();
+            corpus.add(stream);
+        }
+        System.out.printf("%d files, %d tokens lexed in %.1f ms by %s, %s%s%n", corpus.size(), tokens,
+                (System.nanoTime() - lexStart) / 1e6, fastLexer ? "GoScanner" : "GoLexer",
+                llOnly ? "LL only" : "SLL then LL",
+                lazyBodies ? ", declarations without bodies" : streaming ? ", declaration at a time"
+                        : directAst ? ", AST while parsing" : ast ? ", AST from parse tree" : "");
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+
+        for (int round = 1; round <= rounds; round++) {
+            int sll = 0, ll = 0, withErrors = 0;
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (CommonTokenStream stream : corpus) {
+                ErrorCounter errors = new ErrorCounter();
+                if (streaming) {
+                    TwoStageParser.Stage stage = parseStreaming(factory, stream, errors, lazyBodies);
+                    if (stage == TwoStageParser.Stage.SLL) sll++; else ll++;
+                    if (errors.count > 0) withErrors++;
+                    continue;
+                }
+                stream.seek(0);
+                GoParser parser = factory.newParser(stream);
+                GoASTBuilder builder = directAst ? new GoASTBuilder(parser) : null;
+                TwoStageParser.Result result = llOnly
+                        ? TwoStageParser.parseLL(parser, errors)
+                        : TwoStageParser.parse(parser, errors);
+                try {
+                    if (builder != null) {
+                        builder.result();
+                    } else if (ast) {
+                        GoASTBuilder.build(result.tree);
+                    }
+                } catch (RuntimeException e) {
+                    // The AST cannot be built for every file; only the work counts here
+                }
+                if (result.stage == TwoStageParser.Stage.SLL) sll++; else ll++;
+                if (errors.count > 0) withErrors++;
+            }
+            double millis = (System.nanoTime() - start) / 1e6;
+            allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+            System.out.printf("round %d: %9.1f ms  %8.0f tokens/ms  %7.1f MB allocated  SLL %d  LL %d  "
+                            + "files with errors %d  DFA states %d%n",
+                    round, millis, tokens / millis, allocated / 1e6, sll, ll, withErrors, factory.dfaStateCount());
+        }
+    }
+
+    private static TwoStageParser.Stage parseStreaming(GoParserFactory factory, CommonTokenStream stream,
+                                                       ErrorCounter errors, boolean lazyBodies) {
+        StreamingParser parser = new StreamingParser(factory, new ListTokenSource(stream.getTokens()), errors,
+                lazyBodies);
+        try {
+            parser.header();
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        } catch (RuntimeException e) {
+            // as above
+        }
+        return parser.stage();
+    }
+
+    private static class ErrorCounter extends BaseErrorListener {
+        int count;
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                int charPositionInLine, String msg, RecognitionException e) {
+            count++;
+        }
+    }
+}
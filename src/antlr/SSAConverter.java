@@ -1 +1,169 @@
+package antlr;
 
+import java.util.*;
+
+// SSA construction over an analyzed CFG: phi placement from the dominance
+// frontiers in CFGAnalyzer, then renaming. Everything is kept in parameters and
+// on the graph's own nodes, so separate graphs can be converted concurrently.
+class SSAConverter {
+    static void convertToSSA(CFGNode startNode, CFGAnalyzer analyzer, Map<Symbol, Stack<Integer>> variableVersions,
+            Map<Symbol, Integer> currentVersion, Map<CFGNode, Set<Symbol>> phiFunctions) {
+        // Step 1: Collect all variables that are assigned values, and where
+        Map<Symbol, NodeSet> definitionNodes = collectDefinitionNodes(startNode, analyzer);
+        Set<Symbol> assignedVariables = definitionNodes.keySet();
+
+        // Initialize version counters for all variables to 0
+        for (Symbol var : assignedVariables) {
+            currentVersion.put(var, 0);
+            variableVersions.computeIfAbsent(var, k -> new Stack<>()).push(0);
+        }
+
+        // Step 2: Insert functions
+        for (Symbol variable : assignedVariables) {
+            NodeSet phiNodes = analyzer.newNodeSet();
+            insertPhiFunctions(analyzer, variable, definitionNodes.get(variable), phiNodes, phiFunctions);
+        }
+
+        // Step 3: Rename along the dominator tree
+        renameVariables(startNode, variableVersions, currentVersion, phiFunctions);
+    }
+
+    // Cytron et al. renaming. Entering a block pushes a new version for each
+    // of its phis and assignments, and records the top of each stack as the
+    // operand of the successors' phis: that is the definition reaching the
+    // end of this block. Once the block's dominator subtree is done its
+    // versions are popped again. Iterative, since the dominator tree of a
+    // long function is deep; a block is on the work stack once to enter it
+    // and once more, under its children, to pop.
+    private static void renameVariables(CFGNode root, Map<Symbol, Stack<Integer>> variableVersions,
+            Map<Symbol, Integer> currentVersion, Map<CFGNode, Set<Symbol>> phiFunctions) {
+        Deque<CFGNode> work = new ArrayDeque<>();
+        Deque<List<Symbol>> pushed = new ArrayDeque<>();
+        Set<CFGNode> entered = new HashSet<>();
+        work.push(root);
+        while (!work.isEmpty()) {
+            CFGNode node = work.pop();
+            if (!entered.add(node)) {
+                for (Symbol var : pushed.pop()) {
+                    variableVersions.get(var).pop();
+                }
+                continue;
+            }
+
+            List<Symbol> defined = new ArrayList<>();
+            for (Symbol var : phiFunctions.getOrDefault(node, Set.of())) {
+                node.varVersions.put(var, newVersion(var, variableVersions, currentVersion));
+                node.phiOperands.computeIfAbsent(var, k -> new HashMap<>());
+                defined.add(var);
+            }
+            // The block's own varVersions hold only its phi results
+            for (CFGNode stmt : node.getStatements()) {
+                for (Symbol var : stmt.varVersions.keySet()) {
+                    stmt.varVersions.put(var, newVersion(var, variableVersions, currentVersion));
+                    defined.add(var);
+                }
+            }
+
+            for (CFGNode succ : node.getSuccessors()) {
+                for (Symbol var : phiFunctions.getOrDefault(succ, Set.of())) {
+                    succ.phiOperands.computeIfAbsent(var, k -> new HashMap<>())
+                            .put(node, variableVersions.get(var).peek());
+                }
+            }
+
+            work.push(node);
+            pushed.push(defined);
+            // Reversed, so children are entered in order
+            for (int i = node.domChildren.size() - 1; i >= 0; i--) {
+                work.push(node.domChildren.get(i));
+            }
+        }
+    }
+
+    private static int newVersion(Symbol var, Map<Symbol, Stack<Integer>> variableVersions,
+            Map<Symbol, Integer> currentVersion) {
+        int version = currentVersion.get(var) + 1;
+        currentVersion.put(var, version);
+        variableVersions.get(var).push(version);
+        return version;
+    }
+
+    // One pass over the cached post-order maps every assigned variable to the
+    // blocks that define it, instead of re-walking the graph per variable.
+    private static Map<Symbol, NodeSet> collectDefinitionNodes(CFGNode startNode, CFGAnalyzer analyzer) {
+        Map<Symbol, NodeSet> definitionNodes = new HashMap<>();
+        for (CFGNode n: startNode.getPostOrder()) {
+        	for (CFGNode stmt : n.getStatements()) {
+        		for (Symbol var : stmt.varVersions.keySet()) {
+        			definitionNodes.computeIfAbsent(var, k -> analyzer.newNodeSet()).add(n);
+        		}
+        	}
+        }
+        return definitionNodes;
+    }
+    private static void insertPhiFunctions(CFGAnalyzer analyzer, Symbol variable, NodeSet defNodes, NodeSet phiNodes,
+        Map<CFGNode, Set<Symbol>> phiFunctions) {
+		NodeSet processedNodes = analyzer.newNodeSet();
+		Queue<CFGNode> workList = new LinkedList<>(defNodes);
+		
+		while (!workList.isEmpty()) {
+		   CFGNode defNode = workList.poll();
+		   if (!processedNodes.add(defNode)) continue;
+		
+		   // For each node in the dominance frontier
+		   for (CFGNode frontierNode : defNode.DFSet) {
+		       if (phiNodes.add(frontierNode)) {
+		           // Add phi function for this variable
+		           phiFunctions.computeIfAbsent(frontierNode, k -> new HashSet<>()).add(variable);
+		           
+		           // The phi is a new definition, so its frontier needs one too
+		           workList.add(frontierNode);
+		       }
+		   }
+		}
+	}
+
+    static void printSSAInfo(CFGNode startNode, Map<CFGNode, Set<Symbol>> phiFunctions) {
+        Queue<CFGNode> queue = new LinkedList<>();
+        Set<CFGNode> visited = new HashSet<>();
+        queue.add(startNode);
+
+        System.out.println("SSA Form Information:");
+
+        while (!queue.isEmpty()) {
+            CFGNode node = queue.poll();
+            if (visited.contains(node)) continue;
+            visited.add(node);
+
+            System.out.println("Node ID: " + node.id + " (line " + node.line + ")");
+
+            // Print regular variable assignments, in statement order
+            System.out.println("  Variables and Versions:");
+            for (CFGNode stmt : node.getStatements()) {
+                for (Map.Entry<Symbol, Integer> entry : stmt.varVersions.entrySet()) {
+                    System.out.printf("    %s_%d = ...   (line %d)\n", entry.getKey(), entry.getValue(), stmt.line);
+                }
+            }
+
+            // Print phi functions with their operands
+            if (phiFunctions.containsKey(node) && !phiFunctions.get(node).isEmpty()) {
+                System.out.println("  Phi Functions:");
+                for (Symbol var : phiFunctions.get(node)) {
+                    System.out.printf("    %s_%d = φ(", var, node.varVersions.get(var));
+                    if (node.phiOperands.containsKey(var)) {
+                        StringJoiner joiner = new StringJoiner(", ");
+                        for (Map.Entry<CFGNode, Integer> operand : node.phiOperands.get(var).entrySet()) {
+                            joiner.add(String.format("%s_%d", var, operand.getValue()));
+                        }
+                        System.out.println(joiner.toString() + ")");
+                    } else {
+                        System.out.println(")");
+                    }
+                }
+            }
+
+            System.out.println();
+            queue.addAll(node.getSuccessors());
+        }
+    }
+}
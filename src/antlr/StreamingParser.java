@@ -0,0 +1,469 @@
+package antlr;
+
+import antlr.AST.*;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Parses a source file one top-level declaration at a time, for files too
+// big to hold as one parse tree. Instead of calling sourceFile, it calls the
+// rule for each declaration in turn (functionDecl, methodDecl or
+// declaration). Tokens come from an UnbufferedTokenStream, which keeps only
+// the tokens of the declaration being parsed. Each parse tree is turned into
+// AST by next() and dropped, so peak memory follows the largest declaration
+// rather than the file.
+//
+// Like TwoStageParser, each declaration is parsed with SLL first and
+// reparsed with full LL if that fails. The declaration's tokens stay marked
+// until it is done, so the reparse can seek back to its start.
+//
+// With lazy bodies, which is for passes that only need names, imports and
+// signatures, the tokens of each top-level function's body are dropped
+// before they reach the parser (a function declaration without a body is
+// still valid Go). next() returns such a function without a body;
+// nextLazy() returns it as a LazyDeclaration, whose complete() relexes and
+// parses the body from the CharStream the first time it is called. Syntax
+// errors in a body are only reported then, to the same listener.
+//
+//   StreamingParser stream = new StreamingParser(factory, input, listener);
+//   ProgramNode program = stream.header();
+//   while (stream.hasNext()) { ASTNode decl = stream.next(); ... }
+public class StreamingParser {
+    private final GoParserFactory factory;
+    private final CountingTokenSource source;
+    private final BodySkipper bodies;   // null unless bodies are lazy
+    private final UnbufferedTokenStream<Token> tokens;
+    private final GoParser parser;
+    private final ANTLRErrorListener errorListener;
+    int sllParses;
+    int llParses;
+
+    public StreamingParser(GoParserFactory factory, CharStream input, ANTLRErrorListener errorListener) {
+        this(factory, input, errorListener, false);
+    }
+
+    public StreamingParser(GoParserFactory factory, CharStream input, ANTLRErrorListener errorListener,
+                           boolean lazyBodies) {
+        this(factory, lexer(factory, input, errorListener), errorListener, lazyBodies);
+    }
+
+    // Parses tokens that were already lexed, e.g. a slice of a file
+    // (ParallelParser)
+    public StreamingParser(GoParserFactory factory, TokenSource tokenSource, ANTLRErrorListener errorListener) {
+        this(factory, tokenSource, errorListener, false);
+    }
+
+    public StreamingParser(GoParserFactory factory, TokenSource tokenSource, ANTLRErrorListener errorListener,
+                           boolean lazyBodies) {
+        this.factory = factory;
+        this.source = new CountingTokenSource(tokenSource);
+        this.bodies = lazyBodies ? new BodySkipper(source) : null;
+        this.tokens = new UnbufferedTokenStream<>(bodies != null ? bodies : source);
+        this.parser = factory.newParser(tokens);
+        this.errorListener = errorListener;
+    }
+
+    private static GoLexer lexer(GoParserFactory factory, CharStream input, ANTLRErrorListener errorListener) {
+        GoLexer lexer = factory.newLexer(input);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        return lexer;
+    }
+
+    // Parses the package clause and the imports. The declarations come from
+    // next(), so the returned program has none.
+    public ProgramNode header() {
+        GoParser.PackageClauseContext packageClause = parse(() -> {
+            GoParser.PackageClauseContext ctx = parser.packageClause();
+            parser.eos();
+            return ctx;
+        });
+        String packageName = packageClause.packageName != null ? packageClause.packageName.getText() : null;
+
+        List<ImportNode> imports = new ArrayList<>();
+        while (tokens.LA(1) == GoParser.IMPORT) {
+            GoParser.ImportDeclContext importDecl = parse(() -> {
+                GoParser.ImportDeclContext ctx = parser.importDecl();
+                parser.eos();
+                return ctx;
+            });
+            imports.addAll(GoASTBuilder.imports(importDecl));
+        }
+        return new ProgramNode(packageClause.getStart().getLine(), packageClause.getStart().getCharPositionInLine(),
+                packageName, imports, List.of());
+    }
+
+    public boolean hasNext() {
+        skipToDeclaration();
+        return tokens.LA(1) != Token.EOF;
+    }
+
+    // Parses the next declaration and returns its AST: a FunctionNode (a
+    // MethodNode for methods) or what GoASTBuilder makes of a const, type or
+    // var declaration, which may be null. A function body skipped with lazy
+    // bodies is null.
+    public ASTNode next() {
+        ParserRuleContext decl = parseDeclaration();
+        if (bodies != null) {
+            bodies.skipped.remove(decl.getStart());
+        }
+        return GoASTBuilder.build(decl);
+    }
+
+    // next(), with the function body that was skipped, if any, left to
+    // parse on demand
+    public LazyDeclaration nextLazy() {
+        ParserRuleContext decl = parseDeclaration();
+        LazyBody body = bodies != null ? bodies.skipped.remove(decl.getStart()) : null;
+        return new LazyDeclaration(GoASTBuilder.build(decl), body);
+    }
+
+    private ParserRuleContext parseDeclaration() {
+        skipToDeclaration();
+        ParserRuleContext decl;
+        if (tokens.LA(1) != GoParser.FUNC) {
+            decl = parse(() -> {
+                GoParser.DeclarationContext ctx = parser.declaration();
+                parser.eos();
+                return ctx;
+            });
+        } else if (tokens.LA(2) == GoParser.L_PAREN) {
+            decl = parse(() -> {
+                GoParser.MethodDeclContext ctx = parser.methodDecl();
+                parser.eos();
+                return ctx;
+            });
+        } else {
+            decl = parse(() -> {
+                GoParser.FunctionDeclContext ctx = parser.functionDecl();
+                parser.eos();
+                return ctx;
+            });
+        }
+        return decl;
+    }
+
+    // Parses a lone block, as LazyBody does with a function body
+    private BlockNode block() {
+        GoParser.BlockContext block = parse(parser::block);
+        return (BlockNode) GoASTBuilder.build(block);
+    }
+
+    // Tokens read from the lexer so far, including off-channel ones and EOF
+    public int tokenCount() {
+        return source.count;
+    }
+
+    public TwoStageParser.Stage stage() {
+        return llParses > 0 ? TwoStageParser.Stage.LL : TwoStageParser.Stage.SLL;
+    }
+
+    // sourceFile would report and drop anything between declarations that
+    // cannot start one; do the same here
+    private void skipToDeclaration() {
+        for (int type = tokens.LA(1); type != Token.EOF; type = tokens.LA(1)) {
+            if (type == GoParser.FUNC || type == GoParser.CONST || type == GoParser.TYPE || type == GoParser.VAR) {
+                return;
+            }
+            Token token = tokens.LT(1);
+            if (type != GoParser.SEMI && type != GoParser.EOS) {
+                errorListener.syntaxError(parser, token, token.getLine(), token.getCharPositionInLine(),
+                        "extraneous input '" + token.getText() + "' expecting a declaration", null);
+            }
+            tokens.consume();
+        }
+    }
+
+    private <T extends ParserRuleContext> T parse(Supplier<T> rule) {
+        int start = tokens.index();
+        int marker = tokens.mark();
+        try {
+            parser.removeErrorListeners();
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            try {
+                T tree = rule.get();
+                sllParses++;
+                return tree;
+            } catch (ParseCancellationException e) {
+                // fall through to the full LL parse
+            }
+
+            // Every rule unwinds its context on the way out, so only the
+            // input needs rewinding
+            tokens.seek(start);
+            parser.addErrorListener(errorListener);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            llParses++;
+            return rule.get();
+        } finally {
+            tokens.release(marker);
+        }
+    }
+
+    // A declaration from nextLazy(). declaration() is its AST as next()
+    // returns it. complete() is the same with a skipped function body parsed,
+    // once, by whichever thread asks first. The AST itself never refers to
+    // the parser.
+    public static final class LazyDeclaration {
+        private final ASTNode declaration;
+        private final boolean bodySkipped;
+        private LazyBody body;          // null once parsed
+        private volatile ASTNode complete;
+
+        LazyDeclaration(ASTNode declaration, LazyBody body) {
+            this.declaration = declaration;
+            this.bodySkipped = body != null;
+            this.body = body;
+        }
+
+        public ASTNode declaration() {
+            return declaration;
+        }
+
+        public boolean bodySkipped() {
+            return bodySkipped;
+        }
+
+        public ASTNode complete() {
+            if (!bodySkipped) {
+                return declaration;
+            }
+            ASTNode built = complete;
+            if (built == null) {
+                synchronized (this) {
+                    built = complete;
+                    if (built == null) {
+                        complete = built = ((FunctionNode) declaration).withBody(body.build());
+                        body = null;
+                    }
+                }
+            }
+            return built;
+        }
+    }
+
+    // Where a skipped function body starts in the source and what to parse
+    // it with
+    private static final class LazyBody {
+        private final GoParserFactory factory;
+        private final ANTLRErrorListener errorListener;
+        private final CharStream input;
+        private final int start;        // of the opening brace
+        private final int line;
+        private final int column;
+
+        LazyBody(GoParserFactory factory, ANTLRErrorListener errorListener, Token openingBrace) {
+            this.factory = factory;
+            this.errorListener = errorListener;
+            this.input = openingBrace.getInputStream();
+            this.start = openingBrace.getStartIndex();
+            this.line = openingBrace.getLine();
+            this.column = openingBrace.getCharPositionInLine();
+        }
+
+        // Lexes from the opening brace to the one that closes it and parses
+        // that as a block. Lexer errors were reported when the whole file
+        // was lexed, so they are not reported again.
+        BlockNode build() {
+            List<Token> tokens = new ArrayList<>();
+            // Bodies of one file share its CharStream and may be built on
+            // different threads
+            synchronized (input) {
+                int position = input.index();
+                input.seek(start);
+                GoLexer lexer = factory.newLexer(input);
+                lexer.removeErrorListeners();
+                lexer.getInterpreter().setLine(line);
+                lexer.getInterpreter().setCharPositionInLine(column);
+                int braces = 0;
+                do {
+                    Token token = lexer.nextToken();
+                    if (token.getChannel() != Token.DEFAULT_CHANNEL) continue;
+                    tokens.add(token);
+                    if (token.getType() == Token.EOF) break;    // unclosed; the parser says so
+                    if (token.getType() == GoLexer.L_CURLY) braces++;
+                    if (token.getType() == GoLexer.R_CURLY) braces--;
+                } while (braces > 0);
+                input.seek(position);
+            }
+            return new StreamingParser(factory, new ListTokenSource(tokens), errorListener).block();
+        }
+    }
+
+    // Passes tokens through, except for the bodies of top-level functions
+    // and methods: from the brace that opens one to the brace that closes
+    // it, tokens are dropped and a LazyBody is kept instead,
+    // under the declaration's func token. A body is the first brace of the
+    // signature that is outside parentheses and not part of a struct or
+    // interface type.
+    private class BodySkipper implements TokenSource {
+        private final CountingTokenSource source;
+        final Map<Token, LazyBody> skipped = new IdentityHashMap<>();
+        private int depth;                  // brackets open outside signatures
+        private boolean statementStart = true;
+        private Token function;             // func token of the signature being read
+        private int parens;                 // in the signature
+        private int typeBraces;             // struct and interface braces in the signature
+        private int previousType;
+
+        BodySkipper(CountingTokenSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public Token nextToken() {
+            Token token = source.nextToken();
+            int type = token.getType();
+            if (function == null) {
+                switch (type) {
+                    case GoLexer.L_CURLY, GoLexer.L_PAREN, GoLexer.L_BRACKET -> depth++;
+                    case GoLexer.R_CURLY, GoLexer.R_PAREN, GoLexer.R_BRACKET -> depth--;
+                    case GoLexer.FUNC -> {
+                        if (statementStart && depth == 0) {
+                            function = token;
+                            parens = 0;
+                            typeBraces = 0;
+                        }
+                    }
+                    default -> { }
+                }
+            } else {
+                switch (type) {
+                    case GoLexer.L_PAREN, GoLexer.L_BRACKET -> parens++;
+                    case GoLexer.R_PAREN, GoLexer.R_BRACKET -> parens--;
+                    case GoLexer.L_CURLY -> {
+                        if (parens == 0 && typeBraces == 0
+                                && previousType != GoLexer.STRUCT && previousType != GoLexer.INTERFACE) {
+                            skipped.put(function, new LazyBody(factory, errorListener, token));
+                            function = null;
+                            token = skipBody(token);
+                            type = token.getType();
+                        } else {
+                            typeBraces++;
+                        }
+                    }
+                    case GoLexer.R_CURLY -> typeBraces--;
+                    case GoLexer.SEMI, GoLexer.EOS -> {
+                        if (parens == 0 && typeBraces == 0) {
+                            function = null;    // declared without a body
+                        }
+                    }
+                    case Token.EOF -> function = null;
+                    default -> { }
+                }
+            }
+            statementStart = type == GoLexer.SEMI || type == GoLexer.EOS;
+            previousType = type;
+            return token;
+        }
+
+        // Drops the body that openingBrace starts and returns the token
+        // after it. That is normally the end of the statement, so it cannot
+        // open anything the caller has to track.
+        private Token skipBody(Token openingBrace) {
+            int braces = 0;
+            Token token = openingBrace;
+            while (true) {
+                int type = token.getType();
+                if (type == Token.EOF) {
+                    return token;
+                }
+                if (type == GoLexer.L_CURLY) braces++;
+                if (type == GoLexer.R_CURLY) braces--;
+                token = source.nextToken();
+                if (braces == 0) {
+                    return token;
+                }
+            }
+        }
+
+        @Override
+        public int getLine() {
+            return source.getLine();
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            return source.getCharPositionInLine();
+        }
+
+        @Override
+        public CharStream getInputStream() {
+            return source.getInputStream();
+        }
+
+        @Override
+        public String getSourceName() {
+            return source.getSourceName();
+        }
+
+        @Override
+        public void setTokenFactory(TokenFactory<?> factory) {
+            source.setTokenFactory(factory);
+        }
+
+        @Override
+        public TokenFactory<?> getTokenFactory() {
+            return source.getTokenFactory();
+        }
+    }
+
+    // UnbufferedTokenStream has no notion of channels, so whitespace and
+    // comments are dropped before they reach it. Every token is counted.
+    private static class CountingTokenSource implements TokenSource {
+        private final TokenSource lexer;
+        int count;
+
+        CountingTokenSource(TokenSource lexer) {
+            this.lexer = lexer;
+        }
+
+        @Override
+        public Token nextToken() {
+            while (true) {
+                Token token = lexer.nextToken();
+                count++;
+                if (token.getChannel() == Token.DEFAULT_CHANNEL || token.getType() == Token.EOF) {
+                    return token;
+                }
+            }
+        }
+
+        @Override
+        public int getLine() {
+            return lexer.getLine();
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            return lexer.getCharPositionInLine();
+        }
+
+        @Override
+        public CharStream getInputStream() {
+            return lexer.getInputStream();
+        }
+
+        @Override
+        public String getSourceName() {
+            return lexer.getSourceName();
+        }
+
+        @Override
+        public void setTokenFactory(TokenFactory<?> factory) {
+            lexer.setTokenFactory(factory);
+        }
+
+        @Override
+        public TokenFactory<?> getTokenFactory() {
+            return lexer.getTokenFactory();
+        }
+    }
+}
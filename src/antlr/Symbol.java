@@ -0,0 +1,142 @@
+package antlr;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// An interned identifier, type name, operator or string literal's text.
+// There is one Symbol per distinct text among the symbols alive in this
+// JVM, for every file parsed and on any thread, so AST nodes and the CFG
+// and SSA maps keyed by variable name compare symbols by identity:
+// equals() is Object's, and hashCode() is the symbol's int id, so a
+// HashMap lookup never looks at characters, even on a collision. text is
+// only for printing.
+//
+// The table holds symbols weakly. A symbol lives as long as some AST, graph
+// or cache refers to it, so a long-running GoWatchMain keeps the names of
+// the code it currently has, not every name it has ever seen. Ids are not
+// reused while the JVM runs; a symbol that was dropped and comes back gets
+// a new one, which no one can tell, since no one kept the old symbol.
+//
+// GoTokenFactory goes one step further for identifier tokens: lookup()
+// finds the symbol for a range of the CharStream without building a String
+// first. It goes through a table of the calling thread's own, in front of
+// the shared one, so a hit takes no lock and allocates nothing. That table
+// holds its symbols strongly and is cleared when it fills up.
+final class Symbol {
+    private static final ConcurrentHashMap<String, Ref> TABLE = new ConcurrentHashMap<>(1 << 12);
+    private static final ReferenceQueue<Symbol> DROPPED = new ReferenceQueue<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static final ThreadLocal<Local> LOCAL = ThreadLocal.withInitial(Local::new);
+
+    final int id;
+    final String text;
+
+    private Symbol(int id, String text) {
+        this.id = id;
+        this.text = text;
+    }
+
+    static Symbol of(String text) {
+        if (text == null) return null;
+        expungeDropped();
+        for (;;) {
+            Ref ref = TABLE.get(text);
+            Symbol symbol = ref != null ? ref.get() : null;
+            if (symbol != null) return symbol;
+            symbol = new Symbol(NEXT_ID.getAndIncrement(), text);
+            Ref created = new Ref(symbol);
+            if (ref == null ? TABLE.putIfAbsent(text, created) == null : TABLE.replace(text, ref, created)) {
+                return symbol;
+            }
+        }
+    }
+
+    // The symbol for input's text from start to stop, inclusive. The input
+    // can be positioned anywhere; it is not moved.
+    static Symbol lookup(CharStream input, int start, int stop) {
+        return LOCAL.get().lookup(input, start, stop);
+    }
+
+    private static void expungeDropped() {
+        for (Ref ref; (ref = (Ref) DROPPED.poll()) != null; ) {
+            TABLE.remove(ref.text, ref);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private static final class Ref extends WeakReference<Symbol> {
+        final String text;
+
+        Ref(Symbol symbol) {
+            super(symbol, DROPPED);
+            this.text = symbol.text;
+        }
+    }
+
+    // Open addressing over the symbols this thread has looked up
+    private static final class Local {
+        private static final int CAPACITY = 1 << 14;     // cleared at half full
+
+        private final Symbol[] symbols = new Symbol[CAPACITY];
+        private final int[] hashes = new int[CAPACITY];
+        private int size;
+
+        Symbol lookup(CharStream input, int start, int stop) {
+            int position = input.index();
+            int hash = 0;
+            for (int i = start; i <= stop; i++) {
+                hash = 31 * hash + codePointAt(input, position, i);
+            }
+            int mask = CAPACITY - 1;
+            int slot = spread(hash) & mask;
+            for (Symbol symbol; (symbol = symbols[slot]) != null; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && matches(symbol.text, input, position, start, stop)) {
+                    return symbol;
+                }
+            }
+            Symbol symbol = of(input.getText(Interval.of(start, stop)));
+            if (++size * 2 > CAPACITY) {
+                Arrays.fill(symbols, null);
+                size = 1;
+                slot = spread(hash) & mask;
+            }
+            symbols[slot] = symbol;
+            hashes[slot] = hash;
+            return symbol;
+        }
+
+        private static boolean matches(String text, CharStream input, int position, int start, int stop) {
+            int j = 0;
+            for (int i = start; i <= stop; i++) {
+                if (j >= text.length()) return false;
+                int c = text.codePointAt(j);
+                if (c != codePointAt(input, position, i)) return false;
+                j += Character.charCount(c);
+            }
+            return j == text.length();
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        // The code point at index, for an input positioned at position
+        private static int codePointAt(CharStream input, int position, int index) {
+            return input.LA(index >= position ? index - position + 1 : index - position);
+        }
+    }
+}
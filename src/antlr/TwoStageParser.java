@@ -0,0 +1,66 @@
+package antlr;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+// Parses a source file with SLL prediction first and bails on the first
+// syntax error. SLL never looks at the full calling context, so it is much
+// cheaper, and for valid input it almost always gets the same tree. Only
+// when SLL fails is the file reparsed with full LL prediction and normal
+// error recovery. That covers both real syntax errors and the rare inputs
+// that need full context. Result.stage tells which stage produced the tree.
+public class TwoStageParser {
+    public enum Stage { SLL, LL }
+
+    public static class Result {
+        final GoParser.SourceFileContext tree;
+        final GoParser parser;
+        final Stage stage;
+
+        Result(GoParser.SourceFileContext tree, GoParser parser, Stage stage) {
+            this.tree = tree;
+            this.parser = parser;
+            this.stage = stage;
+        }
+    }
+
+    public static Result parse(CharStream input) {
+        return parse(new CommonTokenStream(new GoLexer(input)), ConsoleErrorListener.INSTANCE);
+    }
+
+    // Syntax errors from the LL stage go to errorListener; the SLL stage
+    // reports nothing because its errors only mean "try again with LL".
+    public static Result parse(CommonTokenStream tokens, ANTLRErrorListener errorListener) {
+        return parse(new GoParser(tokens), errorListener);
+    }
+
+    // Same, with a parser from elsewhere (e.g. GoParserFactory) over a
+    // token stream that can be rewound
+    public static Result parse(GoParser parser, ANTLRErrorListener errorListener) {
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return new Result(parser.sourceFile(), parser, Stage.SLL);
+        } catch (ParseCancellationException e) {
+            // fall through to the full LL parse
+        }
+
+        parser.reset();
+        return parseLL(parser, errorListener);
+    }
+
+    // Single-stage full LL parse, as GoParser does by default
+    public static Result parseLL(CommonTokenStream tokens, ANTLRErrorListener errorListener) {
+        return parseLL(new GoParser(tokens), errorListener);
+    }
+
+    public static Result parseLL(GoParser parser, ANTLRErrorListener errorListener) {
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return new Result(parser.sourceFile(), parser, Stage.LL);
+    }
+}